@@ -14,6 +14,9 @@
 import cz.cvut.kbss.termit.security.SecurityConstants;
 import cz.cvut.kbss.termit.service.business.PersonalAccessTokenService;
 import cz.cvut.kbss.termit.util.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -42,10 +45,15 @@
 public class JwtConfig {
     private final JwtUtils jwtUtils;
     private final ObjectMapper objectMapper;
+    private final cz.cvut.kbss.termit.util.Configuration.Jwt config;
+    private final MeterRegistry meterRegistry;
 
-    public JwtConfig(JwtUtils jwtUtils, ObjectMapper objectMapper) {
+    public JwtConfig(JwtUtils jwtUtils, ObjectMapper objectMapper, cz.cvut.kbss.termit.util.Configuration config,
+                     ObjectProvider<MeterRegistry> meterRegistry) {
         this.jwtUtils = jwtUtils;
         this.objectMapper = objectMapper;
+        this.config = config.getJwt();
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
     }
 
     public OAuth2TokenValidator<Jwt> jwtValidator() {
@@ -79,7 +87,8 @@ public NimbusJwtDecoder jwtDecoder() {
     }
 
     public JwtAuthorizationFilter jwtAuthorizationFilter(AuthenticationManager authenticationManager) {
-        return new JwtAuthorizationFilter(authenticationManager, jwtUtils, objectMapper);
+        return new JwtAuthorizationFilter(authenticationManager, jwtUtils, objectMapper, config.getRefreshWindow(),
+                                          meterRegistry);
     }
 
     public JwtAuthenticationFilter jwtAuthenticationFilter(AuthenticationManager authenticationManager) {
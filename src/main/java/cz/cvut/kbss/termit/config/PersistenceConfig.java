@@ -20,15 +20,29 @@
 import com.github.ledsoft.jopa.spring.transaction.DelegatingEntityManager;
 import com.github.ledsoft.jopa.spring.transaction.JopaTransactionManager;
 import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.termit.dto.TermInfo;
+import cz.cvut.kbss.termit.dto.search.SearchResult;
 import cz.cvut.kbss.termit.persistence.context.VocabularyContextMapper;
 import cz.cvut.kbss.termit.persistence.context.WorkspaceVocabularyContextMapper;
+import cz.cvut.kbss.termit.persistence.dao.SearchDao;
+import cz.cvut.kbss.termit.persistence.dao.TermDao;
+import cz.cvut.kbss.termit.persistence.dao.util.BoundedCache;
+import cz.cvut.kbss.termit.persistence.dao.util.Cache;
+import cz.cvut.kbss.termit.persistence.dao.util.TermHierarchy;
 import cz.cvut.kbss.termit.workspace.EditableVocabularies;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+
 @Configuration
 @EnableTransactionManagement
 public class PersistenceConfig {
@@ -53,4 +67,53 @@ public VocabularyContextMapper vocabularyContextMapper(cz.cvut.kbss.termit.util.
         }
         return new WorkspaceVocabularyContextMapper(wrapped, editableVocabularies);
     }
+
+    /**
+     * Cache of term sub-terms, weighed by the number of sub-terms of each term.
+     */
+    @Bean
+    @Profile("!no-cache")
+    public Cache<URI, Set<TermInfo>> subTermsCache(cz.cvut.kbss.termit.util.Configuration config,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BoundedCache<>(TermDao.SUB_TERMS_CACHE, config.getPersistence().getCache(TermDao.SUB_TERMS_CACHE),
+                                  (URI parent, Set<TermInfo> subTerms) -> subTerms.size() + 1,
+                                  meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Cache of vocabulary term hierarchies, weighed by the number of terms in each hierarchy.
+     */
+    @Bean
+    @Profile("!no-cache")
+    public Cache<URI, TermHierarchy> termHierarchyCache(cz.cvut.kbss.termit.util.Configuration config,
+                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BoundedCache<>(TermDao.HIERARCHY_CACHE, config.getPersistence().getCache(TermDao.HIERARCHY_CACHE),
+                                  (URI vocabulary, TermHierarchy hierarchy) -> hierarchy.size() + 1,
+                                  meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Cache of search results, weighed by the number of results in each page.
+     */
+    @Bean
+    @Profile("!no-cache")
+    public Cache<SearchDao.SearchCacheKey, List<SearchResult>> searchResultsCache(
+            cz.cvut.kbss.termit.util.Configuration config, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BoundedCache<>(SearchDao.SEARCH_RESULTS_CACHE,
+                                  config.getPersistence().getCache(SearchDao.SEARCH_RESULTS_CACHE),
+                                  (SearchDao.SearchCacheKey key, List<SearchResult> results) -> results.size() + 1,
+                                  meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Cache of total search result counts.
+     */
+    @Bean
+    @Profile("!no-cache")
+    public Cache<SearchDao.SearchCacheKey, Long> searchResultCountCache(cz.cvut.kbss.termit.util.Configuration config,
+                                                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BoundedCache<>(SearchDao.SEARCH_RESULT_COUNT_CACHE,
+                                  config.getPersistence().getCache(SearchDao.SEARCH_RESULT_COUNT_CACHE),
+                                  meterRegistry.getIfAvailable());
+    }
 }
@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.termit.config;
 
+import cz.cvut.kbss.termit.security.AuthenticatedPrincipalCache;
 import cz.cvut.kbss.termit.security.AuthenticationSuccess;
 import cz.cvut.kbss.termit.security.JwtAuthenticationFilter;
 import cz.cvut.kbss.termit.security.JwtTypeDelegatingAuthenticationProvider;
@@ -76,19 +77,22 @@ public class SecurityConfig {
 
     private final JwtConfig jwtConfig;
 
+    private final AuthenticatedPrincipalCache principalCache;
+
     @Autowired
     public SecurityConfig(AuthenticationSuccess authenticationSuccessHandler,
                           AuthenticationFailureHandler authenticationFailureHandler,
                           TermItUserDetailsService userDetailsService,
                           PersonalAccessTokenService personalAccessTokenService,
                           cz.cvut.kbss.termit.util.Configuration config,
-                          JwtConfig jwtConfig) {
+                          JwtConfig jwtConfig, AuthenticatedPrincipalCache principalCache) {
         this.authenticationSuccessHandler = authenticationSuccessHandler;
         this.authenticationFailureHandler = authenticationFailureHandler;
         this.userDetailsService = userDetailsService;
         this.personalAccessTokenService = personalAccessTokenService;
         this.config = config;
         this.jwtConfig = jwtConfig;
+        this.principalCache = principalCache;
     }
 
     @Bean
@@ -144,6 +148,7 @@ protected static CorsConfigurationSource createCorsConfiguration(
         corsConfiguration.addExposedHeader(HttpHeaders.LOCATION);
         corsConfiguration.addExposedHeader(HttpHeaders.CONTENT_DISPOSITION);
         corsConfiguration.addExposedHeader(Constants.X_TOTAL_COUNT_HEADER);
+        corsConfiguration.addExposedHeader(Constants.X_NEXT_CURSOR_HEADER);
         corsConfiguration.setAllowCredentials(true);
         final UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", corsConfiguration);
@@ -154,7 +159,7 @@ protected static CorsConfigurationSource createCorsConfiguration(
     public JwtDecoder jwtDecoder() {
         NimbusJwtDecoder decoder = jwtConfig.jwtDecoder();
         decoder.setClaimSetConverter(MappedJwtClaimSetConverter.withDefaults(
-                Map.of(JwtClaimNames.SUB, new UsernameToUserDetailsConverter(userDetailsService))
+                Map.of(JwtClaimNames.SUB, new UsernameToUserDetailsConverter(userDetailsService, principalCache))
         ));
         decoder.setJwtValidator(jwtConfig.jwtValidator());
         return decoder;
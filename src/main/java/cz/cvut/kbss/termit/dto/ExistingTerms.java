@@ -0,0 +1,104 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.dto;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Existing terms relevant to a bulk operation over a set of terms, e.g., an import.
+ * <p>
+ * Contains identifiers of the terms that already exist and identifiers of terms having particular labels. Labels are
+ * matched case-insensitively.
+ */
+public class ExistingTerms {
+
+    private final Set<URI> identifiers = new HashSet<>();
+
+    /**
+     * Language -> lower-cased label -> term identifier
+     */
+    private final Map<String, Map<String, URI>> labels = new HashMap<>();
+
+    /**
+     * Registers an existing term with the specified identifier.
+     *
+     * @param identifier Term identifier
+     */
+    public void addIdentifier(URI identifier) {
+        identifiers.add(Objects.requireNonNull(identifier));
+    }
+
+    /**
+     * Registers an existing term with the specified label.
+     *
+     * @param identifier Term identifier
+     * @param label      Term label
+     * @param language   Label language
+     */
+    public void addLabel(URI identifier, String label, String language) {
+        Objects.requireNonNull(identifier);
+        labels.computeIfAbsent(normalize(language), k -> new HashMap<>()).put(normalize(label), identifier);
+    }
+
+    /**
+     * Checks whether a term with the specified identifier exists.
+     *
+     * @param identifier Term identifier
+     * @return {@code true} if the term exists, {@code false} otherwise
+     */
+    public boolean exists(URI identifier) {
+        return identifiers.contains(identifier);
+    }
+
+    /**
+     * Gets identifiers of all the existing terms.
+     *
+     * @return Set of term identifiers
+     */
+    public Set<URI> getIdentifiers() {
+        return Set.copyOf(identifiers);
+    }
+
+    /**
+     * Finds identifier of a term with the specified label in the specified language.
+     *
+     * @param label    Label to search by, matched case-insensitively
+     * @param language Label language
+     * @return Matching term identifier, empty {@code Optional} if there is no such term
+     */
+    public Optional<URI> findIdentifierByLabel(String label, String language) {
+        return Optional.ofNullable(labels.getOrDefault(normalize(language), Map.of()).get(normalize(label)));
+    }
+
+    /**
+     * Normalizes the specified label or language tag for case-insensitive matching.
+     *
+     * @param value Value to normalize
+     * @return Normalized value
+     */
+    public static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+}
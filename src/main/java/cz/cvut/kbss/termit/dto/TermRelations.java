@@ -0,0 +1,119 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.dto;
+
+import cz.cvut.kbss.termit.model.util.HasIdentifier;
+import cz.cvut.kbss.termit.util.Utils;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Identifiers of terms related to a {@link cz.cvut.kbss.termit.model.Term} via SKOS relationships asserted by the
+ * term.
+ * <p>
+ * This is a lightweight projection used when only the relationships of a term are needed. Unlike the full term, it
+ * contains neither the inferred inverse relationships nor any data of the related terms.
+ */
+public class TermRelations implements HasIdentifier {
+
+    private URI uri;
+
+    private final URI vocabulary;
+
+    /**
+     * Property -> identifiers of related terms
+     */
+    private final Map<URI, Set<URI>> relations = new HashMap<>();
+
+    public TermRelations(URI uri, URI vocabulary) {
+        this.uri = Objects.requireNonNull(uri);
+        this.vocabulary = vocabulary;
+    }
+
+    @Override
+    public URI getUri() {
+        return uri;
+    }
+
+    @Override
+    public void setUri(URI uri) {
+        this.uri = uri;
+    }
+
+    public URI getVocabulary() {
+        return vocabulary;
+    }
+
+    /**
+     * Registers a term related to this one via the specified property.
+     *
+     * @param property Relationship property
+     * @param term     Related term identifier
+     */
+    public void addRelation(String property, URI term) {
+        relations.computeIfAbsent(URI.create(property), k -> new HashSet<>()).add(Objects.requireNonNull(term));
+    }
+
+    /**
+     * Gets identifiers of terms related to this one via the specified property.
+     *
+     * @param property Relationship property
+     * @return Unmodifiable set of term identifiers, empty if there are no such terms
+     */
+    public Set<URI> getRelated(String property) {
+        return Collections.unmodifiableSet(relations.getOrDefault(URI.create(property), Collections.emptySet()));
+    }
+
+    /**
+     * Checks whether this term is related to the specified term via the specified property.
+     *
+     * @param property Relationship property
+     * @param term     Term identifier
+     * @return {@code true} if the relationship is asserted, {@code false} otherwise
+     */
+    public boolean isRelated(String property, URI term) {
+        return getRelated(property).contains(term);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TermRelations that)) {
+            return false;
+        }
+        return Objects.equals(uri, that.uri);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uri);
+    }
+
+    @Override
+    public String toString() {
+        return "TermRelations{" + Utils.uriToString(uri) + ", " + relations + '}';
+    }
+}
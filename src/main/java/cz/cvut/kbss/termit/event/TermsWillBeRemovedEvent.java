@@ -0,0 +1,50 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.event;
+
+import cz.cvut.kbss.jopa.model.MultilingualString;
+import jakarta.annotation.Nonnull;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Indicates that terms of a vocabulary will be removed in bulk.
+ * <p>
+ * It is published instead of individual {@link BeforeAssetDeleteEvent}s for the removed terms.
+ */
+public class TermsWillBeRemovedEvent extends VocabularyEvent {
+
+    private final Map<URI, MultilingualString> termLabels;
+
+    public TermsWillBeRemovedEvent(@Nonnull Object source, @Nonnull URI vocabularyIri,
+                                   @Nonnull Map<URI, MultilingualString> termLabels) {
+        super(source, vocabularyIri);
+        this.termLabels = Objects.requireNonNull(termLabels);
+    }
+
+    /**
+     * Labels of the removed terms, keyed by term identifiers.
+     *
+     * @return Map of term identifiers to their labels
+     */
+    public Map<URI, MultilingualString> getTermLabels() {
+        return termLabels;
+    }
+}
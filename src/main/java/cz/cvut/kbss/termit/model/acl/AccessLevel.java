@@ -68,4 +68,20 @@ public boolean includes(AccessLevel requested) {
     public String getIri() {
         return iri;
     }
+
+    /**
+     * Gets the access level with the specified identifier.
+     *
+     * @param iri Access level identifier
+     * @return Matching access level
+     * @throws IllegalArgumentException If no access level with the specified identifier exists
+     */
+    public static AccessLevel fromIri(String iri) {
+        for (AccessLevel level : values()) {
+            if (level.iri.equals(iri)) {
+                return level;
+            }
+        }
+        throw new IllegalArgumentException("Unknown access level " + iri);
+    }
 }
@@ -37,6 +37,13 @@ public class StaticContexts {
      */
     public static final String ACCESS_CONTROL_LISTS = Vocabulary.s_c_seznam_rizeni_pristupu;
 
+    /**
+     * Repository context for storing daily rollups of vocabulary content changes.
+     *
+     * @see cz.cvut.kbss.termit.persistence.dao.changetracking.ContentChangeRollupDao
+     */
+    public static final String CONTENT_CHANGE_ROLLUPS = Vocabulary.s_c_denni_souhrn_zmen_obsahu;
+
     private StaticContexts() {
         throw new AssertionError();
     }
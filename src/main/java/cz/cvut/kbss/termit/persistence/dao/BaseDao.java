@@ -31,9 +31,13 @@
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+
+import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.valuesPattern;
 
 /**
  * Base implementation of the generic DAO API.
@@ -154,6 +158,28 @@ public boolean exists(URI id) {
         }
     }
 
+    /**
+     * Finds which of the specified identifiers belong to existing instances of this DAO's type.
+     * <p>
+     * This is a bulk version of {@link #exists(URI)} evaluated using a single query.
+     *
+     * @param ids Identifiers to check
+     * @return Set of identifiers of existing instances, a subset of {@code ids}
+     */
+    public Set<URI> findExisting(Collection<URI> ids) {
+        Objects.requireNonNull(ids);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            return new HashSet<>(em.createNativeQuery("SELECT DISTINCT ?x WHERE { " + valuesPattern("?x", ids) +
+                                                              " ?x a ?type . }", URI.class)
+                                   .setParameter("type", typeUri).getResultList());
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
     protected Descriptor getDescriptor() {
         return new EntityDescriptor();
     }
@@ -39,8 +39,8 @@
 import cz.cvut.kbss.termit.service.export.ExportFormat;
 import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Configuration.Persistence;
-import cz.cvut.kbss.termit.util.TypeAwareByteArrayResource;
 import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
 import jakarta.annotation.Nullable;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Value;
@@ -52,7 +52,6 @@
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
-import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -276,21 +275,24 @@ public Optional<String> getLabel(URI id, @Nullable String language) {
 
     /**
      * Exports the specified repository contexts as Turtle.
+     * <p>
+     * The data are written directly from the repository into the target stream once the content of the returned
+     * resource is requested.
      *
      * @param contexts The contexts to export, possibly empty (in which case the default context is exported)
      * @return Resource containing the exported data in Turtle
      */
     public TypeAwareResource exportDataAsTurtle(URI... contexts) {
         final org.eclipse.rdf4j.repository.Repository repo = em.unwrap(org.eclipse.rdf4j.repository.Repository.class);
-        try (final RepositoryConnection con = repo.getConnection()) {
-            final ValueFactory vf = con.getValueFactory();
-            final ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            RDFHandler writer = Rio.createWriter(RDFFormat.TURTLE, bos);
-            con.export(writer,
-                       Arrays.stream(contexts).map(u -> vf.createIRI(u.toString())).toArray(Resource[]::new));
-            return new TypeAwareByteArrayResource(bos.toByteArray(), ExportFormat.TURTLE.getMediaType(),
-                                                  ExportFormat.TURTLE.getFileExtension());
-        }
+        return new TypeAwareStreamingResource(out -> {
+            try (final RepositoryConnection con = repo.getConnection()) {
+                final ValueFactory vf = con.getValueFactory();
+                final RDFHandler writer = Rio.createWriter(RDFFormat.TURTLE, out);
+                con.export(writer,
+                           Arrays.stream(contexts).map(u -> vf.createIRI(u.toString())).toArray(Resource[]::new));
+            }
+        }, ExportFormat.TURTLE.getMediaType(), ExportFormat.TURTLE.getFileExtension(),
+                                              "Turtle export of repository data");
     }
 
     /**
@@ -4,10 +4,19 @@
 import cz.cvut.kbss.termit.exception.PersistenceException;
 import cz.cvut.kbss.termit.model.PersonalAccessToken;
 import cz.cvut.kbss.termit.model.UserAccount;
+import cz.cvut.kbss.termit.util.Vocabulary;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
 import org.springframework.stereotype.Repository;
 
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Repository
 public class PersonalAccessTokenDao extends BaseDao<PersonalAccessToken> {
@@ -26,4 +35,39 @@ public List<PersonalAccessToken> findAllByUserAccount(UserAccount userAccount) {
             throw new PersistenceException(e);
         }
     }
+
+    /**
+     * Sets last used timestamps of the specified tokens in a single update.
+     * <p>
+     * Tokens which do not exist (anymore) are skipped.
+     *
+     * @param lastUsed Map of token identifiers to their last used timestamps
+     */
+    public void updateLastUsed(Map<URI, Instant> lastUsed) {
+        Objects.requireNonNull(lastUsed);
+        if (lastUsed.isEmpty()) {
+            return;
+        }
+        final String values = lastUsed.entrySet().stream().map(PersonalAccessTokenDao::toValuesRow)
+                                      .collect(Collectors.joining(" "));
+        try {
+            em.createNativeQuery("DELETE { ?token ?lastUsed ?oldValue . } " +
+                                         "INSERT { ?token ?lastUsed ?newValue . } WHERE {" +
+                                         "VALUES (?token ?newValue) { " + values + " }" +
+                                         "?token a ?type . " +
+                                         "OPTIONAL { ?token ?lastUsed ?oldValue . } }")
+              .setParameter("lastUsed", URI.create(Vocabulary.s_p_last_activity_date))
+              .setParameter("type", typeUri)
+              .executeUpdate();
+            lastUsed.keySet().forEach(uri -> em.getEntityManagerFactory().getCache().evict(type, uri, null));
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    private static String toValuesRow(Map.Entry<URI, Instant> lastUsed) {
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        return "(" + NTriplesUtil.toNTriplesString(vf.createIRI(lastUsed.getKey().toString())) + " " +
+                NTriplesUtil.toNTriplesString(vf.createLiteral(lastUsed.getValue().toString(), XSD.DATETIME)) + ")";
+    }
 }
@@ -28,15 +28,20 @@
 import cz.cvut.kbss.termit.dto.search.SearchParam;
 import cz.cvut.kbss.termit.dto.search.SearchResult;
 import cz.cvut.kbss.termit.dto.search.SearchString;
+import cz.cvut.kbss.termit.event.EvictCacheEvent;
 import cz.cvut.kbss.termit.model.CustomAttribute;
 import cz.cvut.kbss.termit.persistence.dao.spec.CustomAttributeSpecifications;
+import cz.cvut.kbss.termit.persistence.dao.util.Cache;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
 import cz.cvut.kbss.termit.util.Constants;
 import cz.cvut.kbss.termit.util.Utils;
+import cz.cvut.kbss.termit.util.paging.CursorPageRequest;
 import cz.cvut.kbss.termit.util.Vocabulary;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -46,7 +51,9 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -55,22 +62,46 @@
  * <p>
  * This DAO automatically adds a wildcard to the last token in the search string, so that results for incomplete words
  * are returned as well.
+ * <p>
+ * Search results and total result counts are cached separately, so that paging through results does not recompute
+ * the total. Cache keys contain a content version of the vocabularies the search is performed in (see
+ * {@link VocabularyContentRevisions}). The version changes whenever content of any of the vocabularies is modified, so
+ * stale entries are never hit and are eventually evicted from the caches.
  */
 @Repository
 public class SearchDao {
 
+    /**
+     * Name of the cache of search results.
+     */
+    public static final String SEARCH_RESULTS_CACHE = "searchResults";
+
+    /**
+     * Name of the cache of total search result counts.
+     */
+    public static final String SEARCH_RESULT_COUNT_CACHE = "searchResultCount";
+
     private static final Logger LOG = LoggerFactory.getLogger(SearchDao.class);
 
     static final char LUCENE_WILDCARD = '*';
 
     private final EntityManager em;
     private final DataDao dataDao;
+    private final Cache<SearchCacheKey, List<SearchResult>> resultsCache;
+    private final Cache<SearchCacheKey, Long> resultCountCache;
+
+    private final VocabularyContentRevisions contentRevisions;
+
     private String ftsQuery;
     private String ftsResultCountQuery;
 
-    public SearchDao(EntityManager em, DataDao dataDao) {
+    public SearchDao(EntityManager em, DataDao dataDao, Cache<SearchCacheKey, List<SearchResult>> resultsCache,
+                     Cache<SearchCacheKey, Long> resultCountCache, VocabularyContentRevisions contentRevisions) {
         this.em = em;
         this.dataDao = dataDao;
+        this.resultsCache = resultsCache;
+        this.resultCountCache = resultCountCache;
+        this.contentRevisions = contentRevisions;
     }
 
     @PostConstruct
@@ -107,32 +138,122 @@ private static String splitExactMatch(String searchString) {
      * Finds assets that match the specified search string and satisfy the provided faceted search parameters.
      * <p>
      * This combines full-text search with faceted filtering.
+     * <p>
+     * The returned page contains the exact total number of matching results.
      *
      * @param searchString        The string to search by for full-text search (with optional language)
      * @param searchParams        Search parameters (facets) to filter the results by
      * @param pageSpec            Specification of the page of results to return
      * @param allowedVocabularies Vocabularies that are accessible to the current user for reading
      * @return Page of matching results
+     * @see #advancedSearch(SearchString, Collection, Pageable, Collection, boolean)
      */
     public Page<SearchResult> advancedSearch(@Nonnull SearchString searchString,
                                              @Nonnull Collection<SearchParam> searchParams, Pageable pageSpec,
                                              Collection<URI> allowedVocabularies) {
+        return advancedSearch(searchString, searchParams, pageSpec, allowedVocabularies, true);
+    }
+
+    /**
+     * Finds assets that match the specified search string and satisfy the provided faceted search parameters.
+     * <p>
+     * This combines full-text search with faceted filtering.
+     * <p>
+     * The search fetches one result beyond the requested page. If there is no such result, the total is derived from
+     * the page and no count query is needed. Otherwise, the exact total is counted only if {@code exactTotal} is
+     * {@code true}. If it is {@code false}, the total of the returned page is a lower bound which only indicates that
+     * there is a next page.
+     *
+     * @param searchString        The string to search by for full-text search (with optional language)
+     * @param searchParams        Search parameters (facets) to filter the results by
+     * @param pageSpec            Specification of the page of results to return
+     * @param allowedVocabularies Vocabularies that are accessible to the current user for reading
+     * @param exactTotal          Whether to count the exact total number of results when there is a next page
+     * @return Page of matching results
+     */
+    public Page<SearchResult> advancedSearch(@Nonnull SearchString searchString,
+                                             @Nonnull Collection<SearchParam> searchParams, Pageable pageSpec,
+                                             Collection<URI> allowedVocabularies, boolean exactTotal) {
         Objects.requireNonNull(searchParams);
         final boolean searchStringBlank = searchString.searchString().isBlank();
         if (searchStringBlank && searchParams.isEmpty()) {
             return Page.empty(pageSpec);
         }
+        final Supplier<List<SearchResult>> fetch;
+        final Supplier<Long> count;
+        if (searchParams.stream().anyMatch(SearchDao::isRelationshipAnnotationParam)) {
+            // Relationship annotation search depends on custom attribute definitions, whose changes are not tracked
+            fetch = () -> search(searchString, searchParams, pageSpec, allowedVocabularies);
+            count = () -> countResults(searchString, searchParams, allowedVocabularies);
+        } else {
+            final SearchCacheKey key = new SearchCacheKey(searchString, Set.copyOf(searchParams),
+                                                          Set.copyOf(allowedVocabularies),
+                                                          contentRevisions.getRevision(allowedVocabularies), pageSpec);
+            fetch = () -> resultsCache.getOrCompute(key, k -> search(searchString, searchParams, pageSpec,
+                                                                     allowedVocabularies));
+            count = () -> resultCountCache.getOrCompute(key.withoutPage(), k -> countResults(searchString,
+                                                                                             searchParams,
+                                                                                             allowedVocabularies));
+        }
+        return toPage(fetch.get(), pageSpec, exactTotal, count);
+    }
+
+    /**
+     * Creates a page from search results fetched with one look-ahead row.
+     * <p>
+     * The count query is executed only when the total cannot be derived from the results.
+     */
+    private static Page<SearchResult> toPage(List<SearchResult> results, Pageable pageSpec, boolean exactTotal,
+                                             Supplier<Long> count) {
+        if (pageSpec.isUnpaged()) {
+            return new PageImpl<>(results, pageSpec, results.size());
+        }
+        final boolean hasNext = results.size() > pageSpec.getPageSize();
+        final List<SearchResult> content = hasNext ? results.subList(0, pageSpec.getPageSize()) : results;
+        // Number of results preceding a cursor is not known, so the total cannot be derived from a cursor page
+        final boolean hasCursor = pageSpec instanceof CursorPageRequest;
+        if (!hasNext && !hasCursor && (!content.isEmpty() || pageSpec.getOffset() == 0)) {
+            // Last page, the total is known
+            return new PageImpl<>(content, pageSpec, pageSpec.getOffset() + content.size());
+        }
+        if ((hasNext || hasCursor) && !exactTotal) {
+            return new PageImpl<>(content, pageSpec, pageSpec.getOffset() + results.size());
+        }
+        return new PageImpl<>(content, pageSpec, count.get());
+    }
 
-        final Page<SearchResult> result;
-        if (searchStringBlank) {
-            result = advancedSearchNoFullText(searchParams, pageSpec, allowedVocabularies);
+    /**
+     * Executes the search. If the page specification is paged, one more result than the page size is fetched so that it
+     * is possible to tell whether there is a next page.
+     */
+    private List<SearchResult> search(SearchString searchString, Collection<SearchParam> searchParams,
+                                      Pageable pageSpec, Collection<URI> allowedVocabularies) {
+        if (searchString.searchString().isBlank()) {
+            return advancedSearchNoFullText(searchParams, pageSpec, allowedVocabularies);
         } else {
-            result = advancedSearchWithFullText(searchString, searchParams, pageSpec, allowedVocabularies);
+            return advancedSearchWithFullText(searchString, searchParams, pageSpec, allowedVocabularies);
         }
-        return result;
     }
 
-    private Page<SearchResult> advancedSearchWithFullText(SearchString searchString,
+    private long countResults(SearchString searchString, Collection<SearchParam> searchParams,
+                              Collection<URI> allowedVocabularies) {
+        if (searchString.searchString().isBlank()) {
+            return getTotalResultCount(searchParams, allowedVocabularies);
+        } else {
+            return getTotalFulltextResultCount(searchString, searchParams, allowedVocabularies);
+        }
+    }
+
+    /**
+     * Evicts all cached search results and result counts.
+     */
+    @EventListener(EvictCacheEvent.class)
+    public void evictCache() {
+        resultsCache.evictAll();
+        resultCountCache.evictAll();
+    }
+
+    private List<SearchResult> advancedSearchWithFullText(SearchString searchString,
                                                           Collection<SearchParam> searchParams,
                                                           Pageable pageSpec, Collection<URI> allowedVocabularies) {
         final Query query = initFullTextSearchQuery(ftsQuery, searchString, searchParams, allowedVocabularies,
@@ -144,10 +265,9 @@ private Page<SearchResult> advancedSearchWithFullText(SearchString searchString,
 
         if (pageSpec.isPaged()) {
             query.setFirstResult((int) pageSpec.getOffset());
-            query.setMaxResults(pageSpec.getPageSize());
+            query.setMaxResults(pageSpec.getPageSize() + 1);
         }
-        return new PageImpl<>(query.getResultList(), pageSpec,
-                              getTotalFulltextResultCount(searchString, searchParams, allowedVocabularies));
+        return query.getResultList();
     }
 
     private <T extends Query> T initFullTextSearchQuery(String baseQueryStr, SearchString searchString,
@@ -171,7 +291,7 @@ private <T extends Query> T initFullTextSearchQuery(String baseQueryStr, SearchS
         return query;
     }
 
-    private Long getTotalFulltextResultCount(SearchString searchString,
+    private long getTotalFulltextResultCount(SearchString searchString,
                                              Collection<SearchParam> searchParams,
                                              Collection<URI> allowedVocabularies) {
         final TypedQuery<Long> query = initFullTextSearchQuery(ftsResultCountQuery, searchString, searchParams,
@@ -184,30 +304,36 @@ private Long getTotalFulltextResultCount(SearchString searchString,
      * Finds assets that satisfy the provided faceted search parameters, without applying full-text search.
      *
      * @param searchParams        Search parameters (facets) to filter the results by
-     * @param pageSpec            Specification of the page of results to return
+     * @param pageSpec            Specification of the page of results to return, one look-ahead result is fetched. If it
+     *                            is a {@link CursorPageRequest}, results following the cursor identifier are returned
      * @param allowedVocabularies Vocabularies accessible for the search
      * @return List of matching results
      */
-    private Page<SearchResult> advancedSearchNoFullText(Collection<SearchParam> searchParams,
+    private List<SearchResult> advancedSearchNoFullText(Collection<SearchParam> searchParams,
                                                         Pageable pageSpec, Collection<URI> allowedVocabularies) {
 
+        final boolean hasCursor = pageSpec instanceof CursorPageRequest;
         String queryStr = "SELECT DISTINCT ?entity" +
                 " (GROUP_CONCAT(DISTINCT CONCAT(?label, \"@\", lang(?label)); SEPARATOR=\"" + Constants.GROUP_CONCAT_SEPARATOR + "\") AS ?label)" +
                 " (GROUP_CONCAT(DISTINCT CONCAT(?description, \"@\", lang(?description)); SEPARATOR=\"" + Constants.GROUP_CONCAT_SEPARATOR + "\") AS ?description)" +
                 " ?vocabularyUri ?state ?type WHERE { \n" +
                 buildWhereCondition(searchParams) +
-                "} GROUP BY ?entity ?vocabularyUri ?state ?type ORDER BY ?entity";
+                (hasCursor ? "  FILTER (STR(?entity) > STR(?cursorEntity)) \n" : "") +
+                "} GROUP BY ?entity ?vocabularyUri ?state ?type ORDER BY STR(?entity)";
 
         Query nativeQuery = em.createNativeQuery(queryStr, "FacetedSearchResult");
         setCommonQueryParams(nativeQuery, allowedVocabularies);
 
-        if (pageSpec.isPaged()) {
+        if (hasCursor) {
+            // Results are ordered by identifier, so the page following the cursor is selected directly
+            nativeQuery.setParameter("cursorEntity", ((CursorPageRequest) pageSpec).getCursor().iri());
+            nativeQuery.setMaxResults(pageSpec.getPageSize() + 1);
+        } else if (pageSpec.isPaged()) {
             nativeQuery.setFirstResult((int) pageSpec.getOffset());
-            nativeQuery.setMaxResults(pageSpec.getPageSize());
+            nativeQuery.setMaxResults(pageSpec.getPageSize() + 1);
         }
 
-        return new PageImpl<>(nativeQuery.getResultList(), pageSpec,
-                              getTotalResultCount(searchParams, allowedVocabularies));
+        return nativeQuery.getResultList();
     }
 
     private String buildWhereCondition(Collection<SearchParam> searchParams) {
@@ -252,12 +378,10 @@ private long getTotalResultCount(Collection<SearchParam> searchParams, Collectio
 
     private String buildSearchParamConditions(Collection<SearchParam> searchParams) {
         final List<SearchParam> relationshipAnnotationParams = searchParams.stream()
-                                                                           .filter(p -> p.getProperty().toString()
-                                                                                         .equals(Vocabulary.s_p_relationship))
+                                                                           .filter(SearchDao::isRelationshipAnnotationParam)
                                                                            .toList();
         final List<SearchParam> regularParams = searchParams.stream()
-                                                            .filter(p -> !p.getProperty().toString()
-                                                                           .equals(Vocabulary.s_p_relationship))
+                                                            .filter(p -> !isRelationshipAnnotationParam(p))
                                                             .toList();
 
         final StringBuilder queryStr = new StringBuilder();
@@ -298,6 +422,10 @@ private String buildSearchParamConditions(Collection<SearchParam> searchParams)
         return queryStr.toString();
     }
 
+    private static boolean isRelationshipAnnotationParam(SearchParam p) {
+        return p.getProperty().toString().equals(Vocabulary.s_p_relationship);
+    }
+
     private static boolean isExplicitNull(SearchParam p) {
         return (p.getMatchType() == MatchType.IRI || p.getMatchType() == MatchType.EXACT_MATCH) && p.getValue()
                                                                                                     .contains(RDF.NIL);
@@ -367,4 +495,21 @@ private String buildRelationshipAnnotationQuery(SearchParam param, int variableI
 
         return sb.toString();
     }
+
+    /**
+     * Key of the search results and result count caches.
+     *
+     * @param searchString        Full-text search string
+     * @param searchParams        Faceted search parameters
+     * @param allowedVocabularies Vocabularies the search is performed in
+     * @param contentVersion      Content version of the allowed vocabularies
+     * @param pageSpec            Requested page, {@code null} for result counts
+     */
+    public record SearchCacheKey(SearchString searchString, Set<SearchParam> searchParams,
+                                 Set<URI> allowedVocabularies, long contentVersion, Pageable pageSpec) {
+
+        SearchCacheKey withoutPage() {
+            return new SearchCacheKey(searchString, searchParams, allowedVocabularies, contentVersion, null);
+        }
+    }
 }
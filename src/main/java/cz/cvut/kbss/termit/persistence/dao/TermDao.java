@@ -20,44 +20,67 @@
 import cz.cvut.kbss.jopa.exceptions.NoResultException;
 import cz.cvut.kbss.jopa.exceptions.NoUniqueResultException;
 import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.vocabulary.DC;
+import cz.cvut.kbss.jopa.vocabulary.RDF;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
+import cz.cvut.kbss.ontodriver.model.LangString;
 import cz.cvut.kbss.termit.asset.provenance.ModifiesData;
+import cz.cvut.kbss.termit.dto.ExistingTerms;
 import cz.cvut.kbss.termit.dto.Snapshot;
 import cz.cvut.kbss.termit.dto.TermInfo;
+import cz.cvut.kbss.termit.dto.TermRelations;
 import cz.cvut.kbss.termit.dto.listing.FlatTermDto;
 import cz.cvut.kbss.termit.dto.listing.TermDto;
 import cz.cvut.kbss.termit.event.AssetPersistEvent;
 import cz.cvut.kbss.termit.event.AssetUpdateEvent;
 import cz.cvut.kbss.termit.event.EvictCacheEvent;
 import cz.cvut.kbss.termit.event.TermReferencesUpdatedEvent;
+import cz.cvut.kbss.termit.event.TermsImportedEvent;
+import cz.cvut.kbss.termit.event.TermsWillBeRemovedEvent;
 import cz.cvut.kbss.termit.event.VocabularyContentModifiedEvent;
+import cz.cvut.kbss.termit.event.VocabularyEvent;
+import cz.cvut.kbss.termit.event.VocabularyWillBeRemovedEvent;
 import cz.cvut.kbss.termit.exception.PersistenceException;
 import cz.cvut.kbss.termit.model.AbstractFullTerm;
 import cz.cvut.kbss.termit.model.AbstractTerm;
 import cz.cvut.kbss.termit.model.FlatTerm;
+import cz.cvut.kbss.termit.model.Glossary;
 import cz.cvut.kbss.termit.model.Term;
 import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.model.util.HasIdentifier;
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
 import cz.cvut.kbss.termit.persistence.context.VocabularyContextMapper;
 import cz.cvut.kbss.termit.persistence.dao.util.Cache;
+import cz.cvut.kbss.termit.persistence.dao.util.Quad;
+import cz.cvut.kbss.termit.persistence.dao.util.SparqlResultToTermInfoMapper;
+import cz.cvut.kbss.termit.persistence.dao.util.TermHierarchy;
+import cz.cvut.kbss.termit.persistence.dao.util.TermLoadProfile;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
 import cz.cvut.kbss.termit.persistence.snapshot.TermSnapshotLoader;
 import cz.cvut.kbss.termit.service.snapshot.SnapshotProvider;
 import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Utils;
+import cz.cvut.kbss.termit.util.paging.CursorPageRequest;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -67,12 +90,31 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.insertDataQuery;
 import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.orderSentence;
+import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.valuesPattern;
 
 @Repository
 public class TermDao extends BaseAssetDao<Term> implements SnapshotProvider<Term> {
 
+    /**
+     * Name of the cache of term sub-terms.
+     */
+    public static final String SUB_TERMS_CACHE = "subTerms";
+
+    /**
+     * Name of the cache of vocabulary term hierarchies.
+     */
+    public static final String HIERARCHY_CACHE = "termHierarchy";
+
+    /**
+     * Relationship properties whose assertion can be removed by {@link #removeRelation(URI, String, URI)}.
+     */
+    public static final Set<String> REMOVABLE_RELATION_PROPERTIES = Set.of(SKOS.RELATED, SKOS.RELATED_MATCH,
+                                                                           SKOS.EXACT_MATCH);
+
     private static final URI LABEL_PROP = URI.create(SKOS.PREF_LABEL);
     private static final URI TERM_FROM_VOCABULARY = URI.create(
             cz.cvut.kbss.termit.util.Vocabulary.s_p_je_pojmem_ze_slovniku);
@@ -80,14 +122,25 @@ public class TermDao extends BaseAssetDao<Term> implements SnapshotProvider<Term
 
     private final Cache<URI, Set<TermInfo>> subTermsCache;
 
+    private final Cache<URI, TermHierarchy> hierarchyCache;
+
     private final VocabularyContextMapper contextMapper;
 
+    private final VocabularyContentRevisions contentRevisions;
+
+    private final VocabularyDao vocabularyDao;
+
     @Autowired
     public TermDao(EntityManager em, Configuration config, DescriptorFactory descriptorFactory,
-                   Cache<URI, Set<TermInfo>> subTermsCache, VocabularyContextMapper contextMapper) {
+                   Cache<URI, Set<TermInfo>> subTermsCache, Cache<URI, TermHierarchy> hierarchyCache,
+                   VocabularyContextMapper contextMapper, VocabularyContentRevisions contentRevisions,
+                   VocabularyDao vocabularyDao) {
         super(Term.class, em, config.getPersistence(), descriptorFactory);
         this.subTermsCache = subTermsCache;
+        this.hierarchyCache = hierarchyCache;
         this.contextMapper = contextMapper;
+        this.contentRevisions = contentRevisions;
+        this.vocabularyDao = vocabularyDao;
     }
 
     @Override
@@ -110,6 +163,114 @@ public Optional<Term> find(URI id) {
         }
     }
 
+    /**
+     * Finds a term with the specified identifier, loading only the data specified by the load profile.
+     *
+     * @param id      Term identifier
+     * @param profile Determines which data of the term are loaded
+     * @param <T>     Type of the loaded representation of the term
+     * @return Matching term wrapped in an {@code Optional}
+     */
+    public <T extends HasIdentifier> Optional<T> find(URI id, TermLoadProfile<T> profile) {
+        Objects.requireNonNull(profile);
+        if (profile == TermLoadProfile.IDENTITY) {
+            return findTermInfo(id).map(profile::cast);
+        } else if (profile == TermLoadProfile.RELATIONS) {
+            return findRelations(id).map(profile::cast);
+        }
+        assert profile == TermLoadProfile.FULL;
+        return find(id).map(profile::cast);
+    }
+
+    /**
+     * Loads relationships asserted by the term with the specified identifier using a projection query.
+     * <p>
+     * Only relationships asserted in the context of the vocabulary of the term are loaded.
+     *
+     * @param id Term identifier
+     * @return Term relationships wrapped in an {@code Optional}, empty if no such term exists
+     */
+    private Optional<TermRelations> findRelations(URI id) {
+        Objects.requireNonNull(id);
+        final Optional<URI> vocabulary = findTermVocabulary(id);
+        if (vocabulary.isEmpty()) {
+            return Optional.empty();
+        }
+        final List<URI> properties = TermLoadProfile.RELATION_PROPERTIES.stream().map(URI::create).toList();
+        try {
+            final List<?> rows = em.createNativeQuery("SELECT DISTINCT ?property ?related WHERE {" +
+                                                              "GRAPH ?g {" +
+                                                              "?term a ?type ;" +
+                                                              "?property ?related ." +
+                                                              "}" +
+                                                              valuesPattern("?property", properties) +
+                                                              "}")
+                                   .setParameter("g", contextMapper.getVocabularyContext(vocabulary.get()))
+                                   .setParameter("term", id)
+                                   .setParameter("type", typeUri)
+                                   .getResultList();
+            final TermRelations result = new TermRelations(id, vocabulary.get());
+            rows.forEach(r -> {
+                final Object[] row = (Object[]) r;
+                if (row[1] instanceof URI related) {
+                    result.addRelation(row[0].toString(), related);
+                }
+            });
+            return Optional.of(result);
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Removes assertion of the specified relationship between the specified terms.
+     * <p>
+     * Only the assertion stored in the context of the vocabulary of the term is removed. This allows removing a
+     * relationship without loading the whole term.
+     * <p>
+     * Only non-hierarchical relationships ({@link #REMOVABLE_RELATION_PROPERTIES}) are supported, because removing a
+     * hierarchical one would require updating the term hierarchy as well.
+     *
+     * @param term     Identifier of the term asserting the relationship
+     * @param property Relationship property, one of {@link #REMOVABLE_RELATION_PROPERTIES}
+     * @param related  Identifier of the related term
+     * @throws IllegalArgumentException When removal of the specified relationship is not supported
+     */
+    @ModifiesData
+    public void removeRelation(URI term, String property, URI related) {
+        Objects.requireNonNull(term);
+        Objects.requireNonNull(related);
+        if (!REMOVABLE_RELATION_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Removal of relationship " + property + " is not supported.");
+        }
+        final Optional<URI> vocabulary = findTermVocabulary(term);
+        if (vocabulary.isEmpty()) {
+            return;
+        }
+        try {
+            em.createNativeQuery("DELETE {" +
+                                         "GRAPH ?g {" +
+                                         "?t ?property ?related ." +
+                                         "}} WHERE {" +
+                                         "GRAPH ?g {" +
+                                         "?t a ?type ;" +
+                                         "?property ?related ." +
+                                         "}}").setParameter("g", contextMapper.getVocabularyContext(vocabulary.get()))
+              .setParameter("t", term)
+              .setParameter("property", URI.create(property))
+              .setParameter("related", related)
+              .setParameter("type", typeUri)
+              .executeUpdate();
+            evictPossiblyCachedReferences(new Term(term));
+            // Inverse relationships of the related term are inferred from the removed assertion
+            evictPossiblyCachedReferences(new Term(related));
+            findTermVocabulary(related).filter(v -> !v.equals(vocabulary.get())).ifPresent(contentRevisions::advance);
+            eventPublisher.publishEvent(new VocabularyContentModifiedEvent(this, vocabulary.get()));
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
     /**
      * Finds vocabulary to which a term with the specified id belongs.
      *
@@ -234,6 +395,11 @@ public void persist(Term entity, Vocabulary vocabulary) {
             entity.setVocabulary(null); // This is inferred
             em.persist(entity, descriptorFactory.termDescriptor(vocabulary));
             evictCachedSubTerms(Collections.emptySet(), entity.getParentTerms());
+            patchCachedHierarchies(entity, vocabulary.getUri(), Collections.emptySet(), Collections.emptySet(), false);
+            advanceReferencedContentRevisions(vocabulary.getUri(),
+                                              Utils.joinCollections(entity.getParentTerms(),
+                                                                    entity.getExternalParentTerms()),
+                                              Collections.emptySet());
             eventPublisher.publishEvent(new VocabularyContentModifiedEvent(this, vocabulary.getUri()));
             eventPublisher.publishEvent(new AssetPersistEvent(this, entity));
         } catch (RuntimeException e) {
@@ -254,7 +420,17 @@ public Term update(Term entity) {
             eventPublisher.publishEvent(new AssetUpdateEvent(this, entity));
             evictCachedSubTerms(original.getParentTerms(), entity.getParentTerms());
             evictCachedSubTerms(original.getExternalParentTerms(), entity.getExternalParentTerms());
+            // Original parents are read before merge, which may update the managed original
+            patchCachedHierarchies(entity, original.getVocabulary(),
+                                   Utils.joinCollections(original.getParentTerms(), original.getExternalParentTerms()),
+                                   Collections.emptySet(), false);
             final Term result = em.merge(entity, descriptorFactory.termDescriptor(entity));
+            advanceReferencedContentRevisions(original.getVocabulary(),
+                                              Utils.joinCollections(original.getParentTerms(),
+                                                                    original.getExternalParentTerms(),
+                                                                    entity.getParentTerms(),
+                                                                    entity.getExternalParentTerms()),
+                                              Utils.emptyIfNull(getSubTerms(entity)));
             eventPublisher.publishEvent(new VocabularyContentModifiedEvent(this, original.getVocabulary()));
             return result;
         } catch (RuntimeException e) {
@@ -283,18 +459,50 @@ private void evictPossiblyCachedReferences(Term term) {
     /**
      * Evicts all descendants of the specified term from the cache - default context.
      * <p>
-     * This is done to prevent stale references through the parentTerms chain.
+     * This is done to prevent stale references through the parentTerms chain. Descendants are resolved using the
+     * in-memory hierarchies of the vocabulary of the term and of vocabularies of its descendants.
      *
      * @param term Term whose descendants to evict
      */
     private void evictAllCachedDescendants(Term term) {
-        em.createNativeQuery("SELECT ?child WHERE { ?t ?hasChild* ?child . }", URI.class)
-          .setParameter("hasChild", URI.create(SKOS.NARROWER))
-          .setParameter("t", term).getResultStream().forEach(st -> {
-              em.getEntityManagerFactory().getCache().evict(Term.class, st, null);
-              em.getEntityManagerFactory().getCache().evict(FlatTerm.class, st, null);
-              em.getEntityManagerFactory().getCache().evict(TermDto.class, st, null);
-          });
+        final URI vocabulary = term.getVocabulary() != null ? term.getVocabulary() :
+                               findTermVocabulary(term.getUri()).orElse(null);
+        if (vocabulary == null) {
+            // Term without vocabulary has no descendants
+            return;
+        }
+        findDescendants(term.getUri(), vocabulary).forEach(st -> {
+            em.getEntityManagerFactory().getCache().evict(Term.class, st, null);
+            em.getEntityManagerFactory().getCache().evict(FlatTerm.class, st, null);
+            em.getEntityManagerFactory().getCache().evict(TermDto.class, st, null);
+        });
+    }
+
+    /**
+     * Finds all descendants of the specified term, across vocabularies.
+     * <p>
+     * A hierarchy contains children of its terms from other vocabularies, but not their descendants, so the traversal
+     * continues in hierarchies of vocabularies of such children.
+     *
+     * @param term       Term identifier
+     * @param vocabulary Identifier of the vocabulary of the term
+     * @return Set of descendant identifiers
+     */
+    private Set<URI> findDescendants(URI term, URI vocabulary) {
+        final Set<URI> result = new HashSet<>();
+        final Deque<Map.Entry<URI, URI>> toVisit = new ArrayDeque<>();
+        toVisit.add(Map.entry(term, vocabulary));
+        while (!toVisit.isEmpty()) {
+            final Map.Entry<URI, URI> current = toVisit.poll();
+            final TermHierarchy hierarchy = getHierarchy(current.getValue());
+            for (URI descendant : hierarchy.getDescendants(current.getKey())) {
+                final URI descendantVocabulary = hierarchy.getTermVocabulary(descendant);
+                if (result.add(descendant) && !hierarchy.contains(descendant) && descendantVocabulary != null) {
+                    toVisit.add(Map.entry(descendant, descendantVocabulary));
+                }
+            }
+        }
+        return result;
     }
 
     /**
@@ -307,6 +515,15 @@ public void setState(Term term, URI state) {
         term.setState(state);
         eventPublisher.publishEvent(new AssetUpdateEvent(this, term));
         evictPossiblyCachedReferences(term);
+        // State is shown in term listings, although its change is not published as vocabulary content modification
+        if (term.getVocabulary() != null) {
+            contentRevisions.advance(term.getVocabulary());
+        } else {
+            contentRevisions.advanceAll();
+        }
+        advanceReferencedContentRevisions(term.getVocabulary(),
+                                          Utils.joinCollections(term.getParentTerms(), term.getExternalParentTerms()),
+                                          Utils.emptyIfNull(getSubTerms(term)));
         em.createNativeQuery("DELETE {" +
                                      "?t ?hasState ?oldState ." +
                                      "} INSERT {" +
@@ -332,11 +549,220 @@ private void evictCachedSubTerms(Set<? extends AbstractTerm> originalParents,
         newCopy.forEach(t -> subTermsCache.evict(t.getUri()));
     }
 
+    /**
+     * Applies modification of the specified term to the cached hierarchies once the current transaction commits.
+     * <p>
+     * Besides the hierarchy of the vocabulary of the term, hierarchies of vocabularies of its original and new parents
+     * and of the specified sub-terms are patched as well, as a hierarchy also contains terms from other vocabularies
+     * which are directly connected to its terms. Hierarchies which are not cached are left to be loaded when needed.
+     *
+     * @param term            The modified term, with its new parents and labels
+     * @param vocabulary      Identifier of the vocabulary of the term
+     * @param originalParents Original parents (including external ones) of the term
+     * @param subTerms        Sub-terms of the term whose hierarchies are affected
+     * @param removed         Whether the term is being removed
+     */
+    private void patchCachedHierarchies(Term term, URI vocabulary, Collection<? extends AbstractTerm> originalParents,
+                                        Collection<TermInfo> subTerms, boolean removed) {
+        final URI id = term.getUri();
+        final Map<URI, URI> parents = new HashMap<>();
+        if (!removed) {
+            Utils.joinCollections(term.getParentTerms(), term.getExternalParentTerms())
+                 .forEach(p -> parents.put(p.getUri(), resolveVocabulary(p)));
+        }
+        final Map<String, String> labels = term.getLabel() != null ? new HashMap<>(term.getLabel().getValue()) :
+                                           Collections.emptyMap();
+        final Set<URI> vocabularies = new HashSet<>(parents.values());
+        originalParents.forEach(p -> vocabularies.add(resolveVocabulary(p)));
+        subTerms.forEach(t -> vocabularies.add(t.getVocabulary()));
+        vocabularies.add(vocabulary);
+        vocabularies.remove(null);
+        final Map<URI, URI> contexts = new HashMap<>();
+        vocabularies.forEach(v -> contexts.put(v, contextMapper.getVocabularyContext(v)));
+        afterCommit(() -> contexts.forEach((v, context) -> hierarchyCache.updateIfPresent(v, hierarchy -> {
+            if (!Objects.equals(context, hierarchy.getContext())) {
+                return null;
+            }
+            final TermHierarchy.Patch patch = hierarchy.patch();
+            if (removed) {
+                return patch.removeTerm(id).build();
+            }
+            if (v.equals(vocabulary)) {
+                patch.addTerm(id).setParents(id, parents.keySet());
+                parents.forEach(patch::setTermVocabulary);
+            } else {
+                patch.setTermVocabulary(id, vocabulary)
+                     .setParents(id, parents.entrySet().stream().filter(e -> v.equals(e.getValue()))
+                                            .map(Map.Entry::getKey).toList());
+            }
+            return patch.setLabels(id, labels).build();
+        })));
+    }
+
+    private URI resolveVocabulary(AbstractTerm term) {
+        return term.getVocabulary() != null ? term.getVocabulary() : findTermVocabulary(term.getUri()).orElse(null);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Advances content revisions of other vocabularies affected by a modification of a term.
+     * <p>
+     * Revision of the vocabulary of the term is advanced on {@link VocabularyContentModifiedEvent}. However, term
+     * listings of a vocabulary also contain basic data (e.g., label, state) of parents and sub-terms of its terms, which
+     * may come from other vocabularies. If the vocabulary of any of the referenced terms is not known, revisions of all
+     * vocabularies are advanced.
+     *
+     * @param vocabulary Identifier of the vocabulary of the term
+     * @param parents    Parents (including external ones) of the term
+     * @param subTerms   Sub-terms of the term
+     */
+    private void advanceReferencedContentRevisions(URI vocabulary, Collection<? extends AbstractTerm> parents,
+                                                   Collection<TermInfo> subTerms) {
+        final Set<URI> vocabularies = Stream.concat(parents.stream().map(AbstractTerm::getVocabulary),
+                                                    subTerms.stream().map(TermInfo::getVocabulary))
+                                            .collect(Collectors.toCollection(HashSet::new));
+        vocabularies.remove(vocabulary);
+        if (vocabularies.contains(null)) {
+            contentRevisions.advanceAll();
+        } else {
+            vocabularies.forEach(contentRevisions::advance);
+        }
+    }
+
+    /**
+     * Gets hierarchy of terms of the specified vocabulary.
+     * <p>
+     * The hierarchy is loaded using a single query the first time it is needed and then kept in the cache until the
+     * vocabulary content changes.
+     *
+     * @param vocabulary Vocabulary identifier
+     * @return Term hierarchy of the vocabulary
+     */
+    private TermHierarchy getHierarchy(URI vocabulary) {
+        final URI context = contextMapper.getVocabularyContext(vocabulary);
+        final TermHierarchy result = hierarchyCache.getOrCompute(vocabulary, v -> loadHierarchy(v, context));
+        // The vocabulary may be mapped to a different context (e.g., in a workspace) than the cached hierarchy
+        return Objects.equals(context, result.getContext()) ? result : loadHierarchy(vocabulary, context);
+    }
+
+    /**
+     * Loads hierarchy of terms of the specified vocabulary.
+     * <p>
+     * Terms, their labels, parents and children from other vocabularies, vocabulary top concepts and vocabulary
+     * primary language are all retrieved by a single query.
+     *
+     * @param vocabulary Vocabulary identifier
+     * @param context    Repository context of the vocabulary
+     * @return Term hierarchy of the vocabulary
+     */
+    private TermHierarchy loadHierarchy(URI vocabulary, URI context) {
+        final List<?> rows = em.createNativeQuery(
+                                       "SELECT ?term ?label ?parent ?parentVocabulary ?child ?childVocabulary ?childLabel ?root ?language WHERE {" +
+                                               "{ GRAPH ?context { ?term a ?type . OPTIONAL { ?term ?hasLabel ?label . } } }" +
+                                               "UNION {" +
+                                               "   GRAPH ?context { ?term a ?type . } " +
+                                               "   ?term ?hasParent ?parent . " +
+                                               "   OPTIONAL { ?parent ?inVocabulary ?parentVocabulary . }" +
+                                               "} UNION {" +
+                                               "   GRAPH ?context { ?term a ?type . } " +
+                                               "   ?child ?hasParent ?term ; " +
+                                               "      ?inVocabulary ?childVocabulary . " +
+                                               "   FILTER (?childVocabulary != ?vocabulary) " +
+                                               "   OPTIONAL { ?child ?hasLabel ?childLabel . }" +
+                                               "} UNION {" +
+                                               "   GRAPH ?context { ?vocabulary ?hasGlossary/?hasTerm ?root . }" +
+                                               "} UNION {" +
+                                               "   ?vocabulary ?hasLanguage ?language . " +
+                                               "}}")
+                                   .setParameter("context", context)
+                                   .setParameter("vocabulary", vocabulary)
+                                   .setParameter("type", typeUri)
+                                   .setParameter("hasLabel", LABEL_PROP)
+                                   .setParameter("hasParent", URI.create(SKOS.BROADER))
+                                   .setParameter("inVocabulary", TERM_FROM_VOCABULARY)
+                                   .setParameter("hasGlossary",
+                                                 URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_ma_glosar))
+                                   .setParameter("hasTerm", URI.create(SKOS.HAS_TOP_CONCEPT))
+                                   .setParameter("hasLanguage", DC_TERMS_LANGUAGE)
+                                   .getResultList();
+        final String language = rows.stream().map(r -> ((Object[]) r)[8]).filter(Objects::nonNull).findFirst()
+                                    .map(Object::toString).orElse(null);
+        final TermHierarchy.Builder builder = TermHierarchy.builder(vocabulary, context, language);
+        for (Object item : rows) {
+            final Object[] row = (Object[]) item;
+            if (row[7] != null) {
+                builder.addRoot((URI) row[7]);
+            }
+            if (row[0] == null) {
+                continue;
+            }
+            final URI term = (URI) row[0];
+            if (row[2] != null) {
+                builder.addParent(term, (URI) row[2]).setTermVocabulary((URI) row[2], (URI) row[3]);
+            } else if (row[4] != null) {
+                builder.addParent((URI) row[4], term).setTermVocabulary((URI) row[4], (URI) row[5]);
+                addLabel(builder, (URI) row[4], row[6]);
+            } else {
+                builder.addTerm(term);
+                addLabel(builder, term, row[1]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void addLabel(TermHierarchy.Builder builder, URI term, Object label) {
+        if (label instanceof LangString ls) {
+            builder.addLabel(term, ls.getLanguage().orElse(null), ls.getValue());
+        } else if (label != null) {
+            builder.addLabel(term, null, label.toString());
+        }
+    }
+
+    /**
+     * Loads terms with the specified identifiers, including their sub-terms.
+     *
+     * @param terms Term identifiers
+     * @return List of terms in the order of the specified identifiers
+     */
+    private List<TermDto> findTermDtos(List<URI> terms) {
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final List<TermDto> loaded = executeQueryAndLoadSubTerms(
+                em.createNativeQuery("SELECT DISTINCT ?term WHERE {" + valuesPattern("?term", terms) +
+                                             "?term a ?type . }", TermDto.class)
+                  .setParameter("type", typeUri));
+        final Map<URI, TermDto> byUri = new HashMap<>();
+        loaded.forEach(t -> byUri.putIfAbsent(t.getUri(), t));
+        return terms.stream().map(byUri::get).filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static List<URI> page(List<URI> terms, Pageable pageSpec, Collection<URI> exclude) {
+        final Set<URI> excluded = exclude != null ? new HashSet<>(exclude) : Collections.emptySet();
+        return terms.stream().filter(t -> !excluded.contains(t))
+                    .skip(pageSpec.getOffset())
+                    .limit(pageSpec.getPageSize())
+                    .toList();
+    }
+
     /**
      * Finds all terms in the specified vocabulary, regardless of their position in the term hierarchy.
      *
      * @param vocabulary Vocabulary whose terms to retrieve. A reference is sufficient
-     * @param pageSpec   Page specification
+     * @param pageSpec   Page specification, may be a {@link CursorPageRequest}
      * @return List of vocabulary term DTOs
      */
     public List<TermDto> findAll(Vocabulary vocabulary, Pageable pageSpec) {
@@ -350,24 +776,65 @@ public List<TermDto> findAll(Vocabulary vocabulary, Pageable pageSpec) {
     }
 
     private TypedQuery<FlatTermDto> findAllFlatQuery(Vocabulary vocabulary, Pageable pageSpec) {
-        return em.createNativeQuery("SELECT DISTINCT ?term WHERE {" +
-                                            "GRAPH ?context { " +
-                                            "?term a ?type ;" +
-                                            "?hasLabel ?label ;" +
-                                            "}" +
-                                            "?term ?inVocabulary ?vocabulary ." +
-                                            "?vocabulary ?hasLanguage ?labelLang ." +
-                                            "FILTER (lang(?label) = ?labelLang) ." +
-                                            " } ORDER BY " + orderSentence("?label"),
-                                    FlatTermDto.class)
-                 .setParameter("context", context(vocabulary))
-                 .setParameter("type", typeUri)
-                 .setParameter("vocabulary", vocabulary.getUri())
-                 .setParameter("hasLabel", LABEL_PROP)
-                 .setParameter("inVocabulary", TERM_FROM_VOCABULARY)
-                 .setParameter("hasLanguage", DC_TERMS_LANGUAGE)
-                 .setMaxResults(pageSpec.getPageSize())
-                 .setFirstResult((int) pageSpec.getOffset());
+        final TypedQuery<FlatTermDto> query = em.createNativeQuery("SELECT DISTINCT ?term WHERE {" +
+                                                                           "GRAPH ?context { " +
+                                                                           "?term a ?type ;" +
+                                                                           "?hasLabel ?label ;" +
+                                                                           "}" +
+                                                                           "?term ?inVocabulary ?vocabulary ." +
+                                                                           "?vocabulary ?hasLanguage ?labelLang ." +
+                                                                           "FILTER (lang(?label) = ?labelLang) ." +
+                                                                           cursorFilter(pageSpec) +
+                                                                           " } ORDER BY " + orderSentence(
+                                                                           "?label") + " STR(?term)",
+                                                                   FlatTermDto.class)
+                                                .setParameter("context", context(vocabulary))
+                                                .setParameter("type", typeUri)
+                                                .setParameter("vocabulary", vocabulary.getUri())
+                                                .setParameter("hasLabel", LABEL_PROP)
+                                                .setParameter("inVocabulary", TERM_FROM_VOCABULARY)
+                                                .setParameter("hasLanguage", DC_TERMS_LANGUAGE);
+        return setPage(query, pageSpec);
+    }
+
+    /**
+     * Creates a filter selecting only terms following the cursor of the specified page specification.
+     * <p>
+     * Terms are expected to be ordered by the order sentence of their label (one per term) and then by their
+     * identifier.
+     *
+     * @param pageSpec Page specification
+     * @return Filter, empty string if the page specification contains no cursor
+     * @see #setPage(TypedQuery, Pageable)
+     */
+    private static String cursorFilter(Pageable pageSpec) {
+        if (!(pageSpec instanceof CursorPageRequest)) {
+            return "";
+        }
+        final String key = "STR(" + orderSentence("?label") + ")";
+        final String cursorKey = "STR(" + orderSentence("?cursorLabel") + ")";
+        return "FILTER (" + key + " > " + cursorKey + " || (" + key + " = " + cursorKey +
+                " && STR(?term) > STR(?cursorTerm))) .";
+    }
+
+    /**
+     * Restricts the specified query to the specified page.
+     * <p>
+     * If the page specification contains a cursor, its position is set as the query parameter used by
+     * {@link #cursorFilter(Pageable)} instead of skipping an offset.
+     *
+     * @param query    Query to restrict
+     * @param pageSpec Page specification
+     * @return The query
+     */
+    private static <T> TypedQuery<T> setPage(TypedQuery<T> query, Pageable pageSpec) {
+        if (pageSpec instanceof CursorPageRequest cursorPage) {
+            query.setParameter("cursorLabel", Objects.toString(cursorPage.getCursor().label(), ""), null)
+                 .setParameter("cursorTerm", cursorPage.getCursor().iri());
+        } else {
+            query.setFirstResult((int) pageSpec.getOffset());
+        }
+        return query.setMaxResults(pageSpec.getPageSize());
     }
 
     private List<TermDto> executeAndBuildHierarchy(TypedQuery<FlatTermDto> query) {
@@ -377,10 +844,11 @@ private List<TermDto> executeAndBuildHierarchy(TypedQuery<FlatTermDto> query) {
                                                                                                           flatTerm)))
                                                  .toList();
         em.clear();
+        final Map<URI, Set<TermInfo>> subTerms = getSubTerms(flatTerms);
         final List<TermDto> result = new ArrayList<>(flatTerms.size());
         for (FlatTermDto flatTerm : flatTerms) {
             final TermDto term = termsMap.get(flatTerm.getUri());
-            term.setSubTerms(getSubTerms(term));
+            term.setSubTerms(subTerms.get(term.getUri()));
             term.setParentTerms(flatTerm.getParentTerms().stream().map(termsMap::get).filter(Objects::nonNull)
                                         .collect(Collectors.toSet()));
             result.add(term);
@@ -393,7 +861,7 @@ private List<TermDto> executeAndBuildHierarchy(TypedQuery<FlatTermDto> query) {
      * as a flat list of DTOs.
      *
      * @param vocabulary Vocabulary whose terms to retrieve. A reference is sufficient
-     * @param pageSpec   Page specification
+     * @param pageSpec   Page specification, may be a {@link CursorPageRequest}
      * @return Flat list of vocabulary term DTOs
      */
     public List<FlatTermDto> findAllFlat(Vocabulary vocabulary, Pageable pageSpec) {
@@ -630,7 +1098,24 @@ private <T extends AbstractTerm> List<T> executeQueryAndLoadSubTerms(TypedQuery<
         // transactions, this is probably the only way to prevent the aforementioned exceptions from appearing
         final List<T> result = query.getResultList();
         em.clear();
-        result.forEach(t -> t.setSubTerms(getSubTerms(t)));
+        final Map<URI, Set<TermInfo>> subTerms = getSubTerms(result);
+        result.forEach(t -> t.setSubTerms(subTerms.get(t.getUri())));
+        return result;
+    }
+
+    /**
+     * Executes the specified query and loads sub-terms of the results and all their ancestors.
+     * <p>
+     * This allows the term hierarchy to be traversed both ways for the results.
+     *
+     * @param query Query to execute
+     * @return Query results with sub-terms loaded
+     */
+    private List<TermDto> executeQueryAndLoadSubTermsIncludingAncestors(TypedQuery<TermDto> query) {
+        // See executeQueryAndLoadSubTerms for why the persistence context is cleared
+        final List<TermDto> result = query.getResultList();
+        em.clear();
+        loadSubTermsIncludingAncestors(result);
         return result;
     }
 
@@ -640,8 +1125,59 @@ private <T extends AbstractTerm> List<T> executeQueryAndLoadSubTerms(TypedQuery<
      * @param parent Parent term
      */
     private Set<TermInfo> getSubTerms(HasIdentifier parent) {
-        return subTermsCache.getOrCompute(parent.getUri(),
-                                          (k) -> loadInverseTermInfo(parent, SKOS.BROADER, Collections.emptySet()));
+        return getSubTerms(Collections.singleton(parent)).get(parent.getUri());
+    }
+
+    /**
+     * Gets sub-term info for all the specified parent terms.
+     * <p>
+     * Sub-terms of parents not present in the cache are loaded using a single query.
+     *
+     * @param parents Parent terms
+     * @return Map of parent term identifiers to their sub-terms
+     */
+    private Map<URI, Set<TermInfo>> getSubTerms(Collection<? extends HasIdentifier> parents) {
+        if (parents.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Set<URI> parentIris = parents.stream().map(HasIdentifier::getUri)
+                                           .collect(Collectors.toCollection(LinkedHashSet::new));
+        return subTermsCache.getOrComputeAll(parentIris, this::loadSubTerms);
+    }
+
+    /**
+     * Loads sub-terms of all the specified parent terms using a single query.
+     *
+     * @param parents Parent term identifiers
+     * @return Map of parent term identifiers to their sub-terms, ordered by label
+     */
+    private Map<URI, Set<TermInfo>> loadSubTerms(Set<URI> parents) {
+        final List<?> rows = em.createNativeQuery("SELECT DISTINCT ?parent ?term ?label ?vocabulary ?state ?termType WHERE {" +
+                                                          valuesPattern("?parent", parents) +
+                                                          "?term ?hasParent ?parent ;" +
+                                                          "   a ?type ; " +
+                                                          "   ?inVocabulary ?vocabulary . " +
+                                                          "OPTIONAL { ?term ?hasLabel ?label . }" +
+                                                          "OPTIONAL {" +
+                                                          "   ?vocabulary ?hasLanguage ?language . " +
+                                                          "   ?term ?hasLabel ?sortLabel" +
+                                                          "   FILTER (lang(?sortLabel) = ?language)" +
+                                                          "}" +
+                                                          "OPTIONAL { ?term ?hasState ?state . }" +
+                                                          "OPTIONAL {" +
+                                                          "   ?term a ?termType ." +
+                                                          "   FILTER (?termType != ?type)" +
+                                                          "}" +
+                                                          "} ORDER BY ?sortLabel ?term")
+                                .setParameter("hasParent", URI.create(SKOS.BROADER))
+                                .setParameter("type", typeUri)
+                                .setParameter("hasLabel", LABEL_PROP)
+                                .setParameter("inVocabulary", TERM_FROM_VOCABULARY)
+                                .setParameter("hasLanguage", DC_TERMS_LANGUAGE)
+                                .setParameter("hasState",
+                                              URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_ma_stav_pojmu))
+                                .getResultList();
+        return new SparqlResultToTermInfoMapper().mapByParent(rows, parents);
     }
 
     /**
@@ -714,7 +1250,8 @@ public List<FlatTermDto> findAllFlatIncludingImported(Vocabulary vocabulary, Pag
     /**
      * Loads a page of root terms (terms without a parent) contained in the specified vocabulary.
      * <p>
-     * Terms with a label in the instance language are prepended.
+     * Terms with a label in the instance language are prepended. Root terms are resolved and ordered using the
+     * in-memory hierarchy of the vocabulary.
      *
      * @param vocabulary   Vocabulary whose root terms should be returned
      * @param pageSpec     Page specification
@@ -725,26 +1262,9 @@ public List<FlatTermDto> findAllFlatIncludingImported(Vocabulary vocabulary, Pag
     public List<TermDto> findAllRoots(Vocabulary vocabulary, Pageable pageSpec, Collection<URI> includeTerms) {
         Objects.requireNonNull(vocabulary);
         Objects.requireNonNull(pageSpec);
-        TypedQuery<TermDto> query = em.createNativeQuery("SELECT DISTINCT ?term WHERE {" +
-                                                                 "SELECT DISTINCT ?term ?hasLocaleLabel WHERE {" +
-                                                                 "GRAPH ?context { " +
-                                                                 "?term a ?type ;" +
-                                                                 "?hasLabel ?label ." +
-                                                                 "?vocabulary ?hasGlossary/?hasTerm ?term ." +
-                                                                 "BIND((lang(?label) = ?labelLang) as ?hasLocaleLabel) ." +
-                                                                 "FILTER (?term NOT IN (?included))" +
-                                                                 "}} ORDER BY DESC(?hasLocaleLabel) lang(?label) " + orderSentence(
-                                                                 "?label") + "}",
-                                                         TermDto.class);
-        query = setCommonFindAllRootsQueryParams(query, false);
         try {
-            final List<TermDto> result = executeQueryAndLoadSubTerms(
-                    query.setParameter("context", context(vocabulary))
-                         .setParameter("vocabulary", vocabulary.getUri())
-                         .setParameter("labelLang", vocabulary.getPrimaryLanguage())
-                         .setParameter("included", includeTerms)
-                         .setMaxResults(pageSpec.getPageSize())
-                         .setFirstResult((int) pageSpec.getOffset()));
+            final List<URI> roots = getHierarchy(vocabulary.getUri()).getRoots(vocabulary.getPrimaryLanguage());
+            final List<TermDto> result = findTermDtos(page(roots, pageSpec, includeTerms));
             result.addAll(loadIncludedTerms(includeTerms));
             return result;
         } catch (RuntimeException e) {
@@ -776,7 +1296,7 @@ public List<TermDto> findAllRoots(Pageable pageSpec, Collection<URI> includeTerm
                                                                  "} ORDER BY DESC(?hasLocaleLabel) lang(?label) " + orderSentence(
                                                                  "?label") + "}",
                                                          TermDto.class);
-        query = setCommonFindAllRootsQueryParams(query, false);
+        query = setCommonFindAllRootsQueryParams(query);
         try {
             final List<TermDto> result = executeQueryAndLoadSubTerms(
                     query.setParameter("hasLanguage", URI.create(DC.Terms.LANGUAGE))
@@ -791,16 +1311,11 @@ public List<TermDto> findAllRoots(Pageable pageSpec, Collection<URI> includeTerm
         }
     }
 
-    private <T> TypedQuery<T> setCommonFindAllRootsQueryParams(TypedQuery<T> query, boolean includeImports) {
-        final TypedQuery<T> tq = query.setParameter("type", typeUri)
-                                      .setParameter("hasLabel", LABEL_PROP)
-                                      .setParameter("hasGlossary",
-                                                    URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_ma_glosar))
-                                      .setParameter("hasTerm", URI.create(SKOS.HAS_TOP_CONCEPT));
-        if (includeImports) {
-            tq.setParameter("imports", URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_importuje_slovnik));
-        }
-        return tq;
+    private <T> TypedQuery<T> setCommonFindAllRootsQueryParams(TypedQuery<T> query) {
+        return query.setParameter("type", typeUri)
+                    .setParameter("hasLabel", LABEL_PROP)
+                    .setParameter("hasGlossary", URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_ma_glosar))
+                    .setParameter("hasTerm", URI.create(SKOS.HAS_TOP_CONCEPT));
     }
 
     private List<TermDto> loadIncludedTerms(Collection<URI> includeTerms) {
@@ -815,30 +1330,39 @@ private List<TermDto> loadIncludedTerms(Collection<URI> includeTerms) {
                                                  .filter(Objects::nonNull)
                                                  .collect(Collectors.toList());
         em.clear();
-        result.forEach(this::recursivelyLoadParentTermSubTerms);
+        loadSubTermsIncludingAncestors(result);
         return result;
     }
 
     /**
-     * Recursively loads subterms for the specified term and its parents (if they exist).
+     * Loads subterms for the specified terms and their ancestors (if they exist).
      * <p>
-     * This implementation ensures that the term hierarchy can be traversed both ways for the specified term. This has
+     * This implementation ensures that the term hierarchy can be traversed both ways for the specified terms. This has
      * to be done to allow the tree-select component on the frontend to work properly and display the terms.
+     * <p>
+     * Subterms of all the terms are loaded at once.
      *
-     * @param term The term to load subterms for
+     * @param terms The terms to load subterms for
      */
-    private void recursivelyLoadParentTermSubTerms(TermDto term) {
-        term.setSubTerms(getSubTerms(term));
+    private void loadSubTermsIncludingAncestors(Collection<TermDto> terms) {
+        final List<TermDto> toLoad = new ArrayList<>();
+        terms.forEach(t -> collectTermAndAncestors(t, toLoad));
+        final Map<URI, Set<TermInfo>> subTerms = getSubTerms(toLoad);
+        toLoad.forEach(t -> t.setSubTerms(subTerms.get(t.getUri())));
+    }
+
+    private static void collectTermAndAncestors(TermDto term, List<TermDto> target) {
+        target.add(term);
         if (term.hasParentTerms()) {
-            term.getParentTerms().forEach(this::recursivelyLoadParentTermSubTerms);
+            term.getParentTerms().forEach(p -> collectTermAndAncestors(p, target));
         }
     }
 
     /**
      * Loads a page of root terms contained in the specified vocabulary or any of its imports (transitively).
      * <p>
-     * This method basically does a transitive closure of the vocabulary import relationship and retrieves a page of
-     * root terms from this closure.
+     * This method basically does a transitive closure of the vocabulary import relationship and merges root terms of
+     * in-memory hierarchies of vocabularies in this closure.
      * <p>
      * Terms with a label in the instance language are prepended.
      *
@@ -851,26 +1375,15 @@ public List<TermDto> findAllRootsIncludingImports(Vocabulary vocabulary, Pageabl
                                                       Collection<URI> includeTerms) {
         Objects.requireNonNull(vocabulary);
         Objects.requireNonNull(pageSpec);
-        TypedQuery<TermDto> query = em.createNativeQuery("SELECT DISTINCT ?term WHERE {" +
-                                                                 "SELECT DISTINCT ?term ?hasLocaleLabel WHERE {" +
-                                                                 "?term a ?type ;" +
-                                                                 "?hasLabel ?label ." +
-                                                                 "?vocabulary ?imports* ?parent ." +
-                                                                 "?parent ?hasGlossary/?hasTerm ?term ." +
-                                                                 "?vocabulary ?hasLanguage ?primaryLanguage ." +
-                                                                 "BIND((lang(?label) = ?primaryLanguage) as ?hasLocaleLabel) ." +
-                                                                 "FILTER (?term NOT IN (?included))" +
-                                                                 "} ORDER BY DESC(?hasLocaleLabel) lang(?label) " + orderSentence(
-                                                                 "?label") + "}",
-                                                         TermDto.class);
-        query = setCommonFindAllRootsQueryParams(query, true);
         try {
-            final List<TermDto> result = executeQueryAndLoadSubTerms(
-                    query.setParameter("vocabulary", vocabulary.getUri())
-                         .setParameter("hasLanguage", URI.create(DC.Terms.LANGUAGE))
-                         .setParameter("included", includeTerms)
-                         .setFirstResult((int) pageSpec.getOffset())
-                         .setMaxResults(pageSpec.getPageSize()));
+            final TermHierarchy hierarchy = getHierarchy(vocabulary.getUri());
+            final List<TermHierarchy> hierarchies = new ArrayList<>();
+            hierarchies.add(hierarchy);
+            vocabularyDao.getTransitivelyImportedVocabularies(vocabulary.getUri()).stream()
+                         .filter(v -> !v.equals(vocabulary.getUri()))
+                         .forEach(v -> hierarchies.add(getHierarchy(v)));
+            final List<URI> roots = TermHierarchy.sortRoots(hierarchies, hierarchy.getPrimaryLanguage());
+            final List<TermDto> result = findTermDtos(page(roots, pageSpec, includeTerms));
             result.addAll(loadIncludedTerms(includeTerms));
             return result;
         } catch (RuntimeException e) {
@@ -910,9 +1423,7 @@ public List<TermDto> findAll(String searchString, Vocabulary vocabulary, Pageabl
                                             .setMaxResults(pageSpec.getPageSize())
                                             .setFirstResult((int) pageSpec.getOffset());
         try {
-            final List<TermDto> terms = executeQueryAndLoadSubTerms(query);
-            terms.forEach(this::loadParentSubTerms);
-            return terms;
+            return executeQueryAndLoadSubTermsIncludingAncestors(query);
         } catch (RuntimeException e) {
             throw new PersistenceException(e);
         }
@@ -970,9 +1481,7 @@ public List<TermDto> findAll(String searchString, Pageable pageSpec) {
         final TypedQuery<TermDto> query = createFindAllQuery(searchString, pageSpec, TermDto.class);
 
         try {
-            final List<TermDto> terms = executeQueryAndLoadSubTerms(query);
-            terms.forEach(this::loadParentSubTerms);
-            return terms;
+            return executeQueryAndLoadSubTermsIncludingAncestors(query);
         } catch (RuntimeException e) {
             throw new PersistenceException(e);
         }
@@ -1022,13 +1531,6 @@ public List<FlatTermDto> findAllFlat(String searchString, Pageable pageSpec) {
         }
     }
 
-    private void loadParentSubTerms(TermDto parent) {
-        parent.setSubTerms(getSubTerms(parent));
-        if (parent.getParentTerms() != null) {
-            parent.getParentTerms().forEach(this::loadParentSubTerms);
-        }
-    }
-
     /**
      * Finds terms whose label contains the specified search string.
      * <p>
@@ -1061,9 +1563,7 @@ public List<TermDto> findAllIncludingImported(String searchString, Vocabulary vo
                                             .setMaxResults(pageSpec.getPageSize())
                                             .setFirstResult((int) pageSpec.getOffset());
         try {
-            final List<TermDto> terms = executeQueryAndLoadSubTerms(query);
-            terms.forEach(this::loadParentSubTerms);
-            return terms;
+            return executeQueryAndLoadSubTermsIncludingAncestors(query);
         } catch (RuntimeException e) {
             throw new PersistenceException(e);
         }
@@ -1112,6 +1612,8 @@ public List<FlatTermDto> findAllFlatIncludingImported(String searchString, Vocab
 
     /**
      * Finds all terms which are subterms of the specified term.
+     * <p>
+     * Subterms are resolved using the in-memory hierarchy of the vocabulary of the parent term, if it is known.
      *
      * @param parent Parent term
      * @return List of subterms
@@ -1119,6 +1621,14 @@ public List<FlatTermDto> findAllFlatIncludingImported(String searchString, Vocab
     public List<TermDto> findSubTerms(Term parent) {
         Objects.requireNonNull(parent);
         try {
+            final URI vocabulary = parent.getVocabulary() != null ? parent.getVocabulary() :
+                                   findTermVocabulary(parent.getUri()).orElse(null);
+            if (vocabulary != null) {
+                final TermHierarchy hierarchy = getHierarchy(vocabulary);
+                if (hierarchy.contains(parent.getUri())) {
+                    return findTermDtos(hierarchy.getChildren(parent.getUri()));
+                }
+            }
             final TypedQuery<TermDto> query = em.createNativeQuery("SELECT DISTINCT ?term WHERE {" +
                                                                            "?term a ?type ; " +
                                                                            "      ?hasParent ?parent . " +
@@ -1201,11 +1711,260 @@ public Optional<URI> findIdentifierByLabel(String label, Vocabulary vocabulary,
         }
     }
 
+    /**
+     * Finds existing terms relevant for a bulk import of the specified terms into the specified vocabulary.
+     * <p>
+     * The result contains identifiers of those of the specified terms that already exist in the specified vocabulary
+     * and identifiers of terms from the specified vocabulary whose label matches a label of any of the specified terms.
+     * Labels are compared ignoring case, labels without language are considered to be in the vocabulary's primary
+     * language.
+     * <p>
+     * Existence is checked in the vocabulary context, i.e., in the same scope from which {@link #removeAll(Collection,
+     * Vocabulary)} removes the terms.
+     * <p>
+     * This is a bulk version of {@link #exists(URI)} and {@link #findIdentifierByLabel(String, Vocabulary, String)}
+     * evaluated using a single query.
+     *
+     * @param terms      Imported terms, they must have identifiers
+     * @param vocabulary Vocabulary into which the terms are imported
+     * @return Existing terms
+     */
+    public ExistingTerms findExistingTerms(Collection<Term> terms, Vocabulary vocabulary) {
+        Objects.requireNonNull(terms);
+        Objects.requireNonNull(vocabulary);
+        final ExistingTerms result = new ExistingTerms();
+        if (terms.isEmpty()) {
+            return result;
+        }
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final Set<String> labels = new HashSet<>();
+        terms.stream().filter(t -> t.getLabel() != null).forEach(t -> t.getLabel().getValue().forEach(
+                (lang, value) -> labels.add(
+                        "(" + NTriplesUtil.toNTriplesString(vf.createLiteral(ExistingTerms.normalize(value))) + " " +
+                                NTriplesUtil.toNTriplesString(vf.createLiteral(ExistingTerms.normalize(
+                                        lang != null ? lang : vocabulary.getPrimaryLanguage()))) + ")")));
+        try {
+            final List<?> rows = em.createNativeQuery("SELECT DISTINCT ?term ?label ?language ?existing WHERE { {" +
+                                                              "?term a ?type ;" +
+                                                              "?hasLabel ?termLabel ;" +
+                                                              "?inVocabulary ?vocabulary ." +
+                                                              "BIND (LCASE(STR(?termLabel)) AS ?label)" +
+                                                              "BIND (LCASE(LANG(?termLabel)) AS ?language)" +
+                                                              "BIND (false AS ?existing)" +
+                                                              "VALUES (?label ?language) { " +
+                                                              String.join(" ", labels) + " }" +
+                                                              "} UNION {" +
+                                                              valuesPattern("?term", terms.stream()
+                                                                                          .map(Term::getUri)
+                                                                                          .toList()) +
+                                                              "GRAPH ?g { ?term a ?type . }" +
+                                                              "BIND (\"\" AS ?label)" +
+                                                              "BIND (\"\" AS ?language)" +
+                                                              "BIND (true AS ?existing)" +
+                                                              "} }")
+                                   .setParameter("type", typeUri)
+                                   .setParameter("hasLabel", LABEL_PROP)
+                                   .setParameter("inVocabulary", TERM_FROM_VOCABULARY)
+                                   .setParameter("vocabulary", vocabulary.getUri())
+                                   .setParameter("g", contextMapper.getVocabularyContext(vocabulary.getUri()))
+                                   .getResultList();
+            rows.forEach(row -> {
+                final Object[] r = (Object[]) row;
+                assert r.length == 4;
+                if (Boolean.TRUE.equals(r[3])) {
+                    result.addIdentifier((URI) r[0]);
+                } else {
+                    result.addLabel((URI) r[0], r[1].toString(), r[2].toString());
+                }
+            });
+            return result;
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Persists the specified terms into the specified vocabulary using a single update.
+     * <p>
+     * This is a bulk alternative to {@link #persist(Term, Vocabulary)} intended for imports. The terms are written
+     * directly as RDF statements without going through the persistence context. Terms without a parent in the same
+     * vocabulary are added as top concepts of the vocabulary glossary.
+     * <p>
+     * All mapped attributes of {@link Term} are written, except those which are not asserted: the inferred vocabulary
+     * and definition source, the SPARQL-derived primary language and the transient sub-terms and inverse
+     * relationships.
+     * <p>
+     * Instead of publishing an event for each term, a single {@link TermsImportedEvent} is published.
+     *
+     * @param terms      Terms to persist, they must have identifiers
+     * @param vocabulary Vocabulary into which the terms are persisted
+     */
+    @ModifiesData
+    public void persistAll(Collection<Term> terms, Vocabulary vocabulary) {
+        Objects.requireNonNull(terms);
+        Objects.requireNonNull(vocabulary);
+        if (terms.isEmpty()) {
+            return;
+        }
+        final URI context = contextMapper.getVocabularyContext(vocabulary.getUri());
+        final URI glossary = vocabulary.getGlossary().getUri();
+        final List<Quad> data = new ArrayList<>();
+        terms.forEach(t -> t.setGlossary(glossary));
+        terms.forEach(t -> {
+            addTermData(t, context, data);
+            if (!t.hasParentInSameVocabulary()) {
+                data.add(new Quad(glossary, URI.create(SKOS.HAS_TOP_CONCEPT), t.getUri(), context));
+            }
+        });
+        try {
+            em.createNativeQuery(insertDataQuery(data, config.getLanguage())).executeUpdate();
+            evictCachedGlossary(vocabulary);
+            subTermsCache.evictAll();
+            hierarchyCache.evictAll();
+            // Imported terms may reference terms from any vocabulary
+            contentRevisions.advanceAll();
+            eventPublisher.publishEvent(new VocabularyContentModifiedEvent(this, vocabulary.getUri()));
+            eventPublisher.publishEvent(new TermsImportedEvent(this, vocabulary.getUri(),
+                                                               terms.stream().map(Term::getUri)
+                                                                    .collect(Collectors.toSet())));
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    private static void addTermData(Term term, URI context, List<Quad> data) {
+        final URI id = term.getUri();
+        assert id != null;
+        final URI rdfType = URI.create(RDF.TYPE);
+        data.add(new Quad(id, rdfType, URI.create(SKOS.CONCEPT), context));
+        Utils.emptyIfNull(term.getTypes()).forEach(t -> data.add(new Quad(id, rdfType, URI.create(t), context)));
+        addTranslations(id, SKOS.PREF_LABEL, term.getLabel(), context, data);
+        addTranslations(id, SKOS.DEFINITION, term.getDefinition(), context, data);
+        addTranslations(id, SKOS.SCOPE_NOTE, term.getDescription(), context, data);
+        Utils.emptyIfNull(term.getAltLabels()).forEach(l -> addTranslations(id, SKOS.ALT_LABEL, l, context, data));
+        Utils.emptyIfNull(term.getHiddenLabels())
+             .forEach(l -> addTranslations(id, SKOS.HIDDEN_LABEL, l, context, data));
+        Utils.emptyIfNull(term.getExamples()).forEach(l -> addTranslations(id, SKOS.EXAMPLE, l, context, data));
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        Utils.emptyIfNull(term.getNotations()).forEach(
+                n -> data.add(new Quad(id, URI.create(SKOS.NOTATION), vf.createLiteral(n), context)));
+        Utils.emptyIfNull(term.getSources()).forEach(
+                s -> data.add(new Quad(id, URI.create(DC.Terms.SOURCE), vf.createLiteral(s), context)));
+        data.add(new Quad(id, URI.create(SKOS.IN_SCHEME), term.getGlossary(), context));
+        if (term.getState() != null) {
+            data.add(new Quad(id, URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_ma_stav_pojmu), term.getState(),
+                              context));
+        }
+        addReferences(id, SKOS.BROADER, term.getParentTerms(), context, data);
+        addReferences(id, SKOS.BROAD_MATCH, term.getExternalParentTerms(), context, data);
+        addReferences(id, SKOS.EXACT_MATCH, term.getExactMatchTerms(), context, data);
+        addReferences(id, SKOS.RELATED, term.getRelated(), context, data);
+        addReferences(id, SKOS.RELATED_MATCH, term.getRelatedMatch(), context, data);
+        Utils.emptyIfNull(term.getProperties()).forEach((property, values) -> values.forEach(
+                v -> data.add(new Quad(id, URI.create(property), v, context))));
+    }
+
+    private static void addTranslations(URI subject, String property, MultilingualString value, URI context,
+                                        List<Quad> data) {
+        if (value == null) {
+            return;
+        }
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        value.getValue().forEach((lang, str) -> data.add(
+                new Quad(subject, URI.create(property), lang != null ? vf.createLiteral(str, lang) :
+                                                        vf.createLiteral(str), context)));
+    }
+
+    private static void addReferences(URI subject, String property, Set<? extends HasIdentifier> values, URI context,
+                                      List<Quad> data) {
+        Utils.emptyIfNull(values).forEach(v -> data.add(new Quad(subject, URI.create(property), v.getUri(), context)));
+    }
+
+    /**
+     * Removes terms with the specified identifiers from the specified vocabulary using a single update.
+     * <p>
+     * This is a bulk alternative to {@link #remove(Term)} intended for imports overwriting existing terms. All
+     * statements about the terms in the vocabulary are removed, together with their top concept links from the
+     * vocabulary glossary. Instead of publishing {@link cz.cvut.kbss.termit.event.BeforeAssetDeleteEvent} for each
+     * removed term, a single {@link TermsWillBeRemovedEvent} with labels of the removed terms is published.
+     *
+     * @param ids        Identifiers of terms to remove
+     * @param vocabulary Vocabulary from which the terms are removed
+     */
+    @ModifiesData
+    public void removeAll(Collection<URI> ids, Vocabulary vocabulary) {
+        Objects.requireNonNull(ids);
+        Objects.requireNonNull(vocabulary);
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            final URI context = contextMapper.getVocabularyContext(vocabulary.getUri());
+            eventPublisher.publishEvent(new TermsWillBeRemovedEvent(this, vocabulary.getUri(),
+                                                                    findLabels(ids, context)));
+            em.createNativeQuery("DELETE { GRAPH ?g { ?s ?p ?o . } } WHERE {" +
+                                         valuesPattern("?term", ids) +
+                                         "GRAPH ?g { ?term a ?type . " +
+                                         "{ ?term ?p ?o . BIND (?term AS ?s) } UNION " +
+                                         "{ ?s ?hasTopConcept ?term . BIND (?hasTopConcept AS ?p) BIND (?term AS ?o) }" +
+                                         "} }")
+              .setParameter("type", typeUri)
+              .setParameter("hasTopConcept", URI.create(SKOS.HAS_TOP_CONCEPT))
+              .setParameter("g", context)
+              .executeUpdate();
+            ids.forEach(id -> {
+                em.getEntityManagerFactory().getCache().evict(Term.class, id, null);
+                em.getEntityManagerFactory().getCache().evict(FlatTerm.class, id, null);
+                em.getEntityManagerFactory().getCache().evict(TermDto.class, id, null);
+                em.getEntityManagerFactory().getCache().evict(TermInfo.class, id, null);
+                em.getEntityManagerFactory().getCache().evict(FlatTermDto.class, id, null);
+            });
+            evictCachedGlossary(vocabulary);
+            subTermsCache.evictAll();
+            hierarchyCache.evictAll();
+            // Removed terms may be referenced by terms from any vocabulary
+            contentRevisions.advanceAll();
+            eventPublisher.publishEvent(new VocabularyContentModifiedEvent(this, vocabulary.getUri()));
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    private Map<URI, MultilingualString> findLabels(Collection<URI> ids, URI context) {
+        final List<?> rows = em.createNativeQuery("SELECT ?term ?label WHERE {" + valuesPattern("?term", ids) +
+                                                          "GRAPH ?g { ?term ?hasLabel ?label . } }")
+                               .setParameter("hasLabel", LABEL_PROP)
+                               .setParameter("g", context)
+                               .getResultList();
+        final Map<URI, MultilingualString> labels = new HashMap<>();
+        rows.forEach(item -> {
+            final Object[] row = (Object[]) item;
+            final MultilingualString label = labels.computeIfAbsent((URI) row[0], k -> new MultilingualString());
+            if (row[1] instanceof LangString ls) {
+                label.set(ls.getLanguage().orElse(null), ls.getValue());
+            } else {
+                label.set(row[1].toString());
+            }
+        });
+        return labels;
+    }
+
+    private void evictCachedGlossary(Vocabulary vocabulary) {
+        em.getEntityManagerFactory().getCache().evict(Glossary.class, vocabulary.getGlossary().getUri(), null);
+        em.getEntityManagerFactory().getCache().evict(Vocabulary.class, vocabulary.getUri(), null);
+    }
+
     @ModifiesData
     @Override
     public void remove(Term entity) {
         super.remove(entity);
         evictCachedSubTerms(entity.getParentTerms(), Collections.emptySet());
+        patchCachedHierarchies(entity, entity.getVocabulary(), Collections.emptySet(),
+                               Utils.emptyIfNull(entity.getSubTerms()), true);
+        advanceReferencedContentRevisions(entity.getVocabulary(),
+                                          Utils.joinCollections(entity.getParentTerms(),
+                                                                entity.getExternalParentTerms()),
+                                          Utils.emptyIfNull(entity.getSubTerms()));
         eventPublisher.publishEvent(new VocabularyContentModifiedEvent(this, entity.getVocabulary()));
     }
 
@@ -1225,7 +1984,32 @@ public Optional<Term> findVersionValidAt(Term asset, Instant at) {
 
     @EventListener
     public void onEvictCache(EvictCacheEvent evt) {
+        evictCachedHierarchies();
+    }
+
+    /**
+     * Evicts all cached term hierarchies and sub-terms.
+     * <p>
+     * This is intended for bulk changes of vocabulary content made outside this DAO (e.g., SKOS vocabulary re-import),
+     * which may affect hierarchies of other vocabularies as well.
+     */
+    public void evictCachedHierarchies() {
         subTermsCache.evictAll();
+        hierarchyCache.evictAll();
+    }
+
+    /**
+     * Evicts cached term hierarchy of the vocabulary whose content has changed or which is being removed.
+     * <p>
+     * Term modifications made by this DAO patch the cached hierarchies directly (or evict them in case of bulk
+     * modifications), so content modification events published by it are ignored.
+     */
+    @EventListener({VocabularyContentModifiedEvent.class, VocabularyWillBeRemovedEvent.class})
+    public void onVocabularyChanged(VocabularyEvent evt) {
+        if (evt instanceof VocabularyContentModifiedEvent && evt.getSource() instanceof TermDao) {
+            return;
+        }
+        hierarchyCache.evict(evt.getVocabularyIri());
     }
 
     @EventListener
@@ -22,29 +22,45 @@
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.vocabulary.DC;
+import cz.cvut.kbss.jopa.vocabulary.RDF;
 import cz.cvut.kbss.jopa.vocabulary.RDFS;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
 import cz.cvut.kbss.termit.dto.assignment.TermOccurrences;
 import cz.cvut.kbss.termit.exception.PersistenceException;
+import cz.cvut.kbss.termit.exception.UnsupportedOperationException;
+import cz.cvut.kbss.termit.model.AbstractEntity;
 import cz.cvut.kbss.termit.model.AbstractTerm;
 import cz.cvut.kbss.termit.model.Asset;
 import cz.cvut.kbss.termit.model.Term;
+import cz.cvut.kbss.termit.model.assignment.OccurrenceTarget;
 import cz.cvut.kbss.termit.model.assignment.TermOccurrence;
+import cz.cvut.kbss.termit.model.selector.Selector;
+import cz.cvut.kbss.termit.model.selector.TextPositionSelector;
+import cz.cvut.kbss.termit.model.selector.TextQuoteSelector;
+import cz.cvut.kbss.termit.model.util.EntityToOwlClassMapper;
+import cz.cvut.kbss.termit.persistence.dao.util.Quad;
 import cz.cvut.kbss.termit.persistence.dao.util.SparqlResultToTermOccurrenceMapper;
 import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Utils;
 import cz.cvut.kbss.termit.util.Vocabulary;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Repository;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 
 import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.bindVocabularyRelatedParameters;
+import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.insertDataQuery;
 import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.insertLanguagePattern;
 import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.insertVocabularyPattern;
+import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.valuesPattern;
 
 @Repository
 public class TermOccurrenceDao extends BaseDao<TermOccurrence> {
@@ -215,6 +231,85 @@ public void persist(TermOccurrence entity) {
         }
     }
 
+    /**
+     * Persists the specified term occurrences, including their targets and selectors, using a single bulk insert.
+     * <p>
+     * As opposed to {@link #persist(TermOccurrence)}, the occurrences bypass the persistence context, so this method
+     * is intended for saving large numbers of newly created occurrences (e.g., results of text analysis).
+     * Identifiers are generated for occurrences, targets and selectors without one.
+     *
+     * @param occurrences Occurrences to persist
+     */
+    public void persistAll(Collection<TermOccurrence> occurrences) {
+        Objects.requireNonNull(occurrences);
+        if (occurrences.isEmpty()) {
+            return;
+        }
+        final List<Quad> data = new ArrayList<>();
+        occurrences.forEach(o -> addOccurrenceData(o, data));
+        try {
+            em.createNativeQuery(insertDataQuery(data, config.getLanguage())).executeUpdate();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    private static void addOccurrenceData(TermOccurrence occurrence, List<Quad> data) {
+        final URI context = occurrence.resolveContext();
+        final OccurrenceTarget target = occurrence.getTarget();
+        generateIdentifierIfMissing(occurrence);
+        generateIdentifierIfMissing(target);
+        addTypes(occurrence, Utils.emptyIfNull(occurrence.getTypes()), context, data);
+        data.add(new Quad(occurrence.getUri(), URI.create(Vocabulary.s_p_je_prirazenim_termu), occurrence.getTerm(),
+                          context));
+        data.add(new Quad(occurrence.getUri(), URI.create(Vocabulary.s_p_ma_cil), target.getUri(), context));
+        if (occurrence.getDescription() != null) {
+            data.add(new Quad(occurrence.getUri(), URI.create(DC.Terms.DESCRIPTION), occurrence.getDescription(),
+                              context));
+        }
+        addTypes(target, Set.of(), context, data);
+        data.add(new Quad(target.getUri(), URI.create(Vocabulary.s_p_ma_zdroj), target.getSource(), context));
+        for (Selector selector : Utils.emptyIfNull(target.getSelectors())) {
+            generateIdentifierIfMissing(selector);
+            addTypes(selector, Set.of(), context, data);
+            data.add(new Quad(target.getUri(), URI.create(Vocabulary.s_p_ma_selektor), selector.getUri(), context));
+            if (selector instanceof TextQuoteSelector quote) {
+                addSimpleLiteral(quote, Vocabulary.s_p_ma_presny_text_quote, quote.getExactMatch(), context, data);
+                addSimpleLiteral(quote, Vocabulary.s_p_ma_prefix_text_quote, quote.getPrefix(), context, data);
+                addSimpleLiteral(quote, Vocabulary.s_p_ma_suffix_text_quote, quote.getSuffix(), context, data);
+            } else if (selector instanceof TextPositionSelector position) {
+                data.add(new Quad(position.getUri(), URI.create(Vocabulary.s_p_ma_startovni_pozici),
+                                  position.getStart(), context));
+                data.add(new Quad(position.getUri(), URI.create(Vocabulary.s_p_ma_koncovou_pozici),
+                                  position.getEnd(), context));
+            } else {
+                throw new UnsupportedOperationException("Bulk insert of selector " + selector + " is not supported.");
+            }
+        }
+    }
+
+    private static void generateIdentifierIfMissing(AbstractEntity entity) {
+        if (entity.getUri() == null) {
+            entity.setUri(URI.create(EntityToOwlClassMapper.getOwlClassForEntity(entity.getClass()) + "/instance" +
+                                             UUID.randomUUID()));
+        }
+    }
+
+    private static void addTypes(AbstractEntity entity, Set<String> types, URI context, List<Quad> data) {
+        final URI rdfType = URI.create(RDF.TYPE);
+        data.add(new Quad(entity.getUri(), rdfType,
+                          URI.create(EntityToOwlClassMapper.getOwlClassForEntity(entity.getClass())), context));
+        types.forEach(t -> data.add(new Quad(entity.getUri(), rdfType, URI.create(t), context)));
+    }
+
+    private static void addSimpleLiteral(AbstractEntity subject, String property, String value, URI context,
+                                         List<Quad> data) {
+        if (value != null) {
+            data.add(new Quad(subject.getUri(), URI.create(property),
+                              SimpleValueFactory.getInstance().createLiteral(value), context));
+        }
+    }
+
     @Override
     public TermOccurrence update(TermOccurrence entity) {
         Objects.requireNonNull(entity);
@@ -286,6 +381,37 @@ public void removeAllOf(AbstractTerm term) {
         findAllOf(term).forEach(em::remove);
     }
 
+    /**
+     * Removes all occurrences of the specified terms.
+     * <p>
+     * This is a bulk version of {@link #removeAllOf(AbstractTerm)} executed as a single update.
+     *
+     * @param terms Identifiers of terms whose occurrences to remove
+     */
+    public void removeAllOf(Collection<URI> terms) {
+        Objects.requireNonNull(terms);
+        if (terms.isEmpty()) {
+            return;
+        }
+        try {
+            em.createNativeQuery("DELETE {" +
+                                         "GRAPH ?g { ?x ?y ?z . ?target ?tY ?tZ . ?selector ?sY ?sZ . }" +
+                                         "} WHERE {" + valuesPattern("?term", terms) +
+                                         "GRAPH ?g {" +
+                                         "?x ?assignsTerm ?term ;" +
+                                         "?hasTarget ?target ;" +
+                                         "?y ?z ." +
+                                         "?target ?hasSelector ?selector ;" +
+                                         "?tY ?tZ ." +
+                                         "?selector ?sY ?sZ . }}")
+              .setParameter("assignsTerm", URI.create(Vocabulary.s_p_je_prirazenim_termu))
+              .setParameter("hasTarget", URI.create(Vocabulary.s_p_ma_cil))
+              .setParameter("hasSelector", URI.create(Vocabulary.s_p_ma_selektor)).executeUpdate();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
     /**
      * Removes all term occurrence whose target points to a non-existent asset.
      * <p>
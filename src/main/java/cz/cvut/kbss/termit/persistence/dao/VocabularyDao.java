@@ -19,7 +19,6 @@
 
 import cz.cvut.kbss.jopa.exceptions.NoResultException;
 import cz.cvut.kbss.jopa.model.EntityManager;
-import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.vocabulary.DC;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
@@ -33,8 +32,11 @@
 import cz.cvut.kbss.termit.event.AssetPersistEvent;
 import cz.cvut.kbss.termit.event.AssetUpdateEvent;
 import cz.cvut.kbss.termit.event.BeforeAssetDeleteEvent;
+import cz.cvut.kbss.termit.event.EvictCacheEvent;
 import cz.cvut.kbss.termit.event.RefreshLastModifiedEvent;
 import cz.cvut.kbss.termit.event.VocabularyContentModifiedEvent;
+import cz.cvut.kbss.termit.event.VocabularyCreatedEvent;
+import cz.cvut.kbss.termit.event.VocabularyImportsChangedEvent;
 import cz.cvut.kbss.termit.event.VocabularyWillBeRemovedEvent;
 import cz.cvut.kbss.termit.exception.PersistenceException;
 import cz.cvut.kbss.termit.model.Glossary;
@@ -46,6 +48,8 @@
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
 import cz.cvut.kbss.termit.persistence.context.VocabularyContextMapper;
 import cz.cvut.kbss.termit.persistence.dao.changetracking.ChangeRecordDao;
+import cz.cvut.kbss.termit.persistence.dao.changetracking.ContentChangeRollupDao;
+import cz.cvut.kbss.termit.persistence.relationship.VocabularyGraph;
 import cz.cvut.kbss.termit.persistence.snapshot.VocabularySnapshotLoader;
 import cz.cvut.kbss.termit.service.snapshot.SnapshotProvider;
 import cz.cvut.kbss.termit.util.Configuration;
@@ -57,14 +61,17 @@
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.net.URI;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Set;
 
 import static cz.cvut.kbss.termit.util.Constants.DEFAULT_PAGE_SIZE;
 import static cz.cvut.kbss.termit.util.Constants.SKOS_CONCEPT_MATCH_RELATIONSHIPS;
@@ -76,28 +83,27 @@ public class VocabularyDao extends BaseAssetDao<Vocabulary>
     private static final Logger LOG = LoggerFactory.getLogger(VocabularyDao.class);
 
     private static final URI LABEL_PROPERTY = URI.create(DC.Terms.TITLE);
-    private static final String CONTENT_CHANGES_QUERY = "SELECT ?date (COUNT(DISTINCT(?t)) as ?cnt) WHERE { " +
-            "    ?ch a ?type ; " +
-            "        ?hasEntity ?t ; " +
-            "        ?hasTimestamp ?timestamp . " +
-            "    ?t ?inVocabulary ?vocabulary . " +
-            "    BIND (SUBSTR(STR(?timestamp), 1, 10) as ?date) " +
-            "} GROUP BY ?date HAVING (?cnt > 0) ORDER BY ?date";
 
     private static final String REMOVE_GLOSSARY_TERMS_QUERY_FILE = "remove/removeGlossaryTerms.ru";
     private final ChangeRecordDao changeRecordDao;
 
+    private final ContentChangeRollupDao contentChangeRollupDao;
+
     private volatile long lastModified;
 
+    private final VocabularyGraph importGraph = new VocabularyGraph(this::getDirectlyImportedVocabularies);
+
     private final VocabularyContextMapper contextMapper;
 
     @Autowired
     public VocabularyDao(EntityManager em, Configuration config, DescriptorFactory descriptorFactory,
-                         VocabularyContextMapper contextMapper, ChangeRecordDao changeRecordDao) {
+                         VocabularyContextMapper contextMapper, ChangeRecordDao changeRecordDao,
+                         ContentChangeRollupDao contentChangeRollupDao) {
         super(Vocabulary.class, em, config.getPersistence(), descriptorFactory);
         this.contextMapper = contextMapper;
         refreshLastModified();
         this.changeRecordDao = changeRecordDao;
+        this.contentChangeRollupDao = contentChangeRollupDao;
     }
 
     @Override
@@ -144,23 +150,45 @@ public Vocabulary getReference(URI id) {
 
     /**
      * Gets identifiers of all vocabularies imported by the specified vocabulary, including transitively imported ones.
+     * <p>
+     * Imports are resolved using an in-memory import graph, which is discarded after a vocabulary is created
+     * ({@link VocabularyCreatedEvent}), its imports change ({@link VocabularyImportsChangedEvent}), it is removed
+     * ({@link VocabularyWillBeRemovedEvent}) or caches are evicted ({@link EvictCacheEvent}).
      *
      * @param vocabularyIri Identifier of base vocabulary, whose imports should be retrieved
      * @return Collection of (transitively) imported vocabularies
      */
     public Collection<URI> getTransitivelyImportedVocabularies(URI vocabularyIri) {
         Objects.requireNonNull(vocabularyIri);
+        return importGraph.getReachable(vocabularyIri);
+    }
+
+    private Set<URI> getDirectlyImportedVocabularies(URI vocabularyIri) {
         try {
-            return em.createNativeQuery("SELECT DISTINCT ?imported WHERE {" +
-                                                "?x ?imports+ ?imported ." +
-                                                "}", URI.class)
-                     .setParameter("imports", URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_importuje_slovnik))
-                     .setParameter("x", vocabularyIri).getResultList();
+            return new HashSet<>(em.createNativeQuery("SELECT DISTINCT ?imported WHERE {" +
+                                                              "?x ?imports ?imported ." +
+                                                              "}", URI.class)
+                                   .setParameter("imports",
+                                                 URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_importuje_slovnik))
+                                   .setParameter("x", vocabularyIri).getResultList());
         } catch (RuntimeException e) {
             throw new PersistenceException(e);
         }
     }
 
+    /**
+     * Discards the in-memory vocabulary import graph.
+     * <p>
+     * The graph is discarded only after the transaction in which imports changed completes, so that it cannot be
+     * reloaded with the original imports in the meantime.
+     */
+    @TransactionalEventListener(classes = {VocabularyCreatedEvent.class, VocabularyImportsChangedEvent.class,
+                                           VocabularyWillBeRemovedEvent.class, EvictCacheEvent.class},
+                                phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void evictImportGraph() {
+        importGraph.clear();
+    }
+
     /**
      * Gets identifiers of vocabularies which directly import the supplied one.
      *
@@ -202,11 +230,16 @@ public Vocabulary update(Vocabulary entity) {
         Objects.requireNonNull(entity);
         try {
             eventPublisher.publishEvent(new AssetUpdateEvent(this, entity));
+            final boolean importsChanged = !importGraph.getSuccessors(entity.getUri()).equals(
+                    Utils.emptyIfNull(entity.getImportedVocabularies()));
             // Evict possibly cached instance loaded from default context
             em.getEntityManagerFactory().getCache().evict(Vocabulary.class, entity.getUri(), null);
             final Vocabulary result = em.merge(entity, descriptorFactory.vocabularyDescriptor(entity));
             refreshLastModified();
             eventPublisher.publishEvent(new VocabularyContentModifiedEvent(this, entity.getUri()));
+            if (importsChanged) {
+                eventPublisher.publishEvent(new VocabularyImportsChangedEvent(this, entity.getUri()));
+            }
             return result;
         } catch (RuntimeException e) {
             throw new PersistenceException(e);
@@ -366,28 +399,15 @@ public void refreshLastModified(RefreshLastModifiedEvent event) {
 
     /**
      * Gets aggregated information about changes to the terms in the specified vocabulary.
+     * <p>
+     * The information is read from daily change rollups maintained by {@link ContentChangeRollupDao}.
      *
      * @param vocabulary Vocabulary to get changes for
      * @return List of aggregated change information objects
      */
     public List<AggregatedChangeInfo> getChangesOfContent(Vocabulary vocabulary) {
         Objects.requireNonNull(vocabulary);
-        final List<AggregatedChangeInfo> persists = createContentChangesQuery(vocabulary)
-                .setParameter("type", URI.create(
-                        cz.cvut.kbss.termit.util.Vocabulary.s_c_vytvoreni_entity)).getResultList();
-        persists.forEach(p -> p.addType(cz.cvut.kbss.termit.util.Vocabulary.s_c_vytvoreni_entity));
-        final List<AggregatedChangeInfo> updates = createContentChangesQuery(vocabulary)
-                .setParameter("type", URI.create(
-                        cz.cvut.kbss.termit.util.Vocabulary.s_c_uprava_entity)).getResultList();
-        updates.forEach(u -> u.addType(cz.cvut.kbss.termit.util.Vocabulary.s_c_uprava_entity));
-        final List<AggregatedChangeInfo> deletitions = createContentChangesQuery(vocabulary)
-                .setParameter("type", URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_c_smazani_entity))
-                .getResultList();
-        deletitions.forEach(d -> d.addType(cz.cvut.kbss.termit.util.Vocabulary.s_c_smazani_entity));
-        return Stream.of(persists, updates, deletitions)
-                     .flatMap(List::stream)
-                     .sorted()
-                     .toList();
+        return contentChangeRollupDao.findAll(vocabulary.getUri());
     }
 
     /**
@@ -403,17 +423,6 @@ public List<AbstractChangeRecord> getDetailedHistoryOfContent(Vocabulary vocabul
         return changeRecordDao.findAllRelatedToType(vocabulary, filter, URI.create(SKOS.CONCEPT), pageReq);
     }
 
-    private Query createContentChangesQuery(Vocabulary vocabulary) {
-        return em.createNativeQuery(CONTENT_CHANGES_QUERY, "AggregatedChangeInfo")
-                 .setParameter("hasEntity",
-                               URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_ma_zmenenou_entitu))
-                 .setParameter("hasTimestamp", URI.create(
-                         cz.cvut.kbss.termit.util.Vocabulary.s_p_ma_datum_a_cas_modifikace))
-                 .setParameter("inVocabulary",
-                               URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_je_pojmem_ze_slovniku))
-                 .setParameter("vocabulary", vocabulary);
-    }
-
     /**
      * Returns the number of all terms in the specified vocabulary.
      *
@@ -589,6 +598,45 @@ public List<String> getLanguages(URI vocabularyUri) {
         }
     }
 
+    /**
+     * Returns the list of all distinct languages (language tags) used by any multilingual attribute of terms in the
+     * specified vocabulary.
+     * <p>
+     * Unlike {@link #getLanguages(URI)}, this takes into account also definitions, scope notes, synonyms, search
+     * strings and examples.
+     *
+     * @param vocabularyUri Vocabulary identifier
+     * @return List of distinct languages, sorted
+     */
+    public List<String> getTermContentLanguages(URI vocabularyUri) {
+        Objects.requireNonNull(vocabularyUri);
+        try {
+            return em.createNativeQuery("""
+                                                SELECT DISTINCT ?lang WHERE {
+                                                    ?x a ?type ;
+                                                    ?inVocabulary ?vocabulary ;
+                                                    ?labelProp ?label .
+                                                    VALUES ?labelProp { ?prefLabel ?altLabel ?hiddenLabel ?definition ?scopeNote ?example }
+                                                    BIND (LANG(?label) as ?lang)
+                                                    FILTER (?lang != "")
+                                                } ORDER BY ?lang
+                                                """, String.class)
+                     .setParameter("type", URI.create(SKOS.CONCEPT))
+                     .setParameter("inVocabulary",
+                                   URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_je_pojmem_ze_slovniku))
+                     .setParameter("vocabulary", vocabularyUri)
+                     .setParameter("prefLabel", URI.create(SKOS.PREF_LABEL))
+                     .setParameter("altLabel", URI.create(SKOS.ALT_LABEL))
+                     .setParameter("hiddenLabel", URI.create(SKOS.HIDDEN_LABEL))
+                     .setParameter("definition", URI.create(SKOS.DEFINITION))
+                     .setParameter("scopeNote", URI.create(SKOS.SCOPE_NOTE))
+                     .setParameter("example", URI.create(SKOS.EXAMPLE))
+                     .getResultList();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
     /**
      * Returns the primary language of the vocabulary.
      *
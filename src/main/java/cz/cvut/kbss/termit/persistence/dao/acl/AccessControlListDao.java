@@ -20,6 +20,7 @@
 import cz.cvut.kbss.jopa.exceptions.NoResultException;
 import cz.cvut.kbss.jopa.model.EntityManager;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.termit.model.AccessControlAgent;
 import cz.cvut.kbss.termit.model.Asset;
 import cz.cvut.kbss.termit.model.acl.AccessControlList;
@@ -27,13 +28,17 @@
 import cz.cvut.kbss.termit.model.acl.AccessLevel;
 import cz.cvut.kbss.termit.model.util.HasIdentifier;
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
+import cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns;
 import cz.cvut.kbss.termit.util.Utils;
 import cz.cvut.kbss.termit.util.Vocabulary;
 import jakarta.annotation.Nonnull;
 import org.springframework.stereotype.Repository;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -94,6 +99,54 @@ public Optional<AccessControlList> findFor(HasIdentifier subject) {
         }
     }
 
+    /**
+     * Resolves the highest access level granted to the specified agents by ACLs of the specified subjects.
+     * <p>
+     * Records held directly by one of the specified holders are taken into account, as well as records held by user
+     * groups of which the specified member is a member. All subjects are evaluated by a single query.
+     *
+     * @param subjects Identifiers of subjects whose ACLs to evaluate
+     * @param holders  Identifiers of agents whose records apply (e.g., user and their roles)
+     * @param member   Identifier of the user whose user group memberships apply, optional
+     * @return Map of subject identifiers to the highest access level, subjects with no applicable record are not present
+     */
+    public Map<URI, AccessLevel> findHighestAccessLevels(@Nonnull Collection<URI> subjects,
+                                                         @Nonnull Collection<URI> holders, URI member) {
+        Objects.requireNonNull(subjects);
+        Objects.requireNonNull(holders);
+        if (subjects.isEmpty() || (holders.isEmpty() && member == null)) {
+            return Map.of();
+        }
+        final String holderPattern = holders.isEmpty() ? "" :
+                                     "{ " + SparqlPatterns.valuesPattern("?holder", holders) + " }";
+        final String memberPattern = member == null ? "" : "{ ?holder ?hasMember ?member . }";
+        final String pattern = holderPattern.isEmpty() || memberPattern.isEmpty() ? holderPattern + memberPattern :
+                               holderPattern + " UNION " + memberPattern;
+        Query query = em.createNativeQuery("SELECT ?subject ?accessLevel WHERE { " +
+                                                   SparqlPatterns.valuesPattern("?subject", subjects) +
+                                                   " ?subject ?hasAcl ?acl . " +
+                                                   "?acl ?hasRecord ?record . " +
+                                                   "?record ?hasAccessLevel ?accessLevel ; " +
+                                                   "?hasHolder ?holder . " +
+                                                   pattern + " }")
+                        .setParameter("hasAcl", URI.create(Vocabulary.s_p_ma_seznam_rizeni_pristupu))
+                        .setParameter("hasRecord", URI.create(Vocabulary.s_p_ma_zaznam_rizeni_pristupu))
+                        .setParameter("hasAccessLevel", URI.create(Vocabulary.s_p_ma_uroven_pristupovych_opravneni))
+                        .setParameter("hasHolder", URI.create(Vocabulary.s_p_ma_drzitele_pristupovych_opravneni));
+        if (member != null) {
+            query = query.setParameter("hasMember", URI.create(Vocabulary.s_p_sioc_has_member))
+                         .setParameter("member", member);
+        }
+        final List<?> rows = query.getResultList();
+        final Map<URI, AccessLevel> result = new HashMap<>(subjects.size());
+        for (Object row : rows) {
+            final Object[] values = (Object[]) row;
+            result.merge((URI) values[0], AccessLevel.fromIri(values[1].toString()),
+                         (a, b) -> a.ordinal() >= b.ordinal() ? a : b);
+        }
+        return result;
+    }
+
     /**
      * Persists the specified {@link AccessControlList}.
      *
@@ -35,6 +35,7 @@
 import org.springframework.stereotype.Repository;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -61,16 +62,42 @@ public ChangeRecordDao(ChangeTrackingContextResolver contextResolver, EntityMana
      */
     public void persist(AbstractChangeRecord record, Asset<?> changedAsset) {
         Objects.requireNonNull(record);
+        try {
+            em.persist(record, changeRecordDescriptor(changedAsset));
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Persists the specified change records into the change tracking context of the specified asset.
+     * <p>
+     * The change tracking context is resolved only once, so all the records must belong into the same context (e.g.,
+     * records of changes to terms of the same vocabulary, with the vocabulary being the specified asset).
+     *
+     * @param records            Records to save
+     * @param changeContextAsset Asset whose change tracking context the records belong to
+     */
+    public void persistAll(Collection<? extends AbstractChangeRecord> records, Asset<?> changeContextAsset) {
+        Objects.requireNonNull(records);
+        if (records.isEmpty()) {
+            return;
+        }
+        final EntityDescriptor descriptor = changeRecordDescriptor(changeContextAsset);
+        try {
+            records.forEach(r -> em.persist(r, descriptor));
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    private EntityDescriptor changeRecordDescriptor(Asset<?> changedAsset) {
         final EntityDescriptor descriptor = new EntityDescriptor(
                 contextResolver.resolveChangeTrackingContext(changedAsset));
         descriptor.addAttributeDescriptor(em.getMetamodel().entity(AbstractChangeRecord.class).getAttribute("author"),
                 new EntityDescriptor());
         descriptor.setLanguage(null);
-        try {
-            em.persist(record, descriptor);
-        } catch (RuntimeException e) {
-            throw new PersistenceException(e);
-        }
+        return descriptor;
     }
 
     /**
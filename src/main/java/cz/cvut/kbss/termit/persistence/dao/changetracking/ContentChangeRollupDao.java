@@ -0,0 +1,342 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.changetracking;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.termit.dto.AggregatedChangeInfo;
+import cz.cvut.kbss.termit.event.VocabularyWillBeRemovedEvent;
+import cz.cvut.kbss.termit.exception.PersistenceException;
+import cz.cvut.kbss.termit.model.Term;
+import cz.cvut.kbss.termit.persistence.context.StaticContexts;
+import cz.cvut.kbss.termit.util.Configuration;
+import cz.cvut.kbss.termit.util.Vocabulary;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static cz.cvut.kbss.termit.persistence.dao.util.SparqlPatterns.valuesPattern;
+
+/**
+ * Maintains pre-aggregated daily counts of changes to vocabulary content.
+ * <p>
+ * Each rollup holds the number of distinct terms of a vocabulary which were created/updated/deleted on a given (UTC)
+ * day. Rollups are incremented when change records are written, so that the vocabulary content history can be
+ * retrieved without scanning all the change records.
+ * <p>
+ * An increment is stored as a separate rollup holding just the number of terms it added and rollups of the same day
+ * and change type are summed when read. So concurrent transactions never overwrite each other's counts, as they would
+ * with a read-modify-write of a single count. Concurrent transactions changing the same term on the same day may still
+ * both count it, because neither sees the change record of the other. {@link #rebuild()} reconciles such
+ * inaccuracies and merges the rollups into one per day and change type.
+ */
+@Repository
+public class ContentChangeRollupDao {
+
+    /**
+     * Type of the rollup resources.
+     */
+    static final URI ROLLUP_TYPE = URI.create(Vocabulary.s_c_denni_souhrn_zmen_obsahu);
+
+    /**
+     * Repository context in which the rollups are stored.
+     */
+    private static final URI ROLLUP_CONTEXT = URI.create(StaticContexts.CONTENT_CHANGE_ROLLUPS);
+
+    static final URI HAS_VOCABULARY = URI.create(Vocabulary.s_p_je_souhrnem_zmen_slovniku);
+
+    static final URI HAS_CHANGE_TYPE = URI.create(Vocabulary.s_p_ma_typ_zmeny);
+
+    static final URI HAS_DAY = URI.create(Vocabulary.s_p_ma_den_souhrnu);
+
+    static final URI HAS_COUNT = URI.create(Vocabulary.s_p_ma_pocet_zmenenych_pojmu);
+
+    /**
+     * Change types tracked by the rollups together with the keys used in rollup identifiers.
+     */
+    private static final Map<URI, String> CHANGE_TYPES = Map.of(
+            URI.create(Vocabulary.s_c_vytvoreni_entity), "create",
+            URI.create(Vocabulary.s_c_uprava_entity), "update",
+            URI.create(Vocabulary.s_c_smazani_entity), "delete");
+
+    private static final String ROLLUP_PATH = "/content-changes/";
+
+    private final EntityManager em;
+
+    /**
+     * Extension of vocabulary identifiers giving their change tracking contexts.
+     */
+    private final String changeContextExtension;
+
+    @Autowired
+    public ContentChangeRollupDao(EntityManager em, Configuration config) {
+        this.em = em;
+        this.changeContextExtension = config.getChangetracking().getContext().getExtension();
+    }
+
+    /**
+     * Counts a change of the specified type of the specified term in the daily rollup of its vocabulary.
+     * <p>
+     * The change is counted only if there is no change record of the same type for the same term on the same day yet.
+     * This means this method has to be called <b>before</b> the corresponding change record(s) are persisted.
+     * <p>
+     * The count is stored in a new rollup, existing rollups are not modified.
+     * <p>
+     * Terms whose vocabulary cannot be resolved are skipped.
+     *
+     * @param term       Changed term
+     * @param changeType Type of the change record (creation, update, deletion)
+     * @param timestamp  Timestamp of the change
+     */
+    public void increment(Term term, URI changeType, Instant timestamp) {
+        Objects.requireNonNull(term);
+        resolveVocabulary(term).ifPresent(
+                vocabulary -> increment(vocabulary, Set.of(term.getUri()), changeType, timestamp));
+    }
+
+    /**
+     * Counts a change of the specified type of each of the specified terms in the daily rollup of the specified
+     * vocabulary.
+     * <p>
+     * This is a bulk version of {@link #increment(Term, URI, Instant)} intended for changes of many terms of the same
+     * vocabulary at once (e.g., import). As with the single term version, a term is counted only if there is no change
+     * record of the same type for it on the same day yet.
+     *
+     * @param vocabulary Identifier of the vocabulary containing the terms
+     * @param terms      Identifiers of the changed terms
+     * @param changeType Type of the change record (creation, update, deletion)
+     * @param timestamp  Timestamp of the change
+     */
+    public void increment(URI vocabulary, Collection<URI> terms, URI changeType, Instant timestamp) {
+        Objects.requireNonNull(vocabulary);
+        Objects.requireNonNull(terms);
+        Objects.requireNonNull(timestamp);
+        final String key = CHANGE_TYPES.get(Objects.requireNonNull(changeType));
+        assert key != null;
+        if (terms.isEmpty()) {
+            return;
+        }
+        final String day = timestamp.atOffset(ZoneOffset.UTC).toLocalDate().toString();
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final String dayLiteral = NTriplesUtil.toNTriplesString(vf.createLiteral(day));
+        final String dateLiteral = NTriplesUtil.toNTriplesString(vf.createLiteral(day, XSD.DATE));
+        final URI rollup = URI.create(vocabulary + ROLLUP_PATH + day + "/" + key + "/" + UUID.randomUUID());
+        try {
+            em.createNativeQuery("INSERT { GRAPH ?g { ?rollup a ?rollupType ; " +
+                                         "?hasVocabulary ?vocabulary ; " +
+                                         "?hasChangeType ?changeType ; " +
+                                         "?hasDate " + dateLiteral + " ; " +
+                                         "?hasCount ?added . } } WHERE { " +
+                                         "{ SELECT (COUNT(DISTINCT ?entity) AS ?added) WHERE { " +
+                                         valuesPattern("?entity", terms) + " " +
+                                         "FILTER NOT EXISTS { " +
+                                         "?ch a ?changeType ; ?hasEntity ?entity ; ?hasTimestamp ?ts . " +
+                                         "FILTER (STRSTARTS(STR(?ts), " + dayLiteral + ")) } } } " +
+                                         "FILTER (?added > 0) }")
+              .setParameter("g", ROLLUP_CONTEXT)
+              .setParameter("rollup", rollup)
+              .setParameter("rollupType", ROLLUP_TYPE)
+              .setParameter("hasVocabulary", HAS_VOCABULARY)
+              .setParameter("vocabulary", vocabulary)
+              .setParameter("hasChangeType", HAS_CHANGE_TYPE)
+              .setParameter("changeType", changeType)
+              .setParameter("hasDate", HAS_DAY)
+              .setParameter("hasCount", HAS_COUNT)
+              .setParameter("hasEntity", URI.create(Vocabulary.s_p_ma_zmenenou_entitu))
+              .setParameter("hasTimestamp", URI.create(Vocabulary.s_p_ma_datum_a_cas_modifikace))
+              .executeUpdate();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    private Optional<URI> resolveVocabulary(Term term) {
+        if (term.getVocabulary() != null) {
+            return Optional.of(term.getVocabulary());
+        }
+        // Vocabulary is inferred, so it is not set on newly persisted terms. Resolve it via glossary instead
+        if (term.getGlossary() == null) {
+            return Optional.empty();
+        }
+        try {
+            return em.createNativeQuery("SELECT ?vocabulary WHERE { ?vocabulary ?hasGlossary ?glossary . }", URI.class)
+                     .setParameter("hasGlossary", URI.create(Vocabulary.s_p_ma_glosar))
+                     .setParameter("glossary", term.getGlossary())
+                     .getResultStream().findAny();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Gets daily rollups of changes to the content of the specified vocabulary.
+     * <p>
+     * Counts of rollups of the same day and change type are summed.
+     *
+     * @param vocabulary Vocabulary identifier
+     * @return List of aggregated change information objects, ordered by date
+     */
+    public List<AggregatedChangeInfo> findAll(URI vocabulary) {
+        Objects.requireNonNull(vocabulary);
+        try {
+            final List<?> rows = em.createNativeQuery("SELECT ?date (SUM(?c) AS ?cnt) ?changeType WHERE { GRAPH ?g { " +
+                                                              "?rollup a ?rollupType ; " +
+                                                              "?hasVocabulary ?vocabulary ; " +
+                                                              "?hasChangeType ?changeType ; " +
+                                                              "?hasDate ?d ; " +
+                                                              "?hasCount ?c . } " +
+                                                              "BIND (STR(?d) AS ?date) " +
+                                                              "} GROUP BY ?date ?changeType HAVING (SUM(?c) > 0)")
+                                   .setParameter("g", ROLLUP_CONTEXT)
+                                   .setParameter("rollupType", ROLLUP_TYPE)
+                                   .setParameter("hasVocabulary", HAS_VOCABULARY)
+                                   .setParameter("vocabulary", vocabulary)
+                                   .setParameter("hasChangeType", HAS_CHANGE_TYPE)
+                                   .setParameter("hasDate", HAS_DAY)
+                                   .setParameter("hasCount", HAS_COUNT)
+                                   .getResultList();
+            return rows.stream().map(row -> {
+                final Object[] values = (Object[]) row;
+                final AggregatedChangeInfo info = new AggregatedChangeInfo(values[0].toString(),
+                                                                           toBigInteger(values[1]));
+                info.addType(values[2].toString());
+                return info;
+            }).sorted().toList();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    private static BigInteger toBigInteger(Object value) {
+        return value instanceof BigInteger bi ? bi : BigInteger.valueOf(((Number) value).longValue());
+    }
+
+    /**
+     * Checks whether any content change rollups exist.
+     * <p>
+     * Only rollups with a change count are considered, so that rollups stored in an outdated form are rebuilt.
+     *
+     * @return {@code true} if there is at least one rollup, {@code false} otherwise
+     */
+    public boolean exists() {
+        try {
+            return em.createNativeQuery("ASK { GRAPH ?g { ?rollup a ?rollupType ; ?hasCount ?cnt . } }", Boolean.class)
+                     .setParameter("g", ROLLUP_CONTEXT)
+                     .setParameter("rollupType", ROLLUP_TYPE)
+                     .setParameter("hasCount", HAS_COUNT)
+                     .getSingleResult();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Removes all content change rollups of the specified vocabulary.
+     *
+     * @param vocabulary Vocabulary identifier
+     */
+    public void removeAll(URI vocabulary) {
+        Objects.requireNonNull(vocabulary);
+        try {
+            em.createNativeQuery("DELETE WHERE { GRAPH ?g { ?rollup ?hasVocabulary ?vocabulary ; ?p ?o . } }")
+              .setParameter("g", ROLLUP_CONTEXT)
+              .setParameter("hasVocabulary", HAS_VOCABULARY)
+              .setParameter("vocabulary", vocabulary)
+              .executeUpdate();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+
+    /**
+     * Removes content change rollups of a vocabulary which is being removed.
+     *
+     * @param event Vocabulary removal event
+     */
+    @EventListener
+    public void onVocabularyRemoval(VocabularyWillBeRemovedEvent event) {
+        removeAll(event.getVocabularyIri());
+    }
+
+    /**
+     * Recalculates all content change rollups from the existing change records.
+     * <p>
+     * Existing rollups are discarded, so this also reconciles counts made inaccurate by concurrent increments and
+     * replaces the rollups of individual increments with one rollup per vocabulary, day and change type.
+     * <p>
+     * The vocabulary of a change record is resolved from the change tracking context the record is stored in, not from
+     * the changed term. So changes of terms which have since been deleted (including the deletions) are counted, the
+     * same way as when the rollups are incremented.
+     */
+    public void rebuild() {
+        final String changeTypes = CHANGE_TYPES.entrySet().stream()
+                                               .map(e -> "(<" + e.getKey() + "> \"" + e.getValue() + "\")")
+                                               .collect(Collectors.joining(" "));
+        final String extensionLiteral = NTriplesUtil.toNTriplesString(
+                SimpleValueFactory.getInstance().createLiteral(changeContextExtension));
+        try {
+            em.createNativeQuery("DROP SILENT GRAPH ?g").setParameter("g", ROLLUP_CONTEXT).executeUpdate();
+            em.createNativeQuery("INSERT { GRAPH ?g { ?rollup a ?rollupType ; " +
+                                         "?hasVocabulary ?vocabulary ; " +
+                                         "?hasChangeType ?changeType ; " +
+                                         "?hasDate ?date ; " +
+                                         "?hasCount ?cnt . } } WHERE { " +
+                                         "{ SELECT ?vocabulary ?changeType ?key ?day (COUNT(DISTINCT ?t) AS ?cnt) WHERE { " +
+                                         "VALUES (?changeType ?key) { " + changeTypes + " } " +
+                                         "GRAPH ?changeContext { " +
+                                         "?ch a ?changeType ; ?hasEntity ?t ; ?hasTimestamp ?timestamp . } " +
+                                         "FILTER (STRENDS(STR(?changeContext), " + extensionLiteral + ")) " +
+                                         "BIND (IRI(SUBSTR(STR(?changeContext), 1, STRLEN(STR(?changeContext)) - " +
+                                         changeContextExtension.length() + ")) AS ?vocabulary) " +
+                                         "?vocabulary a ?vocabularyType . " +
+                                         "FILTER (?t != ?vocabulary) " +
+                                         "BIND (SUBSTR(STR(?timestamp), 1, 10) AS ?day) " +
+                                         "} GROUP BY ?vocabulary ?changeType ?key ?day } " +
+                                         "BIND (IRI(CONCAT(STR(?vocabulary), \"" + ROLLUP_PATH + "\", ?day, \"/\", ?key)) AS ?rollup) " +
+                                         "BIND (STRDT(?day, <" + XSD.DATE + ">) AS ?date) }")
+              .setParameter("g", ROLLUP_CONTEXT)
+              .setParameter("rollupType", ROLLUP_TYPE)
+              .setParameter("hasVocabulary", HAS_VOCABULARY)
+              .setParameter("hasChangeType", HAS_CHANGE_TYPE)
+              .setParameter("hasDate", HAS_DAY)
+              .setParameter("hasCount", HAS_COUNT)
+              .setParameter("hasEntity", URI.create(Vocabulary.s_p_ma_zmenenou_entitu))
+              .setParameter("hasTimestamp", URI.create(Vocabulary.s_p_ma_datum_a_cas_modifikace))
+              .setParameter("vocabularyType", URI.create(Vocabulary.s_c_slovnik))
+              .executeUpdate();
+        } catch (RuntimeException e) {
+            throw new PersistenceException(e);
+        }
+    }
+}
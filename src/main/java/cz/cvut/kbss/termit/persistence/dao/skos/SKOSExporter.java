@@ -24,6 +24,7 @@
 import cz.cvut.kbss.termit.util.Utils;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.TreeModel;
 import org.eclipse.rdf4j.model.vocabulary.DCTERMS;
@@ -37,6 +38,7 @@
 import org.eclipse.rdf4j.query.TupleQuery;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.WriterConfig;
@@ -51,10 +53,15 @@
 import org.springframework.stereotype.Repository;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Supports SKOS-based export of glossaries and terms.
@@ -134,14 +141,23 @@ private void exportGlossaryInstance(Vocabulary vocabulary) {
     }
 
     private void evaluateAndAddToModel(GraphQuery gq) {
+        evaluate(gq, model::add);
+    }
+
+    private static void evaluate(GraphQuery gq, Consumer<Statement> consumer) {
         try (GraphQueryResult gqResult = gq.evaluate()) {
             while (gqResult.hasNext()) {
-                model.add(gqResult.next());
+                consumer.accept(gqResult.next());
             }
         }
     }
 
     private void resolvePrefixes(IRI glossaryIri, RepositoryConnection connection) {
+        resolvePrefixes(glossaryIri, connection, model::setNamespace);
+    }
+
+    private void resolvePrefixes(IRI glossaryIri, RepositoryConnection connection,
+                                 BiConsumer<String, String> namespaceConsumer) {
         final TupleQuery tq = connection.prepareTupleQuery("""
                                                                    SELECT ?prefix ?namespace WHERE {
                                                                    ?glossary ?hasPreferredPrefix ?prefix ;
@@ -155,14 +171,14 @@ private void resolvePrefixes(IRI glossaryIri, RepositoryConnection connection) {
         try (final TupleQueryResult result = tq.evaluate()) {
             while (result.hasNext()) {
                 final BindingSet binding = result.next();
-                model.setNamespace(binding.getValue("prefix").stringValue(),
-                                   binding.getValue("namespace").stringValue());
+                namespaceConsumer.accept(binding.getValue("prefix").stringValue(),
+                                         binding.getValue("namespace").stringValue());
             }
         }
-        model.setNamespace(SKOS.PREFIX, SKOS.NAMESPACE);
-        model.setNamespace(RDFS.PREFIX, RDFS.NAMESPACE);
-        model.setNamespace(OWL.PREFIX, OWL.NAMESPACE);
-        model.setNamespace(DCTERMS.PREFIX, DCTERMS.NAMESPACE);
+        namespaceConsumer.accept(SKOS.PREFIX, SKOS.NAMESPACE);
+        namespaceConsumer.accept(RDFS.PREFIX, RDFS.NAMESPACE);
+        namespaceConsumer.accept(OWL.PREFIX, OWL.NAMESPACE);
+        namespaceConsumer.accept(DCTERMS.PREFIX, DCTERMS.NAMESPACE);
     }
 
     /**
@@ -289,15 +305,116 @@ private void exportReferencedGlossaries() {
      */
     public byte[] exportAs(ExportFormat format) {
         final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Rio.write(model, createWriter(format, bos, false));
+        return bos.toByteArray();
+    }
+
+    /**
+     * Creates a pretty-printing writer in the specified format.
+     *
+     * @param streaming Whether statements are written as they are read, in which case blank nodes are not inlined, as
+     *                  that would require buffering the whole output
+     */
+    private static RDFWriter createWriter(ExportFormat format, OutputStream out, boolean streaming) {
         final RDFWriter writer = switch (format) {
-            case TURTLE -> new TurtleWriterFactory().getWriter(bos);
-            case RDF_XML -> new RDFXMLPrettyWriterFactory().getWriter(bos);
+            case TURTLE -> new TurtleWriterFactory().getWriter(out);
+            case RDF_XML -> new RDFXMLPrettyWriterFactory().getWriter(out);
             default -> throw new IllegalArgumentException("Unsupported SKOS export format " + format);
         };
         final WriterConfig writerConfig = new WriterConfig();
         writerConfig.set(BasicWriterSettings.PRETTY_PRINT, true);
+        if (streaming) {
+            writerConfig.set(BasicWriterSettings.INLINE_BLANK_NODES, false);
+        }
         writer.setWriterConfig(writerConfig);
-        Rio.write(model, writer);
-        return bos.toByteArray();
+        return writer;
+    }
+
+    /**
+     * Writes glossary and terms of the specified vocabulary directly into the specified output stream.
+     * <p>
+     * Unlike the other export methods, statements are not collected in memory, they are written as they are read from
+     * the repository. Prefix declarations of the exported glossary are written first. Only identifiers of referenced
+     * terms and their glossaries are kept in memory when references are exported. Prefixes of glossaries of
+     * referenced terms are not declared, as they are discovered only after statements have been written.
+     * <p>
+     * Note that, as opposed to the in-memory export, the output may contain duplicate statements.
+     *
+     * @param vocabulary Vocabulary to export
+     * @param full       Whether to export all available asserted data for each term or just basic SKOS properties
+     * @param properties RDF properties representing references to other terms to take into account when exporting,
+     *                   possibly empty
+     * @param format     Target serialization format
+     * @param out        Stream to write the export into. The stream is not closed by this method
+     */
+    public void writeGlossary(Vocabulary vocabulary, boolean full, Collection<String> properties, ExportFormat format,
+                              OutputStream out) {
+        Objects.requireNonNull(vocabulary);
+        Objects.requireNonNull(properties);
+        final long startTime = System.currentTimeMillis();
+        final String termsQuery = Utils.loadQuery(full ? TERMS_FULL_EXPORT_QUERY : TERMS_EXPORT_QUERY);
+        final IRI glossaryIri = vf.createIRI(vocabulary.getGlossary().getUri().toString());
+        final Set<IRI> referenceProperties = properties.stream().map(vf::createIRI).collect(Collectors.toSet());
+        final Set<IRI> referencedTerms = new HashSet<>();
+        final RDFWriter writer = createWriter(format, out, true);
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            writer.startRDF();
+            resolvePrefixes(glossaryIri, conn, writer::handleNamespace);
+            GraphQuery gq = conn.prepareGraphQuery(Utils.loadQuery(GLOSSARY_EXPORT_QUERY));
+            gq.setBinding("vocabulary", vf.createIRI(vocabulary.getUri().toString()));
+            evaluate(gq, writer::handleStatement);
+
+            final IRI graphIri = vf.createIRI(vocabularyContextMapper.getVocabularyContext(vocabulary).toString());
+            final IRI vocabularyIri = vf.createIRI(vocabulary.getUri().toString());
+            gq = conn.prepareGraphQuery(termsQuery);
+            gq.setBinding("g", graphIri);
+            gq.setBinding("vocabulary", vocabularyIri);
+            evaluate(gq, st -> {
+                writer.handleStatement(st);
+                if (referenceProperties.contains(st.getPredicate()) && st.getObject().isIRI()) {
+                    referencedTerms.add((IRI) st.getObject());
+                }
+            });
+            gq = conn.prepareGraphQuery(Utils.loadQuery(TERMS_HIERARCHY_EXPORT_QUERY));
+            gq.setBinding("g", graphIri);
+            gq.setBinding("vocabulary", vocabularyIri);
+            gq.setIncludeInferred(false);
+            evaluate(gq, writer::handleStatement);
+
+            writeReferencedTerms(referencedTerms, termsQuery, glossaryIri, conn, writer);
+            writer.endRDF();
+        }
+        LOG.debug("Streaming export of {} took {} ms.", vocabulary, System.currentTimeMillis() - startTime);
+    }
+
+    private void writeReferencedTerms(Set<IRI> referencedTerms, String termsQuery, IRI exportedGlossary,
+                                      RepositoryConnection conn, RDFHandler handler) {
+        if (referencedTerms.isEmpty()) {
+            return;
+        }
+        LOG.trace("Writing {} referenced terms.", referencedTerms.size());
+        final Set<IRI> referencedGlossaries = new HashSet<>();
+        referencedTerms.forEach(referencedTerm -> {
+            final GraphQuery gq = conn.prepareGraphQuery(termsQuery);
+            gq.setBinding("term", referencedTerm);
+            evaluate(gq, st -> {
+                handler.handleStatement(st);
+                if (SKOS.IN_SCHEME.equals(st.getPredicate()) && st.getObject().isIRI()) {
+                    referencedGlossaries.add((IRI) st.getObject());
+                }
+            });
+        });
+        referencedGlossaries.remove(exportedGlossary);
+        final String glossaryQuery = Utils.loadQuery(GLOSSARY_EXPORT_QUERY);
+        final IRI hasGlossary = vf.createIRI(cz.cvut.kbss.termit.util.Vocabulary.s_p_ma_glosar);
+        referencedGlossaries.forEach(gIri -> {
+            try (final Stream<Statement> vocabularies = conn.getStatements(null, hasGlossary, gIri).stream()) {
+                vocabularies.forEach(s -> {
+                    final GraphQuery gq = conn.prepareGraphQuery(glossaryQuery);
+                    gq.setBinding("vocabulary", s.getSubject());
+                    evaluate(gq, handler::handleStatement);
+                });
+            }
+        });
     }
 }
@@ -20,6 +20,8 @@
 import cz.cvut.kbss.jopa.model.EntityManager;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.termit.event.TermReferencesUpdatedEvent;
+import cz.cvut.kbss.termit.event.VocabularyContentModifiedEvent;
+import cz.cvut.kbss.termit.event.VocabularyImportsChangedEvent;
 import cz.cvut.kbss.termit.exception.UnsupportedOperationException;
 import cz.cvut.kbss.termit.exception.importing.MissingLanguageTagException;
 import cz.cvut.kbss.termit.exception.importing.UnsupportedImportMediaTypeException;
@@ -27,8 +29,10 @@
 import cz.cvut.kbss.termit.exception.importing.VocabularyImportException;
 import cz.cvut.kbss.termit.model.Glossary;
 import cz.cvut.kbss.termit.model.Vocabulary;
+import cz.cvut.kbss.termit.persistence.dao.TermDao;
 import cz.cvut.kbss.termit.persistence.dao.VocabularyDao;
 import cz.cvut.kbss.termit.persistence.dao.util.DuplicateSymmetricRelationshipPruner;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
 import cz.cvut.kbss.termit.persistence.namespace.VocabularyNamespaceResolver;
 import cz.cvut.kbss.termit.service.IdentifierResolver;
 import cz.cvut.kbss.termit.service.importer.VocabularyImporter;
@@ -51,8 +55,10 @@
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFParser;
 import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
 import org.eclipse.rdf4j.rio.helpers.StatementCollector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,6 +77,7 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -81,6 +88,10 @@
  * <p>
  * It takes the thesauri as a TermIt glossary and 1) creates the necessary metadata (vocabulary, model) 2) generates the
  * necessary hasTopConcept relationships based on the broader/narrower hierarchy.
+ * <p>
+ * By default, the imported data are loaded into memory. In streaming mode (see {@link Configuration.Import}), they are
+ * validated while being parsed and staged in a temporary repository context, only vocabulary and glossary metadata
+ * are kept in memory.
  */
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
@@ -98,10 +109,29 @@ public class SKOSImporter implements VocabularyImporter {
 
     private static final Set<IRI> INFERABLE_MAPPING_PROPERTIES = Set.of(SKOS.EXACT_MATCH, SKOS.RELATED_MATCH);
 
+    private static final Set<IRI> SELF_REFERENCE_PROPERTIES = Set.of(SKOS.RELATED, SKOS.EXACT_MATCH,
+                                                                     SKOS.RELATED_MATCH, SKOS.BROADER);
+
+    /**
+     * Properties of vocabulary and glossary which are kept in memory during streaming import
+     */
+    private static final Set<String> METADATA_PROPERTIES = Set.of(
+            DCTERMS.TITLE.toString(),
+            DCTERMS.DESCRIPTION.toString(),
+            DCTERMS.LANGUAGE.toString(),
+            cz.cvut.kbss.termit.util.Vocabulary.s_p_preferredNamespaceUri,
+            cz.cvut.kbss.termit.util.Vocabulary.s_p_preferredNamespacePrefix
+    );
+
+    private static final Set<String> METADATA_TYPES = Set.of(SKOS.CONCEPT_SCHEME.toString(),
+                                                             cz.cvut.kbss.termit.util.Vocabulary.s_c_slovnik);
+
     private final Configuration config;
     private final VocabularyDao vocabularyDao;
+    private final TermDao termDao;
     private final VocabularyNamespaceResolver namespaceResolver;
     private final ApplicationEventPublisher eventPublisher;
+    private final VocabularyContentRevisions contentRevisions;
 
     private final EntityManager em;
 
@@ -113,14 +143,26 @@ public class SKOSImporter implements VocabularyImporter {
     private String namespace;
     private IRI glossaryIri;
 
+    /**
+     * Staging area for streaming import, {@code null} when data are imported in memory or no import is running.
+     * <p>
+     * Note that the staging area writes into the repository in its own transactions, independently of the transaction
+     * of the caller. The same holds for the final copy of the imported data into the vocabulary context, which is
+     * consistent with the in-memory import (see {@link #addDataIntoRepository(URI)}).
+     */
+    private SKOSStagingArea staging;
+    private StagingHandler stagingHandler;
+
     @Autowired
-    public SKOSImporter(Configuration config, VocabularyDao vocabularyDao,
+    public SKOSImporter(Configuration config, VocabularyDao vocabularyDao, TermDao termDao,
                         VocabularyNamespaceResolver namespaceResolver, ApplicationEventPublisher eventPublisher,
-                        EntityManager em) {
+                        VocabularyContentRevisions contentRevisions, EntityManager em) {
         this.config = config;
         this.vocabularyDao = vocabularyDao;
+        this.termDao = termDao;
         this.namespaceResolver = namespaceResolver;
         this.eventPublisher = eventPublisher;
+        this.contentRevisions = contentRevisions;
         this.em = em;
     }
 
@@ -141,6 +183,29 @@ private Vocabulary importVocabulary(final boolean rename,
             throw new IllegalArgumentException("No input provided for importing vocabulary.");
         }
         LOG.debug("Vocabulary import started.");
+        if (config.getImport().isSkosStreaming()) {
+            LOG.debug("Using streaming import with batches of {} statements.", config.getImport().getSkosBatchSize());
+            this.staging = new SKOSStagingArea(em.unwrap(Repository.class), config.getImport().getSkosBatchSize());
+        }
+        try {
+            return importParsedVocabulary(rename, vocabularyIri, mediaType, prePersist, inputStreams);
+        } finally {
+            try {
+                if (staging != null) {
+                    staging.close();
+                }
+            } finally {
+                this.staging = null;
+                this.stagingHandler = null;
+            }
+        }
+    }
+
+    private Vocabulary importParsedVocabulary(final boolean rename,
+                                              final URI vocabularyIri,
+                                              final String mediaType,
+                                              final Consumer<Vocabulary> prePersist,
+                                              final InputStream... inputStreams) {
         parseDataFromStreams(mediaType, inputStreams);
         validateTermLabels();
         validateRequiredLanguageTags();
@@ -174,26 +239,43 @@ private Vocabulary importVocabulary(final boolean rename,
         addDataIntoRepository(vocabulary.getUri());
         notifyReferencingTerms();
         pruneDuplicateSymmetricRelationships();
+        if (vocabularyIri != null) {
+            // Terms removed by the re-import may be referenced by terms from any vocabulary
+            contentRevisions.advanceAll();
+            termDao.evictCachedHierarchies();
+        }
+        eventPublisher.publishEvent(new VocabularyContentModifiedEvent(this, vocabulary.getUri()));
+        // Imported data may declare vocabulary imports
+        eventPublisher.publishEvent(new VocabularyImportsChangedEvent(this, vocabulary.getUri()));
         LOG.debug("Vocabulary import successfully finished.");
         return vocabulary;
     }
 
     private void validateTermLabels() {
         LOG.debug("Checking terms have labels.");
+        if (staging != null) {
+            staging.findConceptWithoutLabel().ifPresent(term -> {
+                throw missingLabelException(term);
+            });
+            return;
+        }
         model.stream().filter(s -> RDF.TYPE.equals(s.getPredicate()) && SKOS.CONCEPT.equals(s.getObject()))
              .forEach(s -> {
                  final Resource term = s.getSubject();
                  final Set<Statement> labels = model.filter(term, SKOS.PREF_LABEL, null);
                  if (labels.isEmpty()) {
-                     final VocabularyImportException ex = new VocabularyImportException(
-                             "Term " + term + " has no label.",
-                             "error.vocabulary.import.skos.missingLabel");
-                     ex.addParameter("term", term.stringValue());
-                     throw ex;
+                     throw missingLabelException(term);
                  }
              });
     }
 
+    private static VocabularyImportException missingLabelException(Resource term) {
+        final VocabularyImportException ex = new VocabularyImportException("Term " + term + " has no label.",
+                                                                           "error.vocabulary.import.skos.missingLabel");
+        ex.addParameter("term", term.stringValue());
+        return ex;
+    }
+
     /**
      * Checks that all values of multilingual properties of all terms have a language tag.
      *
@@ -201,19 +283,22 @@ private void validateTermLabels() {
      */
     private void validateRequiredLanguageTags() {
         LOG.debug("Checking that only language-tagged literals are provided.");
-        model.stream()
-             .filter(statement -> MULTILINGUAL_PROPERTIES.contains(statement.getPredicate().stringValue()))
-             .filter(statement -> statement.getObject().isLiteral())
-             .forEach(statement -> {
-                 if (((Literal) statement.getObject()).getLanguage().isEmpty()) {
-                     final MissingLanguageTagException ex = new MissingLanguageTagException(
-                             "Missing required language tag in " + statement,
-                             "error.vocabulary.import.skos.missingLanguageTag");
-                     ex.addParameter("term", statement.getSubject().stringValue());
-                     ex.addParameter("property", statement.getPredicate().stringValue());
-                     throw ex;
-                 }
-             });
+        model.forEach(SKOSImporter::validateLanguageTag);
+    }
+
+    private static void validateLanguageTag(Statement statement) {
+        if (!MULTILINGUAL_PROPERTIES.contains(statement.getPredicate().stringValue()) || !statement.getObject()
+                                                                                                  .isLiteral()) {
+            return;
+        }
+        if (((Literal) statement.getObject()).getLanguage().isEmpty()) {
+            final MissingLanguageTagException ex = new MissingLanguageTagException(
+                    "Missing required language tag in " + statement,
+                    "error.vocabulary.import.skos.missingLanguageTag");
+            ex.addParameter("term", statement.getSubject().stringValue());
+            ex.addParameter("property", statement.getPredicate().stringValue());
+            throw ex;
+        }
     }
 
     private static void validateVocabularyIriCompatibility(URI vocabularyIri, Optional<String> vocabularyIriFromData) {
@@ -250,6 +335,10 @@ private void ensureConceptIrisAreCompatibleWithTermIt(Vocabulary vocabulary) {
                          .size() == 1;
         final String ns = vocabulary.getProperties().get(cz.cvut.kbss.termit.util.Vocabulary.s_p_preferredNamespaceUri)
                                     .iterator().next().toString();
+        if (staging != null) {
+            staging.moveConceptsIntoNamespace(ns);
+            return;
+        }
         final char separator = ns.charAt(ns.length() - 1);
         final Statement[] statements = model.filter(null, RDF.TYPE, SKOS.CONCEPT).toArray(new Statement[]{});
         for (final Statement c : statements) {
@@ -267,8 +356,14 @@ private void parseDataFromStreams(String mediaType, InputStream... inputStreams)
         final RDFFormat rdfFormat = Rio.getParserFormatForMIMEType(mediaType).orElseThrow(
                 () -> new UnsupportedImportMediaTypeException("Media type '" + mediaType + "' not supported."));
         final RDFParser p = Rio.createParser(rdfFormat);
-        final StatementCollector collector = new StatementCollector(model);
-        p.setRDFHandler(collector);
+        final RDFHandler handler;
+        if (staging != null) {
+            this.stagingHandler = new StagingHandler();
+            handler = stagingHandler;
+        } else {
+            handler = new StatementCollector(model);
+        }
+        p.setRDFHandler(handler);
         for (InputStream is : inputStreams) {
             try {
                 p.parse(is, "");
@@ -299,11 +394,14 @@ private String resolveVocabularyNamespaceFromData() {
                                                  null).stream().map(s -> s.getObject().stringValue())
                                          .findFirst();
         ns.ifPresent(s -> LOG.trace("Found explicit preferred namespace URI: {}", s));
+        final Supplier<String> conceptNamespace = staging != null ? stagingHandler::getConceptNamespace :
+                                                  () -> Utils.extractVocabularyNamespaceFromTermIris(
+                                                          model.filter(null, RDF.TYPE, SKOS.CONCEPT)
+                                                               .stream()
+                                                               .map(s -> s.getSubject().stringValue())
+                                                               .collect(Collectors.toSet()));
         return IdentifierResolver.ensureNamespaceSeparatorTermination(ns.orElseGet(() -> {
-            final String result = Utils.extractVocabularyNamespaceFromTermIris(
-                    model.filter(null, RDF.TYPE, SKOS.CONCEPT)
-                         .stream()
-                         .map(s -> s.getSubject().stringValue()).collect(Collectors.toSet()));
+            final String result = conceptNamespace.get();
             LOG.trace("Extracted namespace {} from term identifiers.", result);
             return result;
         }));
@@ -334,6 +432,10 @@ private void removeTopConceptOfAssertions() {
 
     private void insertHasTopConceptAssertions() {
         LOG.trace("Generating skos:hasTopConcept assertions.");
+        if (staging != null) {
+            staging.insertHasTopConceptAssertions(glossaryIri);
+            return;
+        }
         final List<Resource> terms = model.filter(null, RDF.TYPE, SKOS.CONCEPT)
                                           .stream().map(Statement::getSubject).toList();
         terms.forEach(t -> {
@@ -374,10 +476,14 @@ private void extractSkosMappingStatements() {
 
     private void addDataIntoRepository(URI vocabularyIri) {
         final Repository repository = em.unwrap(org.eclipse.rdf4j.repository.Repository.class);
+        final IRI targetContext = repository.getValueFactory().createIRI(vocabularyIri.toString());
+        LOG.debug("Importing vocabulary into context <{}>.", targetContext);
+        if (staging != null) {
+            staging.copyInto(targetContext);
+            return;
+        }
         try (final RepositoryConnection conn = repository.getConnection()) {
             conn.begin();
-            final IRI targetContext = repository.getValueFactory().createIRI(vocabularyIri.toString());
-            LOG.debug("Importing vocabulary into context <{}>.", targetContext);
             conn.add(model, targetContext);
             conn.commit();
         }
@@ -430,7 +536,7 @@ private String getFreshVocabularyIri(boolean rename, String newVocabularyIriBase
         if (rename) {
             newVocabularyIri = stripTrailingSeparator(getUniqueIriFromBase(newVocabularyIriBase, r -> vocabularyDao.find(URI.create(r))));
             if (!newVocabularyIri.equals(newVocabularyIriBase)) {
-                Utils.changeNamespace(newVocabularyIriBase, newVocabularyIri, model);
+                changeNamespace(newVocabularyIriBase, newVocabularyIri);
             }
         }
         return newVocabularyIri;
@@ -444,13 +550,27 @@ private String getFreshGlossaryIri(final boolean rename) {
             newGlossaryIri = stripTrailingSeparator(
                     getUniqueIriFromBase(origGlossary, r -> vocabularyDao.findGlossary(URI.create(r))));
             if (!newGlossaryIri.equals(origGlossary)) {
-                Utils.changeIri(origGlossary, newGlossaryIri, model);
+                changeIri(origGlossary, newGlossaryIri);
                 this.glossaryIri = SimpleValueFactory.getInstance().createIRI(newGlossaryIri);
             }
         }
         return newGlossaryIri;
     }
 
+    private void changeNamespace(String originalNamespace, String newNamespace) {
+        Utils.changeNamespace(originalNamespace, newNamespace, model);
+        if (staging != null) {
+            staging.changeNamespace(originalNamespace, newNamespace);
+        }
+    }
+
+    private void changeIri(String originalIri, String newIri) {
+        Utils.changeIri(originalIri, newIri, model);
+        if (staging != null) {
+            staging.changeIri(originalIri, newIri);
+        }
+    }
+
     private void setVocabularyLabel(final Vocabulary vocabulary) {
         final boolean found = handleStringStringProperty(vf.createIRI(vocabulary.getUri()
                                                                                 .toString()), DCTERMS.TITLE,
@@ -527,15 +647,22 @@ private void setVocabularyNamespaceInfoFromData(Vocabulary vocabulary) {
     }
 
     private void notifyReferencingTerms() {
-        mappingStatements.forEach(s -> {
+        final Consumer<Statement> mappingNotifier = s -> {
             final String property = s.getPredicate().stringValue();
             final URI termUri = URI.create(s.getObject().stringValue());
             eventPublisher.publishEvent(new TermReferencesUpdatedEvent(this, termUri, property));
-        });
-        model.filter(null, SKOS.BROAD_MATCH, null).forEach(s -> {
+        };
+        final Consumer<Statement> broadMatchNotifier = s -> {
             final URI termUri = URI.create(s.getObject().stringValue());
             eventPublisher.publishEvent(new TermReferencesUpdatedEvent(this, termUri, SKOS.NARROWER.stringValue()));
-        });
+        };
+        if (staging != null) {
+            INFERABLE_MAPPING_PROPERTIES.forEach(property -> staging.forEachStatement(property, mappingNotifier));
+            staging.forEachStatement(SKOS.BROAD_MATCH, broadMatchNotifier);
+        } else {
+            mappingStatements.forEach(mappingNotifier);
+            model.filter(null, SKOS.BROAD_MATCH, null).forEach(broadMatchNotifier);
+        }
     }
 
     private void pruneDuplicateSymmetricRelationships() {
@@ -545,6 +672,67 @@ private void pruneDuplicateSymmetricRelationships() {
         }
     }
 
+    /**
+     * Validates and filters parsed statements and writes them into the staging area.
+     * <p>
+     * Only statements describing the vocabulary and glossary are kept in memory (in {@link #model}), so that they can
+     * be used to create the vocabulary instance.
+     */
+    private class StagingHandler extends AbstractRDFHandler {
+
+        private String conceptNamespace;
+        private IllegalArgumentException conceptNamespaceError;
+
+        @Override
+        public void handleStatement(Statement st) {
+            validateLanguageTag(st);
+            if (SKOS.TOP_CONCEPT_OF.equals(st.getPredicate()) || (SELF_REFERENCE_PROPERTIES.contains(
+                    st.getPredicate()) && st.getSubject().equals(st.getObject()))) {
+                return;
+            }
+            if (METADATA_PROPERTIES.contains(st.getPredicate().stringValue()) || (RDF.TYPE.equals(
+                    st.getPredicate()) && METADATA_TYPES.contains(st.getObject().stringValue()))) {
+                model.add(st);
+            }
+            if (RDF.TYPE.equals(st.getPredicate()) && SKOS.CONCEPT.equals(st.getObject())) {
+                checkConceptNamespace(st.getSubject().stringValue());
+            }
+            staging.add(st);
+        }
+
+        /**
+         * Tracks the namespace of concepts, as {@link Utils#extractVocabularyNamespaceFromTermIris(Set)} would, without
+         * keeping the concept identifiers in memory.
+         */
+        private void checkConceptNamespace(String conceptIri) {
+            if (conceptNamespaceError != null) {
+                return;
+            }
+            if (conceptNamespace == null) {
+                try {
+                    this.conceptNamespace = Utils.extractVocabularyNamespaceFromTermIris(Set.of(conceptIri));
+                } catch (IllegalArgumentException e) {
+                    this.conceptNamespaceError = e;
+                }
+            } else if (!conceptIri.startsWith(conceptNamespace)) {
+                this.conceptNamespaceError = new IllegalArgumentException(
+                        "Not all Concept IRIs have the same namespace: " + conceptIri + " vs. " + conceptNamespace);
+            }
+        }
+
+        @Override
+        public void endRDF() {
+            staging.flush();
+        }
+
+        String getConceptNamespace() {
+            if (conceptNamespaceError != null) {
+                throw conceptNamespaceError;
+            }
+            return conceptNamespace != null ? conceptNamespace : Utils.extractVocabularyNamespaceFromTermIris(Set.of());
+        }
+    }
+
     @Override
     public Vocabulary importTermTranslations(@Nonnull URI vocabularyIri, @Nonnull ImportInput data) {
         throw new UnsupportedOperationException(
@@ -0,0 +1,280 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.skos;
+
+import cz.cvut.kbss.termit.util.Vocabulary;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.SKOS;
+import org.eclipse.rdf4j.query.TupleQuery;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.query.Update;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Temporary repository context into which data are staged during a streaming SKOS import.
+ * <p>
+ * Statements are written in batches, each in a separate transaction, so that the imported data need not be held in
+ * memory. These transactions do not participate in any transaction of the caller, i.e., staged data are visible in the
+ * repository (in the staging context) before the import finishes and are not rolled back together with the caller's
+ * transaction. Transformations of the imported data are executed as SPARQL updates over the staging context. When the
+ * import is finished, data are copied into the target vocabulary context.
+ * <p>
+ * The staging context is removed when this instance is closed, regardless of the outcome of the import.
+ */
+class SKOSStagingArea implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SKOSStagingArea.class);
+
+    /**
+     * SPARQL regular expression metacharacters (XPath syntax)
+     */
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}-";
+
+    private final Repository repository;
+
+    private final int batchSize;
+
+    private final IRI context;
+
+    private final List<Statement> batch;
+
+    private long statementCount;
+
+    SKOSStagingArea(Repository repository, int batchSize) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+        this.context = repository.getValueFactory()
+                                 .createIRI(Vocabulary.ONTOLOGY_IRI_TERMIT + "/import/" + UUID.randomUUID());
+    }
+
+    /**
+     * Adds the specified statement to the staging context.
+     * <p>
+     * The statement is written once the batch it belongs to is full or when {@link #flush()} is called.
+     *
+     * @param statement Statement to add
+     */
+    void add(Statement statement) {
+        batch.add(statement);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes any pending statements into the staging context.
+     */
+    void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        inTransaction(conn -> conn.add(batch, context));
+        statementCount += batch.size();
+        LOG.trace("Staged {} statements in total.", statementCount);
+        batch.clear();
+    }
+
+    /**
+     * Finds a skos:Concept without a skos:prefLabel in the staged data.
+     *
+     * @return Concept without label, empty if all concepts have a label
+     */
+    Optional<Resource> findConceptWithoutLabel() {
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            final TupleQuery tq = conn.prepareTupleQuery(graphScoped("""
+                                                                             SELECT ?t WHERE { GRAPH ?g {
+                                                                                 ?t a ?concept .
+                                                                                 FILTER NOT EXISTS { ?t ?prefLabel ?label . }
+                                                                             } } LIMIT 1
+                                                                             """));
+            tq.setBinding("concept", SKOS.CONCEPT);
+            tq.setBinding("prefLabel", SKOS.PREF_LABEL);
+            try (final TupleQueryResult res = tq.evaluate()) {
+                return res.hasNext() ? Optional.of((Resource) res.next().getValue("t")) : Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Generates skos:hasTopConcept assertions for concepts with neither a broader concept nor a narrower assertion
+     * pointing to them.
+     *
+     * @param glossary Glossary to connect the top concepts to
+     */
+    void insertHasTopConceptAssertions(IRI glossary) {
+        executeUpdate("""
+                              PREFIX skos: <http://www.w3.org/2004/02/skos/core#>
+                              INSERT { GRAPH ?g { ?glossary skos:hasTopConcept ?t . } }
+                              WHERE { GRAPH ?g {
+                                  ?t a skos:Concept .
+                                  FILTER NOT EXISTS { ?t skos:broader ?b . ?b a skos:Concept . }
+                                  FILTER NOT EXISTS { ?n skos:narrower ?t . }
+                              } }
+                              """, update -> update.setBinding("glossary", glossary));
+    }
+
+    /**
+     * Replaces the specified IRI with a new one in all staged statements.
+     *
+     * @param originalIri IRI to replace
+     * @param newIri      Replacement
+     */
+    void changeIri(String originalIri, String newIri) {
+        renameIris("STR(?x) = ?old", originalIri, newIri);
+    }
+
+    /**
+     * Replaces the specified namespace with a new one in all IRIs in the staged statements.
+     *
+     * @param originalNamespace Namespace to replace
+     * @param newNamespace      Replacement
+     */
+    void changeNamespace(String originalNamespace, String newNamespace) {
+        renameIris("STRSTARTS(STR(?x), ?old)", originalNamespace, newNamespace);
+    }
+
+    private void renameIris(String condition, String original, String replacement) {
+        final ValueFactory vf = repository.getValueFactory();
+        final String renamed = "IF(isIRI(?x) && " + condition + ", IRI(CONCAT(?new, STRAFTER(STR(?x), ?old))), ?x)";
+        executeUpdate("""
+                              DELETE { GRAPH ?g { ?s ?p ?o . } }
+                              INSERT { GRAPH ?g { ?ns ?np ?no . } }
+                              WHERE { GRAPH ?g {
+                                  ?s ?p ?o .
+                                  BIND (%s AS ?ns)
+                                  BIND (%s AS ?np)
+                                  BIND (%s AS ?no)
+                                  FILTER (?ns != ?s || ?np != ?p || !sameTerm(?no, ?o))
+                              } }
+                              """.formatted(renamed.replace("?x", "?s"), renamed.replace("?x", "?p"),
+                                            renamed.replace("?x", "?o")), update -> {
+            update.setBinding("old", vf.createLiteral(original));
+            update.setBinding("new", vf.createLiteral(replacement));
+        });
+    }
+
+    /**
+     * Moves concepts whose identifiers do not contain the specified namespace into it.
+     * <p>
+     * The new identifier of such a concept is the namespace followed by the part of the original identifier after the
+     * last occurrence of the namespace separator (the last character of the namespace).
+     *
+     * @param namespace Target namespace
+     */
+    void moveConceptsIntoNamespace(String namespace) {
+        final ValueFactory vf = repository.getValueFactory();
+        final char separator = namespace.charAt(namespace.length() - 1);
+        final String localNamePattern = "^.*" + (REGEX_METACHARACTERS.indexOf(separator) >= 0 ? "\\" : "") + separator;
+        final String renamedConcepts = """
+                ?c a skos:Concept .
+                FILTER (isIRI(?c) && !CONTAINS(STR(?c), ?ns))
+                BIND (IRI(CONCAT(?ns, REPLACE(STR(?c), ?localNamePattern, ""))) AS ?n)
+                """;
+        final Consumer<Update> bindings = update -> {
+            update.setBinding("ns", vf.createLiteral(namespace));
+            update.setBinding("localNamePattern", vf.createLiteral(localNamePattern));
+        };
+        // References first, as renaming the concepts themselves removes their skos:Concept type assertion
+        executeUpdate("""
+                              PREFIX skos: <http://www.w3.org/2004/02/skos/core#>
+                              DELETE { GRAPH ?g { ?s ?p ?c . } }
+                              INSERT { GRAPH ?g { ?s ?p ?n . } }
+                              WHERE { GRAPH ?g {
+                                  %s
+                                  ?s ?p ?c .
+                              } }
+                              """.formatted(renamedConcepts), bindings);
+        executeUpdate("""
+                              PREFIX skos: <http://www.w3.org/2004/02/skos/core#>
+                              DELETE { GRAPH ?g { ?c ?p ?o . } }
+                              INSERT { GRAPH ?g { ?n ?p ?o . } }
+                              WHERE { GRAPH ?g {
+                                  %s
+                                  ?c ?p ?o .
+                              } }
+                              """.formatted(renamedConcepts), bindings);
+    }
+
+    /**
+     * Iterates over staged statements with the specified predicate.
+     *
+     * @param predicate Predicate to filter statements by
+     * @param consumer  Consumer of the matching statements
+     */
+    void forEachStatement(IRI predicate, Consumer<Statement> consumer) {
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            conn.getStatements(null, predicate, null, false, context).forEach(consumer);
+        }
+    }
+
+    /**
+     * Copies all staged statements into the specified repository context.
+     *
+     * @param targetContext Target context
+     */
+    void copyInto(IRI targetContext) {
+        LOG.debug("Copying {} staged statements into context <{}>.", statementCount, targetContext);
+        inTransaction(conn -> conn.prepareUpdate("ADD GRAPH <" + context + "> TO GRAPH <" + targetContext + ">")
+                                  .execute());
+    }
+
+    private void executeUpdate(String query, Consumer<Update> bindings) {
+        inTransaction(conn -> {
+            final Update update = conn.prepareUpdate(graphScoped(query));
+            bindings.accept(update);
+            update.execute();
+        });
+    }
+
+    /**
+     * Scopes {@literal GRAPH ?g} patterns in the specified query to the staging context.
+     */
+    private String graphScoped(String query) {
+        return query.replace("GRAPH ?g ", "GRAPH <" + context + "> ");
+    }
+
+    private void inTransaction(Consumer<RepositoryConnection> operation) {
+        try (final RepositoryConnection conn = repository.getConnection()) {
+            conn.begin();
+            operation.accept(conn);
+            conn.commit();
+        }
+    }
+
+    /**
+     * Removes the staging context together with all its statements.
+     */
+    @Override
+    public void close() {
+        batch.clear();
+        inTransaction(conn -> conn.clear(context));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import cz.cvut.kbss.termit.util.Configuration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded cache implementation useful for caching frequently accessed data.
+ * <p>
+ * The cache is bounded either by the number of entries or by their total weight (if a weigher is provided and maximum
+ * weight is configured). Entries are evicted using the W-TinyLFU policy, which combines recency and frequency of
+ * access. Optionally, entries expire after a configured time since they were written.
+ * <p>
+ * If a meter registry is provided, hit, miss, eviction and load time statistics are published to it, tagged with the
+ * cache name.
+ *
+ * @param <K> Cache key type
+ * @param <V> Cache value type
+ */
+public class BoundedCache<K, V> implements Cache<K, V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BoundedCache.class);
+
+    private final com.github.benmanes.caffeine.cache.Cache<K, V> cache;
+
+    /**
+     * Creates a cache bounded by the number of entries.
+     *
+     * @param name          Cache name, used in metrics
+     * @param settings      Cache configuration
+     * @param meterRegistry Registry to publish cache statistics to, optional
+     */
+    public BoundedCache(String name, Configuration.Persistence.CacheSettings settings, MeterRegistry meterRegistry) {
+        this(name, settings, null, meterRegistry);
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of entries, as determined by the specified weigher.
+     * <p>
+     * If maximum weight is not configured, the cache is bounded by the number of entries.
+     *
+     * @param name          Cache name, used in metrics
+     * @param settings      Cache configuration
+     * @param weigher       Determines the weight of entries, optional
+     * @param meterRegistry Registry to publish cache statistics to, optional
+     */
+    public BoundedCache(String name, Configuration.Persistence.CacheSettings settings, Weigher<K, V> weigher,
+                        MeterRegistry meterRegistry) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(settings);
+        // Maintenance (eviction) is cheap, so run it in the calling thread instead of the common fork-join pool
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats().executor(Runnable::run);
+        if (weigher != null && settings.getMaxWeight().isPresent()) {
+            LOG.debug("Cache '{}' bounded to weight {}.", name, settings.getMaxWeight().get());
+            builder.maximumWeight(settings.getMaxWeight().get()).weigher(weigher);
+        } else {
+            LOG.debug("Cache '{}' bounded to {} entries.", name, settings.getMaxSize());
+            builder.maximumSize(settings.getMaxSize());
+        }
+        settings.getTtl().ifPresent(builder::expireAfterWrite);
+        this.cache = builder.build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        }
+    }
+
+    @Override
+    public V getOrCompute(K key, Function<K, V> supplier) {
+        return cache.get(key, supplier);
+    }
+
+    @Override
+    public Map<K, V> getOrComputeAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        return cache.getAll(keys, missing -> loader.apply(new HashSet<>(missing)));
+    }
+
+    @Override
+    public void updateIfPresent(K key, UnaryOperator<V> function) {
+        cache.asMap().computeIfPresent(key, (k, v) -> function.apply(v));
+    }
+
+    @Override
+    public void evict(K key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void evictIf(Predicate<? super V> predicate) {
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    @Override
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
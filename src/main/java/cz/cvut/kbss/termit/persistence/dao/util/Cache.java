@@ -17,7 +17,12 @@
  */
 package cz.cvut.kbss.termit.persistence.dao.util;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * A general purpose cache useful for caching frequently accessed data.
@@ -38,6 +43,29 @@
      */
     V getOrCompute(K key, Function<K, V> supplier);
 
+    /**
+     * Gets values associated with the specified keys, computing the missing ones in bulk using the specified loader.
+     * <p>
+     * The loader is invoked at most once, with all the keys whose values are not present in the cache. Values it
+     * returns are stored in the cache.
+     *
+     * @param keys   Cache keys
+     * @param loader Bulk value calculator
+     * @return Map of keys to values, either existing or computed using the specified loader
+     */
+    Map<K, V> getOrComputeAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader);
+
+    /**
+     * Replaces value for the specified key with the result of the specified function, if the key is present in the
+     * cache.
+     * <p>
+     * If the function returns {@code null}, the value is evicted.
+     *
+     * @param key      Cache key
+     * @param function Calculates the new value from the current one
+     */
+    void updateIfPresent(K key, UnaryOperator<V> function);
+
     /**
      * Evicts value for the specified key.
      *
@@ -45,6 +73,13 @@
      */
     void evict(K key);
 
+    /**
+     * Evicts values matching the specified predicate.
+     *
+     * @param predicate Condition of values to evict
+     */
+    void evictIf(Predicate<? super V> predicate);
+
     /**
      * Evicts the whole cache.
      */
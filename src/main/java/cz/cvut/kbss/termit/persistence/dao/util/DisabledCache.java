@@ -20,7 +20,13 @@
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Disabled cache implementation that always retrieves the current value and caches nothing.
@@ -37,11 +43,26 @@ public V getOrCompute(K key, Function<K, V> supplier) {
         return supplier.apply(key);
     }
 
+    @Override
+    public Map<K, V> getOrComputeAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        return loader.apply(new HashSet<>(keys));
+    }
+
+    @Override
+    public void updateIfPresent(K key, UnaryOperator<V> function) {
+        // Do nothing
+    }
+
     @Override
     public void evict(K key) {
         // Do nothing
     }
 
+    @Override
+    public void evictIf(Predicate<? super V> predicate) {
+        // Do nothing
+    }
+
     @Override
     public void evictAll() {
         // Do nothing
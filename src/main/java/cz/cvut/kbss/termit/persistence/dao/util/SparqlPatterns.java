@@ -2,9 +2,19 @@
 
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.vocabulary.DC;
+import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import cz.cvut.kbss.termit.util.Vocabulary;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Utility functions for SPARQL query construction.
@@ -70,6 +80,50 @@ public static String insertLanguagePattern(String entity) {
                 """.replace("#entity", entity);
     }
 
+    /**
+     * Builds a SPARQL {@code VALUES} clause binding the specified variable to the specified identifiers.
+     * <p>
+     * This allows a single query to be evaluated for a whole collection of resources.
+     *
+     * @param var    the name of the variable (including the question mark)
+     * @param values identifiers to bind to the variable
+     * @return the {@code VALUES} clause to be inserted into a SPARQL query
+     */
+    public static String valuesPattern(String var, Collection<URI> values) {
+        return "VALUES " + var + " { " + values.stream().map(v -> "<" + v + ">")
+                                               .collect(Collectors.joining(" ")) + " }";
+    }
+
+    /**
+     * Builds a SPARQL {@code INSERT DATA} update inserting the specified quads.
+     * <p>
+     * Quad objects which are {@link URI}s are inserted as IRIs, rdf4j {@link Value}s are inserted as they are and all
+     * other objects are inserted as literals, strings being tagged with the specified language.
+     *
+     * @param data     Quads to insert
+     * @param language Language tag of string literals
+     * @return SPARQL update inserting the data
+     */
+    public static String insertDataQuery(Collection<Quad> data, String language) {
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        final Map<URI, List<Quad>> byContext = data.stream().collect(Collectors.groupingBy(Quad::context,
+                                                                                          LinkedHashMap::new,
+                                                                                          Collectors.toList()));
+        final StringBuilder sb = new StringBuilder("INSERT DATA {");
+        byContext.forEach((ctx, quads) -> {
+            sb.append(" GRAPH <").append(ctx).append("> {");
+            quads.forEach(q -> {
+                final Value object = q.object() instanceof Value v ? v :
+                                     q.object() instanceof URI u ? vf.createIRI(u.toString()) :
+                                     Rdf4jUtils.createLiteral(q.object(), language, vf);
+                sb.append(" <").append(q.subject()).append("> <").append(q.predicate()).append("> ")
+                  .append(NTriplesUtil.toNTriplesString(object)).append(" .");
+            });
+            sb.append(" }");
+        });
+        return sb.append(" }").toString();
+    }
+
     /**
      * Builds a nested series of replace() calls to normalize and order characters in a sentence.
      * <p>
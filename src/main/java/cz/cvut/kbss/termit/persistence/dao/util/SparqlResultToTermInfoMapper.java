@@ -23,9 +23,13 @@
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Maps results of a SPARQL query to {@link TermInfo} instances.
@@ -33,6 +37,17 @@
  * The only reason this mapper exists is that {@link cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping} does
  * not support plural values, which is what happens when multiple translations of a Term's label are loaded by the
  * query.
+ * <p>
+ * The query result rows are expected to contain the following:
+ * <pre>
+ *     <ol>
+ *         <li>term IRI</li>
+ *         <li>term label, optional</li>
+ *         <li>term vocabulary IRI</li>
+ *         <li>term state IRI, optional, may be omitted</li>
+ *         <li>term type IRI, optional, may be omitted</li>
+ *     </ol>
+ * </pre>
  */
 public class SparqlResultToTermInfoMapper implements SparqlResultMapper<TermInfo> {
 
@@ -46,21 +61,59 @@ public List<TermInfo> map(List<?> result) {
                 // No result
                 continue;
             }
-            assert row.length == 3;
-            final URI uri = (URI) row[0];
-            final LangString ls = (LangString) row[1];
-            TermInfo ti;
-            if (visited.containsKey(uri)) {
-                ti = visited.get(uri);
-                ti.getLabel().set(ls.getLanguage().orElse(null), ls.getValue());
-            } else {
-                ti = new TermInfo(uri);
-                visited.put(uri, ti);
-                ti.setLabel(MultilingualString.create(ls.getValue(), ls.getLanguage().orElse(null)));
-            }
-            ti.setVocabulary((URI) row[2]);
-            visited.put(ti.getUri(), ti);
+            mapRow(row, 0);
         }
         return new ArrayList<>(visited.values());
     }
+
+    /**
+     * Maps results of a query loading terms together with their parent term, grouping the terms by the parent.
+     * <p>
+     * This allows sub-terms of a whole page of terms to be loaded using a single query instead of issuing a query for
+     * each of the parent terms. The query result rows are expected to contain the parent term IRI, followed by the
+     * columns described in the class documentation. The order of the sub-terms of each parent term corresponds to the
+     * order of the query results.
+     *
+     * @param result  SPARQL query result list
+     * @param parents Identifiers of the parent terms. An entry is created for each of them, even if they have no
+     *                sub-terms
+     * @return Map of parent term identifiers to sets of their sub-terms
+     */
+    public Map<URI, Set<TermInfo>> mapByParent(List<?> result, Collection<URI> parents) {
+        final Map<URI, Set<TermInfo>> byParent = new LinkedHashMap<>();
+        parents.forEach(p -> byParent.put(p, new LinkedHashSet<>()));
+        for (Object elem : result) {
+            final Object[] row = (Object[]) elem;
+            if (row[0] == null) {
+                // No result
+                continue;
+            }
+            byParent.computeIfAbsent((URI) row[0], k -> new LinkedHashSet<>()).add(mapRow(row, 1));
+        }
+        return byParent;
+    }
+
+    private TermInfo mapRow(Object[] row, int offset) {
+        assert row.length >= offset + 3;
+        final TermInfo ti = visited.computeIfAbsent((URI) row[offset], TermInfo::new);
+        if (ti.getLabel() == null) {
+            ti.setLabel(new MultilingualString());
+        }
+        if (row[offset + 1] instanceof LangString ls) {
+            ti.getLabel().set(ls.getLanguage().orElse(null), ls.getValue());
+        } else if (row[offset + 1] != null) {
+            ti.getLabel().set(row[offset + 1].toString());
+        }
+        ti.setVocabulary((URI) row[offset + 2]);
+        if (row.length > offset + 3 && row[offset + 3] != null) {
+            ti.setState((URI) row[offset + 3]);
+        }
+        if (row.length > offset + 4 && row[offset + 4] != null) {
+            if (ti.getTypes() == null) {
+                ti.setTypes(new HashSet<>());
+            }
+            ti.getTypes().add(row[offset + 4].toString());
+        }
+        return ti;
+    }
 }
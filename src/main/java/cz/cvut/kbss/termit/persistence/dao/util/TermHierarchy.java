@@ -0,0 +1,746 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.util;
+
+import jakarta.annotation.Nonnull;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable in-memory index of the term hierarchy (SKOS broader/narrower) of a single vocabulary.
+ * <p>
+ * Term identifiers are interned into a dictionary and parent/child adjacency is stored as arrays of dictionary
+ * indexes. Besides terms of the vocabulary, the index also contains terms from other vocabularies which are directly
+ * connected to terms of the vocabulary by the hierarchy (e.g., children of vocabulary terms from other vocabularies).
+ * <p>
+ * Terms are ordered by their labels the same way as root term queries order them, i.e., terms with a label in the
+ * requested language go first, then terms are ordered by label language and finally by label, with Czech accented
+ * characters sorted after their base characters.
+ */
+public final class TermHierarchy {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final URI vocabulary;
+    private final URI context;
+    private final String primaryLanguage;
+
+    private final URI[] terms;
+    private final Map<URI, Integer> index;
+    private final URI[] termVocabularies;
+    private final BitSet members;
+
+    private final int[][] parents;
+    private final int[][] children;
+    private final int[] roots;
+
+    private final String[][] labelLanguages;
+    private final String[][] sortKeys;
+
+    private final Map<String, List<URI>> sortedRoots = new ConcurrentHashMap<>();
+
+    private TermHierarchy(Builder builder) {
+        this.vocabulary = builder.vocabulary;
+        this.context = builder.context;
+        this.primaryLanguage = builder.primaryLanguage;
+        final int size = builder.terms.size();
+        this.terms = builder.terms.toArray(new URI[0]);
+        this.index = Map.copyOf(builder.index);
+        this.termVocabularies = builder.termVocabularies.toArray(new URI[0]);
+        this.members = (BitSet) builder.members.clone();
+        this.labelLanguages = new String[size][];
+        this.sortKeys = new String[size][];
+        for (int i = 0; i < size; i++) {
+            final Map<String, String> labels = builder.labels.get(i);
+            labelLanguages[i] = labels.keySet().toArray(new String[0]);
+            sortKeys[i] = labels.values().toArray(new String[0]);
+        }
+        this.parents = adjacency(builder.edges, size, false);
+        this.children = adjacency(builder.edges, size, true);
+        final Comparator<Integer> byLabel = comparator(primaryLanguage);
+        for (int[] termChildren : children) {
+            sortInPlace(termChildren, byLabel);
+        }
+        this.roots = builder.roots.stream().filter(members::get).distinct().mapToInt(Integer::intValue).toArray();
+    }
+
+    private TermHierarchy(Patch patch) {
+        this.vocabulary = patch.base.vocabulary;
+        this.context = patch.base.context;
+        this.primaryLanguage = patch.base.primaryLanguage;
+        this.terms = patch.terms;
+        this.index = patch.index;
+        this.termVocabularies = patch.termVocabularies;
+        this.members = patch.members;
+        this.labelLanguages = patch.labelLanguages;
+        this.sortKeys = patch.sortKeys;
+        this.parents = patch.parents;
+        this.children = patch.children;
+        this.roots = patch.roots;
+        final Comparator<Integer> byLabel = comparator(primaryLanguage);
+        // Arrays of children to sort have been copied by the patch, so they are not shared with the base hierarchy
+        patch.unsorted.forEach(i -> sortInPlace(children[i], byLabel));
+    }
+
+    private static int[][] adjacency(List<int[]> edges, int size, boolean forward) {
+        final int[] degree = new int[size];
+        edges.forEach(e -> degree[forward ? e[1] : e[0]]++);
+        final int[][] result = new int[size][];
+        for (int i = 0; i < size; i++) {
+            result[i] = degree[i] > 0 ? new int[degree[i]] : EMPTY;
+            degree[i] = 0;
+        }
+        edges.forEach(e -> {
+            final int from = forward ? e[1] : e[0];
+            result[from][degree[from]++] = forward ? e[0] : e[1];
+        });
+        return result;
+    }
+
+    private static void sortInPlace(int[] values, Comparator<Integer> comparator) {
+        if (values.length < 2) {
+            return;
+        }
+        final Integer[] boxed = Arrays.stream(values).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, comparator);
+        for (int i = 0; i < boxed.length; i++) {
+            values[i] = boxed[i];
+        }
+    }
+
+    /**
+     * Gets identifier of the vocabulary whose hierarchy this is.
+     */
+    public URI getVocabulary() {
+        return vocabulary;
+    }
+
+    /**
+     * Gets identifier of the repository context from which the hierarchy was loaded.
+     */
+    public URI getContext() {
+        return context;
+    }
+
+    /**
+     * Gets primary language of the vocabulary, used to order children of terms.
+     */
+    public String getPrimaryLanguage() {
+        return primaryLanguage;
+    }
+
+    /**
+     * Gets the number of terms in the index, including terms from other vocabularies.
+     * <p>
+     * Terms removed by a {@link Patch} are still counted until the hierarchy is reloaded.
+     */
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * Checks whether the specified term belongs to the vocabulary whose hierarchy this is.
+     *
+     * @param term Term identifier
+     * @return {@code true} if the term is a term of this vocabulary, {@code false} otherwise
+     */
+    public boolean contains(@Nonnull URI term) {
+        final Integer i = index.get(Objects.requireNonNull(term));
+        return i != null && members.get(i);
+    }
+
+    /**
+     * Gets identifier of the vocabulary of the specified term, if it is known.
+     *
+     * @param term Term identifier
+     * @return Vocabulary identifier, {@code null} if the term is not in the index or its vocabulary is not known
+     */
+    public URI getTermVocabulary(@Nonnull URI term) {
+        final Integer i = index.get(Objects.requireNonNull(term));
+        return i != null ? termVocabularies[i] : null;
+    }
+
+    /**
+     * Gets root terms of the vocabulary ordered by their labels.
+     * <p>
+     * Roots without a label are not included.
+     *
+     * @param language Language whose labels take precedence when ordering terms
+     * @return Unmodifiable list of root term identifiers
+     */
+    @Nonnull
+    public List<URI> getRoots(String language) {
+        return sortedRoots.computeIfAbsent(Objects.toString(language, ""),
+                                           lang -> sortRoots(Collections.singleton(this), language));
+    }
+
+    /**
+     * Gets direct children of the specified term, ordered by their labels in the vocabulary primary language.
+     *
+     * @param term Parent term identifier
+     * @return Unmodifiable list of child term identifiers, empty if the term is not in the index
+     */
+    @Nonnull
+    public List<URI> getChildren(@Nonnull URI term) {
+        final Integer i = index.get(Objects.requireNonNull(term));
+        return i != null ? toUris(children[i]) : Collections.emptyList();
+    }
+
+    /**
+     * Gets direct parents of the specified term.
+     *
+     * @param term Child term identifier
+     * @return Unmodifiable list of parent term identifiers, empty if the term is not in the index
+     */
+    @Nonnull
+    public List<URI> getParents(@Nonnull URI term) {
+        final Integer i = index.get(Objects.requireNonNull(term));
+        return i != null ? toUris(parents[i]) : Collections.emptyList();
+    }
+
+    /**
+     * Gets all descendants of the specified term reachable in this index.
+     * <p>
+     * Descendants from other vocabularies are included, but the traversal does not continue beyond them, as their
+     * children are not part of this index.
+     *
+     * @param term Term identifier
+     * @return Set of descendant identifiers, not including the term itself
+     */
+    @Nonnull
+    public Set<URI> getDescendants(@Nonnull URI term) {
+        return traverse(term, children);
+    }
+
+    /**
+     * Gets all ancestors of the specified term reachable in this index.
+     * <p>
+     * Ancestors from other vocabularies are included, but the traversal does not continue beyond them, as their
+     * parents are not part of this index.
+     *
+     * @param term Term identifier
+     * @return Set of ancestor identifiers, not including the term itself
+     */
+    @Nonnull
+    public Set<URI> getAncestors(@Nonnull URI term) {
+        return traverse(term, parents);
+    }
+
+    private Set<URI> traverse(URI term, int[][] adjacency) {
+        final Integer start = index.get(Objects.requireNonNull(term));
+        if (start == null) {
+            return Collections.emptySet();
+        }
+        final BitSet visited = new BitSet(terms.length);
+        visited.set(start);
+        final Set<URI> result = new LinkedHashSet<>();
+        final Deque<Integer> toVisit = new ArrayDeque<>();
+        toVisit.add(start);
+        while (!toVisit.isEmpty()) {
+            final int current = toVisit.poll();
+            for (int next : adjacency[current]) {
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    result.add(terms[next]);
+                    if (members.get(next)) {
+                        toVisit.add(next);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<URI> toUris(int[] ids) {
+        final List<URI> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(terms[id]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private Comparator<Integer> comparator(String language) {
+        final Map<Integer, SortKey> keys = new HashMap<>();
+        return Comparator.comparing((Integer i) -> keys.computeIfAbsent(i, k -> sortKey(k, language)))
+                         .thenComparing(i -> terms[i].toString());
+    }
+
+    private SortKey sortKey(int term, String language) {
+        SortKey best = SortKey.NONE;
+        for (int i = 0; i < sortKeys[term].length; i++) {
+            final String lang = labelLanguages[term][i];
+            final SortKey key = new SortKey(false, !Objects.equals(lang, language), lang, sortKeys[term][i]);
+            if (key.compareTo(best) < 0) {
+                best = key;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets root terms of all the specified hierarchies, ordered by their labels.
+     * <p>
+     * This allows to list roots of a vocabulary together with roots of the vocabularies it imports. Roots without a
+     * label are not included.
+     *
+     * @param hierarchies Hierarchies whose roots to merge
+     * @param language    Language whose labels take precedence when ordering terms
+     * @return Unmodifiable list of root term identifiers
+     */
+    @Nonnull
+    public static List<URI> sortRoots(@Nonnull Collection<TermHierarchy> hierarchies, String language) {
+        final Map<URI, SortKey> keys = new HashMap<>();
+        hierarchies.forEach(h -> {
+            for (int root : h.roots) {
+                final SortKey key = h.sortKey(root, language);
+                if (!key.unlabeled()) {
+                    keys.merge(h.terms[root], key, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+                }
+            }
+        });
+        final List<URI> result = new ArrayList<>(keys.keySet());
+        result.sort(Comparator.comparing((URI t) -> keys.get(t)).thenComparing(URI::toString));
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Creates a sort key for the specified label.
+     * <p>
+     * Mirrors {@link SparqlPatterns#orderSentence(String)}, so that terms are ordered the same way as by queries.
+     *
+     * @param label Label value
+     * @return Sort key
+     */
+    static String sortKey(@Nonnull String label) {
+        final String lowerCase = label.toLowerCase(Locale.ROOT);
+        final StringBuilder sb = new StringBuilder(lowerCase.length() + 4);
+        for (int i = 0; i < lowerCase.length(); i++) {
+            final char c = lowerCase.charAt(i);
+            final char base = switch (c) {
+                case 'á' -> 'a';
+                case 'č' -> 'c';
+                case 'ď' -> 'd';
+                case 'é', 'ě' -> 'e';
+                case 'í' -> 'i';
+                case 'ň' -> 'n';
+                case 'ó' -> 'o';
+                case 'ř' -> 'r';
+                case 'š' -> 's';
+                case 'ť' -> 't';
+                case 'ú' -> 'u';
+                case 'ý' -> 'y';
+                case 'ž' -> 'z';
+                default -> 0;
+            };
+            if (base != 0) {
+                sb.append(base).append("zz");
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Sort key of a term. Terms without labels go last.
+     */
+    private record SortKey(boolean unlabeled, boolean otherLanguage, String language, String label)
+            implements Comparable<SortKey> {
+
+        private static final SortKey NONE = new SortKey(true, true, null, null);
+
+        private static final Comparator<SortKey> ORDER =
+                Comparator.comparing(SortKey::unlabeled)
+                          .thenComparing(SortKey::otherLanguage)
+                          .thenComparing(SortKey::language, Comparator.nullsFirst(Comparator.naturalOrder()))
+                          .thenComparing(SortKey::label, Comparator.nullsLast(Comparator.naturalOrder()));
+
+        @Override
+        public int compareTo(SortKey o) {
+            return ORDER.compare(this, o);
+        }
+    }
+
+    /**
+     * Creates a patch of this hierarchy.
+     * <p>
+     * The patch is applied to a copy of this hierarchy, this instance stays unchanged. Only the modified parts of the
+     * index are copied, so patching is much cheaper than reloading the hierarchy.
+     *
+     * @return New patch
+     */
+    public Patch patch() {
+        return new Patch(this);
+    }
+
+    /**
+     * Creates a builder of the hierarchy of the specified vocabulary.
+     *
+     * @param vocabulary      Vocabulary identifier
+     * @param context         Repository context from which the hierarchy is loaded
+     * @param primaryLanguage Primary language of the vocabulary
+     * @return New builder
+     */
+    public static Builder builder(@Nonnull URI vocabulary, URI context, String primaryLanguage) {
+        return new Builder(vocabulary, context, primaryLanguage);
+    }
+
+    /**
+     * Collects terms, labels and hierarchy edges of a {@link TermHierarchy}.
+     */
+    public static final class Builder {
+
+        private final URI vocabulary;
+        private final URI context;
+        private final String primaryLanguage;
+
+        private final List<URI> terms = new ArrayList<>();
+        private final Map<URI, Integer> index = new HashMap<>();
+        private final List<URI> termVocabularies = new ArrayList<>();
+        private final List<Map<String, String>> labels = new ArrayList<>();
+        private final BitSet members = new BitSet();
+        private final Set<Long> edgeSet = new HashSet<>();
+        private final List<int[]> edges = new ArrayList<>();
+        private final List<Integer> roots = new ArrayList<>();
+
+        private Builder(URI vocabulary, URI context, String primaryLanguage) {
+            this.vocabulary = Objects.requireNonNull(vocabulary);
+            this.context = context;
+            this.primaryLanguage = primaryLanguage;
+        }
+
+        private int intern(URI term) {
+            return index.computeIfAbsent(Objects.requireNonNull(term), t -> {
+                terms.add(t);
+                termVocabularies.add(null);
+                labels.add(new HashMap<>(2));
+                return terms.size() - 1;
+            });
+        }
+
+        /**
+         * Adds a term of the vocabulary.
+         *
+         * @param term Term identifier
+         * @return This builder
+         */
+        public Builder addTerm(@Nonnull URI term) {
+            final int i = intern(term);
+            members.set(i);
+            termVocabularies.set(i, vocabulary);
+            return this;
+        }
+
+        /**
+         * Sets vocabulary of a term from another vocabulary.
+         * <p>
+         * Vocabulary of terms added via {@link #addTerm(URI)} is not changed.
+         *
+         * @param term           Term identifier
+         * @param termVocabulary Identifier of the vocabulary of the term
+         * @return This builder
+         */
+        public Builder setTermVocabulary(@Nonnull URI term, URI termVocabulary) {
+            final int i = intern(term);
+            if (!members.get(i)) {
+                termVocabularies.set(i, termVocabulary);
+            }
+            return this;
+        }
+
+        /**
+         * Adds label of a term.
+         * <p>
+         * Only the first (in sort order) label in each language is kept.
+         *
+         * @param term     Term identifier
+         * @param language Label language, possibly {@code null}
+         * @param label    Label value
+         * @return This builder
+         */
+        public Builder addLabel(@Nonnull URI term, String language, @Nonnull String label) {
+            labels.get(intern(term)).merge(language, sortKey(label), (a, b) -> a.compareTo(b) <= 0 ? a : b);
+            return this;
+        }
+
+        /**
+         * Adds a hierarchy edge.
+         *
+         * @param child  Child (narrower) term identifier
+         * @param parent Parent (broader) term identifier
+         * @return This builder
+         */
+        public Builder addParent(@Nonnull URI child, @Nonnull URI parent) {
+            final int c = intern(child);
+            final int p = intern(parent);
+            if (c != p && edgeSet.add(((long) c << 32) | p)) {
+                edges.add(new int[]{c, p});
+            }
+            return this;
+        }
+
+        /**
+         * Adds a root (top concept) of the vocabulary.
+         * <p>
+         * Roots which are not terms of the vocabulary are ignored.
+         *
+         * @param term Term identifier
+         * @return This builder
+         */
+        public Builder addRoot(@Nonnull URI term) {
+            roots.add(intern(term));
+            return this;
+        }
+
+        public TermHierarchy build() {
+            return new TermHierarchy(this);
+        }
+    }
+
+    /**
+     * Copy-on-write modification of a {@link TermHierarchy}.
+     * <p>
+     * All operations are idempotent, so that a patch describing a committed modification can be safely applied to a
+     * hierarchy which has been loaded after the modification was committed.
+     * <p>
+     * Removed terms keep their place in the term dictionary, they are just disconnected from the rest of the hierarchy.
+     */
+    public static final class Patch {
+
+        private final TermHierarchy base;
+
+        private URI[] terms;
+        private Map<URI, Integer> index;
+        private URI[] termVocabularies;
+        private final BitSet members;
+        private int[][] parents;
+        private int[][] children;
+        private int[] roots;
+        private String[][] labelLanguages;
+        private String[][] sortKeys;
+
+        /**
+         * Terms whose children have to be sorted once the patch is applied.
+         */
+        private final Set<Integer> unsorted = new HashSet<>();
+
+        private Patch(TermHierarchy base) {
+            this.base = base;
+            this.terms = base.terms;
+            this.index = base.index;
+            this.termVocabularies = base.termVocabularies.clone();
+            this.members = (BitSet) base.members.clone();
+            this.parents = base.parents.clone();
+            this.children = base.children.clone();
+            this.roots = base.roots;
+            this.labelLanguages = base.labelLanguages.clone();
+            this.sortKeys = base.sortKeys.clone();
+        }
+
+        private int intern(URI term) {
+            final Integer existing = index.get(Objects.requireNonNull(term));
+            if (existing != null) {
+                return existing;
+            }
+            final int i = terms.length;
+            if (index == base.index) {
+                this.index = new HashMap<>(base.index);
+            }
+            index.put(term, i);
+            this.terms = Arrays.copyOf(terms, i + 1);
+            terms[i] = term;
+            this.termVocabularies = Arrays.copyOf(termVocabularies, i + 1);
+            this.parents = Arrays.copyOf(parents, i + 1);
+            parents[i] = EMPTY;
+            this.children = Arrays.copyOf(children, i + 1);
+            children[i] = EMPTY;
+            this.labelLanguages = Arrays.copyOf(labelLanguages, i + 1);
+            labelLanguages[i] = new String[0];
+            this.sortKeys = Arrays.copyOf(sortKeys, i + 1);
+            sortKeys[i] = new String[0];
+            return i;
+        }
+
+        /**
+         * Adds a term of the vocabulary.
+         *
+         * @param term Term identifier
+         * @return This patch
+         */
+        public Patch addTerm(@Nonnull URI term) {
+            final int i = intern(term);
+            members.set(i);
+            termVocabularies[i] = base.vocabulary;
+            return this;
+        }
+
+        /**
+         * Removes the specified term, together with its hierarchy edges, labels and root status.
+         * <p>
+         * Children of the term are not made roots, as their glossary top concept status is not changed by removal of
+         * their parent.
+         *
+         * @param term Term identifier
+         * @return This patch
+         */
+        public Patch removeTerm(@Nonnull URI term) {
+            final Integer i = index.get(Objects.requireNonNull(term));
+            if (i == null) {
+                return this;
+            }
+            for (int p : parents[i]) {
+                children[p] = without(children[p], i);
+            }
+            for (int c : children[i]) {
+                parents[c] = without(parents[c], i);
+            }
+            parents[i] = EMPTY;
+            children[i] = EMPTY;
+            labelLanguages[i] = new String[0];
+            sortKeys[i] = new String[0];
+            members.clear(i);
+            this.roots = without(roots, i);
+            return this;
+        }
+
+        /**
+         * Sets vocabulary of a term from another vocabulary.
+         * <p>
+         * Vocabulary of terms of the vocabulary whose hierarchy this is is not changed.
+         *
+         * @param term           Term identifier
+         * @param termVocabulary Identifier of the vocabulary of the term
+         * @return This patch
+         */
+        public Patch setTermVocabulary(@Nonnull URI term, URI termVocabulary) {
+            final int i = intern(term);
+            if (!members.get(i)) {
+                termVocabularies[i] = termVocabulary;
+            }
+            return this;
+        }
+
+        /**
+         * Replaces parents of the specified term.
+         * <p>
+         * If the term belongs to the vocabulary, it becomes a root if it has no parent in the vocabulary and stops being
+         * a root otherwise, mirroring how glossary top concepts are maintained.
+         *
+         * @param term    Child term identifier
+         * @param parents Identifiers of the new parents of the term
+         * @return This patch
+         */
+        public Patch setParents(@Nonnull URI term, @Nonnull Collection<URI> parents) {
+            final int c = intern(term);
+            final int[] newParents = parents.stream().mapToInt(this::intern).filter(p -> p != c).distinct().toArray();
+            final int[] oldParents = this.parents[c];
+            for (int p : oldParents) {
+                if (!contains(newParents, p)) {
+                    children[p] = without(children[p], c);
+                }
+            }
+            for (int p : newParents) {
+                if (!contains(oldParents, p)) {
+                    children[p] = with(children[p], c);
+                    unsorted.add(p);
+                }
+            }
+            this.parents[c] = newParents.length > 0 ? newParents : EMPTY;
+            if (members.get(c)) {
+                final boolean root = Arrays.stream(newParents).noneMatch(members::get);
+                this.roots = root ? (contains(roots, c) ? roots : with(roots, c)) : without(roots, c);
+            }
+            return this;
+        }
+
+        /**
+         * Replaces labels of the specified term.
+         * <p>
+         * Labels are kept only for terms already in the index.
+         *
+         * @param term   Term identifier
+         * @param labels Map of label languages (possibly {@code null}) to label values
+         * @return This patch
+         */
+        public Patch setLabels(@Nonnull URI term, @Nonnull Map<String, String> labels) {
+            final Integer i = index.get(Objects.requireNonNull(term));
+            if (i == null) {
+                return this;
+            }
+            final Map<String, String> keys = new HashMap<>(labels.size());
+            labels.forEach((lang, label) -> keys.put(lang, sortKey(label)));
+            labelLanguages[i] = keys.keySet().toArray(new String[0]);
+            sortKeys[i] = keys.values().toArray(new String[0]);
+            for (int p : parents[i]) {
+                // Copy so that the sorting does not affect the base hierarchy
+                children[p] = children[p].clone();
+                unsorted.add(p);
+            }
+            return this;
+        }
+
+        private static boolean contains(int[] values, int value) {
+            for (int v : values) {
+                if (v == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int[] with(int[] values, int value) {
+            final int[] result = Arrays.copyOf(values, values.length + 1);
+            result[values.length] = value;
+            return result;
+        }
+
+        private static int[] without(int[] values, int value) {
+            if (!contains(values, value)) {
+                return values;
+            }
+            final int[] result = Arrays.stream(values).filter(v -> v != value).toArray();
+            return result.length > 0 ? result : EMPTY;
+        }
+
+        /**
+         * Creates a new hierarchy with the changes described by this patch.
+         *
+         * @return Patched hierarchy
+         */
+        public TermHierarchy build() {
+            return new TermHierarchy(this);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.util;
+
+import cz.cvut.kbss.jopa.vocabulary.SKOS;
+import cz.cvut.kbss.termit.dto.TermInfo;
+import cz.cvut.kbss.termit.dto.TermRelations;
+import cz.cvut.kbss.termit.model.Term;
+import cz.cvut.kbss.termit.model.util.HasIdentifier;
+import jakarta.annotation.Nonnull;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Determines how much of a term is loaded from the repository.
+ * <p>
+ * Loading a full {@link Term} is expensive, because it eagerly loads its parents (recursively), related terms and
+ * inferred inverse relationships. Callers which need only a part of the term should request a lighter profile, which
+ * is loaded by a dedicated projection query.
+ *
+ * @param <T> Type of the loaded representation of the term
+ */
+public final class TermLoadProfile<T extends HasIdentifier> {
+
+    /**
+     * Identifier, label, vocabulary, state and types of the term.
+     */
+    public static final TermLoadProfile<TermInfo> IDENTITY = new TermLoadProfile<>("identity", TermInfo.class);
+
+    /**
+     * Identifiers of terms related via the {@link #RELATION_PROPERTIES} asserted by the term.
+     */
+    public static final TermLoadProfile<TermRelations> RELATIONS = new TermLoadProfile<>("relations",
+                                                                                         TermRelations.class);
+
+    /**
+     * The full term, including inferred inverse relationships and subterms.
+     */
+    public static final TermLoadProfile<Term> FULL = new TermLoadProfile<>("full", Term.class);
+
+    /**
+     * SKOS relationship properties loaded by the {@link #RELATIONS} profile.
+     */
+    public static final Set<String> RELATION_PROPERTIES = Set.of(SKOS.BROADER, SKOS.BROAD_MATCH, SKOS.RELATED,
+                                                                 SKOS.RELATED_MATCH, SKOS.EXACT_MATCH);
+
+    private final String name;
+
+    private final Class<T> resultType;
+
+    private TermLoadProfile(String name, Class<T> resultType) {
+        this.name = name;
+        this.resultType = resultType;
+    }
+
+    /**
+     * Casts the specified loaded term to the representation corresponding to this profile.
+     *
+     * @param loaded Loaded term
+     * @return The loaded term
+     */
+    @Nonnull
+    public T cast(@Nonnull Object loaded) {
+        return resultType.cast(Objects.requireNonNull(loaded));
+    }
+
+    @Override
+    public String toString() {
+        return "TermLoadProfile{" + name + '}';
+    }
+}
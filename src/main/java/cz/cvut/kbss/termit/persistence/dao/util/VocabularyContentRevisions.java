@@ -0,0 +1,164 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.util;
+
+import cz.cvut.kbss.termit.event.EvictCacheEvent;
+import cz.cvut.kbss.termit.event.VocabularyContentModifiedEvent;
+import cz.cvut.kbss.termit.event.VocabularyEvent;
+import cz.cvut.kbss.termit.event.VocabularyWillBeRemovedEvent;
+import jakarta.annotation.Nonnull;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks revisions of vocabulary content.
+ * <p>
+ * Revision of a vocabulary is advanced whenever its content is modified, so it can be used to determine whether data
+ * derived from the vocabulary content (cached search results, HTTP responses) are still up-to-date without querying the
+ * repository.
+ * <p>
+ * Revisions are advanced only after the transaction in which the modification happened completes. Otherwise, a
+ * concurrent reader could associate the new revision with the data as they were before the modification was
+ * committed.
+ * <p>
+ * Revisions are kept in memory only. Therefore, they are valid only within an epoch, which starts on application
+ * startup and is restarted whenever the application caches are evicted (e.g., because data were modified directly in
+ * the repository).
+ */
+@Component
+public class VocabularyContentRevisions {
+
+    /**
+     * Vocabulary -> revision
+     * <p>
+     * Vocabularies whose content has not been modified since startup are not present.
+     */
+    private final Map<URI, Long> revisions = new ConcurrentHashMap<>();
+
+    /**
+     * Sum of revisions of all vocabularies.
+     */
+    private final AtomicLong totalRevision = new AtomicLong();
+
+    private final AtomicLong epoch = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Gets current revision of content of the specified vocabulary.
+     *
+     * @param vocabulary Vocabulary identifier
+     * @return Content revision
+     */
+    public long getRevision(@Nonnull URI vocabulary) {
+        return revisions.getOrDefault(Objects.requireNonNull(vocabulary), 0L);
+    }
+
+    /**
+     * Gets combined revision of content of the specified vocabularies.
+     * <p>
+     * The combined revision includes the current epoch. Since both revisions and epochs only grow, the combined
+     * revision changes whenever content of any of the vocabularies is modified or a new epoch starts.
+     *
+     * @param vocabularies Vocabulary identifiers
+     * @return Combined content revision
+     */
+    public long getRevision(@Nonnull Collection<URI> vocabularies) {
+        return epoch.get() + vocabularies.stream().mapToLong(this::getRevision).sum();
+    }
+
+    /**
+     * Gets a tag identifying the current content of the specified vocabulary.
+     * <p>
+     * Unlike {@link #getRevision(URI)}, the tag is unique across epochs.
+     *
+     * @param vocabulary Vocabulary identifier
+     * @return Content tag
+     */
+    @Nonnull
+    public String getTag(@Nonnull URI vocabulary) {
+        return Long.toString(epoch.get(), Character.MAX_RADIX) + '-' +
+                Long.toString(getRevision(vocabulary), Character.MAX_RADIX);
+    }
+
+    /**
+     * Gets a tag identifying the current content of all vocabularies.
+     * <p>
+     * The tag is unique across epochs.
+     *
+     * @return Content tag
+     */
+    @Nonnull
+    public String getTag() {
+        return Long.toString(epoch.get(), Character.MAX_RADIX) + "-a" +
+                Long.toString(totalRevision.get(), Character.MAX_RADIX);
+    }
+
+    /**
+     * Advances revision of the specified vocabulary once the current transaction (if any) completes.
+     *
+     * @param vocabulary Identifier of the modified vocabulary
+     */
+    public void advance(@Nonnull URI vocabulary) {
+        Objects.requireNonNull(vocabulary);
+        afterTransaction(() -> {
+            revisions.merge(vocabulary, 1L, Long::sum);
+            totalRevision.incrementAndGet();
+        });
+    }
+
+    /**
+     * Starts a new epoch once the current transaction (if any) completes, invalidating tags of all vocabularies.
+     * <p>
+     * This is intended for modifications whose impact on particular vocabularies cannot be determined.
+     */
+    public void advanceAll() {
+        afterTransaction(
+                () -> epoch.accumulateAndGet(System.currentTimeMillis(), (previous, now) -> Math.max(previous + 1, now)));
+    }
+
+    private static void afterTransaction(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @EventListener({VocabularyContentModifiedEvent.class, VocabularyWillBeRemovedEvent.class})
+    public void onVocabularyContentModified(VocabularyEvent event) {
+        advance(event.getVocabularyIri());
+    }
+
+    @EventListener(EvictCacheEvent.class)
+    public void onEvictCache() {
+        advanceAll();
+    }
+}
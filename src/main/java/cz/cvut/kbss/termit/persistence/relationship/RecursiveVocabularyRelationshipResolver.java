@@ -19,14 +19,19 @@
 
 import cz.cvut.kbss.jopa.model.EntityManager;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
+import cz.cvut.kbss.termit.event.EvictCacheEvent;
+import cz.cvut.kbss.termit.event.VocabularyContentModifiedEvent;
+import cz.cvut.kbss.termit.event.VocabularyCreatedEvent;
+import cz.cvut.kbss.termit.event.VocabularyImportsChangedEvent;
+import cz.cvut.kbss.termit.event.VocabularyWillBeRemovedEvent;
 import jakarta.annotation.Nonnull;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.net.URI;
-import java.util.ArrayDeque;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -38,6 +43,12 @@
  * <p>
  * Classification vocabularies are excluded from the recursion, as they may be connected to many other vocabularies,
  * leading to false relationships.
+ * <p>
+ * Relationships resolved by the other resolvers are kept in an in-memory {@link VocabularyGraph}, so that the
+ * recursion does not query the repository for already visited vocabularies. Relationships are derived from vocabulary
+ * content, so edges incident to a vocabulary are discarded when its content is modified. The whole graph is discarded
+ * when a vocabulary is created or removed or when its imports change. Both happen only after the transaction making
+ * the change completes, so that the graph cannot be reloaded from the original data in the meantime.
  */
 @Component
 @Primary
@@ -47,6 +58,13 @@ public class RecursiveVocabularyRelationshipResolver implements VocabularyRelati
 
     private final EntityManager em;
 
+    private final VocabularyGraph relationshipGraph = new VocabularyGraph(this::resolveDirectlyRelatedVocabularies);
+
+    /**
+     * Edges lead from a vocabulary to classification vocabularies of its terms.
+     */
+    private final VocabularyGraph classificationGraph = new VocabularyGraph(this::getClassificationVocabularies);
+
     public RecursiveVocabularyRelationshipResolver(List<VocabularyRelationshipResolver> resolvers, EntityManager em) {
         this.resolvers = resolvers;
         this.em = em;
@@ -57,27 +75,40 @@ public RecursiveVocabularyRelationshipResolver(List<VocabularyRelationshipResolv
     @Override
     public Set<URI> getRelatedVocabularies(@Nonnull URI vocabulary) {
         Objects.requireNonNull(vocabulary);
-        final Set<URI> result = new HashSet<>();
-        final Deque<URI> toProcess = new ArrayDeque<>();
-        toProcess.add(vocabulary);
-        final List<URI> toSkipRecursion = getClassificationVocabularies(vocabulary);
-        while (!toProcess.isEmpty()) {
-            final URI item = toProcess.pop();
-            final Set<URI> toAdd = resolvers.stream()
-                                            .flatMap(r -> r.getRelatedVocabularies(item).stream())
-                                            .collect(Collectors.toSet());
-            toAdd.removeAll(result);
-            result.addAll(toAdd);
-            // Do not recurse into classification vocabularies, as they may be connected to many other vocabularies we
-            // are not interested in
-            toSkipRecursion.forEach(toAdd::remove);
-            toProcess.addAll(toAdd);
-        }
-        return result;
+        // Do not recurse into classification vocabularies, as they may be connected to many other vocabularies we
+        // are not interested in
+        return relationshipGraph.getReachable(vocabulary, classificationGraph.getSuccessors(vocabulary));
+    }
+
+    private Set<URI> resolveDirectlyRelatedVocabularies(URI vocabulary) {
+        return resolvers.stream().flatMap(r -> r.getRelatedVocabularies(vocabulary).stream())
+                        .collect(Collectors.toSet());
+    }
+
+    /**
+     * Discards relationships of the vocabulary whose content was modified.
+     *
+     * @param event Vocabulary content modification event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onVocabularyContentModified(VocabularyContentModifiedEvent event) {
+        relationshipGraph.evict(event.getVocabularyIri());
+        classificationGraph.evict(event.getVocabularyIri());
+    }
+
+    /**
+     * Discards the in-memory vocabulary relationship graph.
+     */
+    @TransactionalEventListener(classes = {VocabularyCreatedEvent.class, VocabularyImportsChangedEvent.class,
+                                           VocabularyWillBeRemovedEvent.class, EvictCacheEvent.class},
+                                phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void evictCache() {
+        relationshipGraph.clear();
+        classificationGraph.clear();
     }
 
-    private List<URI> getClassificationVocabularies(URI vocabulary) {
-        return em.createNativeQuery("""
+    private Set<URI> getClassificationVocabularies(URI vocabulary) {
+        return new HashSet<>(em.createNativeQuery("""
                                             SELECT DISTINCT ?typeVocabulary WHERE {
                                                      ?x a ?termType ;
                                                      ?inVocabulary ?vocabulary ;
@@ -90,6 +121,6 @@ private List<URI> getClassificationVocabularies(URI vocabulary) {
                  .setParameter("termType", URI.create(SKOS.CONCEPT))
                  .setParameter("inVocabulary",
                                URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_je_pojmem_ze_slovniku))
-                 .getResultList();
+                 .getResultList());
     }
 }
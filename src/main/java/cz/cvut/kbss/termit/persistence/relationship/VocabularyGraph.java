@@ -0,0 +1,131 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.relationship;
+
+import jakarta.annotation.Nonnull;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory directed graph of vocabulary dependencies.
+ * <p>
+ * Outgoing edges of a vocabulary are loaded using the configured loader the first time they are needed and kept in
+ * memory until the graph is {@link #clear() cleared}. Closure and reachability queries are then evaluated in memory.
+ * <p>
+ * It is up to the owner of the graph to clear it when vocabulary relationships may have changed.
+ */
+public class VocabularyGraph {
+
+    private final Function<URI, Set<URI>> edgeLoader;
+
+    private volatile Map<URI, Set<URI>> edges = new ConcurrentHashMap<>();
+
+    /**
+     * @param edgeLoader Loads identifiers of vocabularies directly reachable from the specified vocabulary
+     */
+    public VocabularyGraph(@Nonnull Function<URI, Set<URI>> edgeLoader) {
+        this.edgeLoader = Objects.requireNonNull(edgeLoader);
+    }
+
+    /**
+     * Gets vocabularies directly reachable from the specified vocabulary.
+     *
+     * @param vocabulary Vocabulary identifier
+     * @return Unmodifiable set of vocabulary identifiers
+     */
+    @Nonnull
+    public Set<URI> getSuccessors(@Nonnull URI vocabulary) {
+        Objects.requireNonNull(vocabulary);
+        // Work with the current edge map, so that a concurrent clear is not overwritten by a load started before it
+        final Map<URI, Set<URI>> current = edges;
+        return current.computeIfAbsent(vocabulary, v -> Collections.unmodifiableSet(new HashSet<>(edgeLoader.apply(v))));
+    }
+
+    /**
+     * Gets all vocabularies transitively reachable from the specified vocabulary.
+     * <p>
+     * The vocabulary itself is part of the result only if it lies on a cycle.
+     *
+     * @param vocabulary Vocabulary identifier
+     * @return Set of reachable vocabulary identifiers
+     */
+    @Nonnull
+    public Set<URI> getReachable(@Nonnull URI vocabulary) {
+        return getReachable(vocabulary, Collections.emptySet());
+    }
+
+    /**
+     * Gets all vocabularies transitively reachable from the specified vocabulary.
+     * <p>
+     * Vocabularies in {@code notExpanded} are included in the result if they are reachable, but the traversal does
+     * not continue through them.
+     *
+     * @param vocabulary  Vocabulary identifier
+     * @param notExpanded Vocabularies whose successors should not be traversed
+     * @return Set of reachable vocabulary identifiers
+     */
+    @Nonnull
+    public Set<URI> getReachable(@Nonnull URI vocabulary, @Nonnull Collection<URI> notExpanded) {
+        Objects.requireNonNull(vocabulary);
+        Objects.requireNonNull(notExpanded);
+        final Set<URI> result = new HashSet<>();
+        final Deque<URI> toProcess = new ArrayDeque<>();
+        toProcess.add(vocabulary);
+        while (!toProcess.isEmpty()) {
+            final URI item = toProcess.pop();
+            for (URI successor : getSuccessors(item)) {
+                if (result.add(successor) && !notExpanded.contains(successor)) {
+                    toProcess.add(successor);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Discards loaded edges incident to the specified vocabulary.
+     * <p>
+     * That is, outgoing edges of the vocabulary and outgoing edges of vocabularies from which it is directly
+     * reachable. Other edges are kept.
+     *
+     * @param vocabulary Vocabulary identifier
+     */
+    public void evict(@Nonnull URI vocabulary) {
+        Objects.requireNonNull(vocabulary);
+        final Map<URI, Set<URI>> current = edges;
+        current.remove(vocabulary);
+        current.values().removeIf(successors -> successors.contains(vocabulary));
+    }
+
+    /**
+     * Discards all loaded edges.
+     */
+    public void clear() {
+        this.edges = new ConcurrentHashMap<>();
+    }
+}
@@ -36,6 +36,7 @@
 import cz.cvut.kbss.termit.util.Constants;
 import cz.cvut.kbss.termit.util.Constants.QueryParams;
 import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -63,6 +64,7 @@
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.net.URI;
@@ -135,7 +137,7 @@ public void updateResource(@Parameter(description = ResourceControllerDoc.ID_LOC
             @ApiResponse(responseCode = "404", description = "Resource not found or its content is not stored.")
     })
     @GetMapping(value = "/{localName}/content")
-    public ResponseEntity<org.springframework.core.io.Resource> getContent(
+    public ResponseEntity<?> getContent(
             @Parameter(description = ResourceControllerDoc.ID_LOCAL_NAME_DESCRIPTION,
                        example = ResourceControllerDoc.ID_LOCAL_NAME_EXAMPLE)
             @PathVariable String localName,
@@ -157,14 +159,18 @@ public ResponseEntity<org.springframework.core.io.Resource> getContent(
                     new ResourceRetrievalSpecification(timestamp,
                             withoutUnconfirmedOccurrences));
             final ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
-                                                                     .contentLength(content.contentLength())
                                                                      .contentType(MediaType.parseMediaType(
                                                                              content.getMediaType()
                                                                                     .orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE)));
             if (asAttachment) {
                 builder.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + localName + "\"");
             }
-            return builder.body(content);
+            if (content instanceof TypeAwareStreamingResource streamingResource) {
+                // Content length is not known in advance, write the content directly into the response
+                final StreamingResponseBody body = streamingResource::writeTo;
+                return builder.body(body);
+            }
+            return builder.contentLength(content.contentLength()).body(content);
         } catch (IOException e) {
             throw new TermItException("Unable to load content of resource " + resource, e);
         }
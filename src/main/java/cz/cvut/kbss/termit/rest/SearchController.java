@@ -21,6 +21,7 @@
 import cz.cvut.kbss.termit.dto.search.SearchParam;
 import cz.cvut.kbss.termit.dto.search.SearchResult;
 import cz.cvut.kbss.termit.dto.search.SearchString;
+import cz.cvut.kbss.termit.exception.InvalidParameterException;
 import cz.cvut.kbss.termit.rest.doc.ApiDocConstants;
 import cz.cvut.kbss.termit.rest.util.RestUtils;
 import cz.cvut.kbss.termit.security.SecurityConstants;
@@ -29,6 +30,7 @@
 import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Constants;
 import cz.cvut.kbss.termit.util.Utils;
+import cz.cvut.kbss.termit.util.paging.PageCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -75,7 +77,7 @@ public List<SearchResult> fullTextSearch(@Parameter(description = "Search string
                                                      "Searches in all languages if the field is omitted.")
                                              @RequestParam(name = "language", required = false) String language) {
         return searchService.advancedSearch(new SearchString(searchString, language), Collections.emptyList(),
-                                            Constants.DEFAULT_PAGE_SPEC).getContent();
+                                            Constants.DEFAULT_PAGE_SPEC, false).getContent();
     }
 
     @Operation(description = "Runs full-text search over terms, matching their labels, definitions and scope notes.")
@@ -102,6 +104,9 @@ public List<SearchResult> fullTextSearchTerms(
      * @param language     Language for full-text search, optional.
      * @param pageSize     Page size for pagination, optional.
      * @param pageNo       Page number for pagination, optional.
+     * @param cursor       Continuation token of the requested page, optional. Supported only without full-text search
+     * @param exactTotal   Whether to resolve the exact total number of results. If {@code false}, the total is exact
+     *                     only for the last page and a lower bound indicating there is a next page otherwise
      * @param searchParams Search parameters for faceted filtering, optional.
      * @return List of search results matching the full-text search and faceted filtering criteria.
      */
@@ -119,14 +124,42 @@ public ResponseEntity<List<SearchResult>> advancedSearch(
             @RequestParam(name = Constants.QueryParams.PAGE_SIZE, required = false) Integer pageSize,
             @Parameter(description = ApiDocConstants.PAGE_NO_DESCRIPTION)
             @RequestParam(name = Constants.QueryParams.PAGE, required = false) Integer pageNo,
+            @Parameter(description = ApiDocConstants.CURSOR_DESCRIPTION)
+            @RequestParam(name = Constants.QueryParams.CURSOR, required = false) String cursor,
+            @Parameter(description = "Whether to resolve the exact total number of results. " +
+                    "If false, the total is only a lower bound for all but the last page.")
+            @RequestParam(name = "exactTotal", required = false, defaultValue = "true") boolean exactTotal,
             @Parameter(description = "Search parameters.")
             @RequestBody Collection<SearchParam> searchParams) {
+        final boolean fullText = !searchString.isBlank();
+        if (fullText && cursor != null) {
+            throw new InvalidParameterException(
+                    "Cursor is not supported for full-text search, use page number instead.");
+        }
         final Page<SearchResult> result = searchService.advancedSearch(new SearchString(searchString, language),
                                                                        searchParams,
-                                                                       RestUtils.createPageRequest(pageSize, pageNo));
-        return ResponseEntity.ok()
-                             .header(Constants.X_TOTAL_COUNT_HEADER, Long.toString(result.getTotalElements()))
-                             .body(result.getContent());
+                                                                       RestUtils.createPageRequest(pageSize, pageNo,
+                                                                                                   cursor),
+                                                                       exactTotal);
+        return toResponse(result, !fullText);
+    }
+
+    /**
+     * Creates a response containing the specified page of results.
+     * <p>
+     * If the page is full and {@code cursorSupported}, the response also contains continuation token of the next page.
+     * Results of full-text search are ordered by relevance and cannot be paged using a cursor.
+     */
+    private static ResponseEntity<List<SearchResult>> toResponse(Page<SearchResult> result, boolean cursorSupported) {
+        final ResponseEntity.BodyBuilder builder =
+                ResponseEntity.ok().header(Constants.X_TOTAL_COUNT_HEADER, Long.toString(result.getTotalElements()));
+        final List<SearchResult> content = result.getContent();
+        if (cursorSupported && result.getPageable().isPaged() && !content.isEmpty() &&
+                content.size() == result.getSize()) {
+            builder.header(Constants.X_NEXT_CURSOR_HEADER,
+                           new PageCursor(null, null, content.get(content.size() - 1).getUri()).encode());
+        }
+        return builder.body(content);
     }
 
     /**
@@ -136,6 +169,7 @@ public ResponseEntity<List<SearchResult>> advancedSearch(
      *
      * @param pageSize     Page size for pagination, optional.
      * @param pageNo       Page number for pagination, optional.
+     * @param cursor       Continuation token of the requested page, optional.
      * @param searchParams Search parameters for faceted filtering.
      * @return List of search results matching the faceted filtering criteria.
      */
@@ -151,12 +185,13 @@ public ResponseEntity<List<SearchResult>> facetedTermSearch(
             @Parameter(description = ApiDocConstants.PAGE_NO_DESCRIPTION)
             @RequestParam(name = Constants.QueryParams.PAGE,
                           required = false) Integer pageNo,
+            @Parameter(description = ApiDocConstants.CURSOR_DESCRIPTION)
+            @RequestParam(name = Constants.QueryParams.CURSOR, required = false) String cursor,
             @Parameter(description = "Search parameters.")
             @RequestBody Collection<SearchParam> searchParams) {
         final Page<SearchResult> result = searchService.advancedSearch(new SearchString("", null), searchParams,
-                                                                       RestUtils.createPageRequest(pageSize, pageNo));
-        return ResponseEntity.ok()
-                             .header(Constants.X_TOTAL_COUNT_HEADER, Long.toString(result.getTotalElements()))
-                             .body(result.getContent());
+                                                                       RestUtils.createPageRequest(pageSize, pageNo,
+                                                                                                   cursor));
+        return toResponse(result, true);
     }
 }
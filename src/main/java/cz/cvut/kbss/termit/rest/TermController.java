@@ -21,7 +21,9 @@
 import cz.cvut.kbss.termit.dto.TermInfo;
 import cz.cvut.kbss.termit.dto.filter.ChangeRecordFilterDto;
 import cz.cvut.kbss.termit.dto.listing.TermDto;
+import cz.cvut.kbss.termit.exception.InvalidParameterException;
 import cz.cvut.kbss.termit.exception.TermItException;
+import cz.cvut.kbss.termit.model.AbstractTerm;
 import cz.cvut.kbss.termit.model.Term;
 import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.model.assignment.TermDefinitionSource;
@@ -41,7 +43,9 @@
 import cz.cvut.kbss.termit.util.Constants;
 import cz.cvut.kbss.termit.util.Constants.QueryParams;
 import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
 import cz.cvut.kbss.termit.util.Utils;
+import cz.cvut.kbss.termit.util.paging.PageCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -51,6 +55,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -68,7 +73,9 @@
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.server.NotAcceptableStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.net.URI;
@@ -121,6 +128,8 @@ private URI getVocabularyUri(Optional<String> namespace, String fragment) {
      * @param flat            Whether to flatten the term hierarchy in the response. Optional, defaults to false
      * @param pageSize        Limit the number of elements in the returned page. Optional
      * @param pageNo          Number of the page to return. Optional
+     * @param cursor          Continuation token of the page to return. Supported only when listing non-full terms of
+     *                        the vocabulary itself (without search string and imported vocabularies). Optional
      * @return List of terms of the specific vocabulary
      */
     @Operation(security = {@SecurityRequirement(name = "bearer-key")},
@@ -158,8 +167,21 @@ public ResponseEntity<?> getAll(
             @Parameter(description = ApiDocConstants.PAGE_SIZE_DESCRIPTION)
             @RequestParam(name = QueryParams.PAGE_SIZE, required = false) Integer pageSize,
             @Parameter(description = ApiDocConstants.PAGE_NO_DESCRIPTION)
-            @RequestParam(name = QueryParams.PAGE, required = false) Integer pageNo) {
+            @RequestParam(name = QueryParams.PAGE, required = false) Integer pageNo,
+            @Parameter(description = ApiDocConstants.CURSOR_DESCRIPTION)
+            @RequestParam(name = QueryParams.CURSOR, required = false) String cursor,
+            ServletWebRequest webRequest) {
         final URI vocabularyUri = getVocabularyUri(namespace, localName);
+        final boolean cursorSupported = searchString == null && !full && !includeImported;
+        if (cursor != null && !cursorSupported) {
+            throw new InvalidParameterException(
+                    "Cursor is supported only when listing terms of the vocabulary without search string, " +
+                            "imported vocabularies and full term data. Use page number instead.");
+        }
+        // Exported properties may reference terms from other vocabularies
+        if (checkNotModified(webRequest, vocabularyUri, includeImported || !properties.isEmpty())) {
+            return null;
+        }
         final Vocabulary vocabulary = getVocabulary(vocabularyUri);
         if (searchString != null) {
             return ResponseEntity.ok(termService.findAll(searchString, vocabulary,
@@ -169,12 +191,31 @@ public ResponseEntity<?> getAll(
         final Optional<ResponseEntity<?>> export = exportTerms(vocabulary, exportType, properties, acceptType);
         return export.orElseGet(() -> {
             verifyAcceptType(acceptType);
-            return ResponseEntity.ok(termService.findAll(vocabulary,
-                                                         new TermSelectionParams(flat, full, includeImported,
-                                                                                 createPageRequest(pageSize, pageNo))));
+            final Pageable pageSpec = createPageRequest(pageSize, pageNo, cursor);
+            final List<? extends AbstractTerm> result = termService.findAll(vocabulary,
+                                                                           new TermSelectionParams(flat, full,
+                                                                                                   includeImported,
+                                                                                                   pageSpec));
+            final ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            if (cursorSupported && !result.isEmpty() && result.size() == pageSpec.getPageSize()) {
+                builder.header(Constants.X_NEXT_CURSOR_HEADER, nextPageCursor(result, vocabulary).encode());
+            }
+            return builder.body(result);
         });
     }
 
+    /**
+     * Creates cursor of the page following the specified page of vocabulary terms.
+     * <p>
+     * Vocabulary terms are ordered by their label in the primary language of the vocabulary.
+     */
+    private static PageCursor nextPageCursor(List<? extends AbstractTerm> page, Vocabulary vocabulary) {
+        final AbstractTerm last = page.get(page.size() - 1);
+        final String language = vocabulary.getPrimaryLanguage();
+        return new PageCursor(last.getLabel() != null ? last.getLabel().get(language) : null, language,
+                              last.getUri());
+    }
+
     private Optional<ResponseEntity<?>> exportTerms(Vocabulary vocabulary, ExportType exportType,
                                                     Set<String> properties, String mediaType) {
         if (exportType == null) {
@@ -183,15 +224,22 @@ private Optional<ResponseEntity<?>> exportTerms(Vocabulary vocabulary, ExportTyp
         final ExportConfig config = new ExportConfig(exportType, mediaType, properties);
         final Optional<TypeAwareResource> content = termService.exportGlossary(vocabulary, config);
         return content.map(r -> {
+            final String contentDisposition = "attachment; filename=\"" + IdentifierResolver.normalizeToAscii(
+                    IdentifierResolver.extractIdentifierFragment(vocabulary.getUri())) +
+                    r.getFileExtension().orElse("") + "\"";
+            if (r instanceof TypeAwareStreamingResource streamingResource) {
+                // Content length is not known in advance, write the export directly into the response
+                final StreamingResponseBody body = streamingResource::writeTo;
+                return ResponseEntity.ok()
+                                     .contentType(MediaType.parseMediaType(mediaType))
+                                     .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
+                                     .body(body);
+            }
             try {
                 return ResponseEntity.ok()
                                      .contentLength(r.contentLength())
                                      .contentType(MediaType.parseMediaType(mediaType))
-                                     .header(HttpHeaders.CONTENT_DISPOSITION,
-                                             "attachment; filename=\"" + IdentifierResolver.normalizeToAscii(
-                                                     IdentifierResolver.extractIdentifierFragment(
-                                                             vocabulary.getUri())) +
-                                                     r.getFileExtension().orElse("") + "\"")
+                                     .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
                                      .body(r);
             } catch (IOException e) {
                 throw new TermItException("Unable to export terms.", e);
@@ -255,6 +303,23 @@ private Vocabulary getVocabulary(URI vocabularyUri) {
         return termService.findVocabularyRequired(vocabularyUri);
     }
 
+    /**
+     * Checks whether the client already has the current representation of terms of the specified vocabulary.
+     * <p>
+     * The entity tag is derived from the content tag of the vocabulary and the requested media type. It is set on the
+     * response if the request has to be processed.
+     *
+     * @param webRequest      Current request
+     * @param vocabularyUri   Vocabulary identifier
+     * @param includeImported Whether the response depends on terms of other vocabularies as well
+     * @return {@code true} if the client representation is up-to-date and the request need not be processed further
+     */
+    private boolean checkNotModified(ServletWebRequest webRequest, URI vocabularyUri, boolean includeImported) {
+        final String eTag = RestUtils.createETag(termService.getContentTag(vocabularyUri, includeImported),
+                                                 webRequest.getHeader(HttpHeaders.ACCEPT));
+        return webRequest.checkNotModified(eTag);
+    }
+
     /**
      * Get all root terms from vocabulary with the specified identification.
      * <p>
@@ -290,9 +355,15 @@ public List<TermDto> getAllRoots(
             @RequestParam(name = "includeImported", required = false) boolean includeImported,
             @Parameter(
                     description = "Identifiers of terms that should be included in the response (regardless of whether they are root terms or not).")
-            @RequestParam(name = "includeTerms", required = false, defaultValue = "") List<URI> includeTerms) {
+            @RequestParam(name = "includeTerms", required = false, defaultValue = "") List<URI> includeTerms,
+            ServletWebRequest webRequest) {
 
-        final Vocabulary vocabulary = getVocabulary(getVocabularyUri(namespace, localName));
+        final URI vocabularyUri = getVocabularyUri(namespace, localName);
+        // Explicitly included terms need not belong to the vocabulary
+        if (checkNotModified(webRequest, vocabularyUri, includeImported || !includeTerms.isEmpty())) {
+            return null;
+        }
+        final Vocabulary vocabulary = getVocabulary(vocabularyUri);
         return includeImported ?
                termService
                        .findAllRootsIncludingImported(vocabulary, createPageRequest(pageSize, pageNo), includeTerms) :
@@ -475,7 +546,11 @@ public List<TermDto> getSubTerms(
             @Parameter(description = ApiDoc.ID_TERM_LOCAL_NAME_DESCRIPTION, example = ApiDoc.ID_TERM_LOCAL_NAME_EXAMPLE)
             @PathVariable String termLocalName,
             @Parameter(description = ApiDoc.ID_NAMESPACE_DESCRIPTION, example = ApiDoc.ID_NAMESPACE_EXAMPLE)
-            @RequestParam(name = QueryParams.NAMESPACE, required = false) Optional<String> namespace) {
+            @RequestParam(name = QueryParams.NAMESPACE, required = false) Optional<String> namespace,
+            ServletWebRequest webRequest) {
+        if (checkNotModified(webRequest, getVocabularyUri(namespace, localName), false)) {
+            return null;
+        }
         final Term parent = getById(localName, termLocalName, namespace, false);
         return termService.findSubTerms(parent);
     }
@@ -32,6 +32,12 @@ public class ApiDocConstants {
      */
     public static final String PAGE_NO_DESCRIPTION = "Page number.";
 
+    /**
+     * Description of the {@link cz.cvut.kbss.termit.util.Constants.QueryParams#CURSOR} query parameter.
+     */
+    public static final String CURSOR_DESCRIPTION = "Continuation token of the page to retrieve, as returned in the " +
+            "X-Next-Cursor header of the previous page. Takes precedence over page number.";
+
     /**
      * Example of a ISO-formatted datetime accepted by the API when specifying datetime range.
      */
@@ -43,6 +43,7 @@
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -51,6 +52,7 @@
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.net.URI;
 import java.time.Instant;
@@ -98,8 +100,13 @@ public List<?> getTerms(@Parameter(description = TermController.ApiDoc.ID_LOCAL_
                             @Parameter(description = ApiDocConstants.PAGE_SIZE_DESCRIPTION)
                             @RequestParam(name = Constants.QueryParams.PAGE_SIZE, required = false) Integer pageSize,
                             @Parameter(description = ApiDocConstants.PAGE_NO_DESCRIPTION)
-                            @RequestParam(name = Constants.QueryParams.PAGE, required = false) Integer pageNo) {
-        final Vocabulary vocabulary = getVocabulary(localName, namespace);
+                            @RequestParam(name = Constants.QueryParams.PAGE, required = false) Integer pageNo,
+                            ServletWebRequest webRequest) {
+        final URI vocabularyUri = getVocabularyUri(localName, namespace);
+        if (checkNotModified(webRequest, vocabularyUri, includeImported)) {
+            return null;
+        }
+        final Vocabulary vocabulary = termService.findVocabularyRequired(vocabularyUri);
         if (searchString != null) {
             return termService.findAll(searchString, vocabulary, new TermSelectionParams(flat, false, includeImported,
                                                                                          createPageRequest(pageSize,
@@ -110,9 +117,14 @@ public List<?> getTerms(@Parameter(description = TermController.ApiDoc.ID_LOCAL_
         }
     }
 
-    private Vocabulary getVocabulary(String fragment, Optional<String> namespace) {
-        final URI uri = resolveIdentifier(namespace.orElse(config.getNamespace().getVocabulary()), fragment);
-        return termService.findVocabularyRequired(uri);
+    private URI getVocabularyUri(String fragment, Optional<String> namespace) {
+        return resolveIdentifier(namespace.orElse(config.getNamespace().getVocabulary()), fragment);
+    }
+
+    private boolean checkNotModified(ServletWebRequest webRequest, URI vocabularyUri, boolean includeImported) {
+        final String eTag = RestUtils.createETag(termService.getContentTag(vocabularyUri, includeImported),
+                                                 webRequest.getHeader(HttpHeaders.ACCEPT));
+        return webRequest.checkNotModified(eTag);
     }
 
     @Operation(
@@ -135,8 +147,13 @@ public List<TermDto> getAllRoots(
             @Parameter(description = ApiDocConstants.PAGE_NO_DESCRIPTION)
             @RequestParam(name = Constants.QueryParams.PAGE, required = false) Integer pageNo,
             @Parameter(description = "Whether to include terms from imported vocabularies.")
-            @RequestParam(name = "includeImported", required = false) boolean includeImported) {
-        final Vocabulary vocabulary = getVocabulary(localName, namespace);
+            @RequestParam(name = "includeImported", required = false) boolean includeImported,
+            ServletWebRequest webRequest) {
+        final URI vocabularyUri = getVocabularyUri(localName, namespace);
+        if (checkNotModified(webRequest, vocabularyUri, includeImported)) {
+            return null;
+        }
+        final Vocabulary vocabulary = termService.findVocabularyRequired(vocabularyUri);
         final Pageable pageSpec = RestUtils.createPageRequest(pageSize, pageNo);
         return includeImported ? termService.findAllRootsIncludingImported(vocabulary, pageSpec) :
                termService.findAllRoots(vocabulary, pageSpec);
@@ -229,7 +246,13 @@ public List<TermDto> getSubTerms(
             @PathVariable String termLocalName,
             @Parameter(description = TermController.ApiDoc.ID_NAMESPACE_DESCRIPTION,
                        example = TermController.ApiDoc.ID_NAMESPACE_EXAMPLE)
-            @RequestParam(name = Constants.QueryParams.NAMESPACE, required = false) Optional<String> namespace) {
+            @RequestParam(name = Constants.QueryParams.NAMESPACE, required = false) Optional<String> namespace,
+            ServletWebRequest webRequest) {
+        final URI vocabularyUri = resolveIdentifier(namespace.orElse(config.getNamespace().getVocabulary()),
+                                                    localName);
+        if (checkNotModified(webRequest, vocabularyUri, false)) {
+            return null;
+        }
         final ReadOnlyTerm parent = getById(localName, termLocalName, namespace, false);
         return termService.findSubTerms(parent);
     }
@@ -18,6 +18,8 @@
 package cz.cvut.kbss.termit.rest.util;
 
 import cz.cvut.kbss.termit.util.Constants;
+import cz.cvut.kbss.termit.util.paging.CursorPageRequest;
+import cz.cvut.kbss.termit.util.paging.PageCursor;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.PageRequest;
@@ -189,4 +191,37 @@ public static Pageable createPageRequest(Integer size, Integer page) {
         final int pageNo = page != null ? page : DEFAULT_PAGE_SPEC.getPageNumber();
         return PageRequest.of(pageNo, pageSize);
     }
+
+    /**
+     * Creates a page request from the specified parameters.
+     * <p>
+     * If a cursor is specified, the page following it is requested and the page number is ignored. Otherwise, this
+     * behaves like {@link #createPageRequest(Integer, Integer)}.
+     *
+     * @param size   Page size
+     * @param page   Page number
+     * @param cursor Continuation token of the requested page
+     * @return Page specification
+     * @throws cz.cvut.kbss.termit.exception.InvalidParameterException If the cursor is not valid
+     */
+    public static Pageable createPageRequest(Integer size, Integer page, String cursor) {
+        if (cursor == null) {
+            return createPageRequest(size, page);
+        }
+        return CursorPageRequest.of(size != null ? size : DEFAULT_PAGE_SIZE, PageCursor.decode(cursor));
+    }
+
+    /**
+     * Creates a strong entity tag of the specified representation of content identified by the specified content tag.
+     * <p>
+     * The representation (e.g., the requested media type) is part of the entity tag, because different
+     * representations of the same content must not share an entity tag.
+     *
+     * @param contentTag     Tag identifying the version of the content
+     * @param representation Identification of the representation, may be {@code null}
+     * @return Quoted entity tag
+     */
+    public static String createETag(String contentTag, String representation) {
+        return "\"" + contentTag + "-" + Integer.toHexString(Objects.hashCode(representation)) + "\"";
+    }
 }
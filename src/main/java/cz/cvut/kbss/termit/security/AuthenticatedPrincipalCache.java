@@ -0,0 +1,90 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.security;
+
+import cz.cvut.kbss.termit.event.UserAccountUpdatedEvent;
+import cz.cvut.kbss.termit.persistence.dao.util.BoundedCache;
+import cz.cvut.kbss.termit.persistence.dao.util.Cache;
+import cz.cvut.kbss.termit.security.model.TermItUserDetails;
+import cz.cvut.kbss.termit.util.Configuration;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of users authenticated by JWT, keyed by the token subject (username).
+ * <p>
+ * This prevents each request authenticated by a JWT from loading the user account from the repository. Entries expire
+ * after a configured time and are evicted when the corresponding user account is updated (e.g., locked, disabled or
+ * its role is changed).
+ * <p>
+ * Eviction happens only after the transaction updating the account completes. Evicting earlier would allow a concurrent
+ * request to reload the not yet committed (i.e., original) account state and cache it again.
+ */
+@Component
+public class AuthenticatedPrincipalCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuthenticatedPrincipalCache.class);
+
+    public static final String CACHE_NAME = "authenticatedPrincipals";
+
+    private final Cache<String, TermItUserDetails> cache;
+
+    public AuthenticatedPrincipalCache(Configuration config, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = new BoundedCache<>(CACHE_NAME, config.getSecurity().getPrincipalCache(),
+                                        meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Gets user details of the user with the specified username, loading them using the specified loader if they are
+     * not cached.
+     * <p>
+     * A fresh copy of the cached user is returned on each call, so that changes to it do not leak into the cache.
+     *
+     * @param username Username
+     * @param loader   Loads user details when they are not cached
+     * @return User details
+     */
+    public TermItUserDetails get(@Nonnull String username, @Nonnull Function<String, TermItUserDetails> loader) {
+        Objects.requireNonNull(username);
+        final TermItUserDetails cached = cache.getOrCompute(username, loader);
+        return cached != null ? new TermItUserDetails(cached.getUser().copy()) : null;
+    }
+
+    /**
+     * Evicts the updated user account from the cache.
+     * <p>
+     * This is an application event listener and should not be called directly. It is invoked after the transaction in
+     * which the event was published completes, or immediately if there is no transaction.
+     *
+     * @param event Event representing user account update
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserAccountUpdated(@Nonnull UserAccountUpdatedEvent event) {
+        LOG.trace("Evicting user {} from authenticated principal cache.", event.getUser());
+        cache.evict(event.getUser().getUsername());
+    }
+}
@@ -24,6 +24,8 @@
 import cz.cvut.kbss.termit.rest.handler.ErrorInfo;
 import cz.cvut.kbss.termit.security.model.TermItUserDetails;
 import cz.cvut.kbss.termit.service.security.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -36,11 +38,14 @@
 import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Optional;
@@ -66,10 +71,33 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
 
     private final ObjectMapper objectMapper;
 
-    public JwtAuthorizationFilter(AuthenticationManager authenticationManager, JwtUtils jwtUtils, ObjectMapper objectMapper) {
+    private final Duration refreshWindow;
+
+    private final Counter tokensReissued;
+
+    private final Counter tokensNotReissued;
+
+    /**
+     * Creates the filter.
+     *
+     * @param authenticationManager Authentication manager used to authenticate tokens
+     * @param jwtUtils              JWT utilities used to re-issue tokens
+     * @param objectMapper          Object mapper for serializing error responses
+     * @param refreshWindow         Tokens expiring within this window are re-issued
+     * @param meterRegistry         Registry for token re-issue metrics
+     */
+    public JwtAuthorizationFilter(AuthenticationManager authenticationManager, JwtUtils jwtUtils,
+                                  ObjectMapper objectMapper, Duration refreshWindow, MeterRegistry meterRegistry) {
         super(authenticationManager);
         this.jwtUtils = jwtUtils;
         this.objectMapper = objectMapper;
+        this.refreshWindow = refreshWindow;
+        this.tokensReissued = Counter.builder("app.security.jwt.refresh")
+                                     .description("Number of JWT authenticated requests by whether a new token was issued")
+                                     .tag("reissued", "true").register(meterRegistry);
+        this.tokensNotReissued = Counter.builder("app.security.jwt.refresh")
+                                        .description("Number of JWT authenticated requests by whether a new token was issued")
+                                        .tag("reissued", "false").register(meterRegistry);
     }
 
     @Override
@@ -82,11 +110,14 @@ protected void doFilterInternal(HttpServletRequest request, HttpServletResponse
         }
         final String authToken = authHeader.substring(SecurityConstants.JWT_TOKEN_PREFIX.length());
         try {
-            final TermItUserDetails principal = authenticate(authToken)
-                    .orElseThrow(() -> new JwtException("Invalid JWT token contents"));
+            final Authentication authentication = getAuthenticationManager().authenticate(
+                    new BearerTokenAuthenticationToken(authToken));
+            final TermItUserDetails principal = Optional.ofNullable(authentication)
+                                                        .map(SecurityUtils::extractUserDetails)
+                                                        .orElseThrow(() -> new JwtException("Invalid JWT token contents"));
 
             SecurityUtils.setCurrentUser(principal);
-            refreshToken(authToken, response);
+            refreshTokenIfExpiring(authToken, authentication, response);
             chain.doFilter(request, response);
 
         } catch (JwtException | org.springframework.security.oauth2.jwt.JwtException | InvalidBearerTokenException e) {
@@ -100,13 +131,6 @@ protected void doFilterInternal(HttpServletRequest request, HttpServletResponse
         }
     }
 
-    private Optional<TermItUserDetails> authenticate(String token) {
-        final Authentication authentication = getAuthenticationManager().authenticate(new BearerTokenAuthenticationToken(token));
-
-        return Optional.ofNullable(authentication)
-                .map(SecurityUtils::extractUserDetails);
-    }
-
     private void unauthorizedRequest(HttpServletRequest request, HttpServletResponse response, RuntimeException e)
             throws IOException {
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
@@ -114,9 +138,22 @@ private void unauthorizedRequest(HttpServletRequest request, HttpServletResponse
                                 ErrorInfo.createWithMessage(e.getMessage(), request.getRequestURI()));
     }
 
-    private void refreshToken(String authToken, HttpServletResponse response) {
+    /**
+     * Issues a new token into the response if the token used to authenticate the request expires within the refresh
+     * window (or its expiration is not known).
+     * <p>
+     * This avoids signing a new token on every request.
+     */
+    private void refreshTokenIfExpiring(String authToken, Authentication authentication,
+                                        HttpServletResponse response) {
+        final Instant expiresAt = authentication.getPrincipal() instanceof Jwt jwt ? jwt.getExpiresAt() : null;
+        if (expiresAt != null && Instant.now().plus(refreshWindow).isBefore(expiresAt)) {
+            tokensNotReissued.increment();
+            return;
+        }
         final String newToken = jwtUtils.refreshToken(authToken);
         response.setHeader(HttpHeaders.AUTHORIZATION, SecurityConstants.JWT_TOKEN_PREFIX + newToken);
+        tokensReissued.increment();
     }
 
     /**
@@ -1,26 +1,32 @@
 package cz.cvut.kbss.termit.security;
 
+import cz.cvut.kbss.termit.service.security.TermItUserDetailsService;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 /**
  * Converts given username (must be a {@link String})
- * to {@link UserDetails} fetched using the {@link UserDetailsService}.
+ * to {@link UserDetails} fetched using the {@link TermItUserDetailsService}.
+ * <p>
+ * Resolved users are cached in {@link AuthenticatedPrincipalCache}.
  */
 public class UsernameToUserDetailsConverter implements Converter<Object, UserDetails> {
 
     private static final Logger LOG = LoggerFactory.getLogger(UsernameToUserDetailsConverter.class);
 
-    private final UserDetailsService userDetailsService;
+    private final TermItUserDetailsService userDetailsService;
 
-    public UsernameToUserDetailsConverter(UserDetailsService userDetailsService) {
+    private final AuthenticatedPrincipalCache principalCache;
+
+    public UsernameToUserDetailsConverter(TermItUserDetailsService userDetailsService,
+                                          AuthenticatedPrincipalCache principalCache) {
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Nullable
@@ -28,7 +34,7 @@ public UsernameToUserDetailsConverter(UserDetailsService userDetailsService) {
     public UserDetails convert(@Nonnull Object source) {
         try {
             if (source instanceof String username) {
-                return userDetailsService.loadUserByUsername(username);
+                return principalCache.get(username, userDetailsService::loadUserByUsername);
             }
         } catch (UsernameNotFoundException e) {
             LOG.trace("Failed to resolve username {} to UserDetails", source);
@@ -22,11 +22,14 @@
 import cz.cvut.kbss.termit.model.Asset;
 import cz.cvut.kbss.termit.model.acl.AccessControlList;
 import cz.cvut.kbss.termit.model.acl.AccessControlRecord;
+import cz.cvut.kbss.termit.model.acl.AccessLevel;
 import cz.cvut.kbss.termit.model.util.HasIdentifier;
 import jakarta.annotation.Nonnull;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -138,4 +141,18 @@ public interface AccessControlListService {
      * @return List of matching assets
      */
     List<? extends Asset<?>> findAssetsByAgentWithSecurityAccess(@Nonnull AccessControlAgent agent);
+
+    /**
+     * Resolves the highest access level granted by ACLs of the specified subjects to the specified agents.
+     * <p>
+     * Records held by the specified holders and records held by user groups the specified member belongs to are taken
+     * into account.
+     *
+     * @param subjects Identifiers of subjects whose ACLs to evaluate
+     * @param holders  Identifiers of agents whose records apply (e.g., user and their roles)
+     * @param member   Identifier of the user whose user group memberships apply, optional
+     * @return Map of subject identifiers to the highest access level, subjects with no applicable record are not present
+     */
+    Map<URI, AccessLevel> findHighestAccessLevels(@Nonnull Collection<URI> subjects, @Nonnull Collection<URI> holders,
+                                                  URI member);
 }
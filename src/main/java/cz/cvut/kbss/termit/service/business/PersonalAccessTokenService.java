@@ -1,37 +1,75 @@
 package cz.cvut.kbss.termit.service.business;
 
 import cz.cvut.kbss.termit.dto.PersonalAccessTokenDto;
+import cz.cvut.kbss.termit.event.UserAccountUpdatedEvent;
 import cz.cvut.kbss.termit.exception.AuthorizationException;
 import cz.cvut.kbss.termit.exception.JwtException;
 import cz.cvut.kbss.termit.exception.TokenExpiredException;
 import cz.cvut.kbss.termit.model.PersonalAccessToken;
 import cz.cvut.kbss.termit.model.UserAccount;
+import cz.cvut.kbss.termit.persistence.dao.util.BoundedCache;
+import cz.cvut.kbss.termit.persistence.dao.util.Cache;
 import cz.cvut.kbss.termit.security.JwtUtils;
 import cz.cvut.kbss.termit.service.repository.PersonalAccessTokenRepositoryService;
+import cz.cvut.kbss.termit.service.security.PersonalAccessTokenUsageTracker;
 import cz.cvut.kbss.termit.service.security.SecurityUtils;
+import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Utils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.validation.Validator;
 
 import java.net.URI;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 
 @Service
 public class PersonalAccessTokenService {
+
+    static final String CACHE_NAME = "personalAccessTokens";
+
     private final PersonalAccessTokenRepositoryService repositoryService;
     private final SecurityUtils securityUtils;
     private final JwtUtils jwtUtils;
     private final Validator validator;
+    private final PersonalAccessTokenUsageTracker usageTracker;
+
+    /**
+     * Validated tokens, so that authentication by a token does not require repository access.
+     * <p>
+     * Tokens are evicted when they expire, are removed, or their owner's account is updated. The time to live bounds
+     * how long a token may be used after a change of its owner's account made in a way not announced by an event.
+     */
+    private final Cache<URI, PersonalAccessToken> validTokens;
 
+    @Autowired
     public PersonalAccessTokenService(PersonalAccessTokenRepositoryService repositoryService,
-                                      SecurityUtils securityUtils, JwtUtils jwtUtils, Validator validator) {
+                                      SecurityUtils securityUtils, JwtUtils jwtUtils, Validator validator,
+                                      PersonalAccessTokenUsageTracker usageTracker, Configuration config,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        this(repositoryService, securityUtils, jwtUtils, validator, usageTracker,
+             config.getSecurity().getPersonalAccessTokenCache(), meterRegistry.getIfAvailable());
+    }
+
+    PersonalAccessTokenService(PersonalAccessTokenRepositoryService repositoryService,
+                               SecurityUtils securityUtils, JwtUtils jwtUtils, Validator validator,
+                               PersonalAccessTokenUsageTracker usageTracker,
+                               Configuration.Persistence.CacheSettings cacheSettings, MeterRegistry meterRegistry) {
         this.repositoryService = repositoryService;
         this.securityUtils = securityUtils;
         this.jwtUtils = jwtUtils;
         this.validator = validator;
+        this.usageTracker = usageTracker;
+        this.validTokens = new BoundedCache<>(CACHE_NAME, cacheSettings, meterRegistry);
     }
 
     /**
@@ -41,20 +79,44 @@ public PersonalAccessTokenService(PersonalAccessTokenRepositoryService repositor
      */
     public List<PersonalAccessTokenDto> findAllForCurrentUser() {
         final UserAccount currentUser = securityUtils.getCurrentUser();
-        return repositoryService.findAllByUserAccount(currentUser);
+        final List<PersonalAccessTokenDto> result = repositoryService.findAllByUserAccount(currentUser);
+        result.forEach(dto -> usageTracker.getPendingLastUsed(dto.getUri()).ifPresent(dto::setLastUsed));
+        return result;
     }
 
     /**
      * Finds the token and ensures that its valid.
+     * <p>
+     * Validated tokens are cached, so repeated calls for the same token do not access the repository. A copy of the
+     * cached token (including its owner) is returned, so that the cached instance is not shared among requests.
      *
      * @param tokenUri The identifier of the token
      * @return The valid personal access token
      * @throws TokenExpiredException when the token is invalid (e.g. expired)
      */
     public PersonalAccessToken findValid(URI tokenUri) {
-        return repositoryService.find(tokenUri)
-                                .map(this::ensureTokenValid)
-                                .orElseThrow();
+        Objects.requireNonNull(tokenUri);
+        final PersonalAccessToken cached = validTokens.getOrCompute(tokenUri, this::loadValid);
+        try {
+            return copy(ensureTokenValid(cached));
+        } catch (RuntimeException e) {
+            validTokens.evict(tokenUri);
+            throw e;
+        }
+    }
+
+    private PersonalAccessToken loadValid(URI tokenUri) {
+        return repositoryService.find(tokenUri).map(this::ensureTokenValid).orElseThrow();
+    }
+
+    private static PersonalAccessToken copy(PersonalAccessToken token) {
+        final PersonalAccessToken copy = new PersonalAccessToken();
+        copy.setUri(token.getUri());
+        copy.setOwner(token.getOwner().copy());
+        copy.setCreated(token.getCreated());
+        copy.setExpirationDate(token.getExpirationDate());
+        copy.setLastUsed(token.getLastUsed());
+        return copy;
     }
 
     /**
@@ -76,6 +138,9 @@ public String create(LocalDate expirationDate) {
 
     /**
      * Deletes token with the specified identifier associated with the current user.
+     * <p>
+     * The token is evicted from the cache of validated tokens only after the transaction completes. Otherwise, a
+     * concurrent request could cache the token again before its removal is committed.
      *
      * @param tokenUri the token identifier
      * @throws AuthorizationException when attempted to delete the token from a different user
@@ -88,11 +153,28 @@ public void delete(URI tokenUri) {
         final UserAccount currentUser = securityUtils.getCurrentUser();
         if (token.getOwner().equals(currentUser)) {
             repositoryService.remove(token);
+            afterTransaction(() -> {
+                validTokens.evict(tokenUri);
+                usageTracker.discard(tokenUri);
+            });
             return;
         }
         throw new AuthorizationException("Cannot delete token associated with a different user.");
     }
 
+    private static void afterTransaction(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
     /**
      * Ensures the PAT is valid (non-expired).
      *
@@ -107,8 +189,33 @@ public PersonalAccessToken ensureTokenValid(PersonalAccessToken token) {
         return token;
     }
 
+    /**
+     * Records that the specified token has been used just now.
+     * <p>
+     * The timestamp is written into the repository asynchronously, in batches.
+     *
+     * @param token The used token
+     * @see PersonalAccessTokenUsageTracker
+     */
     public void updateLastUsed(PersonalAccessToken token) {
-        token.setLastUsed(Utils.timestamp());
-        repositoryService.update(token);
+        final Instant now = Utils.timestamp();
+        token.setLastUsed(now);
+        usageTracker.recordUsage(token.getUri(), now);
+    }
+
+    /**
+     * Evicts cached tokens of a user whose account has been updated (e.g., locked or disabled).
+     * <p>
+     * The update event is published inside the transaction updating the account, so the tokens are evicted only after
+     * the transaction completes. Otherwise, a concurrent request could cache the token with the owner's state from
+     * before the update.
+     * <p>
+     * This is an application event listener and should not be called directly.
+     *
+     * @param event The user account update event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserAccountUpdated(UserAccountUpdatedEvent event) {
+        validTokens.evictIf(t -> event.getUser().equals(t.getOwner()));
     }
 }
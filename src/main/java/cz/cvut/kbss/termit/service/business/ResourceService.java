@@ -36,6 +36,7 @@
 import cz.cvut.kbss.termit.rest.dto.ResourceSaveReason;
 import cz.cvut.kbss.termit.service.changetracking.ChangeRecordProvider;
 import cz.cvut.kbss.termit.service.document.AnnotationGenerator;
+import cz.cvut.kbss.termit.service.document.DerivedContentCache;
 import cz.cvut.kbss.termit.service.document.DocumentManager;
 import cz.cvut.kbss.termit.service.document.ResourceRetrievalSpecification;
 import cz.cvut.kbss.termit.service.document.TextAnalysisService;
@@ -81,6 +82,11 @@
 
     private static final Logger LOG = LoggerFactory.getLogger(ResourceService.class);
 
+    /**
+     * Variant of derived file content without unconfirmed term occurrences.
+     */
+    static final String WITHOUT_UNCONFIRMED_OCCURRENCES_VARIANT = "withoutUnconfirmedOccurrences";
+
     private final ResourceRepositoryService repositoryService;
 
     private final DocumentManager documentManager;
@@ -97,6 +103,8 @@
 
     private final AnnotationGenerator annotationGenerator;
 
+    private final DerivedContentCache derivedContentCache;
+
     private ApplicationEventPublisher eventPublisher;
 
     @Autowired
@@ -104,7 +112,7 @@ public ResourceService(ResourceRepositoryService repositoryService, DocumentMana
                            DocumentBackupManager documentBackupManager,
                            TextAnalysisService textAnalysisService, VocabularyService vocabularyService,
                            ChangeRecordService changeRecordService, Configuration config,
-                           AnnotationGenerator annotationGenerator) {
+                           AnnotationGenerator annotationGenerator, DerivedContentCache derivedContentCache) {
         this.repositoryService = repositoryService;
         this.documentManager = documentManager;
         this.documentBackupManager = documentBackupManager;
@@ -113,6 +121,7 @@ public ResourceService(ResourceRepositoryService repositoryService, DocumentMana
         this.changeRecordService = changeRecordService;
         this.config = config;
         this.annotationGenerator = annotationGenerator;
+        this.derivedContentCache = derivedContentCache;
     }
 
     /**
@@ -191,7 +200,8 @@ public TypeAwareResource getContent(Resource resource, ResourceRetrievalSpecific
                                                          .map(instant -> documentManager.getAsResource(file, instant))
                                                          .orElseGet(() -> documentManager.getAsResource(file));
         if (retrievalSpecification.withoutUnconfirmedOccurrences()) {
-            result = new UnconfirmedTermOccurrenceRemover().removeUnconfirmedOccurrences(result);
+            result = derivedContentCache.getOrCompute(file, result, WITHOUT_UNCONFIRMED_OCCURRENCES_VARIANT,
+                                                      new UnconfirmedTermOccurrenceRemover()::removeUnconfirmedOccurrences);
         }
         return result;
     }
@@ -95,11 +95,30 @@ public List<SearchResult> fullTextSearchOfTerms(SearchString searchString, Set<U
     public Page<SearchResult> advancedSearch(SearchString searchString,
                                              Collection<SearchParam> searchParams,
                                              Pageable pageSpec) {
+        return advancedSearch(searchString, searchParams, pageSpec, true);
+    }
+
+    /**
+     * Executes advanced search combining full text search with faceted filtering.
+     * <p>
+     * If {@code exactTotal} is {@code false}, the total number of results of the returned page is exact only for the
+     * last page. For other pages, it is a lower bound indicating that there is a next page, which saves counting all
+     * the results.
+     *
+     * @param searchString String to search by for full text search (including optional language)
+     * @param searchParams Search parameters for filtering by facets.
+     * @param pageSpec     Specification of the page of results to return
+     * @param exactTotal   Whether the exact total number of results should be resolved
+     * @return Matching results
+     */
+    public Page<SearchResult> advancedSearch(SearchString searchString,
+                                             Collection<SearchParam> searchParams,
+                                             Pageable pageSpec, boolean exactTotal) {
         Objects.requireNonNull(searchParams);
         searchParams.forEach(SearchParam::validate);
         return searchDao.advancedSearch(searchString, searchParams, pageSpec,
                                         authService.getReadableVocabularies().stream()
                                                    .map(AbstractEntity::getUri)
-                                                   .toList());
+                                                   .toList(), exactTotal);
     }
 }
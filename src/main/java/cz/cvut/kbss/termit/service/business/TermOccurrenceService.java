@@ -23,6 +23,7 @@
 import cz.cvut.kbss.termit.model.assignment.TermOccurrence;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -94,4 +95,11 @@ public interface TermOccurrenceService {
      * @param term Term whose occurrences to remove
      */
     void removeAllOf(AbstractTerm term);
+
+    /**
+     * Removes all occurrences of the specified terms.
+     *
+     * @param terms Identifiers of terms whose occurrences to remove
+     */
+    void removeAllOf(Collection<URI> terms);
 }
@@ -34,6 +34,7 @@
 import cz.cvut.kbss.termit.model.changetracking.AbstractChangeRecord;
 import cz.cvut.kbss.termit.model.comment.Comment;
 import cz.cvut.kbss.termit.persistence.context.VocabularyContextMapper;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
 import cz.cvut.kbss.termit.service.business.util.TermSelectionParams;
 import cz.cvut.kbss.termit.service.changetracking.ChangeRecordProvider;
 import cz.cvut.kbss.termit.service.comment.CommentService;
@@ -92,12 +93,15 @@ public class TermService implements RudService<Term>, ChangeRecordProvider<Term>
 
     private final LanguageService languageService;
 
+    private final VocabularyContentRevisions contentRevisions;
+
     @Autowired
     public TermService(VocabularyExporters exporters, VocabularyService vocabularyService,
                        VocabularyContextMapper vocabularyContextMapper,
                        TermRepositoryService repositoryService, TextAnalysisService textAnalysisService,
                        TermOccurrenceService termOccurrenceService, ChangeRecordService changeRecordService,
-                       CommentService commentService, LanguageService languageService) {
+                       CommentService commentService, LanguageService languageService,
+                       VocabularyContentRevisions contentRevisions) {
         this.exporters = exporters;
         this.vocabularyService = vocabularyService;
         this.vocabularyContextMapper = vocabularyContextMapper;
@@ -107,6 +111,7 @@ public TermService(VocabularyExporters exporters, VocabularyService vocabularySe
         this.changeRecordService = changeRecordService;
         this.commentService = commentService;
         this.languageService = languageService;
+        this.contentRevisions = contentRevisions;
     }
 
     /**
@@ -329,6 +334,23 @@ public Vocabulary findVocabularyRequired(URI id) {
         return vocabularyService.findRequired(id);
     }
 
+    /**
+     * Gets a tag identifying the current content of the vocabulary with the specified identifier.
+     * <p>
+     * The tag changes whenever terms of the vocabulary are modified, so it can be used to validate data about the
+     * terms previously obtained by the client. It is determined without accessing the repository.
+     *
+     * @param vocabularyIri   Vocabulary identifier
+     * @param includeImported Whether terms of other (e.g., imported) vocabularies are relevant as well. If so, the tag
+     *                        changes whenever terms of any vocabulary are modified
+     * @return Content tag
+     */
+    @PreAuthorize("@vocabularyAuthorizationService.canRead(#vocabularyIri)")
+    public String getContentTag(URI vocabularyIri, boolean includeImported) {
+        Objects.requireNonNull(vocabularyIri);
+        return includeImported ? contentRevisions.getTag() : contentRevisions.getTag(vocabularyIri);
+    }
+
     /**
      * Gets a reference to the vocabulary with the specified identifier.
      *
@@ -65,7 +65,6 @@
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PostAuthorize;
-import org.springframework.security.access.prepost.PostFilter;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -154,11 +153,9 @@ public void onVocabularyContentModified(VocabularyEvent event) {
     }
 
     @Override
-    @PostFilter("@vocabularyAuthorizationService.canRead(filterObject)")
     public List<VocabularyDto> findAll() {
-        // PostFilter modifies the data in-place, which caused unwanted updates to the cache (since we are caching
-        // the whole list in VocabularyRepositoryService)
-        return new ArrayList<>(repositoryService.findAll());
+        // Filter into a new list, the whole list is cached in VocabularyRepositoryService
+        return authorizationService.filterReadable(repositoryService.findAll());
     }
 
     @Override
@@ -58,6 +58,18 @@ public Vocabulary findVocabularyRequired(URI vocabularyUri) {
         return termService.findVocabularyRequired(vocabularyUri);
     }
 
+    /**
+     * Gets a tag identifying the current content of the vocabulary with the specified identifier.
+     *
+     * @param vocabularyUri   Vocabulary identifier
+     * @param includeImported Whether terms of other (e.g., imported) vocabularies are relevant as well
+     * @return Content tag
+     * @see TermService#getContentTag(URI, boolean)
+     */
+    public String getContentTag(URI vocabularyUri, boolean includeImported) {
+        return termService.getContentTag(vocabularyUri, includeImported);
+    }
+
     /**
      * Retrieves all terms from the specified vocabulary.
      * <p>
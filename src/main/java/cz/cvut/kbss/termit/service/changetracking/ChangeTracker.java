@@ -20,8 +20,12 @@
 import cz.cvut.kbss.termit.event.AssetPersistEvent;
 import cz.cvut.kbss.termit.event.AssetUpdateEvent;
 import cz.cvut.kbss.termit.event.BeforeAssetDeleteEvent;
+import cz.cvut.kbss.termit.event.TermsImportedEvent;
+import cz.cvut.kbss.termit.event.TermsWillBeRemovedEvent;
 import cz.cvut.kbss.termit.model.Asset;
+import cz.cvut.kbss.termit.model.Term;
 import cz.cvut.kbss.termit.model.User;
+import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.model.changetracking.AbstractChangeRecord;
 import cz.cvut.kbss.termit.model.changetracking.DeleteChangeRecord;
 import cz.cvut.kbss.termit.model.changetracking.PersistChangeRecord;
@@ -29,6 +33,7 @@
 import cz.cvut.kbss.termit.model.resource.File;
 import cz.cvut.kbss.termit.persistence.dao.changetracking.ChangeRecordDao;
 import cz.cvut.kbss.termit.persistence.dao.changetracking.ChangeTrackingHelperDao;
+import cz.cvut.kbss.termit.persistence.dao.changetracking.ContentChangeRollupDao;
 import cz.cvut.kbss.termit.service.security.SecurityUtils;
 import cz.cvut.kbss.termit.util.Utils;
 import jakarta.annotation.Nonnull;
@@ -39,8 +44,10 @@
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -57,14 +64,18 @@ public class ChangeTracker {
 
     private final ChangeTrackingHelperDao helperDao;
 
+    private final ContentChangeRollupDao rollupDao;
+
     private final SecurityUtils securityUtils;
 
     @Autowired
     public ChangeTracker(ChangeCalculator changeCalculator, ChangeRecordDao changeRecordDao,
-                         ChangeTrackingHelperDao helperDao, SecurityUtils securityUtils) {
+                         ChangeTrackingHelperDao helperDao, ContentChangeRollupDao rollupDao,
+                         SecurityUtils securityUtils) {
         this.changeCalculator = changeCalculator;
         this.changeRecordDao = changeRecordDao;
         this.helperDao = helperDao;
+        this.rollupDao = rollupDao;
         this.securityUtils = securityUtils;
     }
 
@@ -89,6 +100,7 @@ public void onAssetUpdateEvent(AssetUpdateEvent event) {
         LOG.trace("Recording update of asset {}.", update);
         LOG.trace("Found changes to attributes: {}", changes.stream().map(ch -> ch.getChangedAttribute().toString())
                                                             .collect(Collectors.joining(", ")));
+        updateContentRollup(update, cz.cvut.kbss.termit.util.Vocabulary.s_c_uprava_entity, now);
         changes.forEach(ch -> {
             ch.setAuthor(user);
             ch.setTimestamp(now);
@@ -117,9 +129,75 @@ public void onAssetPersistEvent(@Nonnull AssetPersistEvent event) {
         final AbstractChangeRecord changeRecord = new PersistChangeRecord(added);
         changeRecord.setAuthor(securityUtils.getCurrentUser().toUser());
         changeRecord.setTimestamp(Utils.timestamp());
+        updateContentRollup(added, cz.cvut.kbss.termit.util.Vocabulary.s_c_vytvoreni_entity,
+                            changeRecord.getTimestamp());
         changeRecordDao.persist(changeRecord, added);
     }
 
+    /**
+     * Records a bulk import of terms into a vocabulary.
+     * <p>
+     * Creation of each imported term is recorded, as if the terms were persisted one by one. The records are counted
+     * in the content change rollup of the vocabulary.
+     *
+     * @param event Event representing the import
+     */
+    @Transactional
+    @EventListener
+    public void onTermsImportedEvent(@Nonnull TermsImportedEvent event) {
+        if (!securityUtils.isAuthenticated()) {
+            LOG.trace("Skipping recording of import for system user.");
+            return;
+        }
+        LOG.trace("Recording import of {} terms into vocabulary {}.", event.getTermIris().size(),
+                  Utils.uriToString(event.getVocabularyIri()));
+        final User author = securityUtils.getCurrentUser().toUser();
+        final Instant now = Utils.timestamp();
+        final List<PersistChangeRecord> records = event.getTermIris().stream().map(termUri -> {
+            final PersistChangeRecord record = new PersistChangeRecord(new Term(termUri));
+            record.setAuthor(author);
+            record.setTimestamp(now);
+            return record;
+        }).toList();
+        rollupDao.increment(event.getVocabularyIri(), event.getTermIris(),
+                            URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_c_vytvoreni_entity), now);
+        // Terms share the change tracking context of their vocabulary
+        changeRecordDao.persistAll(records, new Vocabulary(event.getVocabularyIri()));
+    }
+
+    /**
+     * Records a bulk removal of terms from a vocabulary (e.g., terms replaced by an import).
+     * <p>
+     * Deletion of each removed term is recorded, as if the terms were removed one by one. The records are counted in
+     * the content change rollup of the vocabulary.
+     *
+     * @param event Event representing the removal
+     */
+    @Transactional
+    @EventListener
+    public void onTermsWillBeRemovedEvent(@Nonnull TermsWillBeRemovedEvent event) {
+        if (!securityUtils.isAuthenticated()) {
+            LOG.trace("Skipping recording of bulk removal for system user.");
+            return;
+        }
+        LOG.trace("Recording removal of {} terms from vocabulary {}.", event.getTermLabels().size(),
+                  Utils.uriToString(event.getVocabularyIri()));
+        final User author = securityUtils.getCurrentUser().toUser();
+        final Instant now = Utils.timestamp();
+        final List<DeleteChangeRecord> records = event.getTermLabels().entrySet().stream().map(e -> {
+            final Term term = new Term(e.getKey());
+            term.setLabel(e.getValue());
+            final DeleteChangeRecord record = new DeleteChangeRecord(term);
+            record.setAuthor(author);
+            record.setTimestamp(now);
+            return record;
+        }).toList();
+        rollupDao.increment(event.getVocabularyIri(), event.getTermLabels().keySet(),
+                            URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_c_smazani_entity), now);
+        // Terms share the change tracking context of their vocabulary
+        changeRecordDao.persistAll(records, new Vocabulary(event.getVocabularyIri()));
+    }
+
     /**
      * Records an asset deletion from the repository.
      *
@@ -134,7 +212,20 @@ public void onBeforeAssetDeleteEvent(@Nonnull BeforeAssetDeleteEvent event) {
         final AbstractChangeRecord changeRecord = new DeleteChangeRecord(asset);
         changeRecord.setAuthor(securityUtils.getCurrentUser().toUser());
         changeRecord.setTimestamp(Utils.timestamp());
+        updateContentRollup(asset, cz.cvut.kbss.termit.util.Vocabulary.s_c_smazani_entity,
+                            changeRecord.getTimestamp());
 
         changeRecordDao.persist(changeRecord, asset);
     }
+
+    /**
+     * Counts the change in the daily content change rollup if the asset is a term.
+     * <p>
+     * Must be invoked before the change records are persisted.
+     */
+    private void updateContentRollup(Asset<?> asset, String changeType, Instant timestamp) {
+        if (asset instanceof Term term) {
+            rollupDao.increment(term, URI.create(changeType), timestamp);
+        }
+    }
 }
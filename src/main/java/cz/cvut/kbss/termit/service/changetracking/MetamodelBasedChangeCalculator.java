@@ -24,34 +24,45 @@
 import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.PropertiesSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.TypesSpecification;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
 import cz.cvut.kbss.jopa.vocabulary.RDF;
+import cz.cvut.kbss.termit.exception.TermItException;
 import cz.cvut.kbss.termit.model.Asset;
 import cz.cvut.kbss.termit.model.changetracking.IgnoreChanges;
 import cz.cvut.kbss.termit.model.changetracking.UpdateChangeRecord;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import static cz.cvut.kbss.jopa.utils.EntityPropertiesUtils.getAttributeValue;
 import static cz.cvut.kbss.jopa.utils.EntityPropertiesUtils.getIdentifier;
 
+/**
+ * Calculates changes based on the JOPA metamodel.
+ * <p>
+ * Which attributes are compared and how is resolved from the metamodel once per entity class and remembered as a
+ * {@link ChangePlan}. Attribute values are then read
+ * through the plan's fields, which are made accessible only once, when the plan is created.
+ */
 @Component
 public class MetamodelBasedChangeCalculator implements ChangeCalculator {
 
     private final Metamodel metamodel;
 
+    private final Map<Class<?>, ChangePlan> plans = new ConcurrentHashMap<>();
+
     @Autowired
     public MetamodelBasedChangeCalculator(EntityManagerFactory emf) {
         this.metamodel = emf.getMetamodel();
@@ -62,41 +73,81 @@ public Collection<UpdateChangeRecord> calculateChanges(Asset<?> changed, Asset<?
         Objects.requireNonNull(changed);
         Objects.requireNonNull(original);
 
+        final ChangePlan plan = plans.computeIfAbsent(changed.getClass(), this::createPlan);
         final Collection<UpdateChangeRecord> records = new ArrayList<>();
-        final EntityType<? extends Asset> et = metamodel.entity(changed.getClass());
-        for (Attribute<?, ?> att : et.getAttributes()) {
-            if (att.isInferred() || shouldIgnoreChanges(att)) {
-                continue;
-            }
-            final Object originalValue = EntityPropertiesUtils.getAttributeValue(att, original);
-            final Object updateValue = EntityPropertiesUtils.getAttributeValue(att, changed);
-            if (att.isAssociation()) {
+        for (AttributePlan att : plan.attributes()) {
+            final Object originalValue = valueOf(att.field(), original);
+            final Object updateValue = valueOf(att.field(), changed);
+            if (att.comparison().association) {
                 final Optional<UpdateChangeRecord> change = resolveAssociationChange(originalValue, updateValue, att,
                                                                                      original.getUri());
                 change.ifPresent(records::add);
 
             } else if (!areEqual(att, originalValue, updateValue)) {
-                final UpdateChangeRecord record = createChangeRecord(original.getUri(), att.getIRI().toURI());
+                final UpdateChangeRecord record = createChangeRecord(original.getUri(), att.property());
                 recordValues(record, att, originalValue, updateValue);
                 records.add(record);
             }
         }
-        resolveTypesChange(original, changed, et, original.getUri()).ifPresent(records::add);
-        records.addAll(resolveUnmappedPropertiesChanges(original, changed, et, original.getUri()));
+        resolveTypesChange(original, changed, plan.types(), original.getUri()).ifPresent(records::add);
+        records.addAll(resolveUnmappedPropertiesChanges(original, changed, plan.properties(), original.getUri()));
         return records;
     }
 
-    private boolean shouldIgnoreChanges(Attribute<?, ?> att) {
+    private ChangePlan createPlan(Class<?> cls) {
+        final EntityType<?> et = metamodel.entity(cls);
+        final List<AttributePlan> attributes = new ArrayList<>();
+        for (Attribute<?, ?> att : et.getAttributes()) {
+            if (att.isInferred() || shouldIgnoreChanges(att)) {
+                continue;
+            }
+            attributes.add(new AttributePlan(att.getIRI().toURI(), accessible(att.getJavaField()), comparison(att)));
+        }
+        final TypesSpecification<?, ?> typesSpec = et.getTypes();
+        final PropertiesSpecification<?, ?, ?, ?> propsSpec = et.getProperties();
+        return new ChangePlan(List.copyOf(attributes), typesSpec != null ? accessible(typesSpec.getJavaField()) : null,
+                              propsSpec != null ? accessible(propsSpec.getJavaField()) : null);
+    }
+
+    private static Field accessible(Field field) {
+        field.setAccessible(true);
+        return field;
+    }
+
+    private static Object valueOf(Field field, Object instance) {
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new TermItException("Unable to access field " + field + " for change tracking.", e);
+        }
+    }
+
+    private static Comparison comparison(Attribute<?, ?> att) {
+        if (!att.isAssociation()) {
+            return att.isCollection() ? Comparison.COLLECTION : Comparison.VALUE;
+        }
+        if (att.isCollection()) {
+            final PluralAttribute<?, ?, ?> pluralAtt = (PluralAttribute<?, ?, ?>) att;
+            return IdentifierTransformer.isValidIdentifierType(pluralAtt.getElementType().getJavaType()) ?
+                   Comparison.REFERENCE_COLLECTION : Comparison.ENTITY_COLLECTION;
+        }
+        return IdentifierTransformer.isValidIdentifierType(att.getJavaType()) ? Comparison.REFERENCE :
+               Comparison.ENTITY;
+    }
+
+    private static boolean shouldIgnoreChanges(Attribute<?, ?> att) {
         return att.getJavaField().isAnnotationPresent(IgnoreChanges.class);
     }
 
-    private boolean areEqual(Attribute<?, ?> att, Object originalValue, Object newValue) {
-        return att.isCollection() ? areCollectionsEqual((Collection<?>) originalValue, (Collection<?>) newValue) :
+    private static boolean areEqual(AttributePlan att, Object originalValue, Object newValue) {
+        return att.comparison().collection ?
+               areCollectionsEqual((Collection<?>) originalValue, (Collection<?>) newValue) :
                Objects.equals(originalValue, newValue);
     }
 
-    private void recordValues(UpdateChangeRecord record, Attribute<?, ?> att, Object originalValue, Object newValue) {
-        if (!att.isCollection()) {
+    private static void recordValues(UpdateChangeRecord record, AttributePlan att, Object originalValue,
+                                     Object newValue) {
+        if (!att.comparison().collection) {
             if (originalValue != null) {
                 record.setOriginalValue(Collections.singleton(originalValue));
             }
@@ -114,33 +165,31 @@ private void recordValues(UpdateChangeRecord record, Attribute<?, ?> att, Object
     }
 
     private Optional<UpdateChangeRecord> resolveAssociationChange(Object originalValue, Object updateValue,
-                                                                  Attribute<?, ?> att, URI assetId) {
+                                                                  AttributePlan att, URI assetId) {
         if (originalValue == null && updateValue == null) {
             return Optional.empty();
         }
         final Object originalToCompare;
         final Object updateToCompare;
-        if (att.isCollection()) {
-            final PluralAttribute<?, ?, ?> pluralAtt = (PluralAttribute<?, ?, ?>) att;
-            if (IdentifierTransformer.isValidIdentifierType(pluralAtt.getElementType().getJavaType())) {
-                originalToCompare = originalValue;
-                updateToCompare = updateValue;
-            } else {
+        switch (att.comparison()) {
+            case ENTITY_COLLECTION -> {
                 originalToCompare = extractIdentifiersInCollection(originalValue);
                 updateToCompare = extractIdentifiersInCollection(updateValue);
             }
-        } else if (IdentifierTransformer.isValidIdentifierType(att.getJavaType())) {
-            originalToCompare = originalValue;
-            updateToCompare = updateValue;
-        } else {
-            originalToCompare = originalValue != null ? getIdentifier(originalValue, metamodel) : null;
-            updateToCompare = updateValue != null ? getIdentifier(updateValue, metamodel) : null;
+            case ENTITY -> {
+                originalToCompare = originalValue != null ? getIdentifier(originalValue, metamodel) : null;
+                updateToCompare = updateValue != null ? getIdentifier(updateValue, metamodel) : null;
+            }
+            default -> {
+                originalToCompare = originalValue;
+                updateToCompare = updateValue;
+            }
         }
 
         if (areEqual(att, originalToCompare, updateToCompare)) {
             return Optional.empty();
         } else {
-            final UpdateChangeRecord record = createChangeRecord(assetId, att.getIRI().toURI());
+            final UpdateChangeRecord record = createChangeRecord(assetId, att.property());
             recordValues(record, att, originalToCompare, updateToCompare);
             return Optional.of(record);
         }
@@ -152,22 +201,20 @@ private Object extractIdentifiersInCollection(Object col) {
                Collections.emptySet();
     }
 
-    private UpdateChangeRecord createChangeRecord(URI assetId, URI property) {
+    private static UpdateChangeRecord createChangeRecord(URI assetId, URI property) {
         final UpdateChangeRecord record = new UpdateChangeRecord();
         record.setChangedEntity(assetId);
         record.setChangedAttribute(property);
         return record;
     }
 
-    private Optional<UpdateChangeRecord> resolveTypesChange(Asset<?> original, Asset<?> update,
-                                                            EntityType<? extends Asset> et,
-                                                            URI assetId) {
-        final TypesSpecification<?, ?> typesSpec = et.getTypes();
-        if (typesSpec == null) {
+    private static Optional<UpdateChangeRecord> resolveTypesChange(Asset<?> original, Asset<?> update,
+                                                                   Field types, URI assetId) {
+        if (types == null) {
             return Optional.empty();
         }
-        final Collection<?> origTypes = (Collection<?>) getAttributeValue(typesSpec, original);
-        final Collection<?> updateTypes = (Collection<?>) getAttributeValue(typesSpec, update);
+        final Collection<?> origTypes = (Collection<?>) valueOf(types, original);
+        final Collection<?> updateTypes = (Collection<?>) valueOf(types, update);
         if (areCollectionsEqual(origTypes, updateTypes)) {
             return Optional.empty();
         } else {
@@ -191,15 +238,15 @@ private static boolean areCollectionsEqual(Collection<?> original, Collection<?>
         return original == null && update.isEmpty() || original != null && original.isEmpty() && update == null;
     }
 
-    private Collection<UpdateChangeRecord> resolveUnmappedPropertiesChanges(Asset<?> original, Asset<?> update,
-                                                                            EntityType<? extends Asset> et,
-                                                                            URI assetId) {
-        final PropertiesSpecification<?, ?, ?, ?> propsSpec = et.getProperties();
-        if (propsSpec == null) {
+    private static Collection<UpdateChangeRecord> resolveUnmappedPropertiesChanges(Asset<?> original,
+                                                                                   Asset<?> update,
+                                                                                   Field properties,
+                                                                                   URI assetId) {
+        if (properties == null) {
             return Collections.emptySet();
         }
-        Map<?, ?> originalProps = (Map<?, ?>) getAttributeValue(propsSpec, original);
-        Map<?, ?> updateProps = (Map<?, ?>) getAttributeValue(propsSpec, update);
+        Map<?, ?> originalProps = (Map<?, ?>) valueOf(properties, original);
+        Map<?, ?> updateProps = (Map<?, ?>) valueOf(properties, update);
         if (originalProps == null) {
             originalProps = Collections.emptyMap();
         }
@@ -233,4 +280,62 @@ private static void recordPropertyValues(UpdateChangeRecord record, Object origV
             record.setNewValue(new HashSet<>((Set<?>) updateValue));
         }
     }
+
+    /**
+     * How values of an attribute are compared.
+     */
+    private enum Comparison {
+        /**
+         * Singular literal value compared using equals.
+         */
+        VALUE(false, false),
+        /**
+         * Collection of literal values.
+         */
+        COLLECTION(false, true),
+        /**
+         * Singular reference represented by an identifier.
+         */
+        REFERENCE(true, false),
+        /**
+         * Collection of references represented by identifiers.
+         */
+        REFERENCE_COLLECTION(true, true),
+        /**
+         * Singular reference to an entity, compared by its identifier.
+         */
+        ENTITY(true, false),
+        /**
+         * Collection of references to entities, compared by their identifiers.
+         */
+        ENTITY_COLLECTION(true, true);
+
+        private final boolean association;
+        private final boolean collection;
+
+        Comparison(boolean association, boolean collection) {
+            this.association = association;
+            this.collection = collection;
+        }
+    }
+
+    /**
+     * Change tracking metadata of a single attribute.
+     *
+     * @param property   Identifier of the property represented by the attribute
+     * @param field      Field holding the attribute value
+     * @param comparison How to compare attribute values
+     */
+    private record AttributePlan(URI property, Field field, Comparison comparison) {
+    }
+
+    /**
+     * Precomputed change tracking metadata of an entity class.
+     *
+     * @param attributes Attributes whose changes are tracked
+     * @param types      Types field, {@code null} if the class has none
+     * @param properties Unmapped properties field, {@code null} if the class has none
+     */
+    private record ChangePlan(List<AttributePlan> attributes, Field types, Field properties) {
+    }
 }
@@ -33,6 +33,7 @@
 import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.TypeAwareFileSystemResource;
 import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
 import org.apache.tika.Tika;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -59,16 +60,24 @@ public class DefaultDocumentManager implements DocumentManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultDocumentManager.class);
 
+    /**
+     * Variant of derived content representing extracted backup.
+     */
+    static final String BACKUP_CONTENT_VARIANT = "backup";
+
     private final Configuration configuration;
     private final DocumentBackupManager backupManager;
     private final ResourceRepositoryService resourceRepositoryService;
+    private final DerivedContentCache derivedContentCache;
 
     @Autowired
     public DefaultDocumentManager(Configuration config, DocumentBackupManager backupManager,
-                                  ResourceRepositoryService resourceRepositoryService) {
+                                  ResourceRepositoryService resourceRepositoryService,
+                                  DerivedContentCache derivedContentCache) {
         this.configuration = config;
         this.backupManager = backupManager;
         this.resourceRepositoryService = resourceRepositoryService;
+        this.derivedContentCache = derivedContentCache;
     }
 
     private Path storageDirectory() {
@@ -105,10 +114,17 @@ public TypeAwareResource getAsResource(File file) {
     public TypeAwareResource getAsResource(File file, Instant at) {
         Objects.requireNonNull(file);
         Objects.requireNonNull(at);
-        BackupFile backup = backupManager.getBackup(file, at);
-        java.io.File backupContent = backupManager.openBackup(backup);
-
-        return new TypeAwareFileSystemResource(backupContent, getMediaType(file));
+        final BackupFile backup = backupManager.getBackup(file, at);
+        final String mediaType = getMediaType(file);
+        // Backups are immutable, so the extracted content can be reused
+        return derivedContentCache.getOrCompute(file, new TypeAwareFileSystemResource(backup.file(), mediaType),
+                                                BACKUP_CONTENT_VARIANT,
+                                                source -> new TypeAwareStreamingResource(out -> {
+                                                    try (final InputStream in = backupManager.openBackupStream(
+                                                            backup)) {
+                                                        in.transferTo(out);
+                                                    }
+                                                }, mediaType, null, backup.file().getName()));
     }
 
     @Override
@@ -118,6 +134,7 @@ public void saveFileContent(File file, InputStream content) {
             LOG.debug("Saving file content to {}.", target);
             Files.createDirectories(target.getParentFile().toPath());
             Files.copy(content, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            derivedContentCache.evict(file);
             file.updateModified();
             resourceRepositoryService.update(file);
         } catch (IOException e) {
@@ -171,6 +188,7 @@ public void remove(Resource resource) {
 
     private void removeFile(File file) {
         LOG.debug("Removing stored content of file {}.", file);
+        derivedContentCache.evict(file);
         final java.io.File physicalFile = resolveFile(file, false);
         if (!physicalFile.exists()) {
             return;
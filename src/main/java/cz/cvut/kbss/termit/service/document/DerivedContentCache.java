@@ -0,0 +1,375 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.document;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import cz.cvut.kbss.termit.event.DocumentRenameEvent;
+import cz.cvut.kbss.termit.event.FileRenameEvent;
+import cz.cvut.kbss.termit.exception.DocumentManagerException;
+import cz.cvut.kbss.termit.model.resource.File;
+import cz.cvut.kbss.termit.util.Configuration;
+import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of content derived from stored files.
+ * <p>
+ * Deriving content (e.g., extracting a compressed backup or removing unconfirmed term occurrences from an annotated
+ * document) may require parsing the whole file. The derived content is therefore stored in a dedicated directory and
+ * served from there as long as its source does not change.
+ * <p>
+ * Entries are identified by the file, the source of the derived content (the physical file including its last
+ * modification time and size, or another cached content) and the variant of the derived content. So any modification of the source leads to a different
+ * entry. Entries of a file are additionally evicted when the file content is saved or the file is renamed.
+ * <p>
+ * The cache is bounded by the total size of the cached content. The index of the cached content is kept in memory,
+ * so content left in the cache directory by a previous run is removed on startup. Only files named by this cache
+ * ({@code <UUID>_<file name>}) are removed, other content of a configured directory is left intact. The cached content
+ * is removed on shutdown together with the temporary directory used when no directory is configured.
+ */
+@Component
+public class DerivedContentCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DerivedContentCache.class);
+
+    static final String CACHE_NAME = "derivedContent";
+
+    /**
+     * How many times to try opening cached content evicted concurrently before deriving it without caching.
+     */
+    private static final int MAX_OPEN_ATTEMPTS = 3;
+
+    private final Path directory;
+
+    /**
+     * Whether {@link #directory} is a temporary directory created by this cache.
+     */
+    private final boolean temporaryDirectory;
+
+    private final Cache<Key, Entry> cache;
+
+    @Autowired
+    public DerivedContentCache(Configuration config, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(config.getFile().getDerivedContentCache(), meterRegistry.getIfAvailable());
+    }
+
+    DerivedContentCache(Configuration.File.DerivedContentCache settings, MeterRegistry meterRegistry) {
+        Objects.requireNonNull(settings);
+        if (settings.getMaxSize() == 0) {
+            LOG.debug("Derived content cache is disabled.");
+            this.directory = null;
+            this.temporaryDirectory = false;
+            this.cache = null;
+            return;
+        }
+        this.directory = initDirectory(settings.getDirectory());
+        this.temporaryDirectory = settings.getDirectory().isEmpty();
+        LOG.debug("Caching derived content in {}, bounded to {} bytes.", directory, settings.getMaxSize());
+        // Maintenance (eviction) is cheap, so run it in the calling thread instead of the common fork-join pool
+        this.cache = Caffeine.newBuilder().recordStats().executor(Runnable::run)
+                             .maximumWeight(settings.getMaxSize())
+                             .weigher((Key key, Entry entry) -> (int) Math.min(entry.size(), Integer.MAX_VALUE))
+                             .removalListener((Key key, Entry entry, RemovalCause cause) -> {
+                                 if (entry != null) {
+                                     deleteQuietly(entry.path());
+                                 }
+                             })
+                             .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    private static Path initDirectory(Optional<String> configured) {
+        try {
+            if (configured.isEmpty()) {
+                return Files.createTempDirectory("termit-" + CACHE_NAME);
+            }
+            final Path dir = Path.of(configured.get());
+            Files.createDirectories(dir);
+            deleteCachedContent(dir);
+            return dir;
+        } catch (IOException e) {
+            throw new DocumentManagerException("Unable to initialize derived content cache directory.", e);
+        }
+    }
+
+    private static void deleteCachedContent(Path dir) throws IOException {
+        try (final Stream<Path> content = Files.list(dir)) {
+            content.filter(p -> Files.isRegularFile(p) && isCachedContent(p))
+                   .forEach(DerivedContentCache::deleteQuietly);
+        }
+    }
+
+    /**
+     * Checks whether the specified file is named the way this cache names files with cached content.
+     */
+    private static boolean isCachedContent(Path path) {
+        final String name = path.getFileName().toString();
+        final int separator = name.indexOf('_');
+        if (separator < 0) {
+            return false;
+        }
+        final String prefix = name.substring(0, separator);
+        try {
+            return UUID.fromString(prefix).toString().equals(prefix);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Removes all cached content and, if no directory was configured, the temporary cache directory.
+     */
+    @PreDestroy
+    public void close() {
+        if (cache == null) {
+            return;
+        }
+        cache.invalidateAll();
+        cache.cleanUp();
+        try {
+            deleteCachedContent(directory);
+            if (temporaryDirectory) {
+                Files.deleteIfExists(directory);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to clean up derived content cache directory {}.", directory, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOG.warn("Unable to delete cached derived content {}.", path, e);
+        }
+    }
+
+    /**
+     * Gets the specified variant of content derived from the specified source, computing it if necessary.
+     * <p>
+     * If the source is not a file on the file system nor content returned by this cache (so its modification cannot
+     * be detected) or the cache is disabled, the content is derived directly and not cached.
+     * <p>
+     * The returned resource remains readable even if the cached content is evicted before it is read. In such a case,
+     * the content is derived again.
+     * <p>
+     * A {@link TypeAwareStreamingResource} returned by the deriver is written directly into the cache.
+     *
+     * @param file    File whose content is derived
+     * @param source  Source of the derived content, e.g., current content of the file or its backup
+     * @param variant Identifier of the kind of the derived content
+     * @param deriver Computes the derived content from the source
+     * @return Derived content
+     */
+    public TypeAwareResource getOrCompute(@Nonnull File file, @Nonnull TypeAwareResource source,
+                                          @Nonnull String variant, @Nonnull UnaryOperator<TypeAwareResource> deriver) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(variant);
+        Objects.requireNonNull(deriver);
+        if (cache == null || !(source instanceof CachedResource || source.isFile())) {
+            return deriver.apply(source);
+        }
+        final Key key = new Key(file.getUri(), sourceIdentifier(source), variant);
+        return new CachedResource(key, source, deriver, load(key, source, deriver));
+    }
+
+    private static Object sourceIdentifier(TypeAwareResource source) {
+        if (source instanceof CachedResource cached) {
+            return cached.key;
+        }
+        try {
+            final Path sourcePath = source.getFile().toPath().toAbsolutePath();
+            final BasicFileAttributes attributes = Files.readAttributes(sourcePath, BasicFileAttributes.class);
+            return new SourceFile(sourcePath.toString(), attributes.lastModifiedTime().toMillis(), attributes.size());
+        } catch (IOException e) {
+            throw new DocumentManagerException("Unable to read attributes of file " + source.getFilename() + ".", e);
+        }
+    }
+
+    private Entry load(Key key, TypeAwareResource source, UnaryOperator<TypeAwareResource> deriver) {
+        return cache.get(key, k -> store(source, deriver.apply(source)));
+    }
+
+    private Entry store(TypeAwareResource source, TypeAwareResource derived) {
+        final String name = Optional.ofNullable(derived.getFilename()).orElse(source.getFilename());
+        final Path target = directory.resolve(UUID.randomUUID() + "_" + name);
+        LOG.trace("Caching content derived from {} in {}.", source.getFilename(), target);
+        try {
+            if (derived instanceof TypeAwareStreamingResource streaming) {
+                try (final OutputStream out = Files.newOutputStream(target)) {
+                    streaming.writeTo(out);
+                }
+            } else {
+                try (final InputStream in = derived.getInputStream()) {
+                    Files.copy(in, target);
+                }
+            }
+            return new Entry(target, derived.getMediaType().orElse(null), Files.size(target));
+        } catch (IOException e) {
+            deleteQuietly(target);
+            throw new DocumentManagerException("Unable to cache content derived from " + source.getFilename() + ".",
+                                               e);
+        }
+    }
+
+    /**
+     * Evicts all content derived from the specified file.
+     *
+     * @param file File whose derived content to evict
+     */
+    public void evict(@Nonnull File file) {
+        Objects.requireNonNull(file);
+        if (cache != null) {
+            cache.asMap().keySet().removeIf(k -> Objects.equals(k.file(), file.getUri()));
+        }
+    }
+
+    /**
+     * Evicts all cached content.
+     */
+    public void evictAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @EventListener
+    public void onFileRename(FileRenameEvent event) {
+        evict(event.getSource());
+    }
+
+    @EventListener
+    public void onDocumentRename(DocumentRenameEvent event) {
+        if (event.getSource().getFiles() != null) {
+            event.getSource().getFiles().forEach(this::evict);
+        }
+    }
+
+    /**
+     * Cached content remains readable after it is opened even if it is evicted (and its file deleted) concurrently.
+     * If it is evicted before being opened, the content is derived again.
+     */
+    private final class CachedResource extends AbstractResource implements TypeAwareResource {
+
+        private final Key key;
+        private final TypeAwareResource source;
+        private final UnaryOperator<TypeAwareResource> deriver;
+        private volatile Entry entry;
+
+        private CachedResource(Key key, TypeAwareResource source, UnaryOperator<TypeAwareResource> deriver,
+                               Entry entry) {
+            this.key = key;
+            this.source = source;
+            this.deriver = deriver;
+            this.entry = entry;
+        }
+
+        @Nonnull
+        @Override
+        public InputStream getInputStream() throws IOException {
+            for (int i = 0; i < MAX_OPEN_ATTEMPTS; i++) {
+                final Entry current = entry;
+                try {
+                    return Files.newInputStream(current.path());
+                } catch (NoSuchFileException e) {
+                    LOG.trace("Cached content {} evicted before it was read, deriving it again.", current.path());
+                    cache.asMap().remove(key, current);
+                    this.entry = load(key, source, deriver);
+                }
+            }
+            // Evicted repeatedly, the cache is likely too small for the content
+            return deriver.apply(source).getInputStream();
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return entry.size();
+        }
+
+        @Override
+        public String getFilename() {
+            return source.getFilename();
+        }
+
+        @Override
+        public Optional<String> getMediaType() {
+            return Optional.ofNullable(entry.mediaType());
+        }
+
+        @Nonnull
+        @Override
+        public String getDescription() {
+            return "Cached derived content [" + key.variant() + " of " + source.getDescription() + "]";
+        }
+    }
+
+    /**
+     * Identifies a source file by its location, last modification time and size.
+     */
+    private record SourceFile(String path, long lastModified, long size) {
+    }
+
+    /**
+     * @param source Identifier of the source, either {@link SourceFile} or {@link Key} of cached content the content
+     *               is derived from
+     */
+    private record Key(URI file, Object source, String variant) {
+    }
+
+    private record Entry(Path path, String mediaType, long size) {
+    }
+}
@@ -21,12 +21,25 @@
 import cz.cvut.kbss.termit.model.Asset;
 import cz.cvut.kbss.termit.model.assignment.TermOccurrence;
 import cz.cvut.kbss.termit.persistence.dao.TermOccurrenceDao;
+import cz.cvut.kbss.termit.util.Configuration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -43,8 +56,23 @@ public class TermOccurrenceSaver {
 
     private final TermOccurrenceDao termOccurrenceDao;
 
-    public TermOccurrenceSaver(TermOccurrenceDao termOccurrenceDao) {
+    private final int batchSize;
+
+    private final Counter savedCounter;
+
+    private final Timer batchTimer;
+
+    public TermOccurrenceSaver(TermOccurrenceDao termOccurrenceDao, Configuration config,
+                               ObjectProvider<MeterRegistry> meterRegistry) {
         this.termOccurrenceDao = termOccurrenceDao;
+        this.batchSize = config.getTextAnalysis().getTermOccurrenceBatchSize();
+        final MeterRegistry registry = meterRegistry.getIfAvailable(CompositeMeterRegistry::new);
+        this.savedCounter = Counter.builder("app.term.occurrences.saved")
+                                   .description("Term occurrences saved from text analysis results")
+                                   .register(registry);
+        this.batchTimer = Timer.builder("app.term.occurrences.batch")
+                               .description("Duration of saving a batch of term occurrences")
+                               .register(registry);
     }
 
     /**
@@ -81,18 +109,24 @@ public void saveOccurrence(TermOccurrence occurrence, Asset<?> source) {
      * {@code #finished} is set to {@code true}.
      * <p>
      * Removes all existing occurrences before processing.
+     * <p>
+     * Occurrences are drained from the queue and saved in batches of the configured size.
      *
      * @param source   Asset in which the terms occur
      * @param finished Whether all occurrences were added to the queue
      * @param toSave   the queue with occurrences to save
+     * @see Configuration.TextAnalysis#getTermOccurrenceBatchSize()
      */
     @Transactional
     public void saveFromQueue(final Asset<?> source, final AtomicBoolean finished,
                               final BlockingQueue<TermOccurrence> toSave) {
         LOG.debug("Saving term occurrences for asset {}.", source);
         removeAll(source);
+        final List<TermOccurrence> batch = new ArrayList<>(batchSize);
+        final Set<URI> saved = new HashSet<>();
         TermOccurrence occurrence;
         long count = 0;
+        final long start = System.nanoTime();
         try {
             while (!finished.get() || !toSave.isEmpty()) {
                 if (toSave.isEmpty()) {
@@ -100,11 +134,18 @@ public void saveFromQueue(final Asset<?> source, final AtomicBoolean finished,
                 }
                 occurrence = toSave.poll(1, TimeUnit.SECONDS);
                 if (occurrence != null) {
-                    saveOccurrence(occurrence, source);
-                    count++;
+                    batch.add(occurrence);
+                    toSave.drainTo(batch, batchSize - batch.size());
+                }
+                if (batch.size() >= batchSize) {
+                    count += saveBatch(batch, source, saved);
+                    batch.clear();
                 }
             }
-            LOG.debug("Saved {} term occurrences for asset {}.", count, source);
+            count += saveBatch(batch, source, saved);
+            final long durationMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), 1);
+            LOG.debug("Saved {} term occurrences for asset {} in {} ms ({} occurrences/s).", count, source,
+                      durationMillis, count * 1000 / durationMillis);
         } catch (InterruptedException e) {
             LOG.error("Thread interrupted while waiting for occurrences to save.");
             Thread.currentThread().interrupt();
@@ -112,6 +153,48 @@ public void saveFromQueue(final Asset<?> source, final AtomicBoolean finished,
         }
     }
 
+    /**
+     * Saves the specified batch of occurrences, skipping those that already exist.
+     *
+     * @param batch  Occurrences to save
+     * @param source Asset in which the terms occur
+     * @param saved  Identifiers of occurrences saved so far, updated by this method
+     * @return Number of saved occurrences
+     */
+    private int saveBatch(List<TermOccurrence> batch, Asset<?> source, Set<URI> saved) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        return batchTimer.record(() -> {
+            final Map<URI, TermOccurrence> candidates = new LinkedHashMap<>();
+            final List<TermOccurrence> toPersist = new ArrayList<>(batch.size());
+            for (TermOccurrence o : batch) {
+                if (o.getTerm().equals(source.getUri())) {
+                    continue;
+                }
+                if (o.getUri() == null) {
+                    toPersist.add(o);
+                } else if (saved.contains(o.getUri()) || candidates.putIfAbsent(o.getUri(), o) != null) {
+                    LOG.debug("Occurrence already exists, skipping: {}", o);
+                }
+            }
+            final Set<URI> existing = termOccurrenceDao.findExisting(candidates.keySet());
+            candidates.forEach((uri, o) -> {
+                if (existing.contains(uri)) {
+                    LOG.debug("Occurrence already exists, skipping: {}", o);
+                } else {
+                    toPersist.add(o);
+                }
+            });
+            if (!toPersist.isEmpty()) {
+                termOccurrenceDao.persistAll(toPersist);
+            }
+            toPersist.forEach(o -> saved.add(Objects.requireNonNull(o.getUri())));
+            savedCounter.increment(toPersist.size());
+            return toPersist.size();
+        });
+    }
+
     /**
      * Gets a list of existing term occurrences in the specified asset.
      *
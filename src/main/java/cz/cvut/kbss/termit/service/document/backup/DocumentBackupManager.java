@@ -110,6 +110,50 @@ public java.io.File openBackup(BackupFile backupFile) {
         return openLegacyBackup(backupFile.file());
     }
 
+    /**
+     * Opens a stream reading the (decompressed) content of the backup.
+     * <p>
+     * Unlike {@link #openBackup(BackupFile)}, no temporary file is created. The caller is responsible for closing the
+     * stream.
+     *
+     * @param backupFile the backup file
+     * @return stream of the backup content
+     */
+    public InputStream openBackupStream(BackupFile backupFile) {
+        final java.io.File file = backupFile.file();
+        if (!BZip2Utils.isCompressedFileName(file.getName())) {
+            try {
+                return Files.newInputStream(file.toPath());
+            } catch (IOException e) {
+                throw new BackupManagerException("Unable to read a file", e);
+            }
+        }
+        if (!file.isFile()) {
+            throw new BackupManagerException("Unable to decompress non-file entry: " + file);
+        }
+        InputStream is = null;
+        try {
+            // Compressed file
+            is = Files.newInputStream(file.toPath());
+            // bzip2 reads from ↑
+            return new CompressorStreamFactory().createCompressorInputStream(CompressorStreamFactory.BZIP2, is);
+        } catch (IOException e) {
+            closeQuietly(is);
+            throw new BackupManagerException("Unable to decompress file.", e);
+        }
+    }
+
+    private static void closeQuietly(InputStream is) {
+        if (is == null) {
+            return;
+        }
+        try {
+            is.close();
+        } catch (IOException e) {
+            LOG.warn("Unable to close stream.", e);
+        }
+    }
+
     private java.io.File openLegacyBackup(java.io.File file) {
         try {
             Path tempFile = Files.createTempFile(null, "_" + file.getName());
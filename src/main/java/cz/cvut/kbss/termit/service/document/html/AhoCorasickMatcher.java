@@ -0,0 +1,132 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.document.html;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds occurrences of multiple patterns in a text in a single pass using the
+ * <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm">Aho-Corasick</a> algorithm.
+ * <p>
+ * The matcher is immutable once created and may be used to search multiple texts.
+ */
+class AhoCorasickMatcher {
+
+    private final State root = new State();
+
+    private final List<String> patterns;
+
+    /**
+     * Creates a matcher of the specified patterns.
+     * <p>
+     * Empty patterns never match.
+     *
+     * @param patterns Patterns to search for, matches are reported using their index in this list
+     */
+    AhoCorasickMatcher(List<String> patterns) {
+        this.patterns = List.copyOf(patterns);
+        for (int i = 0; i < this.patterns.size(); i++) {
+            addPattern(this.patterns.get(i), i);
+        }
+        buildFailureLinks();
+    }
+
+    private void addPattern(String pattern, int index) {
+        if (pattern.isEmpty()) {
+            return;
+        }
+        State current = root;
+        for (int i = 0; i < pattern.length(); i++) {
+            current = current.next.computeIfAbsent(pattern.charAt(i), c -> new State());
+        }
+        current.patterns.add(index);
+    }
+
+    private void buildFailureLinks() {
+        final Deque<State> queue = new ArrayDeque<>();
+        root.failure = root;
+        for (State child : root.next.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final State state = queue.poll();
+            for (Map.Entry<Character, State> e : state.next.entrySet()) {
+                final State child = e.getValue();
+                State failure = state.failure;
+                while (failure != root && !failure.next.containsKey(e.getKey())) {
+                    failure = failure.failure;
+                }
+                final State target = failure.next.get(e.getKey());
+                child.failure = target != null && target != child ? target : root;
+                child.output = !child.failure.patterns.isEmpty() ? child.failure : child.failure.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Finds all occurrences of the patterns in the specified text.
+     * <p>
+     * Matches are reported in the order of their end position in the text.
+     *
+     * @param text     Text to search
+     * @param consumer Consumer of the matches
+     */
+    void match(CharSequence text, MatchConsumer consumer) {
+        State current = root;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            while (current != root && !current.next.containsKey(c)) {
+                current = current.failure;
+            }
+            current = current.next.getOrDefault(c, root);
+            for (State s = current.patterns.isEmpty() ? current.output : current; s != null; s = s.output) {
+                for (Integer p : s.patterns) {
+                    consumer.accept(p, i + 1 - patterns.get(p).length());
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface MatchConsumer {
+        /**
+         * Accepts a pattern match.
+         *
+         * @param patternIndex Index of the matching pattern
+         * @param start        Start position of the match in the text
+         */
+        void accept(int patternIndex, int start);
+    }
+
+    private static class State {
+        private final Map<Character, State> next = new HashMap<>();
+        private final List<Integer> patterns = new ArrayList<>(1);
+        private State failure;
+        /**
+         * The nearest state on the failure path which represents the end of a pattern
+         */
+        private State output;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.document.html;
+
+import cz.cvut.kbss.termit.model.assignment.TermOccurrence;
+import cz.cvut.kbss.termit.model.selector.Selector;
+import cz.cvut.kbss.termit.util.Utils;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index of existing approved term occurrences by term and selector.
+ * <p>
+ * Allows to find an existing occurrence matching a newly resolved one without scanning all the existing occurrences.
+ * An existing occurrence matches when it is an occurrence of the same term and has at least one selector equal to a
+ * selector of the new occurrence. Each existing occurrence can be matched only once.
+ * <p>
+ * This class is not thread-safe.
+ */
+class ApprovedOccurrenceIndex {
+
+    private final List<TermOccurrence> occurrences;
+
+    private final boolean[] matched;
+
+    /**
+     * Positions of occurrences in {@link #occurrences} by their term and selector, in ascending order.
+     */
+    private final Map<Key, Deque<Integer>> index = new HashMap<>();
+
+    ApprovedOccurrenceIndex(List<TermOccurrence> occurrences) {
+        this.occurrences = List.copyOf(occurrences);
+        this.matched = new boolean[occurrences.size()];
+        for (int i = 0; i < this.occurrences.size(); i++) {
+            final TermOccurrence to = this.occurrences.get(i);
+            assert to.getTarget() != null;
+            for (Selector selector : Utils.emptyIfNull(to.getTarget().getSelectors())) {
+                index.computeIfAbsent(new Key(to.getTerm(), selector), k -> new ArrayDeque<>()).add(i);
+            }
+        }
+    }
+
+    /**
+     * Finds an existing occurrence matching the specified one and marks it as matched.
+     * <p>
+     * If there are multiple matching occurrences, the first one (in the order in which they were provided) is used.
+     *
+     * @param occurrence Newly resolved occurrence
+     * @return {@code true} if a matching existing occurrence was found, {@code false} otherwise
+     */
+    boolean match(TermOccurrence occurrence) {
+        Objects.requireNonNull(occurrence.getTarget());
+        int first = -1;
+        for (Selector selector : Utils.emptyIfNull(occurrence.getTarget().getSelectors())) {
+            final Deque<Integer> positions = index.get(new Key(occurrence.getTerm(), selector));
+            if (positions == null) {
+                continue;
+            }
+            // Occurrences already matched via another selector are dropped lazily
+            while (!positions.isEmpty() && matched[positions.peekFirst()]) {
+                positions.pollFirst();
+            }
+            if (!positions.isEmpty() && (first == -1 || positions.peekFirst() < first)) {
+                first = positions.peekFirst();
+            }
+        }
+        if (first == -1) {
+            return false;
+        }
+        matched[first] = true;
+        return true;
+    }
+
+    /**
+     * Gets existing occurrences that have not been matched.
+     *
+     * @return List of unmatched occurrences, in the order in which they were provided
+     */
+    List<TermOccurrence> getUnmatched() {
+        final List<TermOccurrence> result = new ArrayList<>();
+        for (int i = 0; i < occurrences.size(); i++) {
+            if (!matched[i]) {
+                result.add(occurrences.get(i));
+            }
+        }
+        return result;
+    }
+
+    private record Key(URI term, Selector selector) {
+    }
+}
@@ -54,4 +54,19 @@ public HtmlSelectorGenerators(Configuration config) {
     public Set<Selector> generateSelectors(Element... elements) {
         return generators.stream().map(g -> g.generateSelector(elements)).collect(Collectors.toSet());
     }
+
+    /**
+     * Generates selectors for the specified HTML/XML elements, using the specified text offset index of the document
+     * containing them.
+     * <p>
+     * This allows generating selectors for many elements of a large document without repeatedly extracting text of
+     * the document.
+     *
+     * @param index    Text offset index of the document containing the elements
+     * @param elements Elements to generate selectors for
+     * @return Set of generated selectors
+     */
+    public Set<Selector> generateSelectors(TextOffsetIndex index, Element... elements) {
+        return generators.stream().map(g -> g.generateSelector(index, elements)).collect(Collectors.toSet());
+    }
 }
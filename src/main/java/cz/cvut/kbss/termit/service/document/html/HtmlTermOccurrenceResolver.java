@@ -21,7 +21,6 @@
 import cz.cvut.kbss.termit.exception.TermItException;
 import cz.cvut.kbss.termit.model.Asset;
 import cz.cvut.kbss.termit.model.Term;
-import cz.cvut.kbss.termit.model.assignment.OccurrenceTarget;
 import cz.cvut.kbss.termit.model.assignment.TermOccurrence;
 import cz.cvut.kbss.termit.model.resource.File;
 import cz.cvut.kbss.termit.model.selector.Selector;
@@ -53,9 +52,10 @@
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -63,6 +63,7 @@
 import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Resolves term occurrences from RDFa-annotated HTML document.
@@ -87,6 +88,8 @@ public class HtmlTermOccurrenceResolver extends TermOccurrenceResolver {
 
     private Document document;
 
+    private TextOffsetIndex textOffsetIndex;
+
     private Asset<?> source;
 
     private Map<String, String> prefixes;
@@ -108,6 +111,7 @@ public void parseContent(InputStream input, Asset<?> source) {
             this.source = source;
             this.document = Jsoup.parse(input, StandardCharsets.UTF_8.name(), "");
             this.prefixes = resolvePrefixes(document);
+            this.textOffsetIndex = TextOffsetIndex.of(document);
         } catch (IOException e) {
             throw new AnnotationGenerationException("Unable to read RDFa document.", e);
         }
@@ -176,6 +180,7 @@ public void findTermOccurrences(OccurrenceConsumer resultConsumer) {
         final Elements elements = document.getElementsByAttribute(Constants.RDFa.ABOUT);
         LOG.trace("Found {} annotation elements in content.", elements.size());
         final Double scoreThreshold = Double.parseDouble(config.getTextAnalysis().getTermOccurrenceMinScore());
+        final ApprovedOccurrenceIndex approvedIndex = new ApprovedOccurrenceIndex(existingApprovedOccurrences);
         for (Element element : elements) {
             if (isNotTermOccurrence(element)) {
                 continue;
@@ -193,7 +198,7 @@ public void findTermOccurrences(OccurrenceConsumer resultConsumer) {
                     if (!to.isSuggested()) {
                         // Occurrence already approved in content (from previous manual approval)
                         resultConsumer.accept(to);
-                    } else if (existsApproved(to)) {
+                    } else if (approvedIndex.match(to)) {
                         LOG.trace("Found term occurrence {} with matching existing approved occurrence.", to);
                         to.markApproved();
                         // Annotation without score is considered approved by the frontend
@@ -216,6 +221,7 @@ public void findTermOccurrences(OccurrenceConsumer resultConsumer) {
                 }
             });
         }
+        this.existingApprovedOccurrences = approvedIndex.getUnmatched();
         try {
             addRemainingExistingApprovedOccurrences(resultConsumer);
         } catch (InterruptedException e) {
@@ -234,7 +240,7 @@ private Optional<TermOccurrence> resolveAnnotation(Element rdfaElem, Asset<?> so
         final URI termUri = URI.create(termId);
         verifyTermExists(rdfaElem, termUri, termId);
         final TermOccurrence occurrence = createOccurrence(termUri, source);
-        occurrence.getTarget().setSelectors(selectorGenerators.generateSelectors(rdfaElem));
+        occurrence.getTarget().setSelectors(selectorGenerators.generateSelectors(textOffsetIndex, rdfaElem));
         occurrence.setUri(resolveOccurrenceId(rdfaElem));
         final String strScore = rdfaElem.attr(SCORE_ATTRIBUTE);
         if (!strScore.isEmpty()) {
@@ -275,34 +281,17 @@ private URI composeOccurrenceUri(String localId) {
         return URI.create(TermOccurrence.resolveContext(source.getUri()) + "/" + localId);
     }
 
-    private boolean existsApproved(TermOccurrence newOccurrence) {
-        final OccurrenceTarget target = newOccurrence.getTarget();
-        assert target != null;
-        final Set<Selector> selectors = target.getSelectors();
-        final Iterator<TermOccurrence> it = existingApprovedOccurrences.iterator();
-        while (it.hasNext()) {
-            final TermOccurrence to = it.next();
-            if (!to.getTerm().equals(newOccurrence.getTerm())) {
-                continue;
-            }
-            final OccurrenceTarget existingTarget = to.getTarget();
-            assert existingTarget != null;
-            assert existingTarget.getSource().equals(target.getSource());
-            // Same term, contains at least one identical selector
-            if (existingTarget.getSelectors().stream().anyMatch(selectors::contains)) {
-                it.remove();
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Tries to add existing approved term occurrences to the content.
      * <p>
      * This means finding matching text using the {@link TextQuoteSelector} (as it is more resilient to minor changes in
      * the content file) and inserting a corresponding annotation element into the text.
      * <p>
+     * All the selectors are matched against the document text in a single pass. If several parts of the text match a
+     * selector, the last one is used. Annotations are inserted from the end of the document, so that splitting text
+     * nodes does not affect positions of the remaining matches. Matches overlapping an already inserted annotation are
+     * skipped.
+     * <p>
      * If a matching element can be created in the text, the existing term occurrence is processed just as a new one
      * would be.
      *
@@ -310,7 +299,8 @@ private boolean existsApproved(TermOccurrence newOccurrence) {
      */
     private void addRemainingExistingApprovedOccurrences(OccurrenceConsumer consumer) throws InterruptedException {
         LOG.debug("Adding existing approved occurrences to content.");
-        final Random random = new Random();
+        final List<TermOccurrence> occurrences = new ArrayList<>(existingApprovedOccurrences.size());
+        final List<TextQuoteSelector> selectors = new ArrayList<>(existingApprovedOccurrences.size());
         for (TermOccurrence to : existingApprovedOccurrences) {
             final Optional<Selector> tqSelector = to.getTarget().getSelectors().stream().filter(
                     TextQuoteSelector.class::isInstance).findFirst();
@@ -319,41 +309,137 @@ private void addRemainingExistingApprovedOccurrences(OccurrenceConsumer consumer
                           TextQuoteSelector.class.getSimpleName());
                 continue;
             }
-            final TextQuoteSelector tqs = (TextQuoteSelector) tqSelector.get();
-            final Elements containing = document.select(
-                    ":containsWholeText(" + escapeTextForSelector(
-                            tqs.getPrefix() + tqs.getExactMatch() + tqs.getSuffix()) + ")");
-            if (containing.isEmpty()) {
-                LOG.trace("{} did not find any matching elements. Skipping term occurrence.",
+            occurrences.add(to);
+            selectors.add((TextQuoteSelector) tqSelector.get());
+        }
+        if (occurrences.isEmpty()) {
+            return;
+        }
+        final TextOffsetIndex index = TextOffsetIndex.of(document);
+        final int[] matchStarts = findLastExactMatchStarts(index.getText(), selectors);
+        final List<Integer> order = IntStream.range(0, occurrences.size()).boxed()
+                                             .sorted(Comparator.comparingInt((Integer i) -> matchStarts[i]).reversed())
+                                             .toList();
+        final Random random = new Random();
+        int lastInsertedStart = Integer.MAX_VALUE;
+        for (int i : order) {
+            final TextQuoteSelector tqs = selectors.get(i);
+            final int start = matchStarts[i];
+            if (start < 0) {
+                LOG.trace("{} did not find any matching text. Skipping term occurrence.",
                           TextQuoteSelector.class.getSimpleName());
                 continue;
             }
+            if (start + tqs.getExactMatch().length() > lastInsertedStart) {
+                LOG.trace("Exact match '{}' overlaps an already inserted annotation. Skipping term occurrence.",
+                          tqs.getExactMatch());
+                continue;
+            }
+            final TextNode textNode = index.textNodeAt(start)
+                                           .filter(tn -> containsExactMatch(tn, start - index.startOf(tn).getAsInt(),
+                                                                            tqs))
+                                           .orElse(null);
+            // If it is inside a term occurrence element, then just skip its replacement
+            if (textNode != null && !isNotTermOccurrence(textNode.parentNode())) {
+                continue;
+            }
             // Copy the existing occurrence, so that the old one can be removed, and we do not interfere with it
-            final TermOccurrence copy = to.copy();
+            final TermOccurrence copy = occurrences.get(i).copy();
             // Generate new identifier for the copy
             copy.setUri(composeOccurrenceUri(Integer.toString(random.nextInt(10000))));
             LOG.debug("Adding {} - a copy of an existing approved term occurrence to content.", copy);
-            // Last should be the most specific one
-            final Element elem = containing.last();
-            assert elem != null;
-            final Elements containingExactMatch = elem.select(
-                    ":containsWholeText(" + escapeTextForSelector(tqs.getExactMatch()) + ")");
-            if (containingExactMatch.isEmpty()) {
-                LOG.trace("There is no element containing the exact match string '{}'. Skipping term occurrence.",
-                          tqs.getExactMatch());
-                continue;
-            }
-            final Element exactMatchElement = findFirstMostSpecificElement(containingExactMatch);
-            assert exactMatchElement != null;
-            // If it is a term occurrence element, then just skip its replacement
-            if (isNotTermOccurrence(exactMatchElement)) {
-                final Element annotationNode = createAnnotationElement(copy, tqs);
-                replaceContentWithAnnotation(exactMatchElement, tqs, annotationNode);
+            final Element annotationNode = createAnnotationElement(copy, tqs);
+            if (textNode != null) {
+                replaceWithAnnotation(textNode, start - index.startOf(textNode).getAsInt(), tqs, annotationNode);
+                lastInsertedStart = start;
+                consumer.accept(copy);
+            } else if (insertAnnotationIntoContainingElement(tqs, annotationNode)) {
                 consumer.accept(copy);
             }
         }
     }
 
+    /**
+     * Finds the last match of each of the specified selectors in the specified text.
+     *
+     * @param text      Text to search
+     * @param selectors Selectors to match
+     * @return Start positions of the exact match of the selectors in the text, {@code -1} for selectors without match
+     */
+    private static int[] findLastExactMatchStarts(String text, List<TextQuoteSelector> selectors) {
+        final int[] result = new int[selectors.size()];
+        Arrays.fill(result, -1);
+        final AhoCorasickMatcher matcher = new AhoCorasickMatcher(
+                selectors.stream().map(HtmlTermOccurrenceResolver::quoteOf).toList());
+        // Matches are reported in the order of their position, so the last one remains
+        matcher.match(text, (i, start) -> result[i] = start + Objects.toString(selectors.get(i).getPrefix(), "")
+                                                                     .length());
+        return result;
+    }
+
+    /**
+     * Gets the whole text quoted by the specified selector, i.e., exact match with prefix and suffix.
+     */
+    private static String quoteOf(TextQuoteSelector tqs) {
+        return Objects.toString(tqs.getPrefix(), "") + tqs.getExactMatch() + Objects.toString(tqs.getSuffix(), "");
+    }
+
+    /**
+     * Checks whether the specified text node (still attached to the document) contains the whole exact match of the
+     * specified selector at the specified offset.
+     * <p>
+     * This is not the case when the exact match spans multiple nodes, or when the node has been modified since the
+     * document text was indexed.
+     */
+    private static boolean containsExactMatch(TextNode textNode, int offset, TextQuoteSelector tqs) {
+        return textNode.parentNode() != null && textNode.getWholeText().startsWith(tqs.getExactMatch(), offset);
+    }
+
+    private static void replaceWithAnnotation(TextNode textNode, int offset, TextQuoteSelector tqs,
+                                              Element annotationNode) {
+        final TextNode matching = offset > 0 ? textNode.splitText(offset) : textNode;
+        if (matching.getWholeText().length() > tqs.getExactMatch().length()) {
+            matching.splitText(tqs.getExactMatch().length());
+        }
+        matching.replaceWith(annotationNode);
+    }
+
+    /**
+     * Inserts the annotation element into the most specific element containing the text matched by the specified
+     * selector.
+     * <p>
+     * This handles exact matches which span multiple nodes, e.g., because they contain a suggested term occurrence.
+     *
+     * @return {@code true} if the annotation was inserted, {@code false} otherwise
+     */
+    private boolean insertAnnotationIntoContainingElement(TextQuoteSelector tqs, Element annotationNode) {
+        final Elements containing = document.select(
+                ":containsWholeText(" + escapeTextForSelector(quoteOf(tqs)) + ")");
+        if (containing.isEmpty()) {
+            LOG.trace("{} did not find any matching elements. Skipping term occurrence.",
+                      TextQuoteSelector.class.getSimpleName());
+            return false;
+        }
+        // Last should be the most specific one
+        final Element elem = containing.last();
+        assert elem != null;
+        final Elements containingExactMatch = elem.select(
+                ":containsWholeText(" + escapeTextForSelector(tqs.getExactMatch()) + ")");
+        if (containingExactMatch.isEmpty()) {
+            LOG.trace("There is no element containing the exact match string '{}'. Skipping term occurrence.",
+                      tqs.getExactMatch());
+            return false;
+        }
+        final Element exactMatchElement = findFirstMostSpecificElement(containingExactMatch);
+        assert exactMatchElement != null;
+        // If it is a term occurrence element, then just skip its replacement
+        if (!isNotTermOccurrence(exactMatchElement)) {
+            return false;
+        }
+        replaceContentWithAnnotation(exactMatchElement, tqs, annotationNode);
+        return true;
+    }
+
     private static String escapeTextForSelector(String content) {
         return content.replaceAll("\\(", "\\\\(").replaceAll("\\)", "\\\\)")
                       .replaceAll("'", "\\\\'");
@@ -40,6 +40,21 @@ interface SelectorGenerator {
      */
     Selector generateSelector(Element... elements);
 
+    /**
+     * Generates selector for the specified elements' content, using the specified index of text offsets of the document
+     * containing the elements.
+     * <p>
+     * By default, the index is not used.
+     *
+     * @param index    Text offset index of the document containing the elements
+     * @param elements Elements to generate selector for. At least one must be provided
+     * @return Selector for the text content of the specified elements
+     * @see #generateSelector(Element...)
+     */
+    default Selector generateSelector(TextOffsetIndex index, Element... elements) {
+        return generateSelector(elements);
+    }
+
     /**
      * Extracts text content of the specified elements, joining them into one string.
      *
@@ -0,0 +1,120 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.document.html;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeTraversor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Index of start offsets of nodes in the text content of an HTML document.
+ * <p>
+ * The text content is the same as the one used by the selector generators, i.e., the concatenation of whole text of
+ * all text nodes in the document, with a line break for every {@literal br} element (see {@link Element#wholeText()}).
+ * <p>
+ * The index is built in a single traversal of the document and reflects the document at the time of its creation.
+ * Nodes inserted into the document later are not indexed.
+ */
+public class TextOffsetIndex {
+
+    private final Map<Node, Integer> offsets = new IdentityHashMap<>();
+
+    /**
+     * Non-empty text nodes in document order, with their start offsets at the same positions in {@link #textNodeStarts}
+     */
+    private final List<TextNode> textNodes = new ArrayList<>();
+    private final List<Integer> textNodeStarts = new ArrayList<>();
+
+    private final String text;
+
+    private TextOffsetIndex(Document document) {
+        final StringBuilder sb = new StringBuilder();
+        NodeTraversor.traverse((node, depth) -> {
+            offsets.put(node, sb.length());
+            if (node instanceof TextNode textNode) {
+                if (!textNode.getWholeText().isEmpty()) {
+                    textNodes.add(textNode);
+                    textNodeStarts.add(sb.length());
+                }
+                sb.append(textNode.getWholeText());
+            } else if (node.nameIs("br")) {
+                sb.append('\n');
+            }
+        }, document);
+        this.text = sb.toString();
+    }
+
+    /**
+     * Builds a text offset index of the specified document.
+     *
+     * @param document Document to index
+     * @return New index
+     */
+    public static TextOffsetIndex of(Document document) {
+        return new TextOffsetIndex(Objects.requireNonNull(document));
+    }
+
+    /**
+     * Gets the offset at which the text content of the specified node starts.
+     *
+     * @param node Node to get offset of
+     * @return Offset in the document text, empty if the node is not indexed
+     */
+    public OptionalInt startOf(Node node) {
+        final Integer offset = offsets.get(node);
+        return offset != null ? OptionalInt.of(offset) : OptionalInt.empty();
+    }
+
+    /**
+     * Finds the text node containing the character at the specified offset in the document text.
+     *
+     * @param offset Offset in the document text
+     * @return Matching text node, empty if the character does not belong to any text node (e.g., it represents a
+     * {@literal br} element) or the offset is out of range
+     */
+    public Optional<TextNode> textNodeAt(int offset) {
+        int i = Collections.binarySearch(textNodeStarts, offset);
+        if (i < 0) {
+            i = -i - 2;
+        }
+        if (i < 0 || offset >= textNodeStarts.get(i) + textNodes.get(i).getWholeText().length()) {
+            return Optional.empty();
+        }
+        return Optional.of(textNodes.get(i));
+    }
+
+    /**
+     * Gets the text content of the indexed document.
+     *
+     * @return Document text content
+     */
+    public String getText() {
+        return text;
+    }
+}
@@ -24,6 +24,7 @@
 import org.jsoup.select.Elements;
 
 import java.util.List;
+import java.util.OptionalInt;
 
 /**
  * Generates a {@link TextPositionSelector} for the specified elements.
@@ -48,6 +49,19 @@ public TextPositionSelector generateSelector(Element... elements) {
         return selector;
     }
 
+    @Override
+    public TextPositionSelector generateSelector(TextOffsetIndex index, Element... elements) {
+        assert elements.length > 0;
+        final OptionalInt start = index.startOf(elements[0]);
+        if (start.isEmpty()) {
+            return generateSelector(elements);
+        }
+        final TextPositionSelector selector = new TextPositionSelector();
+        selector.setStart(start.getAsInt());
+        selector.setEnd(selector.getStart() + extractExactText(elements).length());
+        return selector;
+    }
+
     /**
      * This code was extracted from {@link #extractNodeText} and related functions
      * to prevent constructing whole string contents for only getting its length.
@@ -23,6 +23,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  * Generates a {@link TextQuoteSelector} for the specified elements' content.
@@ -48,6 +49,31 @@ public TextQuoteSelector generateSelector(Element... elements) {
         return selector;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Prefix and suffix are taken directly from the document text in the index.
+     */
+    @Override
+    public TextQuoteSelector generateSelector(TextOffsetIndex index, Element... elements) {
+        assert elements.length > 0;
+        final OptionalInt start = index.startOf(elements[0]);
+        final OptionalInt lastStart = index.startOf(elements[elements.length - 1]);
+        if (start.isEmpty() || lastStart.isEmpty()) {
+            return generateSelector(elements);
+        }
+        final String text = index.getText();
+        final int end = lastStart.getAsInt() + elements[elements.length - 1].wholeText().length();
+        final TextQuoteSelector selector = new TextQuoteSelector(extractExactText(elements));
+        if (start.getAsInt() > 0) {
+            selector.setPrefix(text.substring(Math.max(0, start.getAsInt() - contextLength), start.getAsInt()));
+        }
+        if (end < text.length()) {
+            selector.setSuffix(text.substring(end, Math.min(text.length(), end + contextLength)));
+        }
+        return selector;
+    }
+
     private Optional<String> extractPrefix(Element start) {
         Element current = start;
         Element previous = current;
@@ -26,21 +26,29 @@
 import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.service.repository.TermRepositoryService;
 import cz.cvut.kbss.termit.service.repository.VocabularyRepositoryService;
+import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Constants;
 import cz.cvut.kbss.termit.util.TypeAwareByteArrayResource;
 import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
 import cz.cvut.kbss.termit.util.Utils;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFFont;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -59,6 +67,8 @@
 @Service("excel")
 public class ExcelVocabularyExporter implements VocabularyExporter {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ExcelVocabularyExporter.class);
+
     /**
      * Name of the sheet where prefix mapping should be put
      */
@@ -89,10 +99,14 @@ public class ExcelVocabularyExporter implements VocabularyExporter {
 
     private final VocabularyRepositoryService vocabularyService;
 
+    private final Configuration.Export config;
+
     @Autowired
-    public ExcelVocabularyExporter(TermRepositoryService termService, VocabularyRepositoryService vocabularyService) {
+    public ExcelVocabularyExporter(TermRepositoryService termService, VocabularyRepositoryService vocabularyService,
+                                   Configuration config) {
         this.termService = termService;
         this.vocabularyService = vocabularyService;
+        this.config = config.getExport();
     }
 
     @Override
@@ -100,7 +114,7 @@ public TypeAwareResource exportGlossary(Vocabulary vocabulary, ExportConfig conf
         Objects.requireNonNull(vocabulary);
         Objects.requireNonNull(config);
         if (ExportType.SKOS == config.getType()) {
-            return exportGlossary(vocabulary);
+            return this.config.isExcelStreaming() ? exportGlossaryStreaming(vocabulary) : exportGlossary(vocabulary);
         }
         throw new UnsupportedOperationException("Unsupported export type " + config.getType());
     }
@@ -120,17 +134,72 @@ private TypeAwareResource exportGlossary(Vocabulary vocabulary) {
         }
     }
 
-    private void generateGlossarySheets(Vocabulary vocabulary, XSSFWorkbook wb, Map<URI, PrefixDeclaration> prefixes) {
+    /**
+     * Exports the glossary using a streaming workbook.
+     * <p>
+     * Terms are loaded page by page and only a window of rows of each sheet is kept in memory. Languages (and thus
+     * sheets) are resolved upfront, so that rows of all sheets can be written in one pass over the terms.
+     */
+    private TypeAwareResource exportGlossaryStreaming(Vocabulary vocabulary) {
+        return new TypeAwareStreamingResource(out -> writeGlossary(vocabulary, out),
+                                              ExportFormat.EXCEL.getMediaType(),
+                                              ExportFormat.EXCEL.getFileExtension(),
+                                              "Excel export of " + vocabulary);
+    }
+
+    private void writeGlossary(Vocabulary vocabulary, OutputStream out) throws IOException {
+        final SXSSFWorkbook wb = new SXSSFWorkbook(config.getExcelRowWindow());
+        try {
+            final Map<URI, PrefixDeclaration> prefixes = new HashMap<>();
+            final List<String> langCodes = vocabularyService.getTermContentLanguages(vocabulary.getUri());
+            final List<Sheet> sheets = langCodes.stream().map(langCode -> {
+                final Sheet sheet = createGlossarySheet(wb, langCode);
+                generateHeader(sheet, langCode);
+                return sheet;
+            }).toList();
+            final CellStyle style = createTermRowStyle(wb);
+            final List<ExcelTermExporter> termExporters =
+                    langCodes.stream().map(langCode -> new ExcelTermExporter(prefixes, langCode)).toList();
+            final int pageSize = config.getExcelPageSize();
+            // Row no. 0 is the header
+            int rowNum = 1;
+            List<Term> page;
+            int pageNo = 0;
+            do {
+                page = termService.findAllFull(vocabulary, PageRequest.of(pageNo++, pageSize));
+                for (Term t : page) {
+                    resolvePrefixes(t, prefixes);
+                    for (int i = 0; i < sheets.size(); i++) {
+                        generateTermRow(t, sheets.get(i).createRow(rowNum), termExporters.get(i), style);
+                    }
+                    rowNum++;
+                }
+            } while (page.size() == pageSize);
+            LOG.trace("Exported {} terms of {} into Excel.", rowNum - 1, vocabulary);
+            generatePrefixMappingSheet(wb, prefixes.values());
+            wb.write(out);
+        } finally {
+            // Remove temporary files backing the sheets
+            wb.dispose();
+            wb.close();
+        }
+    }
+
+    private void generateGlossarySheets(Vocabulary vocabulary, Workbook wb, Map<URI, PrefixDeclaration> prefixes) {
         final List<Term> terms = termService.findAllFull(vocabulary);
         final List<String> uniqueLangCodes = extractUniqueLanguages(terms);
         uniqueLangCodes.forEach(langCode -> {
-            final LanguageCode lang = LanguageCode.getByCodeIgnoreCase(langCode);
-            final XSSFSheet sheet = wb.createSheet(lang != null ? lang.getName() : langCode);
+            final Sheet sheet = createGlossarySheet(wb, langCode);
             generateHeader(sheet, langCode);
             generateTermRows(terms, sheet, langCode, prefixes);
         });
     }
 
+    private static Sheet createGlossarySheet(Workbook wb, String langCode) {
+        final LanguageCode lang = LanguageCode.getByCodeIgnoreCase(langCode);
+        return wb.createSheet(lang != null ? lang.getName() : langCode);
+    }
+
     private List<String> extractUniqueLanguages(List<Term> terms) {
         final Set<String> uniqueLanguages = new HashSet<>();
         for (Term t : terms) {
@@ -144,14 +213,14 @@ private List<String> extractUniqueLanguages(List<Term> terms) {
         return uniqueLanguages.stream().filter(Objects::nonNull).sorted().collect(Collectors.toList());
     }
 
-    private static XSSFFont initFont(XSSFWorkbook wb) {
-        final XSSFFont font = wb.createFont();
+    private static Font initFont(Workbook wb) {
+        final Font font = wb.createFont();
         font.setFontHeightInPoints(FONT_SIZE);
         font.setFontName(FONT);
         return font;
     }
 
-    private void generateHeader(XSSFSheet sheet, String langCode) {
+    private void generateHeader(Sheet sheet, String langCode) {
         final List<String> columns = Constants.EXPORT_COLUMN_LABELS.getOrDefault(langCode,
                                                                                  Constants.EXPORT_COLUMN_LABELS.get(
                                                                                          Constants.DEFAULT_LANGUAGE));
@@ -163,8 +232,8 @@ private void generateHeader(XSSFSheet sheet, String langCode) {
         }
     }
 
-    private Row generateHeaderRow(XSSFSheet sheet) {
-        final XSSFFont font = initFont(sheet.getWorkbook());
+    private Row generateHeaderRow(Sheet sheet) {
+        final Font font = initFont(sheet.getWorkbook());
         font.setBold(true);
         final CellStyle cellStyle = sheet.getWorkbook().createCellStyle();
         cellStyle.setFont(font);
@@ -173,23 +242,31 @@ private Row generateHeaderRow(XSSFSheet sheet) {
         return row;
     }
 
-    private void generateTermRows(List<Term> terms, XSSFSheet sheet, String langCode,
+    private void generateTermRows(List<Term> terms, Sheet sheet, String langCode,
                                   Map<URI, PrefixDeclaration> prefixes) {
-        final XSSFFont font = initFont(sheet.getWorkbook());
-        final CellStyle style = sheet.getWorkbook().createCellStyle();
-        style.setFont(font);
-        style.setWrapText(true);
+        final CellStyle style = createTermRowStyle(sheet.getWorkbook());
         final ExcelTermExporter termExporter = new ExcelTermExporter(prefixes, langCode);
         for (int i = 0; i < terms.size(); i++) {
-            // Row no. 0 is the header
-            final Row row = sheet.createRow(i + 1);
-            row.setRowStyle(style);
             final Term t = terms.get(i);
             resolvePrefixes(t, prefixes);
-            termExporter.export(t, row);
-            for (short j = 0; j < row.getLastCellNum(); j++) {
-                row.getCell(j).setCellStyle(style);
-            }
+            // Row no. 0 is the header
+            generateTermRow(t, sheet.createRow(i + 1), termExporter, style);
+        }
+    }
+
+    private static CellStyle createTermRowStyle(Workbook wb) {
+        final Font font = initFont(wb);
+        final CellStyle style = wb.createCellStyle();
+        style.setFont(font);
+        style.setWrapText(true);
+        return style;
+    }
+
+    private static void generateTermRow(Term t, Row row, ExcelTermExporter termExporter, CellStyle style) {
+        row.setRowStyle(style);
+        termExporter.export(t, row);
+        for (short j = 0; j < row.getLastCellNum(); j++) {
+            row.getCell(j).setCellStyle(style);
         }
     }
 
@@ -209,10 +286,10 @@ private void resolvePrefixes(Term t, Map<URI, PrefixDeclaration> prefixes) {
                   .forEach(ti -> prefixes.put(ti.getVocabulary(), vocabularyService.resolvePrefix(ti.getVocabulary())));
     }
 
-    private void generatePrefixMappingSheet(XSSFWorkbook wb, Collection<PrefixDeclaration> prefixes) {
-        final XSSFSheet sheet = wb.createSheet(PREFIX_SHEET_NAME);
+    private void generatePrefixMappingSheet(Workbook wb, Collection<PrefixDeclaration> prefixes) {
+        final Sheet sheet = wb.createSheet(PREFIX_SHEET_NAME);
         generatePrefixSheetHeader(sheet);
-        final XSSFFont font = initFont(wb);
+        final Font font = initFont(wb);
         final CellStyle style = wb.createCellStyle();
         style.setFont(font);
         style.setWrapText(true);
@@ -231,7 +308,7 @@ private void generatePrefixMappingSheet(XSSFWorkbook wb, Collection<PrefixDeclar
         }
     }
 
-    private void generatePrefixSheetHeader(XSSFSheet sheet) {
+    private void generatePrefixSheetHeader(Sheet sheet) {
         final Row row = generateHeaderRow(sheet);
         row.createCell(PREFIX_COLUMN_NUMBER).setCellValue(PREFIX_COLUMN);
         sheet.setColumnWidth(0, COLUMN_WIDTH * 2 * 256);
@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.termit.service.export;
 
+import cz.cvut.kbss.termit.util.Configuration;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
@@ -26,8 +27,8 @@
 @Service("skos-rdfxml")
 public class SKOSRdfXmlVocabularyExporter extends SKOSVocabularyExporter {
 
-    public SKOSRdfXmlVocabularyExporter(ApplicationContext context) {
-        super(context);
+    public SKOSRdfXmlVocabularyExporter(ApplicationContext context, Configuration config) {
+        super(context, config);
     }
 
     @Override
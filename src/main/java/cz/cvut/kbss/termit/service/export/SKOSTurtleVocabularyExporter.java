@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.termit.service.export;
 
+import cz.cvut.kbss.termit.util.Configuration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
@@ -28,8 +29,8 @@
 public class SKOSTurtleVocabularyExporter extends SKOSVocabularyExporter {
 
     @Autowired
-    public SKOSTurtleVocabularyExporter(ApplicationContext context) {
-        super(context);
+    public SKOSTurtleVocabularyExporter(ApplicationContext context, Configuration config) {
+        super(context, config);
     }
 
     @Override
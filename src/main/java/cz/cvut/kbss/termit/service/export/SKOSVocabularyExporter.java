@@ -20,14 +20,18 @@
 import cz.cvut.kbss.termit.exception.UnsupportedOperationException;
 import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.persistence.dao.skos.SKOSExporter;
+import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.TypeAwareByteArrayResource;
 import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Exports vocabulary glossary in a SKOS-compatible format.
@@ -38,8 +42,11 @@ public abstract class SKOSVocabularyExporter implements VocabularyExporter {
 
     private final ApplicationContext context;
 
-    protected SKOSVocabularyExporter(ApplicationContext context) {
+    private final Configuration.Export config;
+
+    protected SKOSVocabularyExporter(ApplicationContext context, Configuration config) {
         this.context = context;
+        this.config = config.getExport();
     }
 
     /**
@@ -55,6 +62,9 @@ public TypeAwareResource exportGlossary(Vocabulary vocabulary, ExportConfig conf
         Objects.requireNonNull(vocabulary);
         Objects.requireNonNull(config);
         LOG.debug("Exporting glossary of vocabulary {} as {}.", vocabulary, config.getType());
+        if (this.config.isSkosStreaming()) {
+            return exportGlossaryStreaming(vocabulary, config);
+        }
         final SKOSExporter skosExporter = getSKOSExporter();
         switch (config.getType()) {
             case SKOS:
@@ -79,6 +89,27 @@ public TypeAwareResource exportGlossary(Vocabulary vocabulary, ExportConfig conf
         return res;
     }
 
+    /**
+     * Exports the glossary lazily, statements are written directly into the target stream once the resource content is
+     * requested.
+     */
+    private TypeAwareResource exportGlossaryStreaming(Vocabulary vocabulary, ExportConfig config) {
+        final boolean full = switch (config.getType()) {
+            case SKOS, SKOS_WITH_REFERENCES -> false;
+            case SKOS_FULL, SKOS_FULL_WITH_REFERENCES -> true;
+            default -> throw new UnsupportedOperationException("Unsupported export type " + config.getType());
+        };
+        final Collection<String> properties = switch (config.getType()) {
+            case SKOS_WITH_REFERENCES, SKOS_FULL_WITH_REFERENCES -> config.getReferenceProperties();
+            default -> Set.of();
+        };
+        final SKOSExporter skosExporter = getSKOSExporter();
+        return new TypeAwareStreamingResource(
+                out -> skosExporter.writeGlossary(vocabulary, full, properties, exportFormat(), out),
+                exportFormat().getMediaType(), exportFormat().getFileExtension(),
+                config.getType() + " export of " + vocabulary);
+    }
+
     protected abstract ExportFormat exportFormat();
 
     @Override
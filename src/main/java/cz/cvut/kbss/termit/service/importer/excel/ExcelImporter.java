@@ -20,6 +20,7 @@
 import cz.cvut.kbss.jopa.model.EntityManager;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
+import cz.cvut.kbss.termit.dto.ExistingTerms;
 import cz.cvut.kbss.termit.event.TermReferencesUpdatedEvent;
 import cz.cvut.kbss.termit.exception.NotFoundException;
 import cz.cvut.kbss.termit.exception.importing.VocabularyDoesNotExistException;
@@ -57,6 +58,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Imports a vocabulary from an Excel file.
@@ -145,8 +147,8 @@ public Vocabulary importVocabulary(@Nonnull ImportConfiguration config, @Nonnull
                     terms = sheetImporter.resolveTermsFromSheet(sheet);
                     rawDataToInsert.addAll(sheetImporter.getRawDataToInsert());
                 }
-                prepareTermsForPersist(terms, targetVocabulary);
-                persistNewTerms(terms, targetVocabulary, rawDataToInsert);
+                final Set<URI> existingTerms = prepareTermsForPersist(terms, targetVocabulary);
+                persistNewTerms(terms, targetVocabulary, existingTerms, rawDataToInsert);
                 notifyReferencingTerms(terms);
             }
             LOG.debug("Imported {} terms into vocabulary {}.", terms.size(), targetVocabulary);
@@ -197,49 +199,36 @@ private URI resolveTermIdentifierWrtVocabulary(Term term, Vocabulary vocabulary)
      * Prepares terms for persist by:
      * <ul>
      *     <li>Resolving their identifiers and harmonizing them with vocabulary namespace</li>
-     *     <li>Removing possibly pre-existing terms</li>
+     *     <li>Verifying that the target vocabulary does not contain other terms with the same labels</li>
+     *     <li>Finding possibly pre-existing terms</li>
      * </ul>
+     * Existing terms are resolved in bulk, using a single query.
      *
      * @param terms            Terms to process
      * @param targetVocabulary Target vocabulary
+     * @return Identifiers of pre-existing terms which will be overwritten by the imported ones
      */
-    private void prepareTermsForPersist(List<Term> terms, Vocabulary targetVocabulary) {
-        terms.stream().peek(t -> t.setUri(resolveTermIdentifierWrtVocabulary(t, targetVocabulary)))
-             .peek(t -> t.getLabel().getValue().forEach((lang, value) -> {
-                 final Optional<URI> existingUri = termService.findIdentifierByLabel(value,
-                                                                                     targetVocabulary,
-                                                                                     lang);
-                 if (existingUri.isPresent() && !existingUri.get().equals(t.getUri())) {
-                     throw new VocabularyImportException(
-                             "Vocabulary already contains a term with label '" + value + "' with a different identifier than the imported one.",
-                             "error.vocabulary.import.excel.labelWithDifferentIdentifierExists")
-                             .addParameter("label", value)
-                             .addParameter("existingUri", Utils.uriToString(existingUri.get()));
-                 }
-             }))
-             .filter(t -> termService.exists(t.getUri())).forEach(t -> {
-                 LOG.trace("Term {} already exists. Removing old version.", t);
-                 termService.forceRemove(termService.findRequired(t.getUri()));
-                 // Flush changes to prevent EntityExistsExceptions when term is already managed in PC as different type (Term vs TermInfo)
-                 em.flush();
-             });
+    private Set<URI> prepareTermsForPersist(List<Term> terms, Vocabulary targetVocabulary) {
+        terms.forEach(t -> t.setUri(resolveTermIdentifierWrtVocabulary(t, targetVocabulary)));
+        final ExistingTerms existingTerms = termService.findExistingTerms(terms, targetVocabulary);
+        terms.forEach(t -> t.getLabel().getValue().forEach((lang, value) -> {
+            final Optional<URI> existingUri = existingTerms.findIdentifierByLabel(value, lang != null ? lang :
+                                                                                         targetVocabulary.getPrimaryLanguage());
+            if (existingUri.isPresent() && !existingUri.get().equals(t.getUri())) {
+                throw new VocabularyImportException(
+                        "Vocabulary already contains a term with label '" + value + "' with a different identifier than the imported one.",
+                        "error.vocabulary.import.excel.labelWithDifferentIdentifierExists")
+                        .addParameter("label", value)
+                        .addParameter("existingUri", Utils.uriToString(existingUri.get()));
+            }
+        }));
+        return terms.stream().map(Term::getUri).filter(existingTerms::exists).collect(Collectors.toSet());
     }
 
-    private void persistNewTerms(List<Term> terms, Vocabulary targetVocabulary, Set<TermRelationship> rawDataToInsert) {
-        terms.forEach(Term::splitExternalAndInternalParents);
-        // Ensure all parents are saved before we start adding children
-        terms.stream().filter(t -> Utils.emptyIfNull(t.getParentTerms()).isEmpty())
-             .forEach(root -> {
-                 LOG.trace("Persisting root term {}.", root);
-                 termService.addRootTermToVocabulary(root, targetVocabulary);
-                 root.setVocabulary(targetVocabulary.getUri());
-             });
-        terms.stream().filter(t -> !Utils.emptyIfNull(t.getParentTerms()).isEmpty())
-             .forEach(t -> {
-                 t.setVocabulary(targetVocabulary.getUri());
-                 LOG.trace("Persisting child term {}.", t);
-                 termService.addChildTerm(t, t.getParentTerms().iterator().next());
-             });
+    private void persistNewTerms(List<Term> terms, Vocabulary targetVocabulary, Set<URI> existingTerms,
+                                 Set<TermRelationship> rawDataToInsert) {
+        LOG.trace("Importing {} terms, {} of them replacing existing ones.", terms.size(), existingTerms.size());
+        termService.importTerms(terms, targetVocabulary, existingTerms);
         // Insert term relationships as raw data because of possible object conflicts in the persistence context -
         // the same term being as multiple types (Term, TermInfo) in the same persistence context
         dataDao.insertRawData(rawDataToInsert.stream().map(tr -> new Quad(tr.subject().getUri(), tr.property(),
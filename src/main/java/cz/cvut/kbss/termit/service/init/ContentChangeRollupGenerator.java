@@ -0,0 +1,56 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.init;
+
+import cz.cvut.kbss.termit.persistence.dao.changetracking.ContentChangeRollupDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ContentChangeRollupGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContentChangeRollupGenerator.class);
+
+    private final ContentChangeRollupDao rollupDao;
+
+    public ContentChangeRollupGenerator(ContentChangeRollupDao rollupDao) {
+        this.rollupDao = rollupDao;
+    }
+
+    /**
+     * Calculates daily vocabulary content change rollups from existing change records if there are no rollups yet.
+     * <p>
+     * This is basically a data migration method. Once the rollups exist, they are maintained incrementally as changes
+     * are recorded.
+     * <p>
+     * It is run by {@link SystemInitializer} before the application is ready to serve requests. Otherwise, a rollup
+     * created for a change made before the generation would cause the historical changes never to be rolled up.
+     */
+    @Transactional
+    public void generateMissingRollups() {
+        if (rollupDao.exists()) {
+            LOG.trace("Content change rollups already exist, skipping generation.");
+            return;
+        }
+        LOG.debug("Generating vocabulary content change rollups from existing change records.");
+        rollupDao.rebuild();
+        LOG.trace("Finished generating vocabulary content change rollups.");
+    }
+}
@@ -18,36 +18,116 @@
 package cz.cvut.kbss.termit.service.init;
 
 import cz.cvut.kbss.termit.service.init.lucene.GraphDBLuceneConnectorInitializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs system startup tasks.
+ * <p>
+ * Tasks required for the system to work correctly run in parallel and the startup waits for them to finish. This
+ * includes the content change rollup migration, as rollups are maintained incrementally once requests are served.
+ * Access control list migrations and Lucene connector initialization run in the background once the application is
+ * ready to serve requests.
+ * <p>
+ * All tasks are executed by the bounded long-running task executor. Duration of each task is logged and recorded in the
+ * {@link #TASK_TIMER} timer.
+ */
 @Service
 @Profile("!test")
 public class SystemInitializer implements SmartInitializingSingleton, Ordered {
 
     private static final Logger LOG = LoggerFactory.getLogger(SystemInitializer.class);
 
+    /**
+     * Name of the timer recording durations of startup tasks. Tasks are distinguished by the {@code task} tag.
+     */
+    public static final String TASK_TIMER = "termit.startup.task";
+
     private final ApplicationContext appContext;
 
+    private final AsyncTaskExecutor executor;
+
+    private final MeterRegistry meterRegistry;
+
     @Autowired
-    public SystemInitializer(ApplicationContext appContext) {
+    public SystemInitializer(ApplicationContext appContext,
+                             @Qualifier("longRunningTaskScheduler") AsyncTaskExecutor executor,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
         this.appContext = appContext;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
     }
 
     @Override
     public void afterSingletonsInstantiated() {
         LOG.info("Running startup tasks.");
-        appContext.getBean(AdminAccountGenerator.class).initSystemAdmin();
-        appContext.getBean(VocabularyPrimaryLanguageGenerator.class).generateMissingPrimaryLanguage();
-        appContext.getBean(VocabularyAccessControlListGenerator.class).generateMissingAccessControlLists();
-        appContext.getBean(VocabularyAnonymousAccessControlListGenerator.class).generateMissingAccessControlLists();
-        appContext.getBean(GraphDBLuceneConnectorInitializer.class).initialize();
+        final long start = System.nanoTime();
+        try {
+            CompletableFuture.allOf(
+                    run("adminAccount", () -> appContext.getBean(AdminAccountGenerator.class).initSystemAdmin()),
+                    run("vocabularyPrimaryLanguage", () -> appContext.getBean(VocabularyPrimaryLanguageGenerator.class)
+                                                                     .generateMissingPrimaryLanguage()),
+                    run("contentChangeRollups", () -> appContext.getBean(ContentChangeRollupGenerator.class)
+                                                                .generateMissingRollups())
+            ).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+        LOG.info("Startup tasks finished in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Starts background startup tasks.
+     * <p>
+     * The anonymous access control records are generated only after all vocabularies have access control lists.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runBackgroundTasks() {
+        LOG.info("Running background startup tasks.");
+        run("vocabularyAccessControlLists", () -> appContext.getBean(VocabularyAccessControlListGenerator.class)
+                                                            .generateMissingAccessControlLists())
+                .thenCompose(v -> run("vocabularyAnonymousAccessControlLists",
+                                      () -> appContext.getBean(VocabularyAnonymousAccessControlListGenerator.class)
+                                                      .generateMissingAccessControlLists()));
+        run("luceneConnectors", () -> appContext.getBean(GraphDBLuceneConnectorInitializer.class).initialize());
+    }
+
+    private CompletableFuture<Void> run(String name, Runnable task) {
+        final Timer timer = Timer.builder(TASK_TIMER).description("Duration of system startup tasks")
+                                 .tag("task", name).register(meterRegistry);
+        return CompletableFuture.runAsync(() -> {
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                task.run();
+                LOG.info("Startup task {} finished in {} ms.", name,
+                         TimeUnit.NANOSECONDS.toMillis(sample.stop(timer)));
+            } catch (RuntimeException e) {
+                LOG.error("Startup task {} failed after {} ms.", name,
+                          TimeUnit.NANOSECONDS.toMillis(sample.stop(timer)), e);
+                throw e;
+            }
+        }, executor);
     }
 
     @Override
@@ -24,7 +24,6 @@
 import cz.cvut.kbss.termit.util.Vocabulary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -57,9 +56,8 @@ public VocabularyAccessControlListGenerator(EntityManager em,
      * This is basically a data migration method that ensures all vocabularies have an ACL. It may be removed in the
      * next major release of TermIt when it is deemed not necessary.
      * <p>
-     * This method is asynchronous to prevent slowing down the system startup.
+     * It is run in the background by {@link SystemInitializer} once the application is ready.
      */
-    @Async
     @Transactional
     public void generateMissingAccessControlLists() {
         LOG.debug("Generating missing vocabulary access control lists (ACLs).");
@@ -28,7 +28,6 @@
 import cz.cvut.kbss.termit.util.Vocabulary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -70,9 +69,8 @@ public VocabularyAnonymousAccessControlListGenerator(EntityManager em,
      * {@link AccessLevel#NONE AccessLevel#NONE} is assigned when the restricted user has no access,
      * otherwise {@link AccessLevel#READ AccessLevel#READ} is assigned for the anonymous user.
      * <p>
-     * This method is asynchronous to prevent slowing down the system startup.
+     * It is run in the background by {@link SystemInitializer} once the application is ready.
      */
-    @Async
     @Transactional
     public void generateMissingAccessControlLists() {
         LOG.debug("Generating missing vocabulary access control records for anonymous users.");
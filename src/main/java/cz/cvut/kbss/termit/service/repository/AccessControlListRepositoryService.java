@@ -19,6 +19,7 @@
 
 import cz.cvut.kbss.termit.dto.acl.AccessControlListDto;
 import cz.cvut.kbss.termit.dto.mapper.DtoMapper;
+import cz.cvut.kbss.termit.event.AccessControlChangedEvent;
 import cz.cvut.kbss.termit.exception.NotFoundException;
 import cz.cvut.kbss.termit.exception.UnsupportedOperationException;
 import cz.cvut.kbss.termit.model.AccessControlAgent;
@@ -43,11 +44,14 @@
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -70,15 +74,19 @@ public class AccessControlListRepositoryService implements AccessControlListServ
 
     private final Configuration.ACL aclConfig;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     public AccessControlListRepositoryService(AccessControlListDao dao, ChangeRecordService changeRecordService,
                                               UserRoleRepositoryService userRoleService,
-                                              DtoMapper dtoMapper, SecurityUtils securityUtils, Configuration config) {
+                                              DtoMapper dtoMapper, SecurityUtils securityUtils, Configuration config,
+                                              ApplicationEventPublisher eventPublisher) {
         this.dao = dao;
         this.changeRecordService = changeRecordService;
         this.userRoleService = userRoleService;
         this.dtoMapper = dtoMapper;
         this.securityUtils = securityUtils;
         this.aclConfig = config.getAcl();
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -116,6 +124,7 @@ public AccessControlList createFor(HasIdentifier subject) {
         setInitialAccessControlRecords(subject, acl);
         dao.persist(acl);
         LOG.debug("Created ACL: {}.", acl);
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
         return acl;
     }
 
@@ -148,6 +157,7 @@ public void remove(AccessControlList acl) {
         Objects.requireNonNull(acl);
         LOG.debug("Removing ACL {}.", acl);
         dao.remove(acl);
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
     }
 
     @Override
@@ -158,6 +168,7 @@ public AccessControlList clone(AccessControlList original) {
         clone.setRecords(Utils.emptyIfNull(original.getRecords()).stream().map(AccessControlRecord::copy)
                               .collect(Collectors.toSet()));
         dao.persist(clone);
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
         return clone;
     }
 
@@ -173,6 +184,7 @@ public void addRecord(AccessControlList acl, AccessControlRecord<?> record) {
         validate(toUpdate);
         // Explicitly update to trigger merge of the new record
         dao.update(toUpdate);
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
     }
 
     @CacheEvict(keyGenerator = "accessControlListCacheKeyGenerator")
@@ -189,6 +201,7 @@ public void removeRecord(AccessControlList acl, AccessControlRecord<?> record) {
         validate(toUpdate);
         // Explicitly update to remove orphans
         dao.update(toUpdate);
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
     }
 
     /**
@@ -318,6 +331,7 @@ public void updateRecordAccessLevel(AccessControlList acl, AccessControlRecord<?
                  r.setAccessLevel(record.getAccessLevel());
              });
         validate(toUpdate);
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
     }
 
     @Transactional(readOnly = true)
@@ -325,4 +339,11 @@ public void updateRecordAccessLevel(AccessControlList acl, AccessControlRecord<?
     public List<? extends Asset<?>> findAssetsByAgentWithSecurityAccess(@Nonnull AccessControlAgent agent) {
         return dao.findAssetsByAgentWithSecurityAccess(agent);
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<URI, AccessLevel> findHighestAccessLevels(@Nonnull Collection<URI> subjects,
+                                                         @Nonnull Collection<URI> holders, URI member) {
+        return dao.findHighestAccessLevels(subjects, holders, member);
+    }
 }
@@ -14,7 +14,9 @@
 import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -66,4 +68,14 @@ protected void prePersist(@Nonnull PersonalAccessToken instance) {
     public List<PersonalAccessTokenDto> findAllByUserAccount(UserAccount userAccount) {
         return dao.findAllByUserAccount(userAccount).stream().map(this::mapToDto).toList();
     }
+
+    /**
+     * Sets last used timestamps of the specified tokens in one batch.
+     *
+     * @param lastUsed Map of token identifiers to their last used timestamps
+     */
+    @Transactional
+    public void updateLastUsed(Map<URI, Instant> lastUsed) {
+        dao.updateLastUsed(lastUsed);
+    }
 }
@@ -41,6 +41,7 @@
 import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -176,4 +177,12 @@ public void removeAllOf(AbstractTerm term) {
         LOG.debug("Removing all occurrences of term {}.", term);
         termOccurrenceDao.removeAllOf(term);
     }
+
+    @Async
+    @Transactional
+    @Override
+    public void removeAllOf(Collection<URI> terms) {
+        LOG.debug("Removing all occurrences of {} terms.", terms.size());
+        termOccurrenceDao.removeAllOf(terms);
+    }
 }
@@ -19,6 +19,7 @@
 
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
+import cz.cvut.kbss.termit.dto.ExistingTerms;
 import cz.cvut.kbss.termit.dto.Snapshot;
 import cz.cvut.kbss.termit.dto.TermInfo;
 import cz.cvut.kbss.termit.dto.assignment.TermOccurrences;
@@ -701,6 +702,60 @@ public void forceRemove(@Nonnull Term instance) {
         postRemove(instance);
     }
 
+    /**
+     * Finds existing terms relevant for a bulk import of the specified terms into the specified vocabulary.
+     * <p>
+     * That is, those of the specified terms that already exist and terms from the vocabulary with the same labels as
+     * the specified terms.
+     *
+     * @param terms      Imported terms, they must have identifiers
+     * @param vocabulary Target vocabulary
+     * @return Existing terms
+     * @see TermDao#findExistingTerms(Collection, Vocabulary)
+     */
+    @Transactional(readOnly = true)
+    public ExistingTerms findExistingTerms(@Nonnull Collection<Term> terms, @Nonnull Vocabulary vocabulary) {
+        return termDao.findExistingTerms(terms, vocabulary);
+    }
+
+    /**
+     * Imports the specified terms into the specified vocabulary in bulk.
+     * <p>
+     * Existing terms with the specified identifiers are removed in bulk first, together with their occurrences. Unlike
+     * {@link #forceRemove(Term)}, no pre-removal checks are performed for them. Then the terms are validated and
+     * inserted without going through the persistence context one by one. Terms without a parent in the target
+     * vocabulary become its root terms.
+     * <p>
+     * Rather than recording the whole import as a single change of the vocabulary, deletion of each replaced term and
+     * creation of each imported term is recorded, so that the import shows in the history of the individual terms.
+     *
+     * @param terms         Terms to import, they must have identifiers
+     * @param vocabulary    Target vocabulary
+     * @param existingTerms Identifiers of existing terms to replace
+     */
+    @Transactional
+    public void importTerms(@Nonnull List<Term> terms, @Nonnull Vocabulary vocabulary,
+                            @Nonnull Set<URI> existingTerms) {
+        Objects.requireNonNull(terms);
+        Objects.requireNonNull(vocabulary);
+        Objects.requireNonNull(existingTerms);
+        if (!existingTerms.isEmpty()) {
+            termDao.removeAll(existingTerms, vocabulary);
+            termOccurrenceService.removeAllOf(existingTerms);
+        }
+        final URI glossary = vocabulary.getGlossary().getUri();
+        terms.forEach(t -> t.setGlossary(glossary));
+        terms.forEach(t -> {
+            assert t.getUri() != null;
+            t.setPrimaryLanguage(vocabulary.getPrimaryLanguage());
+            validate(t);
+            pruneAndNormalizeTranslations(t);
+            t.splitExternalAndInternalParents();
+        });
+        termDao.persistAll(terms, vocabulary);
+        terms.forEach(t -> t.setVocabulary(vocabulary.getUri()));
+    }
+
     @Override
     public List<Snapshot> findSnapshots(Term asset) {
         return termDao.findSnapshots(asset);
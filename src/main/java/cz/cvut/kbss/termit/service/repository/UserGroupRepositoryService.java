@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.termit.service.repository;
 
+import cz.cvut.kbss.termit.event.AccessControlChangedEvent;
 import cz.cvut.kbss.termit.model.User;
 import cz.cvut.kbss.termit.model.UserGroup;
 import cz.cvut.kbss.termit.persistence.dao.GenericDao;
@@ -28,6 +29,7 @@
 import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,10 +50,14 @@ public class UserGroupRepositoryService extends BaseRepositoryService<UserGroup,
 
     private final UserRepositoryService userService;
 
-    public UserGroupRepositoryService(Validator validator, UserGroupDao dao, UserRepositoryService userService) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserGroupRepositoryService(Validator validator, UserGroupDao dao, UserRepositoryService userService,
+                                      ApplicationEventPublisher eventPublisher) {
         super(validator);
         this.dao = dao;
         this.userService = userService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -76,6 +82,7 @@ public void addMembers(UserGroup target, Collection<User> toAdd) {
         LOG.debug("Adding users {} to group {}.", toAdd, target);
         toAdd.forEach(target::addMember);
         dao.update(target);
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
     }
 
     @PreAuthorize("hasRole('" + SecurityConstants.ROLE_ADMIN + "')")
@@ -91,6 +98,7 @@ public void removeMembers(UserGroup target, Collection<User> toRemove) {
         final Set<User> removeSet = new HashSet<>(toRemove);
         Utils.emptyIfNull(target.getMembers()).removeIf(removeSet::contains);
         dao.update(target);
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
     }
 
     @Override
@@ -102,5 +110,6 @@ public User findRequiredUser(URI uri) {
     protected void postRemove(@Nonnull UserGroup instance) {
         super.postRemove(instance);
         // TODO Remove group from ACLs
+        eventPublisher.publishEvent(new AccessControlChangedEvent(this));
     }
 }
@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.termit.service.repository;
 
+import cz.cvut.kbss.termit.event.UserAccountUpdatedEvent;
 import cz.cvut.kbss.termit.exception.NotFoundException;
 import cz.cvut.kbss.termit.model.UserAccount;
 import cz.cvut.kbss.termit.persistence.dao.GenericDao;
@@ -26,6 +27,7 @@
 import jakarta.annotation.Nonnull;
 import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -42,15 +44,18 @@ public class UserRepositoryService extends BaseRepositoryService<UserAccount, Us
 
     private final Configuration.Namespace cfgNamespace;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Autowired
     public UserRepositoryService(UserAccountDao userAccountDao, IdentifierResolver idResolver,
                                  PasswordEncoder passwordEncoder, Validator validator,
-                                 Configuration config) {
+                                 Configuration config, ApplicationEventPublisher eventPublisher) {
         super(validator);
         this.userAccountDao = userAccountDao;
         this.idResolver = idResolver;
         this.passwordEncoder = passwordEncoder;
         this.cfgNamespace = config.getNamespace();
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -107,6 +112,12 @@ protected void preUpdate(@Nonnull UserAccount instance) {
         validate(instance);
     }
 
+    @Override
+    protected void postUpdate(@Nonnull UserAccount instance) {
+        super.postUpdate(instance);
+        eventPublisher.publishEvent(new UserAccountUpdatedEvent(instance));
+    }
+
     /**
      * Checks whether an admin account exists in the system.
      *
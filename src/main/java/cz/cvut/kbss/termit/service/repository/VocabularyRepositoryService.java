@@ -421,6 +421,18 @@ public List<String> getLanguages(URI vocabularyUri) {
         return vocabularyDao.getLanguages(vocabularyUri);
     }
 
+    /**
+     * Returns the list of all distinct languages used by any multilingual attribute of terms in the specified
+     * vocabulary.
+     *
+     * @param vocabularyUri Vocabulary identifier
+     * @return List of distinct languages, sorted
+     */
+    @Transactional(readOnly = true)
+    public List<String> getTermContentLanguages(URI vocabularyUri) {
+        return vocabularyDao.getTermContentLanguages(vocabularyUri);
+    }
+
     /**
      * Returns the primary language of the vocabulary.
      *
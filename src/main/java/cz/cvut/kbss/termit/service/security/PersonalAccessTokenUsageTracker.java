@@ -0,0 +1,122 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.security;
+
+import cz.cvut.kbss.termit.service.repository.PersonalAccessTokenRepositoryService;
+import cz.cvut.kbss.termit.util.Configuration;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks usage of personal access tokens in memory and writes their last used timestamps into the repository in
+ * batches.
+ * <p>
+ * This prevents every request authenticated by a personal access token from becoming a repository write. Repeated
+ * usage of a token between two flushes is coalesced into a single timestamp. The flushes are scheduled with the
+ * interval given by {@link Configuration.Security#getPatLastUsedFlushInterval()}.
+ */
+@Component
+public class PersonalAccessTokenUsageTracker implements SchedulingConfigurer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersonalAccessTokenUsageTracker.class);
+
+    private final PersonalAccessTokenRepositoryService repositoryService;
+
+    private final Configuration config;
+
+    private final Map<URI, Instant> pending = new ConcurrentHashMap<>();
+
+    public PersonalAccessTokenUsageTracker(PersonalAccessTokenRepositoryService repositoryService,
+                                           Configuration config) {
+        this.repositoryService = repositoryService;
+        this.config = config;
+    }
+
+    @Override
+    public void configureTasks(@Nonnull ScheduledTaskRegistrar taskRegistrar) {
+        final Duration interval = config.getSecurity().getPatLastUsedFlushInterval();
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(this::flush, interval, interval));
+    }
+
+    /**
+     * Records that the specified token was used at the specified time.
+     *
+     * @param tokenUri Token identifier
+     * @param usedAt   Time of use
+     */
+    public void recordUsage(@Nonnull URI tokenUri, @Nonnull Instant usedAt) {
+        Objects.requireNonNull(tokenUri);
+        Objects.requireNonNull(usedAt);
+        pending.merge(tokenUri, usedAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    /**
+     * Gets the last used timestamp of the specified token that has not been written into the repository yet.
+     *
+     * @param tokenUri Token identifier
+     * @return Pending last used timestamp, empty if there is none
+     */
+    public Optional<Instant> getPendingLastUsed(@Nonnull URI tokenUri) {
+        return Optional.ofNullable(pending.get(tokenUri));
+    }
+
+    /**
+     * Discards pending usage of the specified token (e.g., when it is removed).
+     *
+     * @param tokenUri Token identifier
+     */
+    public void discard(@Nonnull URI tokenUri) {
+        pending.remove(tokenUri);
+    }
+
+    /**
+     * Writes pending last used timestamps into the repository.
+     */
+    @PreDestroy
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final Map<URI, Instant> batch = new HashMap<>(pending);
+        // Remove only entries which were not updated in the meantime
+        batch.forEach(pending::remove);
+        LOG.trace("Writing last used timestamps of {} personal access tokens.", batch.size());
+        try {
+            repositoryService.updateLastUsed(batch);
+        } catch (RuntimeException e) {
+            LOG.error("Unable to write last used timestamps of personal access tokens.", e);
+            // Retry with the next flush, unless there is a newer timestamp already
+            batch.forEach(this::recordUsage);
+        }
+    }
+}
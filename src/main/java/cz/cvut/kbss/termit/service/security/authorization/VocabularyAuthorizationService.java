@@ -31,6 +31,7 @@
 
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -167,6 +168,11 @@ public boolean canRead(VocabularyDto dto) {
         return canRead(new Vocabulary(dto.getUri()));
     }
 
+    public boolean canRead(URI vocabularyIri) {
+        Objects.requireNonNull(vocabularyIri);
+        return canRead(new Vocabulary(vocabularyIri));
+    }
+
     public boolean canModify(URI vocabularyIri) {
         Objects.requireNonNull(vocabularyIri);
         final Vocabulary vocabulary = new Vocabulary(vocabularyIri);
@@ -209,7 +215,27 @@ public AccessLevel getAccessLevel(Vocabulary asset) {
      */
     @Transactional(readOnly = true)
     public List<VocabularyDto> getReadableVocabularies() {
-        return vocabularyRepositoryService.findAll().stream()
-                .filter(this::canRead).toList();
+        return filterReadable(vocabularyRepositoryService.findAll());
+    }
+
+    /**
+     * Filters the specified vocabularies, retaining only those readable by the current user.
+     * <p>
+     * This is equivalent to applying {@link #canRead(VocabularyDto)} to each of the vocabularies, but access control
+     * lists of all the vocabularies are evaluated at once.
+     *
+     * @param vocabularies Vocabularies to filter
+     * @return New list containing readable vocabularies, in the original order
+     */
+    public List<VocabularyDto> filterReadable(List<VocabularyDto> vocabularies) {
+        Objects.requireNonNull(vocabularies);
+        if (!SecurityUtils.authenticated()) {
+            final Map<URI, AccessLevel> levels = aclAuthorizationService.getAnonymousAccessLevels(vocabularies);
+            return vocabularies.stream().filter(v -> levels.get(v.getUri()).includes(AccessLevel.READ)).toList();
+        }
+        final UserAccount user = securityUtils.getCurrentUser();
+        final Map<URI, AccessLevel> levels = aclAuthorizationService.getAccessLevels(user, vocabularies);
+        return vocabularies.stream().filter(v -> levels.get(v.getUri()).includes(AccessLevel.READ) &&
+                editableVocabularies.isEditable(v.getUri())).toList();
     }
 }
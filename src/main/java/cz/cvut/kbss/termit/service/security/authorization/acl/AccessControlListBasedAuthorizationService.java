@@ -17,20 +17,42 @@
  */
 package cz.cvut.kbss.termit.service.security.authorization.acl;
 
+import cz.cvut.kbss.termit.event.AccessControlChangedEvent;
+import cz.cvut.kbss.termit.event.EvictCacheEvent;
+import cz.cvut.kbss.termit.event.UserAccountUpdatedEvent;
 import cz.cvut.kbss.termit.model.UserAccount;
 import cz.cvut.kbss.termit.model.acl.AccessControlList;
 import cz.cvut.kbss.termit.model.acl.AccessControlRecord;
 import cz.cvut.kbss.termit.model.acl.AccessLevel;
 import cz.cvut.kbss.termit.model.util.HasIdentifier;
+import cz.cvut.kbss.termit.persistence.dao.util.BoundedCache;
+import cz.cvut.kbss.termit.persistence.dao.util.Cache;
 import cz.cvut.kbss.termit.security.model.UserRole;
 import cz.cvut.kbss.termit.service.business.AccessControlListService;
+import cz.cvut.kbss.termit.util.Configuration;
+import cz.cvut.kbss.termit.util.Utils;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Authorizes access to a resource based on its {@link cz.cvut.kbss.termit.model.acl.AccessControlList}.
@@ -40,10 +62,29 @@ public class AccessControlListBasedAuthorizationService {
 
     private static final Logger LOG = LoggerFactory.getLogger(AccessControlListBasedAuthorizationService.class);
 
+    private static final URI ANONYMOUS_USER = URI.create(UserRole.ANONYMOUS_USER.getType());
+
+    static final String CACHE_NAME = "accessLevels";
+
     private final AccessControlListService aclService;
 
-    public AccessControlListBasedAuthorizationService(AccessControlListService aclService) {
+    /**
+     * Access levels resolved by {@link #getAccessLevels(UserAccount, Collection)}, keyed by user (or anonymous user
+     * role) identifier and then by resource identifier.
+     */
+    private final Cache<URI, Map<URI, AccessLevel>> accessLevelMatrix;
+
+    @Autowired
+    public AccessControlListBasedAuthorizationService(AccessControlListService aclService, Configuration config,
+                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        this(aclService, config.getSecurity().getAccessLevelCache(), meterRegistry.getIfAvailable());
+    }
+
+    AccessControlListBasedAuthorizationService(AccessControlListService aclService,
+                                               Configuration.Persistence.CacheSettings cacheSettings,
+                                               MeterRegistry meterRegistry) {
         this.aclService = aclService;
+        this.accessLevelMatrix = new BoundedCache<>(CACHE_NAME, cacheSettings, meterRegistry);
     }
 
     /**
@@ -124,6 +165,92 @@ public AccessLevel getAccessLevel(UserAccount user, HasIdentifier resource) {
                           .orElse(AccessLevel.NONE);
     }
 
+    /**
+     * Gets the highest level of access of the specified user to each of the specified resources.
+     * <p>
+     * Unlike {@link #getAccessLevel(UserAccount, HasIdentifier)}, ACLs of all the resources are evaluated together
+     * (including user group membership of the user), and the results are remembered until an access control change
+     * occurs.
+     *
+     * @param user      User whose access levels to resolve
+     * @param resources Target resources access to which is to be determined
+     * @return Map of resource identifiers to the highest level of access held by the specified user
+     */
+    public Map<URI, AccessLevel> getAccessLevels(UserAccount user, Collection<? extends HasIdentifier> resources) {
+        Objects.requireNonNull(user);
+        Objects.requireNonNull(resources);
+        if (user.isAdmin()) {
+            // Admin has always full access
+            return resources.stream().collect(Collectors.toMap(HasIdentifier::getUri, r -> AccessLevel.SECURITY,
+                                                               (a, b) -> a));
+        }
+        final List<URI> holders = Utils.emptyIfNull(user.getTypes()).stream().map(URI::create)
+                                       .collect(Collectors.toCollection(ArrayList::new));
+        holders.add(user.getUri());
+        return resolveAccessLevels(user.getUri(), holders, user.getUri(), resources);
+    }
+
+    /**
+     * Gets the level of access an anonymous user has to each of the specified resources.
+     * <p>
+     * This is a bulk version of {@link #canReadAnonymously(HasIdentifier)}, evaluating ACLs of all the resources
+     * together.
+     *
+     * @param resources Target resources access to which is to be determined
+     * @return Map of resource identifiers to the level of access of anonymous users
+     */
+    public Map<URI, AccessLevel> getAnonymousAccessLevels(Collection<? extends HasIdentifier> resources) {
+        Objects.requireNonNull(resources);
+        return resolveAccessLevels(ANONYMOUS_USER, List.of(ANONYMOUS_USER), null, resources);
+    }
+
+    private Map<URI, AccessLevel> resolveAccessLevels(URI agent, Collection<URI> holders, URI member,
+                                                      Collection<? extends HasIdentifier> resources) {
+        final Map<URI, AccessLevel> known = accessLevelMatrix.getOrCompute(agent, k -> new ConcurrentHashMap<>());
+        final Set<URI> missing = resources.stream().map(HasIdentifier::getUri).filter(u -> !known.containsKey(u))
+                                          .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!missing.isEmpty()) {
+            LOG.trace("Resolving access levels of {} to {} resources.", agent, missing.size());
+            final Map<URI, AccessLevel> resolved = aclService.findHighestAccessLevels(missing, holders, member);
+            missing.forEach(u -> known.put(u, resolved.getOrDefault(u, AccessLevel.NONE)));
+        }
+        final Map<URI, AccessLevel> result = new HashMap<>(resources.size());
+        resources.forEach(r -> result.put(r.getUri(), known.getOrDefault(r.getUri(), AccessLevel.NONE)));
+        return result;
+    }
+
+    /**
+     * Discards all remembered access levels.
+     * <p>
+     * Access control changes are published inside the transaction making them, so the access levels are discarded
+     * only after the transaction completes. Otherwise, a concurrent request could remember access levels resolved from
+     * the not yet committed state of the repository. When the event is published outside a transaction, the access
+     * levels are discarded immediately.
+     * <p>
+     * This is an application event listener and should not be called directly.
+     */
+    @TransactionalEventListener(classes = {AccessControlChangedEvent.class, EvictCacheEvent.class},
+                                phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onAccessControlChanged() {
+        LOG.trace("Discarding access level matrix.");
+        accessLevelMatrix.evictAll();
+    }
+
+    /**
+     * Discards remembered access levels of the updated user, as their roles may have changed.
+     * <p>
+     * As with access control changes, the access levels are discarded only after the transaction updating the user
+     * completes.
+     * <p>
+     * This is an application event listener and should not be called directly.
+     *
+     * @param event Event representing user account update
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserAccountUpdated(UserAccountUpdatedEvent event) {
+        accessLevelMatrix.evict(event.getUser().getUri());
+    }
+
     /**
      * Checks whether the specified user can modify the specified resource.
      * <p>
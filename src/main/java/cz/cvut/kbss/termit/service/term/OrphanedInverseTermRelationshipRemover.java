@@ -17,9 +17,12 @@
  */
 package cz.cvut.kbss.termit.service.term;
 
+import cz.cvut.kbss.jopa.vocabulary.SKOS;
 import cz.cvut.kbss.termit.dto.TermInfo;
+import cz.cvut.kbss.termit.dto.TermRelations;
 import cz.cvut.kbss.termit.model.Term;
 import cz.cvut.kbss.termit.persistence.dao.TermDao;
+import cz.cvut.kbss.termit.persistence.dao.util.TermLoadProfile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -30,7 +33,6 @@
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 
 @Component
 public class OrphanedInverseTermRelationshipRemover {
@@ -66,16 +68,16 @@ private void removeOrphanedRelated(Term update, Term original) {
         final TermInfo tiUpdate = new TermInfo(update);
         final Set<TermInfo> orphaned = determineOrphaned(update.getInverseRelated(), original.getInverseRelated());
         LOG.trace("Found {} orphaned related to remove.", orphaned);
-        removeOrphaned(tiUpdate, orphaned, Term::getRelated);
+        removeOrphaned(tiUpdate, orphaned, SKOS.RELATED);
     }
 
-    private void removeOrphaned(TermInfo toRemove, Set<TermInfo> orphaned, Function<Term, Set<TermInfo>> getter) {
+    private void removeOrphaned(TermInfo toRemove, Set<TermInfo> orphaned, String property) {
         orphaned.forEach(o -> {
-            final Optional<Term> tOpt = termDao.find(o.getUri());
-            assert tOpt.isPresent();
-            final Term t = tOpt.get();
-            if (getter.apply(t) != null) {
-                getter.apply(t).remove(toRemove);
+            // Only the relationships are needed, loading the full term would be unnecessarily expensive
+            final Optional<TermRelations> relations = termDao.find(o.getUri(), TermLoadProfile.RELATIONS);
+            assert relations.isPresent();
+            if (relations.get().isRelated(property, toRemove.getUri())) {
+                termDao.removeRelation(o.getUri(), property, toRemove.getUri());
             }
         });
     }
@@ -86,7 +88,7 @@ private void removeOrphanedRelatedMatch(Term update, Term original) {
         final Set<TermInfo> orphaned =
                 determineOrphaned(update.getInverseRelatedMatch(), original.getInverseRelatedMatch());
         LOG.trace("Found {} orphaned relatedMatch to remove.", orphaned);
-        removeOrphaned(tiUpdate, orphaned, Term::getRelatedMatch);
+        removeOrphaned(tiUpdate, orphaned, SKOS.RELATED_MATCH);
     }
 
     private void removeOrphanedExactMatches(Term update, Term original) {
@@ -95,6 +97,6 @@ private void removeOrphanedExactMatches(Term update, Term original) {
         final Set<TermInfo> orphaned =
                 determineOrphaned(update.getInverseExactMatchTerms(), original.getInverseExactMatchTerms());
         LOG.trace("Found {} orphaned exactMatch to remove.", orphaned);
-        removeOrphaned(tiUpdate, orphaned, Term::getExactMatchTerms);
+        removeOrphaned(tiUpdate, orphaned, SKOS.EXACT_MATCH);
     }
 }
@@ -26,6 +26,8 @@
 import org.springframework.validation.annotation.Validated;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -141,6 +143,10 @@ public class Configuration {
     private Language language = new Language();
     @Valid
     private Template template = new Template();
+    @Valid
+    private Import importSettings = new Import();
+    @Valid
+    private Export export = new Export();
 
     public String getUrl() {
         return url;
@@ -342,6 +348,22 @@ public void setTemplate(Template template) {
         this.template = template;
     }
 
+    public Import getImport() {
+        return importSettings;
+    }
+
+    public void setImport(Import importSettings) {
+        this.importSettings = importSettings;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
+    public void setExport(Export export) {
+        this.export = export;
+    }
+
     public Duration getThrottleThreshold() {
         return throttleThreshold;
     }
@@ -371,6 +393,14 @@ public static class Persistence {
         @NotNull
         String language;
 
+        /**
+         * Configuration of the individual persistence layer caches, keyed by cache name.
+         * <p>
+         * Caches without explicit configuration use the default settings.
+         */
+        @Valid
+        Map<String, CacheSettings> cache = new HashMap<>();
+
         public String getDriver() {
             return driver;
         }
@@ -386,6 +416,91 @@ public String getLanguage() {
         public void setLanguage(String language) {
             this.language = language;
         }
+
+        public Map<String, CacheSettings> getCache() {
+            return cache;
+        }
+
+        public void setCache(Map<String, CacheSettings> cache) {
+            this.cache = cache;
+        }
+
+        /**
+         * Gets settings of the cache with the specified name.
+         *
+         * @param name Cache name
+         * @return Cache settings, default settings if the cache is not configured explicitly
+         */
+        public CacheSettings getCache(String name) {
+            return cache.getOrDefault(name, new CacheSettings());
+        }
+
+        @Validated
+        public static class CacheSettings {
+
+            /**
+             * Maximum number of entries in the cache.
+             * <p>
+             * Ignored if {@code maxWeight} is set.
+             *
+             * @configurationdoc.default 10000
+             */
+            @Min(0)
+            private long maxSize = 10_000;
+
+            /**
+             * Maximum total weight of entries in the cache.
+             * <p>
+             * How entries are weighed depends on the cache, e.g., by the size of the cached collection. Takes
+             * precedence over {@code maxSize}.
+             */
+            private Optional<Long> maxWeight = Optional.empty();
+
+            /**
+             * How long after being written entries expire.
+             * <p>
+             * Entries do not expire by default, they are only evicted when the cache reaches its maximum size.
+             */
+            private Optional<Duration> ttl = Optional.empty();
+
+            public long getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(long maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            public Optional<Long> getMaxWeight() {
+                return maxWeight;
+            }
+
+            public void setMaxWeight(Optional<Long> maxWeight) {
+                this.maxWeight = maxWeight;
+            }
+
+            public Optional<Duration> getTtl() {
+                return ttl;
+            }
+
+            public void setTtl(Optional<Duration> ttl) {
+                this.ttl = ttl;
+            }
+
+            /**
+             * Creates cache settings with the specified defaults.
+             *
+             * @param maxSize Maximum number of entries
+             * @param ttl     Time to live of entries
+             * @return New cache settings
+             */
+            public static CacheSettings of(long maxSize, Duration ttl) {
+                final CacheSettings settings = new CacheSettings();
+                settings.setMaxSize(maxSize);
+                settings.setTtl(Optional.of(ttl));
+                return settings;
+            }
+        }
     }
 
     @Validated
@@ -664,6 +779,13 @@ public static class File {
         @NotNull
         String storage;
 
+        /**
+         * Configuration of the on-disk cache of content derived from the stored files (e.g., extracted backups or
+         * content without unconfirmed term occurrences).
+         */
+        @Valid
+        DerivedContentCache derivedContentCache = new DerivedContentCache();
+
         public String getStorage() {
             return storage;
         }
@@ -671,6 +793,53 @@ public String getStorage() {
         public void setStorage(String storage) {
             this.storage = storage;
         }
+
+        public DerivedContentCache getDerivedContentCache() {
+            return derivedContentCache;
+        }
+
+        public void setDerivedContentCache(DerivedContentCache derivedContentCache) {
+            this.derivedContentCache = derivedContentCache;
+        }
+
+        @Validated
+        public static class DerivedContentCache {
+
+            /**
+             * Directory in which the derived content is stored.
+             * <p>
+             * Cached content left in the directory is removed on startup, other files are kept. If not specified, a
+             * temporary directory is used and removed on shutdown.
+             */
+            private Optional<String> directory = Optional.empty();
+
+            /**
+             * Maximum total size of the cached content, in bytes.
+             * <p>
+             * When the size is exceeded, content is evicted based on both recency and frequency of its use (Caffeine's
+             * W-TinyLFU policy). Setting it to 0 disables the cache.
+             *
+             * @configurationdoc.default 268435456 (256 MiB)
+             */
+            @Min(0)
+            private long maxSize = 256L * 1024 * 1024;
+
+            public Optional<String> getDirectory() {
+                return directory;
+            }
+
+            public void setDirectory(Optional<String> directory) {
+                this.directory = directory;
+            }
+
+            public long getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(long maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
     }
 
     @Validated
@@ -680,6 +849,15 @@ public static class Jwt {
          */
         String secretKey;
 
+        /**
+         * How long before its expiration is a JWT re-issued.
+         * <p>
+         * A new token (with extended expiration) is returned to the client only when the token used to authenticate
+         * the request expires within this window. Otherwise, the client keeps using its current token.
+         */
+        @NotNull
+        private Duration refreshWindow = Duration.ofHours(12);
+
         public String getSecretKey() {
             return secretKey;
         }
@@ -687,6 +865,14 @@ public String getSecretKey() {
         public void setSecretKey(String secretKey) {
             this.secretKey = secretKey;
         }
+
+        public Duration getRefreshWindow() {
+            return refreshWindow;
+        }
+
+        public void setRefreshWindow(Duration refreshWindow) {
+            this.refreshWindow = refreshWindow;
+        }
     }
 
     @Validated
@@ -713,6 +899,12 @@ public static class TextAnalysis {
         @Min(8)
         private int textQuoteSelectorContextLength = 32;
 
+        /**
+         * Number of term occurrences resolved by text analysis which are saved into the repository together.
+         */
+        @Min(1)
+        private int termOccurrenceBatchSize = 500;
+
         public String getUrl() {
             return url;
         }
@@ -744,6 +936,14 @@ public int getTextQuoteSelectorContextLength() {
         public void setTextQuoteSelectorContextLength(int textQuoteSelectorContextLength) {
             this.textQuoteSelectorContextLength = textQuoteSelectorContextLength;
         }
+
+        public int getTermOccurrenceBatchSize() {
+            return termOccurrenceBatchSize;
+        }
+
+        public void setTermOccurrenceBatchSize(int termOccurrenceBatchSize) {
+            this.termOccurrenceBatchSize = termOccurrenceBatchSize;
+        }
     }
 
     @Validated
@@ -976,6 +1176,47 @@ public enum ProviderType {
         @NotNull
         private Duration passwordChangeRequestValidity = Duration.ofHours(24);
 
+        /**
+         * How often are last used timestamps of personal access tokens written into the repository.
+         * <p>
+         * Token usage is recorded in memory and written in batches, pending timestamps are written also on
+         * application shutdown.
+         */
+        @NotNull
+        private Duration patLastUsedFlushInterval = Duration.ofMinutes(1);
+
+        /**
+         * Cache of authenticated users resolved from JWT subjects.
+         * <p>
+         * Entries are evicted when the corresponding user account is updated.
+         *
+         * @configurationdoc.default maxSize 1000, ttl PT5M
+         */
+        @Valid
+        private Persistence.CacheSettings principalCache = Persistence.CacheSettings.of(1000, Duration.ofMinutes(5));
+
+        /**
+         * Cache of access levels of users (and anonymous users) to assets, keyed by user.
+         * <p>
+         * The cache is discarded whenever access control lists or user group memberships change.
+         *
+         * @configurationdoc.default maxSize 1000, ttl PT30M
+         */
+        @Valid
+        private Persistence.CacheSettings accessLevelCache = Persistence.CacheSettings.of(1000,
+                                                                                           Duration.ofMinutes(30));
+
+        /**
+         * Cache of validated personal access tokens, keyed by token identifier.
+         * <p>
+         * Entries are evicted when the corresponding token is removed or its owner's account is updated.
+         *
+         * @configurationdoc.default maxSize 1000, ttl PT5M
+         */
+        @Valid
+        private Persistence.CacheSettings personalAccessTokenCache =
+                Persistence.CacheSettings.of(1000, Duration.ofMinutes(5));
+
         public ProviderType getProvider() {
             return provider;
         }
@@ -1002,6 +1243,38 @@ public void setPasswordChangeRequestValidity(Duration passwordChangeRequestValid
             }
             this.passwordChangeRequestValidity = passwordChangeRequestValidity;
         }
+
+        public Duration getPatLastUsedFlushInterval() {
+            return patLastUsedFlushInterval;
+        }
+
+        public void setPatLastUsedFlushInterval(Duration patLastUsedFlushInterval) {
+            this.patLastUsedFlushInterval = patLastUsedFlushInterval;
+        }
+
+        public Persistence.CacheSettings getPrincipalCache() {
+            return principalCache;
+        }
+
+        public void setPrincipalCache(Persistence.CacheSettings principalCache) {
+            this.principalCache = principalCache;
+        }
+
+        public Persistence.CacheSettings getAccessLevelCache() {
+            return accessLevelCache;
+        }
+
+        public void setAccessLevelCache(Persistence.CacheSettings accessLevelCache) {
+            this.accessLevelCache = accessLevelCache;
+        }
+
+        public Persistence.CacheSettings getPersonalAccessTokenCache() {
+            return personalAccessTokenCache;
+        }
+
+        public void setPersonalAccessTokenCache(Persistence.CacheSettings personalAccessTokenCache) {
+            this.personalAccessTokenCache = personalAccessTokenCache;
+        }
     }
 
     @Validated
@@ -1076,6 +1349,106 @@ public void setExcelImport(Optional<String> excelImport) {
         }
     }
 
+    @Validated
+    public static class Import {
+
+        /**
+         * Whether SKOS vocabularies should be imported in streaming mode.
+         * <p>
+         * In streaming mode, imported statements are validated and written into a temporary repository context as they
+         * are parsed, so memory consumption does not depend on the size of the imported data. Only vocabulary and
+         * glossary metadata are kept in memory.
+         */
+        private boolean skosStreaming = false;
+
+        /**
+         * Number of statements written into the repository in one transaction during a streaming SKOS import.
+         */
+        @Min(1)
+        private int skosBatchSize = 10_000;
+
+        public boolean isSkosStreaming() {
+            return skosStreaming;
+        }
+
+        public void setSkosStreaming(boolean skosStreaming) {
+            this.skosStreaming = skosStreaming;
+        }
+
+        public int getSkosBatchSize() {
+            return skosBatchSize;
+        }
+
+        public void setSkosBatchSize(int skosBatchSize) {
+            this.skosBatchSize = skosBatchSize;
+        }
+    }
+
+    @Validated
+    public static class Export {
+
+        /**
+         * Whether Excel exports should be generated in streaming mode.
+         * <p>
+         * In streaming mode, terms are loaded page by page and only a window of rows is kept in memory, the rest is
+         * flushed to temporary files. The resulting workbook is written directly into the response.
+         */
+        private boolean excelStreaming = false;
+
+        /**
+         * Number of terms loaded from the repository at once during a streaming Excel export.
+         */
+        @Min(1)
+        private int excelPageSize = 500;
+
+        /**
+         * Number of rows per sheet kept in memory during a streaming Excel export.
+         */
+        @Min(1)
+        private int excelRowWindow = 100;
+
+        /**
+         * Whether SKOS exports should be generated in streaming mode.
+         * <p>
+         * In streaming mode, statements are written into the response as they are read from the repository, instead
+         * of being collected into an in-memory model first. Prefixes of glossaries of referenced terms are not
+         * declared in streaming mode.
+         */
+        private boolean skosStreaming = false;
+
+        public boolean isExcelStreaming() {
+            return excelStreaming;
+        }
+
+        public void setExcelStreaming(boolean excelStreaming) {
+            this.excelStreaming = excelStreaming;
+        }
+
+        public int getExcelPageSize() {
+            return excelPageSize;
+        }
+
+        public void setExcelPageSize(int excelPageSize) {
+            this.excelPageSize = excelPageSize;
+        }
+
+        public int getExcelRowWindow() {
+            return excelRowWindow;
+        }
+
+        public void setExcelRowWindow(int excelRowWindow) {
+            this.excelRowWindow = excelRowWindow;
+        }
+
+        public boolean isSkosStreaming() {
+            return skosStreaming;
+        }
+
+        public void setSkosStreaming(boolean skosStreaming) {
+            this.skosStreaming = skosStreaming;
+        }
+    }
+
     @Validated
     public static class External {
         
@@ -76,6 +76,14 @@ public class Constants {
      */
     public static final String X_TOTAL_COUNT_HEADER = "X-Total-Count";
 
+    /**
+     * Represents the X-Next-Cursor HTTP header used to convey the continuation token of the page following the
+     * returned one.
+     *
+     * @see QueryParams#CURSOR
+     */
+    public static final String X_NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     /**
      * Score threshold for term occurrence.
      */
@@ -295,6 +303,15 @@ public static final class QueryParams {
          */
         public static final String PAGE_SIZE = "size";
 
+        /**
+         * HTTP request query parameter denoting continuation token of the requested page.
+         * <p>
+         * Used for paging in collections of results instead of page number.
+         *
+         * @see #PAGE_SIZE
+         */
+        public static final String CURSOR = "cursor";
+
         private QueryParams() {
             throw new AssertionError();
         }
@@ -0,0 +1,112 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.util;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Type-aware resource whose content is generated on demand by writing it into a target output stream.
+ * <p>
+ * This allows large content (e.g., exports) to be written directly into the HTTP response without first buffering
+ * it in memory. Consumers should prefer {@link #writeTo(OutputStream)}, {@link #getInputStream()} is supported only
+ * as a fallback and buffers the whole content.
+ */
+public class TypeAwareStreamingResource extends AbstractResource implements TypeAwareResource {
+
+    /**
+     * Writes the content of the resource into an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        void write(OutputStream out) throws IOException;
+    }
+
+    private final ContentWriter writer;
+    private final String mediaType;
+    private final String fileExtension;
+    private final String description;
+
+    public TypeAwareStreamingResource(@Nonnull ContentWriter writer, String mediaType, String fileExtension,
+                                      String description) {
+        this.writer = Objects.requireNonNull(writer);
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+        this.description = description;
+    }
+
+    /**
+     * Writes the content of this resource into the specified output stream.
+     * <p>
+     * The stream is not closed by this method.
+     *
+     * @param out Target stream
+     * @throws IOException When writing fails
+     */
+    public void writeTo(@Nonnull OutputStream out) throws IOException {
+        writer.write(out);
+    }
+
+    @Nonnull
+    @Override
+    public InputStream getInputStream() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        writeTo(bos);
+        return new ByteArrayInputStream(bos.toByteArray());
+    }
+
+    /**
+     * Content length of a streaming resource is not known in advance.
+     *
+     * @return -1
+     */
+    @Override
+    public long contentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public Optional<String> getMediaType() {
+        return Optional.ofNullable(mediaType);
+    }
+
+    @Override
+    public Optional<String> getFileExtension() {
+        return Optional.ofNullable(fileExtension);
+    }
+
+    @Nonnull
+    @Override
+    public String getDescription() {
+        return "Streaming resource [" + description + "]";
+    }
+}
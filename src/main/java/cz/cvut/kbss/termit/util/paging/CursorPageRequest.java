@@ -0,0 +1,77 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.util.paging;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Objects;
+
+/**
+ * Page request selecting the page following a {@link PageCursor}.
+ * <p>
+ * The request always represents the first page (offset 0) of the results following the cursor. Data access objects
+ * which support cursors use it to select results after the cursor instead of skipping an offset. Others treat it as a
+ * request for the first page.
+ */
+public class CursorPageRequest extends PageRequest {
+
+    private final PageCursor cursor;
+
+    protected CursorPageRequest(int size, @Nonnull PageCursor cursor) {
+        super(0, size, Sort.unsorted());
+        this.cursor = Objects.requireNonNull(cursor);
+    }
+
+    /**
+     * Creates a request for a page of the specified size following the specified cursor.
+     *
+     * @param size   Page size
+     * @param cursor Position after which the page starts
+     * @return New page request
+     */
+    public static CursorPageRequest of(int size, @Nonnull PageCursor cursor) {
+        return new CursorPageRequest(size, cursor);
+    }
+
+    public PageCursor getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CursorPageRequest that)) {
+            return false;
+        }
+        return super.equals(o) && cursor.equals(that.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + cursor.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPageRequest{size=" + getPageSize() + ", cursor=" + cursor + "}";
+    }
+}
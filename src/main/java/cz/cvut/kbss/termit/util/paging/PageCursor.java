@@ -0,0 +1,82 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.util.paging;
+
+import cz.cvut.kbss.termit.exception.InvalidParameterException;
+import jakarta.annotation.Nonnull;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a listing ordered by label, language and identifier, after which the next page starts.
+ * <p>
+ * Cursors are passed to clients as opaque continuation tokens (see {@link #encode()}), which they send back to get the
+ * next page. Unlike page numbers, cursors allow the repository to select the next page directly instead of sorting and
+ * skipping all the preceding results.
+ *
+ * @param label    Label of the last item of the previous page, possibly {@code null}
+ * @param language Language of the label, possibly {@code null}
+ * @param iri      Identifier of the last item of the previous page
+ */
+public record PageCursor(String label, String language, @Nonnull URI iri) {
+
+    private static final char SEPARATOR = '\u0000';
+
+    public PageCursor {
+        Objects.requireNonNull(iri);
+    }
+
+    /**
+     * Encodes this cursor into an opaque URL-safe token.
+     *
+     * @return Continuation token
+     */
+    @Nonnull
+    public String encode() {
+        final String value = Objects.toString(label, "") + SEPARATOR + Objects.toString(language, "") + SEPARATOR + iri;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor from the specified continuation token.
+     *
+     * @param token Token created by {@link #encode()}
+     * @return Decoded cursor
+     * @throws InvalidParameterException If the token is not a valid cursor
+     */
+    @Nonnull
+    public static PageCursor decode(@Nonnull String token) {
+        Objects.requireNonNull(token);
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final int labelEnd = value.indexOf(SEPARATOR);
+            final int languageEnd = value.indexOf(SEPARATOR, labelEnd + 1);
+            if (labelEnd < 0 || languageEnd < 0) {
+                throw new InvalidParameterException("Invalid page cursor '" + token + "'.");
+            }
+            final String language = value.substring(labelEnd + 1, languageEnd);
+            return new PageCursor(value.substring(0, labelEnd), language.isEmpty() ? null : language,
+                                  URI.create(value.substring(languageEnd + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid page cursor '" + token + "'.");
+        }
+    }
+}
@@ -66,10 +66,12 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -95,25 +97,50 @@ public class ThrottleAspect extends LongRunningTaskScheduler {
      * <p>A task inside a throttled future represents
      * a heavy/long-running task acquired from the body of an throttled method</p>
      *
-     * @implSpec Synchronize in the field declaration order before modification
+     * @implSpec Modify entries only while holding the lock of the entry {@link Identifier}
+     * (or {@link #groupLock} for identifiers with a group).
      */
     private final Map<Identifier, ThrottledFuture<Object>> throttledFutures;
 
     /**
      * The last run is updated every time a task is finished.
-     *
-     * @implSpec Synchronize in the field declaration order before modification
      */
     private final Map<Identifier, Instant> lastRun;
 
     /**
      * Scheduled futures are returned from {@link #taskScheduler}. Futures are completed by execution of tasks created
      * in {@link #createRunnableToSchedule}. Records about them are used for their cancellation in case of debouncing.
+     * <p>
+     * The map is sorted, so tasks with a group prefix can be found using {@link NavigableMap#lowerEntry} and
+     * {@link NavigableMap#higherKey}.
      *
-     * @implSpec Synchronize in the field declaration order before modification
+     * @implSpec Modify entries only while holding the lock of the entry {@link Identifier}
+     * (or {@link #groupLock} for identifiers with a group).
      */
     private final NavigableMap<Identifier, Future<Object>> scheduledFutures;
 
+    /**
+     * Monitors guarding the state of a single throttled {@link Identifier}.
+     * <p>
+     * Calls with unrelated identifiers do not contend with each other. Monitors are used only while holding the read
+     * lock of {@link #stateLock}, so that {@link #discardOldFutures()} cannot discard a monitor that is in use.
+     */
+    private final Map<Identifier, Object> identifierLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes throttling of identifiers with a non-blank group, as a task may cancel tasks of other identifiers
+     * sharing its group prefix.
+     * <p>
+     * Acquired before the lock of the identifier.
+     */
+    private final Object groupLock = new Object();
+
+    /**
+     * Throttling holds the read lock, operations over the whole state ({@link #onClearLongRunningTaskQueueEvent()},
+     * {@link #clearOldFutures()}) hold the write lock.
+     */
+    private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
     /**
      * Thread safe set holding identifiers of threads that are currently executing a throttled task.
      */
@@ -160,9 +187,9 @@ public ThrottleAspect(@Qualifier("longRunningTaskScheduler") TaskScheduler taskS
         this.taskScheduler = taskScheduler;
         this.transactionExecutor = transactionExecutor;
         this.configuration = configuration;
-        throttledFutures = new HashMap<>();
-        lastRun = new HashMap<>();
-        scheduledFutures = new TreeMap<>();
+        throttledFutures = new ConcurrentHashMap<>();
+        lastRun = new ConcurrentHashMap<>();
+        scheduledFutures = new ConcurrentSkipListMap<>();
         clock = Clock.systemUTC(); // used by Instant.now() by default
         standardEvaluationContext = makeDefaultContext();
         lastClear = new AtomicReference<>(Instant.now(clock));
@@ -170,6 +197,8 @@ public ThrottleAspect(@Qualifier("longRunningTaskScheduler") TaskScheduler taskS
 
     /**
      * Constructor for testing environment
+     * <p>
+     * The provided maps have to be thread safe when the aspect is used from multiple threads.
      */
     protected ThrottleAspect(Map<Identifier, ThrottledFuture<Object>> throttledFutures,
                              Map<Identifier, Instant> lastRun,
@@ -215,41 +244,40 @@ private static StandardEvaluationContext makeDefaultContext() {
     @Order(Ordered.HIGHEST_PRECEDENCE)
     @EventListener(ClearLongRunningTaskQueueEvent.class)
     public void onClearLongRunningTaskQueueEvent() {
-        synchronized (throttledFutures) { // synchronize in the filed declaration order
-            synchronized (lastRun) {
-                synchronized (scheduledFutures) {
-                    LOG.info("Clearing throttled tasks...");
-
-                    long count = 0;
-                    Iterator<Map.Entry<Identifier, ThrottledFuture<Object>>> throttledIt =
-                            throttledFutures.entrySet().iterator();
-
-                    while(throttledIt.hasNext()) {
-                        final Map.Entry<Identifier, ThrottledFuture<Object>> entry = throttledIt.next();
-                        final ThrottledFuture<Object> future = entry.getValue();
-                        final Identifier identifier = entry.getKey();
-                        if(future.isRunning() || future.isDone()) continue;
-
-                        // cancel the throttled future
-                        future.cancel(false);
-                        // cancel the scheduled future
-                        Optional.ofNullable(scheduledFutures.get(identifier))
-                                .ifPresent(scheduled -> {
-                                    scheduled.cancel(false);
-                                    if (scheduled.isCancelled()) {
-                                        scheduledFutures.remove(identifier);
-                                    }
-                                });
-                        if (future.isCancelled()) {
-                            throttledIt.remove();
-                        }
-                        count++;
-                        notifyTaskChanged(future); // task canceled - clearing queue
-                    }
-                    clearOldFutures();
-                    LOG.info("Cancelled {} pending throttled tasks", count);
+        stateLock.writeLock().lock();
+        try {
+            LOG.info("Clearing throttled tasks...");
+
+            long count = 0;
+            Iterator<Map.Entry<Identifier, ThrottledFuture<Object>>> throttledIt =
+                    throttledFutures.entrySet().iterator();
+
+            while(throttledIt.hasNext()) {
+                final Map.Entry<Identifier, ThrottledFuture<Object>> entry = throttledIt.next();
+                final ThrottledFuture<Object> future = entry.getValue();
+                final Identifier identifier = entry.getKey();
+                if(future.isRunning() || future.isDone()) continue;
+
+                // cancel the throttled future
+                future.cancel(false);
+                // cancel the scheduled future
+                Optional.ofNullable(scheduledFutures.get(identifier))
+                        .ifPresent(scheduled -> {
+                            scheduled.cancel(false);
+                            if (scheduled.isCancelled()) {
+                                scheduledFutures.remove(identifier);
+                            }
+                        });
+                if (future.isCancelled()) {
+                    throttledIt.remove();
                 }
+                count++;
+                notifyTaskChanged(future); // task canceled - clearing queue
             }
+            discardOldFutures();
+            LOG.info("Cancelled {} pending throttled tasks", count);
+        } finally {
+            stateLock.writeLock().unlock();
         }
     }
 
@@ -279,17 +307,20 @@ public void onClearLongRunningTaskQueueEvent() {
         return doThrottle(joinPoint, throttleAnnotation);
     }
 
-    private synchronized @Nullable Object doThrottle(@Nonnull ProceedingJoinPoint joinPoint,
-                                                     @Nonnull Throttle throttleAnnotation) throws Throwable {
-
-        final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-
+    private @Nullable Object doThrottle(@Nonnull ProceedingJoinPoint joinPoint,
+                                        @Nonnull Throttle throttleAnnotation) throws Throwable {
         // construct the throttle instance key
         final Identifier identifier = makeIdentifier(joinPoint, throttleAnnotation);
         LOG.trace("Throttling task with key '{}'", identifier);
 
-        synchronized (scheduledFutures) {
-            if (!identifier.getGroup().isBlank()) {
+        stateLock.readLock().lock();
+        try {
+            if (identifier.getGroup().isBlank()) {
+                synchronized (lockOf(identifier)) {
+                    return doThrottle(joinPoint, throttleAnnotation, identifier);
+                }
+            }
+            synchronized (groupLock) {
                 // check if there is a task with lower group
                 // and if so, cancel this task in favor of the lower group
                 final Map.Entry<Identifier, Future<Object>> lowerEntry = scheduledFutures.lowerEntry(identifier);
@@ -303,8 +334,25 @@ public void onClearLongRunningTaskQueueEvent() {
                 }
 
                 cancelWithHigherGroup(identifier);
+
+                synchronized (lockOf(identifier)) {
+                    return doThrottle(joinPoint, throttleAnnotation, identifier);
+                }
             }
+        } finally {
+            stateLock.readLock().unlock();
         }
+    }
+
+    /**
+     * Throttles the method call with the specified identifier.
+     *
+     * @implSpec The caller has to hold the lock of the {@code identifier}
+     */
+    private @Nullable Object doThrottle(@Nonnull ProceedingJoinPoint joinPoint,
+                                        @Nonnull Throttle throttleAnnotation,
+                                        @Nonnull Identifier identifier) throws Throwable {
+        final MethodSignature signature = (MethodSignature) joinPoint.getSignature();
 
         // if there is a scheduled task and this throttled instance was executed in the last configuration.getThrottleThreshold()
         // cancel the scheduled task
@@ -313,9 +361,7 @@ public void onClearLongRunningTaskQueueEvent() {
         boolean throttleExpired = isThresholdExpired(identifier);
         if (oldScheduledFuture != null && !throttleExpired) {
             oldScheduledFuture.cancel(false);
-            synchronized (scheduledFutures) {
-                scheduledFutures.remove(identifier);
-            }
+            scheduledFutures.remove(identifier);
         }
 
         // acquire a throttled future from a map, or make a new one
@@ -325,9 +371,7 @@ public void onClearLongRunningTaskQueueEvent() {
         ThrottledFuture<Object> future = pair.getSecond();
         future.setName(throttleAnnotation.name());
         // update the throttled future in the map, it might be just the same future, but it might be a new one
-        synchronized (throttledFutures) {
-            throttledFutures.put(identifier, future);
-        }
+        throttledFutures.put(identifier, future);
 
         Object result = resultVoidOrFuture(signature, future);
 
@@ -338,9 +382,17 @@ public void onClearLongRunningTaskQueueEvent() {
         if (oldScheduledFuture == null || oldThrottledFuture != future || oldScheduledFuture.isDone()) {
             boolean oldFutureIsDone = oldScheduledFuture == null || oldScheduledFuture.isDone();
             if (oldThrottledFuture != future) {
-                oldThrottledFuture.then(ignored -> schedule(identifier, pair.getFirst(),
-                                                            throttleExpired && oldFutureIsDone)
-                );
+                oldThrottledFuture.then(ignored -> {
+                    // executed by the thread completing the old future
+                    stateLock.readLock().lock();
+                    try {
+                        synchronized (lockOf(identifier)) {
+                            schedule(identifier, pair.getFirst(), throttleExpired && oldFutureIsDone);
+                        }
+                    } finally {
+                        stateLock.readLock().unlock();
+                    }
+                });
                 notifyTaskChanged(oldThrottledFuture); // the old future maybe changed its state
             } else {
                 schedule(identifier, pair.getFirst(), throttleExpired && oldFutureIsDone);
@@ -351,6 +403,14 @@ public void onClearLongRunningTaskQueueEvent() {
         return result;
     }
 
+    /**
+     * @return monitor guarding the state of the specified identifier
+     * @implSpec The caller has to hold the read lock of {@link #stateLock}
+     */
+    private Object lockOf(Identifier identifier) {
+        return identifierLocks.computeIfAbsent(identifier, k -> new Object());
+    }
+
     /**
      * Maps parameter names from the method signature to their values from {@link JoinPoint#getArgs()}
      *
@@ -464,9 +524,7 @@ private Pair<Runnable, ThrottledFuture<Object>> getFutureTask(@Nonnull Proceedin
      * @return the number of throttled futures that are neither done nor running.
      */
     private long countRemaining() {
-        synchronized (throttledFutures) {
-            return throttledFutures.values().stream().filter(f -> !f.isDone() && !f.isRunning()).count();
-        }
+        return throttledFutures.values().stream().filter(f -> !f.isDone() && !f.isRunning()).count();
     }
 
     /**
@@ -510,9 +568,7 @@ private Runnable createRunnableToSchedule(ThrottledFuture<?> throttledFuture, Id
                     throttledFuture.run(this::notifyTaskChanged); // task running
                 }
                 // update last run timestamp
-                synchronized (lastRun) {
-                    lastRun.put(identifier, Instant.now(clock));
-                }
+                lastRun.put(identifier, Instant.now(clock));
             } finally {
                 if (!throttledFuture.isDone()) {
                     throttledFuture.cancel(false);
@@ -545,36 +601,49 @@ private void clearOldFutures() {
                                 .minus(configuration.getThrottleDiscardThreshold()))) {
             return;
         }
-        if (!lastClear.compareAndSet(last, Instant.now(clock))) {
+        // do not wait for running throttle calls, the maps will be cleared by the next finished task
+        if (!stateLock.writeLock().tryLock()) {
             return;
         }
-        synchronized (throttledFutures) { // synchronize in the filed declaration order
-            synchronized (lastRun) {
-                synchronized (scheduledFutures) {
-                    Stream.of(throttledFutures.keySet().stream(), scheduledFutures.keySet().stream(), lastRun.keySet()
-                                                                                                             .stream())
-                          .flatMap(s -> s).distinct().toList() // ensures safe modification of maps
-                          .forEach(identifier -> {
-                              if (isThresholdExpiredByMoreThan(identifier,
-                                                               configuration.getThrottleDiscardThreshold())) {
-                                  Optional.ofNullable(throttledFutures.get(identifier)).ifPresent(throttled -> {
-                                      if (throttled.isDone()) {
-                                          throttledFutures.remove(identifier);
-                                      }
-                                  });
-                                  Optional.ofNullable(scheduledFutures.get(identifier)).ifPresent(scheduled -> {
-                                      if (scheduled.isDone()) {
-                                          scheduledFutures.remove(identifier);
-                                      }
-                                  });
-                                  lastRun.remove(identifier);
-                              }
-                          });
-                }
+        try {
+            if (lastClear.compareAndSet(last, Instant.now(clock))) {
+                discardOldFutures();
             }
+        } finally {
+            stateLock.writeLock().unlock();
         }
     }
 
+    /**
+     * Removes entries of completed futures for which a {@link Configuration#getThrottleDiscardThreshold()} expired.
+     *
+     * @implSpec The caller has to hold the write lock of {@link #stateLock}
+     */
+    private void discardOldFutures() {
+        Stream.of(throttledFutures.keySet().stream(), scheduledFutures.keySet().stream(), lastRun.keySet().stream())
+              .flatMap(s -> s).distinct().toList() // ensures safe modification of maps
+              .forEach(identifier -> {
+                  if (isThresholdExpiredByMoreThan(identifier, configuration.getThrottleDiscardThreshold())) {
+                      Optional.ofNullable(throttledFutures.get(identifier)).ifPresent(throttled -> {
+                          if (throttled.isDone()) {
+                              throttledFutures.remove(identifier);
+                          }
+                      });
+                      Optional.ofNullable(scheduledFutures.get(identifier)).ifPresent(scheduled -> {
+                          if (scheduled.isDone()) {
+                              scheduledFutures.remove(identifier);
+                          }
+                      });
+                      lastRun.remove(identifier);
+                  }
+              });
+        // locks of identifiers without any state are no longer needed
+        List.copyOf(identifierLocks.keySet())
+            .forEach(identifier -> identifierLocks.computeIfPresent(identifier, (k, lock) ->
+                    throttledFutures.containsKey(k) || scheduledFutures.containsKey(k) || lastRun.containsKey(k)
+                            ? lock : null));
+    }
+
     /**
      * @param identifier of the task
      * @param duration   to add to the throttle threshold
@@ -608,44 +677,47 @@ private void schedule(Identifier identifier, Runnable task, boolean immediately)
         if (immediately) {
             startTime = Instant.now(clock);
         }
-        synchronized (scheduledFutures) {
-            Future<?> scheduled = taskScheduler.schedule(task, startTime);
-            // casting the type parameter to Object
-            scheduledFutures.put(identifier, (Future<Object>) scheduled);
-        }
+        Future<?> scheduled = taskScheduler.schedule(task, startTime);
+        // casting the type parameter to Object
+        scheduledFutures.put(identifier, (Future<Object>) scheduled);
     }
 
+    /**
+     * Cancels all scheduled tasks which group has the group of the specified identifier as a prefix.
+     *
+     * @implSpec The caller has to hold the {@link #groupLock}
+     */
     private void cancelWithHigherGroup(Identifier throttleAnnotation) {
         if (throttleAnnotation.getGroup().isBlank()) {
             return;
         }
-        synchronized (throttledFutures) { // synchronize in the filed declaration order
-            synchronized (scheduledFutures) {
-                // look for any futures with higher group
-                // cancel them and remove from maps
-                Future<Object> higherFuture;
-                Identifier higherKey = scheduledFutures.higherKey(new Identifier(throttleAnnotation.getGroup(), ""));
-                while (higherKey != null) {
-                    if (!higherKey.hasGroupPrefix(throttleAnnotation.getGroup()) || higherKey.getGroup()
-                                                                                             .equals(throttleAnnotation.getGroup())) {
-                        break;
-                    }
+        // look for any futures with higher group
+        // cancel them and remove from maps
+        Future<Object> higherFuture;
+        Identifier higherKey = scheduledFutures.higherKey(new Identifier(throttleAnnotation.getGroup(), ""));
+        while (higherKey != null) {
+            if (!higherKey.hasGroupPrefix(throttleAnnotation.getGroup()) || higherKey.getGroup()
+                                                                                     .equals(throttleAnnotation.getGroup())) {
+                break;
+            }
 
-                    higherFuture = scheduledFutures.get(higherKey);
+            synchronized (lockOf(higherKey)) {
+                higherFuture = scheduledFutures.get(higherKey);
+                if (higherFuture != null) {
                     higherFuture.cancel(false);
-                    final ThrottledFuture<Object> throttledFuture = throttledFutures.get(higherKey);
-
-                    // cancels future if it's not null (should not be) and removes it from map if it was canceled
-                    if (throttledFuture != null && throttledFuture.cancel(false)) {
-                        throttledFutures.remove(higherKey);
-                        notifyTaskChanged(throttledFuture); // task canceled (higher group)
-                    }
-
-                    scheduledFutures.remove(higherKey);
+                }
+                final ThrottledFuture<Object> throttledFuture = throttledFutures.get(higherKey);
 
-                    higherKey = scheduledFutures.higherKey(higherKey);
+                // cancels future if it's not null (should not be) and removes it from map if it was canceled
+                if (throttledFuture != null && throttledFuture.cancel(false)) {
+                    throttledFutures.remove(higherKey);
+                    notifyTaskChanged(throttledFuture); // task canceled (higher group)
                 }
+
+                scheduledFutures.remove(higherKey);
             }
+
+            higherKey = scheduledFutures.higherKey(higherKey);
         }
     }
 
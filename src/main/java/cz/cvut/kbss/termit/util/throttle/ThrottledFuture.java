@@ -113,13 +113,7 @@ public boolean cancel(boolean mayInterruptIfRunning) {
         }
 
         if (!wasCanceled && task != null) {
-            callbackLock.lock();
-            try {
-                onCompletion.forEach(c -> c.accept(this));
-                onCompletion.clear(); // remove executed callbacks
-            } finally {
-                callbackLock.unlock();
-            }
+            runCallbacks();
         }
         return true;
     }
@@ -247,13 +241,7 @@ protected void run(@Nullable Consumer<ThrottledFuture<T>> startedCallback) {
                 future.completeExceptionally(e);
             } finally {
                 if (task != null) {
-                    callbackLock.lock();
-                    try {
-                        onCompletion.forEach(c -> c.accept(this));
-                        onCompletion.clear(); // remove executed callbacks
-                    } finally {
-                        callbackLock.unlock();
-                    }
+                    runCallbacks();
                 }
             }
         } catch (InterruptedException e) {
@@ -266,6 +254,25 @@ protected void run(@Nullable Consumer<ThrottledFuture<T>> startedCallback) {
         }
     }
 
+    /**
+     * Removes the registered completion callbacks and executes them.
+     * <p>
+     * The callbacks are executed after {@link #callbackLock} is released. They may acquire other locks (e.g., monitors
+     * of throttled task identifiers in {@link ThrottleAspect}) whose holders register callbacks on this future, which
+     * would otherwise lead to a deadlock.
+     */
+    private void runCallbacks() {
+        final List<Consumer<ThrottledFuture<T>>> callbacks;
+        callbackLock.lock();
+        try {
+            callbacks = new ArrayList<>(onCompletion);
+            onCompletion.clear(); // remove executed callbacks
+        } finally {
+            callbackLock.unlock();
+        }
+        callbacks.forEach(c -> c.accept(this));
+    }
+
     @Override
     public @Nullable String getName() {
         return this.name;
@@ -292,17 +299,19 @@ public boolean isRunning() {
 
     @Override
     public ThrottledFuture<T> then(Consumer<ThrottledFuture<T>> action) {
+        final boolean done;
+        callbackLock.lock();
         try {
-            callbackLock.lock();
-            if (future.isDone()) {
-                action.accept(this);
-            } else {
+            done = future.isDone();
+            if (!done) {
                 onCompletion.add(action);
             }
         } finally {
-            if (callbackLock.isHeldByCurrentThread()) {
-                callbackLock.unlock();
-            }
+            callbackLock.unlock();
+        }
+        // executed outside the callback lock, see runCallbacks
+        if (done) {
+            action.accept(this);
         }
         return this;
     }
@@ -341,10 +350,10 @@ public void consumeCallbacks(ThrottledFuture<T> other) {
             throw new TermItException(e);
         } finally {
             if (other.callbackLock.isHeldByCurrentThread()) {
-                other.callbackLock.lock();
+                other.callbackLock.unlock();
             }
-            if (other.lock.isHeldByCurrentThread()) {
-                other.lock.unlock();
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
             }
         }
     }
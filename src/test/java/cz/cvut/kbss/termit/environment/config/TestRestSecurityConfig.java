@@ -20,6 +20,7 @@
 import com.fasterxml.jackson.databind.ObjectMapper;
 import cz.cvut.kbss.termit.config.JwtConfig;
 import cz.cvut.kbss.termit.config.SecurityConfig;
+import cz.cvut.kbss.termit.security.AuthenticatedPrincipalCache;
 import cz.cvut.kbss.termit.security.AuthenticationFailure;
 import cz.cvut.kbss.termit.security.AuthenticationSuccess;
 import cz.cvut.kbss.termit.security.JwtUtils;
@@ -27,6 +28,8 @@
 import cz.cvut.kbss.termit.service.security.SecurityUtils;
 import cz.cvut.kbss.termit.service.security.TermItUserDetailsService;
 import cz.cvut.kbss.termit.util.Configuration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -86,4 +89,10 @@ public ThreadPoolTaskScheduler longRunningTaskScheduler() {
     public PersonalAccessTokenService personalAccessTokenService() {
         return mock(PersonalAccessTokenService.class);
     }
+
+    @Bean
+    public AuthenticatedPrincipalCache authenticatedPrincipalCache(Configuration config,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AuthenticatedPrincipalCache(config, meterRegistry);
+    }
 }
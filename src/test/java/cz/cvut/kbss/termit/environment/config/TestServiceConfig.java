@@ -25,6 +25,7 @@
 import cz.cvut.kbss.termit.security.JwtUtils;
 import cz.cvut.kbss.termit.service.document.html.DummySelectorGenerator;
 import cz.cvut.kbss.termit.service.document.html.HtmlSelectorGenerators;
+import cz.cvut.kbss.termit.service.document.html.TextOffsetIndex;
 import cz.cvut.kbss.termit.service.init.lucene.IndexedLanguagesProvider;
 import cz.cvut.kbss.termit.util.Configuration;
 import org.jsoup.nodes.Element;
@@ -89,6 +90,11 @@ public HtmlSelectorGenerators htmlSelectorGenerators(Configuration configuration
             public Set<Selector> generateSelectors(Element... elements) {
                 return Collections.singleton(new DummySelectorGenerator().generateSelector(elements));
             }
+
+            @Override
+            public Set<Selector> generateSelectors(TextOffsetIndex index, Element... elements) {
+                return generateSelectors(elements);
+            }
         };
     }
 
@@ -4,13 +4,18 @@
 import cz.cvut.kbss.termit.environment.Generator;
 import cz.cvut.kbss.termit.model.PersonalAccessToken;
 import cz.cvut.kbss.termit.model.UserAccount;
+import cz.cvut.kbss.termit.util.Utils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -56,4 +61,20 @@ public void findAllByUserAccountReturnsAllTokensForUser() {
     public void findAllByUserAccountThrowsForNullAccount() {
         assertThrows(NullPointerException.class, () -> sut.findAllByUserAccount(null));
     }
+
+    @Test
+    public void updateLastUsedReplacesLastUsedTimestampsOfSpecifiedTokens() {
+        final UserAccount userAccount = Generator.generateUserAccountWithPassword();
+        transactional(() -> em.persist(userAccount));
+        final List<PersonalAccessToken> tokens = createTokens(userAccount);
+        final PersonalAccessToken used = tokens.get(0);
+        used.setLastUsed(Utils.timestamp().minus(1, ChronoUnit.DAYS));
+        transactional(() -> sut.update(used));
+        final Instant timestamp = Utils.timestamp();
+
+        transactional(() -> sut.updateLastUsed(Map.of(used.getUri(), timestamp, tokens.get(1).getUri(), timestamp)));
+        assertEquals(timestamp, em.find(PersonalAccessToken.class, used.getUri()).getLastUsed());
+        assertEquals(timestamp, em.find(PersonalAccessToken.class, tokens.get(1).getUri()).getLastUsed());
+        assertNull(em.find(PersonalAccessToken.class, tokens.get(2).getUri()).getLastUsed());
+    }
 }
@@ -15,6 +15,8 @@
 import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
 import cz.cvut.kbss.termit.util.Constants;
+import cz.cvut.kbss.termit.util.paging.CursorPageRequest;
+import cz.cvut.kbss.termit.util.paging.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +37,7 @@
 import static cz.cvut.kbss.termit.environment.Environment.setPrimaryLabel;
 import static cz.cvut.kbss.termit.environment.util.ContainsSameEntities.containsSameEntities;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -278,4 +281,45 @@ void advancedSearchWithoutSearchStringResolvesTotalNumberOfResults() {
         assertEquals(pageSpec.getPageSize(), result.getNumberOfElements());
         assertEquals(terms.size(), result.getTotalElements());
     }
+
+    @Test
+    void advancedSearchWithCursorReturnsAllResultsOrderedByIdentifierAcrossPages() {
+        final SearchParam searchParam = new SearchParam(
+                URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_je_pojmem_ze_slovniku),
+                Set.of(vocabulary.getUri().toString()), MatchType.IRI);
+        final int pageSize = 2;
+        final List<URI> result = new ArrayList<>();
+        List<SearchResult> page = sut.advancedSearch(new SearchString("", null), Set.of(searchParam),
+                                                     PageRequest.of(0, pageSize), Set.of(vocabulary.getUri()))
+                                     .getContent();
+        while (!page.isEmpty()) {
+            page.forEach(r -> result.add(r.getUri()));
+            if (page.size() < pageSize) {
+                break;
+            }
+            final PageCursor cursor = new PageCursor(null, null, page.get(page.size() - 1).getUri());
+            page = sut.advancedSearch(new SearchString("", null), Set.of(searchParam),
+                                      CursorPageRequest.of(pageSize, cursor), Set.of(vocabulary.getUri()))
+                      .getContent();
+        }
+
+        final List<URI> expected = terms.stream().map(Term::getUri).sorted(Comparator.comparing(URI::toString))
+                                        .toList();
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void advancedSearchWithCursorAfterLastResultReturnsEmptyPage() {
+        final SearchParam searchParam = new SearchParam(
+                URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_je_pojmem_ze_slovniku),
+                Set.of(vocabulary.getUri().toString()), MatchType.IRI);
+        final URI last = terms.stream().map(Term::getUri).max(Comparator.comparing(URI::toString)).orElseThrow();
+
+        final Page<SearchResult> result = sut.advancedSearch(new SearchString("", null), Set.of(searchParam),
+                                                             CursorPageRequest.of(terms.size(),
+                                                                                  new PageCursor(null, null, last)),
+                                                             Set.of(vocabulary.getUri()), false);
+        assertThat(result.getContent(), empty());
+        assertFalse(result.hasNext());
+    }
 }
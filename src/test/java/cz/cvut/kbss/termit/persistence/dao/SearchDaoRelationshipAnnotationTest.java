@@ -17,6 +17,8 @@
 import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
 import cz.cvut.kbss.termit.util.Constants;
+import cz.cvut.kbss.termit.persistence.dao.util.DisabledCache;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.repository.Repository;
@@ -59,7 +61,8 @@ class SearchDaoRelationshipAnnotationTest extends BaseDaoTestRunner {
 
     @BeforeEach
     void setUp() {
-        sut = new SearchDao(em, dataDao);
+        sut = new SearchDao(em, dataDao, new DisabledCache<>(), new DisabledCache<>(),
+                            new VocabularyContentRevisions());
 
         if (!initialized) {
             user = Generator.generateUserWithId();
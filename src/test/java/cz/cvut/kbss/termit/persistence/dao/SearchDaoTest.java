@@ -20,10 +20,17 @@
 import cz.cvut.kbss.jopa.model.EntityManager;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.vocabulary.SKOS;
 import cz.cvut.kbss.termit.dto.search.MatchType;
 import cz.cvut.kbss.termit.dto.search.SearchParam;
 import cz.cvut.kbss.termit.dto.search.SearchResult;
 import cz.cvut.kbss.termit.dto.search.SearchString;
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.VocabularyContentModifiedEvent;
+import cz.cvut.kbss.termit.persistence.dao.util.BoundedCache;
+import cz.cvut.kbss.termit.persistence.dao.util.DisabledCache;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
+import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Constants;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,12 +40,15 @@
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -47,7 +57,9 @@
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,23 +78,44 @@ class SearchDaoTest {
     @Mock
     private DataDao dataDaoMock;
 
+    private final VocabularyContentRevisions contentRevisions = new VocabularyContentRevisions();
+
     private SearchDao sut;
 
     @BeforeEach
     void setUp() {
-        this.sut = new SearchDao(emMock, dataDaoMock);
+        this.sut = new SearchDao(emMock, dataDaoMock, new DisabledCache<>(), new DisabledCache<>(), contentRevisions);
         sut.loadQueries();
     }
 
     private void mockSearchQuery() {
+        mockSearchQuery(Collections.emptyList());
+    }
+
+    private void mockSearchQuery(List<SearchResult> results) {
         when(emMock.createNativeQuery(anyString(), anyString())).thenReturn(ftsQueryMock);
-        when(emMock.createNativeQuery(anyString(), eq(Long.class))).thenReturn(ftsResultCountQueryMock);
         when(ftsQueryMock.setParameter(anyString(), any())).thenReturn(ftsQueryMock);
         when(ftsQueryMock.setParameter(anyString(), any(), any())).thenReturn(ftsQueryMock);
-        when(ftsQueryMock.getResultList()).thenReturn(Collections.emptyList());
-        when(ftsResultCountQueryMock.setParameter(anyString(), any())).thenReturn(ftsResultCountQueryMock);
-        when(ftsResultCountQueryMock.setParameter(anyString(), any(), any())).thenReturn(ftsResultCountQueryMock);
-        when(ftsResultCountQueryMock.getSingleResult()).thenReturn(13L);
+        when(ftsQueryMock.getResultList()).thenReturn(results);
+        // Count query is executed only when the total cannot be derived from the results
+        lenient().when(emMock.createNativeQuery(anyString(), eq(Long.class))).thenReturn(ftsResultCountQueryMock);
+        lenient().when(ftsResultCountQueryMock.setParameter(anyString(), any())).thenReturn(ftsResultCountQueryMock);
+        lenient().when(ftsResultCountQueryMock.setParameter(anyString(), any(), any()))
+                 .thenReturn(ftsResultCountQueryMock);
+        lenient().when(ftsResultCountQueryMock.getSingleResult()).thenReturn(13L);
+    }
+
+    private static List<SearchResult> generateResults(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new SearchResult(Generator.generateUri(), "Result " + i, null,
+                                                                        Generator.generateUri(), null, SKOS.CONCEPT,
+                                                                        "result", "label", 1.0)).toList();
+    }
+
+    /**
+     * Generates results of a page which has a next page, i.e., including the look-ahead result.
+     */
+    private static List<SearchResult> generateResultsWithNextPage(Pageable pageSpec) {
+        return generateResults(pageSpec.getPageSize() + 1);
     }
 
     @Test
@@ -154,9 +187,119 @@ void advancedSearchWithRdfTypeFacetKeepsCanonicalTypeFilterInFtsQuery() {
 
     @Test
     void advancedSearchWithFullTextResolvesTotalNumberOfResults() {
-        mockSearchQuery();
+        mockSearchQuery(generateResultsWithNextPage(Constants.DEFAULT_PAGE_SPEC));
         final Page<SearchResult> result = sut.advancedSearch(new SearchString("matching", null), Collections.emptyList(),
                                                              Constants.DEFAULT_PAGE_SPEC, List.of());
         assertEquals(13, result.getTotalElements());
+        assertEquals(Constants.DEFAULT_PAGE_SPEC.getPageSize(), result.getNumberOfElements());
+    }
+
+    @Test
+    void advancedSearchFetchesOneResultBeyondRequestedPage() {
+        mockSearchQuery();
+        final Pageable pageSpec = PageRequest.of(2, 10);
+        sut.advancedSearch(new SearchString("matching", null), Collections.emptyList(), pageSpec, List.of());
+
+        verify(ftsQueryMock).setFirstResult(20);
+        verify(ftsQueryMock).setMaxResults(11);
+    }
+
+    @Test
+    void advancedSearchResolvesTotalFromResultsWithoutCountQueryWhenPageIsLast() {
+        mockSearchQuery(generateResults(4));
+        final Pageable pageSpec = PageRequest.of(2, 10);
+        final Page<SearchResult> result = sut.advancedSearch(new SearchString("matching", null),
+                                                             Collections.emptyList(), pageSpec, List.of());
+
+        assertEquals(24, result.getTotalElements());
+        assertEquals(4, result.getNumberOfElements());
+        verify(emMock, never()).createNativeQuery(anyString(), eq(Long.class));
+    }
+
+    @Test
+    void advancedSearchWithoutExactTotalResolvesLowerBoundTotalWithoutCountQueryWhenNextPageExists() {
+        final Pageable pageSpec = PageRequest.of(1, 10);
+        mockSearchQuery(generateResultsWithNextPage(pageSpec));
+        final Page<SearchResult> result = sut.advancedSearch(new SearchString("matching", null),
+                                                             Collections.emptyList(), pageSpec, List.of(), false);
+
+        assertEquals(21, result.getTotalElements());
+        assertEquals(10, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        verify(emMock, never()).createNativeQuery(anyString(), eq(Long.class));
+    }
+
+    @Test
+    void advancedSearchCountsResultsWhenRequestedPageIsBeyondLastResult() {
+        mockSearchQuery();
+        final Page<SearchResult> result = sut.advancedSearch(new SearchString("matching", null),
+                                                             Collections.emptyList(), PageRequest.of(5, 10),
+                                                             List.of(), false);
+
+        assertEquals(13, result.getTotalElements());
+        assertTrue(result.isEmpty());
+    }
+
+    private void enableCaching() {
+        final Configuration.Persistence.CacheSettings settings = new Configuration.Persistence.CacheSettings();
+        this.sut = new SearchDao(emMock, dataDaoMock, new BoundedCache<>(SearchDao.SEARCH_RESULTS_CACHE, settings, null),
+                                 new BoundedCache<>(SearchDao.SEARCH_RESULT_COUNT_CACHE, settings, null),
+                                 contentRevisions);
+        sut.loadQueries();
+    }
+
+    @Test
+    void advancedSearchReusesCachedResultsForRepeatedSearch() {
+        enableCaching();
+        mockSearchQuery(generateResultsWithNextPage(Constants.DEFAULT_PAGE_SPEC));
+        final List<URI> vocabularies = List.of(Generator.generateUri());
+        final SearchString searchString = new SearchString("matching", null);
+        sut.advancedSearch(searchString, Collections.emptyList(), Constants.DEFAULT_PAGE_SPEC, vocabularies);
+        final Page<SearchResult> result = sut.advancedSearch(searchString, Collections.emptyList(),
+                                                             Constants.DEFAULT_PAGE_SPEC, vocabularies);
+
+        assertEquals(13, result.getTotalElements());
+        verify(ftsQueryMock).getResultList();
+        verify(ftsResultCountQueryMock).getSingleResult();
+    }
+
+    @Test
+    void advancedSearchReusesCachedResultCountWhenPagingThroughResults() {
+        enableCaching();
+        mockSearchQuery(generateResults(11));
+        final List<URI> vocabularies = List.of(Generator.generateUri());
+        final SearchString searchString = new SearchString("matching", null);
+        sut.advancedSearch(searchString, Collections.emptyList(), PageRequest.of(0, 10), vocabularies);
+        sut.advancedSearch(searchString, Collections.emptyList(), PageRequest.of(1, 10), vocabularies);
+
+        verify(ftsQueryMock, times(2)).getResultList();
+        verify(ftsResultCountQueryMock).getSingleResult();
+    }
+
+    @Test
+    void advancedSearchDoesNotUseCachedResultsAfterContentOfSearchedVocabularyIsModified() {
+        enableCaching();
+        mockSearchQuery(generateResultsWithNextPage(Constants.DEFAULT_PAGE_SPEC));
+        final URI vocabulary = Generator.generateUri();
+        final SearchString searchString = new SearchString("matching", null);
+        sut.advancedSearch(searchString, Collections.emptyList(), Constants.DEFAULT_PAGE_SPEC, List.of(vocabulary));
+        contentRevisions.onVocabularyContentModified(new VocabularyContentModifiedEvent(this, vocabulary));
+        sut.advancedSearch(searchString, Collections.emptyList(), Constants.DEFAULT_PAGE_SPEC, List.of(vocabulary));
+
+        verify(ftsQueryMock, times(2)).getResultList();
+        verify(ftsResultCountQueryMock, times(2)).getSingleResult();
+    }
+
+    @Test
+    void advancedSearchUsesCachedResultsWhenUnrelatedVocabularyIsModified() {
+        enableCaching();
+        mockSearchQuery();
+        final URI vocabulary = Generator.generateUri();
+        final SearchString searchString = new SearchString("matching", null);
+        sut.advancedSearch(searchString, Collections.emptyList(), Constants.DEFAULT_PAGE_SPEC, List.of(vocabulary));
+        contentRevisions.onVocabularyContentModified(new VocabularyContentModifiedEvent(this, Generator.generateUri()));
+        sut.advancedSearch(searchString, Collections.emptyList(), Constants.DEFAULT_PAGE_SPEC, List.of(vocabulary));
+
+        verify(ftsQueryMock).getResultList();
     }
 }
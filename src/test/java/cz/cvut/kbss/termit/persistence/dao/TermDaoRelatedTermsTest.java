@@ -19,13 +19,16 @@
 
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
 import cz.cvut.kbss.termit.dto.TermInfo;
+import cz.cvut.kbss.termit.dto.TermRelations;
 import cz.cvut.kbss.termit.environment.Generator;
 import cz.cvut.kbss.termit.model.Term;
+import cz.cvut.kbss.termit.persistence.dao.util.TermLoadProfile;
 import cz.cvut.kbss.termit.util.Constants;
 import cz.cvut.kbss.termit.util.Utils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,6 +46,7 @@
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TermDaoRelatedTermsTest extends BaseTermDaoTestRunner {
@@ -214,4 +218,114 @@ void inferredInverseRelatedDoesNotContainRelatedMatch() {
         assertThat(result.get().getRelatedMatch(), hasItems(relatedMatch.stream().map(TermInfo::new)
                                                                         .toArray(TermInfo[]::new)));
     }
+
+    @Test
+    void findWithRelationsProfileReturnsIdentifiersOfAssertedRelatedTerms() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final List<Term> related = Arrays.asList(Generator.generateTermWithId(vocabulary.getUri()),
+                                                 Generator.generateTermWithId(vocabulary.getUri()));
+        final Term exactMatch = Generator.generateTermWithId(generateAndPersistVocabulary().getUri());
+        transactional(() -> {
+            em.persist(term, descriptorFactory.termDescriptor(vocabulary));
+            Generator.addTermInVocabularyRelationship(term, vocabulary.getUri(), em);
+            related.forEach(t -> {
+                em.persist(t, descriptorFactory.termDescriptor(vocabulary));
+                Generator.addTermInVocabularyRelationship(t, vocabulary.getUri(), em);
+            });
+            em.persist(exactMatch, descriptorFactory.termDescriptor(exactMatch));
+            Generator.addTermInVocabularyRelationship(exactMatch, exactMatch.getVocabulary(), em);
+        });
+        term.setRelated(related.stream().map(TermInfo::new).collect(Collectors.toSet()));
+        term.setExactMatchTerms(Collections.singleton(new TermInfo(exactMatch)));
+        transactional(() -> em.merge(term, descriptorFactory.termDescriptor(term)));
+
+        final Optional<TermRelations> result = sut.find(term.getUri(), TermLoadProfile.RELATIONS);
+        assertTrue(result.isPresent());
+        assertEquals(vocabulary.getUri(), result.get().getVocabulary());
+        assertEquals(related.stream().map(Term::getUri).collect(Collectors.toSet()),
+                     result.get().getRelated(SKOS.RELATED));
+        assertEquals(Collections.singleton(exactMatch.getUri()), result.get().getRelated(SKOS.EXACT_MATCH));
+        assertTrue(result.get().getRelated(SKOS.RELATED_MATCH).isEmpty());
+    }
+
+    @Test
+    void findWithRelationsProfileReturnsEmptyOptionalForUnknownTerm() {
+        assertFalse(sut.find(Generator.generateUri(), TermLoadProfile.RELATIONS).isPresent());
+    }
+
+    @Test
+    void removeRelationRemovesAssertedRelationshipFromTerm() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final List<Term> related = Arrays.asList(Generator.generateTermWithId(vocabulary.getUri()),
+                                                 Generator.generateTermWithId(vocabulary.getUri()));
+        transactional(() -> {
+            em.persist(term, descriptorFactory.termDescriptor(vocabulary));
+            Generator.addTermInVocabularyRelationship(term, vocabulary.getUri(), em);
+            related.forEach(t -> {
+                em.persist(t, descriptorFactory.termDescriptor(vocabulary));
+                Generator.addTermInVocabularyRelationship(t, vocabulary.getUri(), em);
+            });
+        });
+        term.setRelated(related.stream().map(TermInfo::new).collect(Collectors.toSet()));
+        transactional(() -> em.merge(term, descriptorFactory.termDescriptor(term)));
+
+        transactional(() -> sut.removeRelation(term.getUri(), SKOS.RELATED, related.get(0).getUri()));
+        final Optional<Term> result = sut.find(term.getUri());
+        assertTrue(result.isPresent());
+        assertEquals(Collections.singleton(new TermInfo(related.get(1))), result.get().getRelated());
+    }
+
+    @Test
+    void removeRelationEvictsCachedInverseRelationshipsOfRelatedTerm() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final Term related = Generator.generateTermWithId(vocabulary.getUri());
+        transactional(() -> {
+            em.persist(term, descriptorFactory.termDescriptor(vocabulary));
+            Generator.addTermInVocabularyRelationship(term, vocabulary.getUri(), em);
+            em.persist(related, descriptorFactory.termDescriptor(vocabulary));
+            Generator.addTermInVocabularyRelationship(related, vocabulary.getUri(), em);
+        });
+        term.setRelated(Collections.singleton(new TermInfo(related)));
+        transactional(() -> em.merge(term, descriptorFactory.termDescriptor(term)));
+        final Optional<Term> before = sut.find(related.getUri());
+        assertTrue(before.isPresent());
+        assertThat(before.get().getInverseRelated(), hasItem(new TermInfo(term)));
+
+        transactional(() -> sut.removeRelation(term.getUri(), SKOS.RELATED, related.getUri()));
+        final Optional<Term> result = sut.find(related.getUri());
+        assertTrue(result.isPresent());
+        assertThat(result.get().getInverseRelated(), anyOf(emptyCollectionOf(TermInfo.class), nullValue()));
+    }
+
+    @Test
+    void removeRelationThrowsIllegalArgumentExceptionForHierarchicalRelationship() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final Term parent = Generator.generateTermWithId(vocabulary.getUri());
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> sut.removeRelation(term.getUri(), SKOS.BROADER, parent.getUri()));
+    }
+
+    @Test
+    void findWithRelationsProfileIgnoresRelationshipsAssertedOutsideVocabularyContext() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final Term related = Generator.generateTermWithId(vocabulary.getUri());
+        transactional(() -> {
+            em.persist(term, descriptorFactory.termDescriptor(vocabulary));
+            Generator.addTermInVocabularyRelationship(term, vocabulary.getUri(), em);
+            em.persist(related, descriptorFactory.termDescriptor(vocabulary));
+            Generator.addTermInVocabularyRelationship(related, vocabulary.getUri(), em);
+            em.createNativeQuery("INSERT DATA { GRAPH ?g { ?term a ?type ; ?related ?relatedTerm . } }")
+              .setParameter("g", Generator.generateUri())
+              .setParameter("term", term.getUri())
+              .setParameter("type", URI.create(SKOS.CONCEPT))
+              .setParameter("related", URI.create(SKOS.RELATED))
+              .setParameter("relatedTerm", related.getUri())
+              .executeUpdate();
+        });
+
+        final Optional<TermRelations> result = sut.find(term.getUri(), TermLoadProfile.RELATIONS);
+        assertTrue(result.isPresent());
+        assertTrue(result.get().getRelated(SKOS.RELATED).isEmpty());
+    }
 }
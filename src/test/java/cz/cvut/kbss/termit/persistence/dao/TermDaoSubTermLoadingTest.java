@@ -0,0 +1,139 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.query.Query;
+import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.termit.dto.TermInfo;
+import cz.cvut.kbss.termit.dto.listing.FlatTermDto;
+import cz.cvut.kbss.termit.dto.listing.TermDto;
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.model.Vocabulary;
+import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
+import cz.cvut.kbss.termit.persistence.context.VocabularyContextMapper;
+import cz.cvut.kbss.termit.persistence.dao.util.BoundedCache;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
+import cz.cvut.kbss.termit.util.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that sub-terms of a whole page of terms are loaded using a constant number of repository queries.
+ */
+@ExtendWith(MockitoExtension.class)
+class TermDaoSubTermLoadingTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    @Mock
+    private EntityManager emMock;
+
+    @Mock
+    private DescriptorFactory descriptorFactory;
+
+    @Mock
+    private VocabularyContextMapper contextMapper;
+
+    @Mock
+    private TypedQuery<FlatTermDto> pageQueryMock;
+
+    @Mock
+    private Query subTermsQueryMock;
+
+    @Mock
+    private VocabularyDao vocabularyDao;
+
+    private TermDao sut;
+
+    @BeforeEach
+    void setUp() {
+        this.sut = new TermDao(emMock, new Configuration(), descriptorFactory,
+                                 new BoundedCache<>(TermDao.SUB_TERMS_CACHE,
+                                                    new Configuration.Persistence.CacheSettings(), null),
+                                 new BoundedCache<>(TermDao.HIERARCHY_CACHE,
+                                                    new Configuration.Persistence.CacheSettings(), null),
+                                 contextMapper, new VocabularyContentRevisions(), vocabularyDao);
+    }
+
+    private List<FlatTermDto> mockPageQuery(Vocabulary vocabulary) {
+        final List<FlatTermDto> page = new ArrayList<>(PAGE_SIZE);
+        IntStream.range(0, PAGE_SIZE).forEach(i -> {
+            final FlatTermDto dto = new FlatTermDto(Generator.generateTermWithId(vocabulary.getUri()));
+            dto.setParentTerms(new HashSet<>());
+            page.add(dto);
+        });
+        when(emMock.createNativeQuery(anyString(), eq(FlatTermDto.class))).thenReturn(pageQueryMock);
+        when(pageQueryMock.setParameter(anyString(), any())).thenReturn(pageQueryMock);
+        when(pageQueryMock.setMaxResults(anyInt())).thenReturn(pageQueryMock);
+        when(pageQueryMock.setFirstResult(anyInt())).thenReturn(pageQueryMock);
+        when(pageQueryMock.getResultStream()).thenAnswer(inv -> page.stream());
+        when(emMock.createNativeQuery(anyString())).thenReturn(subTermsQueryMock);
+        when(subTermsQueryMock.setParameter(anyString(), any())).thenReturn(subTermsQueryMock);
+        when(subTermsQueryMock.getResultList()).thenReturn(new ArrayList<>());
+        return page;
+    }
+
+    @Test
+    void findAllLoadsSubTermsOfWholePageUsingSingleQuery() {
+        final Vocabulary vocabulary = Generator.generateVocabularyWithId();
+        final List<FlatTermDto> page = mockPageQuery(vocabulary);
+
+        final List<TermDto> result = sut.findAll(vocabulary, PageRequest.of(0, PAGE_SIZE));
+        assertEquals(page.size(), result.size());
+        result.forEach(t -> assertNotNull(t.getSubTerms()));
+        final ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(emMock).createNativeQuery(captor.capture());
+        page.forEach(t -> assertThat(captor.getValue(), containsString("<" + t.getUri() + ">")));
+        verify(emMock, never()).createNativeQuery(anyString(), eq(TermInfo.class));
+    }
+
+    @Test
+    void findAllLoadsSubTermsFromCacheWhenPageIsLoadedRepeatedly() {
+        final Vocabulary vocabulary = Generator.generateVocabularyWithId();
+        mockPageQuery(vocabulary);
+
+        sut.findAll(vocabulary, PageRequest.of(0, PAGE_SIZE));
+        sut.findAll(vocabulary, PageRequest.of(0, PAGE_SIZE));
+        // Sub-terms are queried only once, the second page load is served from the cache
+        verify(emMock).createNativeQuery(anyString());
+    }
+}
@@ -21,6 +21,7 @@
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.vocabulary.DC;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
+import cz.cvut.kbss.termit.dto.ExistingTerms;
 import cz.cvut.kbss.termit.dto.TermInfo;
 import cz.cvut.kbss.termit.dto.listing.FlatTermDto;
 import cz.cvut.kbss.termit.dto.listing.TermDto;
@@ -28,6 +29,8 @@
 import cz.cvut.kbss.termit.environment.Generator;
 import cz.cvut.kbss.termit.event.AssetPersistEvent;
 import cz.cvut.kbss.termit.event.AssetUpdateEvent;
+import cz.cvut.kbss.termit.event.TermsImportedEvent;
+import cz.cvut.kbss.termit.event.TermsWillBeRemovedEvent;
 import cz.cvut.kbss.termit.event.VocabularyContentModifiedEvent;
 import cz.cvut.kbss.termit.model.Asset;
 import cz.cvut.kbss.termit.model.Term;
@@ -39,6 +42,8 @@
 import cz.cvut.kbss.termit.model.selector.TextQuoteSelector;
 import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Constants;
+import cz.cvut.kbss.termit.util.paging.CursorPageRequest;
+import cz.cvut.kbss.termit.util.paging.PageCursor;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Statement;
@@ -386,6 +391,58 @@ void findAllFlatReturnsOnlyTermsInSpecifiedVocabulary() {
         assertThat(result, hasItems(termsToFlatDtos(vocTerms).toArray(new FlatTermDto[0])));
     }
 
+    @Test
+    void findAllFlatWithCursorReturnsTermsWithEqualLabelsAcrossPagesOrderedByIdentifier() {
+        persistTerms(Environment.LANGUAGE, "Same", "Same", "Same", "Same", "Other", "Zebra");
+        final List<FlatTermDto> expected = sut.findAllFlat(vocabulary, PageRequest.of(0, 10));
+        final int pageSize = 2;
+
+        final List<FlatTermDto> result = new ArrayList<>();
+        List<FlatTermDto> page = sut.findAllFlat(vocabulary, PageRequest.of(0, pageSize));
+        while (!page.isEmpty()) {
+            result.addAll(page);
+            page = sut.findAllFlat(vocabulary, pageAfter(page.get(page.size() - 1), pageSize));
+        }
+        assertEquals(6, result.size());
+        assertEquals(expected, result);
+    }
+
+    private static CursorPageRequest pageAfter(FlatTermDto term, int pageSize) {
+        return CursorPageRequest.of(pageSize, new PageCursor(term.getLabel().get(Environment.LANGUAGE),
+                                                             Environment.LANGUAGE, term.getUri()));
+    }
+
+    @Test
+    void findAllFlatWithCursorOrdersAccentedLabelsSameAsOffsetPaging() {
+        persistTerms(Environment.LANGUAGE, "Banana", "Ábel", "Apple", "Azure");
+        final List<FlatTermDto> all = sut.findAllFlat(vocabulary, PageRequest.of(0, 10));
+        assertEquals(List.of("Apple", "Azure", "Ábel", "Banana"),
+                     all.stream().map(t -> t.getLabel().get(Environment.LANGUAGE)).toList());
+
+        final List<FlatTermDto> result = sut.findAllFlat(vocabulary, pageAfter(all.get(1), 10));
+        assertEquals(all.subList(2, 4), result);
+    }
+
+    @Test
+    void findAllFlatWithCursorReturnsLastPageAndThenEmptyList() {
+        persistTerms(Environment.LANGUAGE, "Apple", "Banana", "Cherry");
+        final List<FlatTermDto> all = sut.findAllFlat(vocabulary, PageRequest.of(0, 10));
+
+        final List<FlatTermDto> lastPage = sut.findAllFlat(vocabulary, pageAfter(all.get(0), 5));
+        assertEquals(all.subList(1, 3), lastPage);
+        assertTrue(sut.findAllFlat(vocabulary, pageAfter(all.get(2), 5)).isEmpty());
+    }
+
+    @Test
+    void findAllWithCursorReturnsTermsFollowingCursor() {
+        persistTerms(Environment.LANGUAGE, "Apple", "Banana", "Cherry");
+        final List<FlatTermDto> all = sut.findAllFlat(vocabulary, PageRequest.of(0, 10));
+
+        final List<TermDto> result = sut.findAll(vocabulary, pageAfter(all.get(0), 1));
+        assertEquals(1, result.size());
+        assertEquals(all.get(1).getUri(), result.get(0).getUri());
+    }
+
     /**
      * Verifies that {@link TermDao#findAll(Vocabulary, org.springframework.data.domain.Pageable)} returns
      * hierarchical DTOs (root has its child in subTerms) while {@link TermDao#findAllFlat(Vocabulary, org.springframework.data.domain.Pageable)}
@@ -428,6 +485,63 @@ void findAllFlatReturnsFlatListWithoutSubTerms() {
         flat.forEach(term -> assertThat(term.getSubTerms(), anyOf(nullValue(), emptyCollectionOf(TermInfo.class))));
     }
 
+    @Test
+    void findAllLoadsSubTermsOfAllTermsOnPage() {
+        final List<Term> parents = generateTerms(3);
+        addTermsAndSave(parents, vocabulary);
+        final Map<URI, List<Term>> children = new HashMap<>();
+        transactional(() -> parents.forEach(p -> {
+            final List<Term> pChildren = IntStream.range(0, 2).mapToObj(i -> {
+                final Term child = Generator.generateTermWithId(vocabulary.getUri());
+                child.setGlossary(vocabulary.getGlossary().getUri());
+                child.setParentTerms(Collections.singleton(p));
+                em.persist(child, descriptorFactory.termDescriptor(vocabulary));
+                Generator.addTermInVocabularyRelationship(child, vocabulary.getUri(), em);
+                return child;
+            }).toList();
+            children.put(p.getUri(), pChildren);
+        }));
+
+        final List<TermDto> result = sut.findAll(vocabulary, Constants.DEFAULT_PAGE_SPEC);
+        assertEquals(parents.size() * 3, result.size());
+        result.forEach(t -> {
+            final Set<URI> expected = children.getOrDefault(t.getUri(), List.of()).stream().map(Term::getUri)
+                                              .collect(Collectors.toSet());
+            assertEquals(expected, t.getSubTerms().stream().map(TermInfo::getUri).collect(Collectors.toSet()));
+        });
+        final TermDto parentDto = result.stream().filter(t -> t.getUri().equals(parents.get(0).getUri())).findFirst()
+                                        .orElseThrow();
+        parentDto.getSubTerms().forEach(st -> {
+            assertNotNull(st.getLabel());
+            assertEquals(vocabulary.getUri(), st.getVocabulary());
+        });
+    }
+
+    @Test
+    void findAllLoadsSubTermsWithoutLabel() {
+        final Term parent = Generator.generateTermWithId(vocabulary.getUri());
+        addTermsAndSave(List.of(parent), vocabulary);
+        final URI child = Generator.generateUri();
+        transactional(() -> em.createNativeQuery("INSERT DATA { GRAPH ?g { " +
+                                                         "?child a ?type ; ?broader ?parent ; ?inVocabulary ?vocabulary . " +
+                                                         "} }")
+                              .setParameter("g", descriptorFactory.vocabularyDescriptor(vocabulary).getSingleContext()
+                                                                  .orElseThrow())
+                              .setParameter("child", child)
+                              .setParameter("type", URI.create(SKOS.CONCEPT))
+                              .setParameter("broader", URI.create(SKOS.BROADER))
+                              .setParameter("parent", parent.getUri())
+                              .setParameter("inVocabulary",
+                                            URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_p_je_pojmem_ze_slovniku))
+                              .setParameter("vocabulary", vocabulary.getUri())
+                              .executeUpdate());
+
+        final List<TermDto> result = sut.findAll(vocabulary, Constants.DEFAULT_PAGE_SPEC);
+        final TermDto parentDto = result.stream().filter(t -> t.getUri().equals(parent.getUri())).findFirst()
+                                        .orElseThrow();
+        assertEquals(Set.of(child), parentDto.getSubTerms().stream().map(TermInfo::getUri).collect(Collectors.toSet()));
+    }
+
     @Test
     void findAllFlatIncludingImportedReturnsTermsInVocabularyAndImportedVocabularies() {
         final List<Term> localTerms = generateTerms(5);
@@ -545,6 +659,95 @@ void persistPublishesAssetPersistEvent() {
         assertEquals(term, evt.get().getAsset());
     }
 
+    @Test
+    void persistAllPersistsTermsInVocabularyContextAndAddsRootsToGlossary() {
+        final Term parent = Generator.generateTermWithId(vocabulary.getUri());
+        final Term child = Generator.generateTermWithId(vocabulary.getUri());
+        child.addParentTerm(parent);
+        transactional(() -> sut.persistAll(List.of(parent, child), vocabulary));
+
+        final Term resultParent = em.find(Term.class, parent.getUri(), descriptorFactory.termDescriptor(vocabulary));
+        assertNotNull(resultParent);
+        assertEquals(parent.getLabel(), resultParent.getLabel());
+        final Term resultChild = em.find(Term.class, child.getUri(), descriptorFactory.termDescriptor(vocabulary));
+        assertNotNull(resultChild);
+        assertEquals(Set.of(parent), resultChild.getParentTerms());
+        final Vocabulary resultVocabulary = em.find(Vocabulary.class, vocabulary.getUri());
+        assertEquals(Set.of(parent.getUri()), resultVocabulary.getGlossary().getRootTerms());
+    }
+
+    @Test
+    void persistAllPublishesTermsImportedEvent() {
+        final List<Term> terms = generateTerms(3);
+        transactional(() -> sut.persistAll(terms, vocabulary));
+
+        final ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        final Optional<TermsImportedEvent> evt = captor.getAllValues().stream()
+                                                       .filter(TermsImportedEvent.class::isInstance)
+                                                       .map(TermsImportedEvent.class::cast).findFirst();
+        assertTrue(evt.isPresent());
+        assertEquals(vocabulary.getUri(), evt.get().getVocabularyIri());
+        assertEquals(terms.stream().map(Term::getUri).collect(Collectors.toSet()), evt.get().getTermIris());
+    }
+
+    @Test
+    void findExistingTermsResolvesExistingIdentifiersAndMatchingLabels() {
+        final Term existing = Generator.generateTermWithId(vocabulary.getUri());
+        addTermsAndSave(List.of(existing), vocabulary);
+        final Term sameId = Generator.generateTermWithId(vocabulary.getUri());
+        sameId.setUri(existing.getUri());
+        final Term sameLabel = Generator.generateTermWithId(vocabulary.getUri());
+        sameLabel.getLabel().set(Environment.LANGUAGE, getPrimaryLabel(existing).toUpperCase());
+
+        final ExistingTerms result = sut.findExistingTerms(List.of(sameId, sameLabel), vocabulary);
+        assertTrue(result.exists(existing.getUri()));
+        assertFalse(result.exists(sameLabel.getUri()));
+        assertEquals(Optional.of(existing.getUri()),
+                     result.findIdentifierByLabel(getPrimaryLabel(sameLabel), Environment.LANGUAGE));
+    }
+
+    @Test
+    void findExistingTermsIgnoresTermsWithSameIdentifierInDifferentVocabulary() {
+        final Vocabulary another = Generator.generateVocabularyWithId();
+        transactional(() -> em.persist(another, descriptorFactory.vocabularyDescriptor(another)));
+        final Term existing = Generator.generateTermWithId(another.getUri());
+        addTermsAndSave(List.of(existing), another);
+        final Term imported = Generator.generateTermWithId(vocabulary.getUri());
+        imported.setUri(existing.getUri());
+
+        final ExistingTerms result = sut.findExistingTerms(List.of(imported), vocabulary);
+        assertFalse(result.exists(existing.getUri()));
+    }
+
+    @Test
+    void removeAllRemovesTermsAndTheirGlossaryMembership() {
+        final List<Term> terms = generateTerms(2);
+        addTermsAndSave(terms, vocabulary);
+
+        transactional(() -> sut.removeAll(List.of(terms.get(0).getUri()), vocabulary));
+        assertNull(em.find(Term.class, terms.get(0).getUri()));
+        assertNotNull(em.find(Term.class, terms.get(1).getUri()));
+        final Vocabulary resultVocabulary = em.find(Vocabulary.class, vocabulary.getUri());
+        assertEquals(Set.of(terms.get(1).getUri()), resultVocabulary.getGlossary().getRootTerms());
+    }
+
+    @Test
+    void removeAllPublishesTermsWillBeRemovedEventWithLabelsOfRemovedTerms() {
+        final List<Term> terms = generateTerms(2);
+        addTermsAndSave(terms, vocabulary);
+
+        transactional(() -> sut.removeAll(List.of(terms.get(0).getUri()), vocabulary));
+        final ArgumentCaptor<ApplicationEvent> captor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        final Optional<TermsWillBeRemovedEvent> evt = captor.getAllValues().stream()
+                                                            .filter(TermsWillBeRemovedEvent.class::isInstance)
+                                                            .map(TermsWillBeRemovedEvent.class::cast).findFirst();
+        assertTrue(evt.isPresent());
+        assertEquals(vocabulary.getUri(), evt.get().getVocabularyIri());
+        assertEquals(Map.of(terms.get(0).getUri(), terms.get(0).getLabel()), evt.get().getTermLabels());
+    }
+
     @Test
     void updateUpdatesTermInVocabularyContext() {
         final Term term = Generator.generateTermWithId(vocabulary.getUri());
@@ -569,6 +772,29 @@ void updateUpdatesTermInVocabularyContext() {
                       .setParameter("label", oldLabel, Environment.LANGUAGE).getSingleResult());
     }
 
+    @Test
+    void updateKeepsCachedHierarchyConsistentWithNewParent() {
+        final Term parent = Generator.generateTermWithId();
+        final Term child = Generator.generateTermWithId();
+        addTermsAndSave(List.of(parent, child), vocabulary);
+        // Loads the hierarchy into the cache
+        assertEquals(2, sut.findAllRoots(vocabulary, PageRequest.of(0, 10), Collections.emptyList()).size());
+
+        child.setVocabulary(vocabulary.getUri());
+        child.addParentTerm(parent);
+        em.getEntityManagerFactory().getCache().evictAll();
+        transactional(() -> {
+            vocabulary.getGlossary().removeRootTerm(child);
+            em.merge(vocabulary.getGlossary(), descriptorFactory.glossaryDescriptor(vocabulary));
+            sut.update(child);
+        });
+
+        assertEquals(List.of(parent.getUri()),
+                     sut.findAllRoots(vocabulary, PageRequest.of(0, 10), Collections.emptyList()).stream()
+                        .map(TermDto::getUri).toList());
+        assertEquals(List.of(child.getUri()), sut.findSubTerms(parent).stream().map(TermDto::getUri).toList());
+    }
+
     @Test
     void updatePublishesVocabularyContentModifiedEvent() {
         final Term term = Generator.generateTermWithId(vocabulary.getUri());
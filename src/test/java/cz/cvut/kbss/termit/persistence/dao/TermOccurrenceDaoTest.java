@@ -358,6 +358,47 @@ void persistSavesTermOccurrenceWithTargetIntoGeneratedContext() {
                      .getSingleResult());
     }
 
+    @Test
+    void persistAllSavesOccurrencesWithTargetsAndSelectorsIntoGeneratedContext() {
+        final File file = Generator.generateFileWithId(FILE_LABEL);
+        final Term term = Generator.generateTermWithId();
+        transactional(() -> em.persist(file));
+        final List<TermOccurrence> occurrences = IntStream.range(0, 5).mapToObj(i -> {
+            final TermOccurrence to = generateTermOccurrence(true, file, term);
+            to.setUri(Generator.generateUri());
+            to.getTarget().setSelectors(Set.of(new TextQuoteSelector("test" + i, "\"quoted\" prefix ", null),
+                                               new TextPositionSelector(i, i + 4)));
+            return to;
+        }).toList();
+
+        transactional(() -> sut.persistAll(occurrences));
+        em.getEntityManagerFactory().getCache().evictAll();
+        final List<TermOccurrence> result = sut.findAllTargeting(file);
+        assertEquals(occurrences.size(), result.size());
+        for (TermOccurrence expected : occurrences) {
+            final TermOccurrence actual = result.stream().filter(to -> to.getUri().equals(expected.getUri()))
+                                                .findFirst().orElseThrow();
+            assertEquals(expected.getTerm(), actual.getTerm());
+            assertTrue(actual.isSuggested());
+            assertEquals(expected.getTarget().getSelectors(), actual.getTarget().getSelectors());
+        }
+        assertTrue(em.createNativeQuery("ASK WHERE { GRAPH ?g { ?x a ?occurrence .} }", Boolean.class)
+                     .setParameter("g", occurrences.get(0).resolveContext())
+                     .setParameter("x", occurrences.get(0).getUri())
+                     .setParameter("occurrence", URI.create(Vocabulary.s_c_souborovy_vyskyt_termu))
+                     .getSingleResult());
+    }
+
+    @Test
+    void findExistingReturnsIdentifiersOfExistingOccurrences() {
+        final Map<Term, List<TermOccurrence>> map = generateOccurrences(false);
+        final List<URI> existing = map.values().stream().flatMap(List::stream).map(TermOccurrence::getUri).toList();
+        final List<URI> toCheck = new ArrayList<>(existing);
+        toCheck.add(Generator.generateUri());
+
+        assertEquals(Set.copyOf(existing), sut.findExisting(toCheck));
+    }
+
     @Test
     void removeAllOrphansRemovesOccurrencesWithNonExistentTargetSource() {
         final File file = Generator.generateFileWithId(FILE_LABEL);
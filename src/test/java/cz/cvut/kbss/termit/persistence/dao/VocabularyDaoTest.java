@@ -32,6 +32,7 @@
 import cz.cvut.kbss.termit.event.AssetUpdateEvent;
 import cz.cvut.kbss.termit.event.RefreshLastModifiedEvent;
 import cz.cvut.kbss.termit.event.VocabularyEvent;
+import cz.cvut.kbss.termit.event.VocabularyImportsChangedEvent;
 import cz.cvut.kbss.termit.event.VocabularyWillBeRemovedEvent;
 import cz.cvut.kbss.termit.model.Glossary;
 import cz.cvut.kbss.termit.model.Model;
@@ -46,6 +47,7 @@
 import cz.cvut.kbss.termit.model.util.EntityToOwlClassMapper;
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
 import cz.cvut.kbss.termit.persistence.dao.changetracking.ChangeRecordDao;
+import cz.cvut.kbss.termit.persistence.dao.changetracking.ContentChangeRollupDao;
 import cz.cvut.kbss.termit.util.Constants;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -94,8 +96,10 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
@@ -114,6 +118,9 @@ class VocabularyDaoTest extends BaseDaoTestRunner {
     @Autowired
     private VocabularyDao sut;
 
+    @Autowired
+    private ContentChangeRollupDao contentChangeRollupDao;
+
     @MockitoSpyBean
     private ChangeRecordDao changeRecordDao;
 
@@ -350,6 +357,23 @@ void getTransitivelyImportedVocabulariesReturnsAllImportedVocabulariesForVocabul
         assertTrue(result.contains(transitiveVocabulary.getUri()));
     }
 
+    @Test
+    void getTransitivelyImportedVocabulariesReflectsNewImportsAfterImportGraphEviction() {
+        final Vocabulary subjectVocabulary = Generator.generateVocabularyWithId();
+        final Vocabulary importedVocabulary = Generator.generateVocabularyWithId();
+        transactional(() -> {
+            em.persist(subjectVocabulary, descriptorFactory.vocabularyDescriptor(subjectVocabulary));
+            em.persist(importedVocabulary, descriptorFactory.vocabularyDescriptor(importedVocabulary));
+        });
+        assertTrue(sut.getTransitivelyImportedVocabularies(subjectVocabulary.getUri()).isEmpty());
+        subjectVocabulary.setImportedVocabularies(Collections.singleton(importedVocabulary.getUri()));
+        transactional(() -> em.merge(subjectVocabulary, descriptorFactory.vocabularyDescriptor(subjectVocabulary)));
+
+        sut.evictImportGraph();
+        final Collection<URI> result = sut.getTransitivelyImportedVocabularies(subjectVocabulary.getUri());
+        assertEquals(Collections.singleton(importedVocabulary.getUri()), new HashSet<>(result));
+    }
+
     @Test
     void initializesLastModificationTimestampToCurrentDateTimeOnInit() {
         final long result = sut.getLastModified();
@@ -431,6 +455,30 @@ void updatePublishesAssetUpdateEvent() {
         assertEquals(voc, evt.get().getAsset());
     }
 
+    @Test
+    void updatePublishesVocabularyImportsChangedEventWhenImportsChanged() {
+        final Vocabulary voc = Generator.generateVocabularyWithId();
+        final Vocabulary imported = Generator.generateVocabularyWithId();
+        transactional(() -> {
+            em.persist(voc, descriptorFactory.vocabularyDescriptor(voc));
+            em.persist(imported, descriptorFactory.vocabularyDescriptor(imported));
+        });
+        voc.setImportedVocabularies(Collections.singleton(imported.getUri()));
+
+        transactional(() -> sut.update(voc));
+        verify(eventPublisher).publishEvent(any(VocabularyImportsChangedEvent.class));
+    }
+
+    @Test
+    void updateDoesNotPublishVocabularyImportsChangedEventWhenImportsAreUnchanged() {
+        final Vocabulary voc = Generator.generateVocabularyWithId();
+        transactional(() -> em.persist(voc, descriptorFactory.vocabularyDescriptor(voc)));
+        voc.setLabel(MultilingualString.create("New vocabulary label", Environment.LANGUAGE));
+
+        transactional(() -> sut.update(voc));
+        verify(eventPublisher, never()).publishEvent(any(VocabularyImportsChangedEvent.class));
+    }
+
     @Test
     void getChangesOfContentLoadsAggregatedChangesOfTermsInVocabulary() {
         enableRdfsInference(em);
@@ -455,6 +503,7 @@ void getChangesOfContentLoadsAggregatedChangesOfTermsInVocabulary() {
             oneChanges.forEach(ch -> em.persist(ch));
             twoChanges.forEach(ch -> em.persist(ch));
         });
+        transactional(() -> contentChangeRollupDao.rebuild());
         final Map<LocalDate, Integer> persists = resolveExpectedPersists(oneChanges, twoChanges);
         final Map<LocalDate, Integer> updates = resolveExpectedUpdates(oneChanges, twoChanges);
 
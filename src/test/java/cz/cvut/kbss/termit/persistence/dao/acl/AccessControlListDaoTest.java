@@ -21,6 +21,7 @@
 import cz.cvut.kbss.termit.environment.Generator;
 import cz.cvut.kbss.termit.model.Asset;
 import cz.cvut.kbss.termit.model.User;
+import cz.cvut.kbss.termit.model.UserGroup;
 import cz.cvut.kbss.termit.model.UserRole;
 import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.model.acl.AccessControlList;
@@ -28,6 +29,7 @@
 import cz.cvut.kbss.termit.model.acl.AccessLevel;
 import cz.cvut.kbss.termit.model.acl.RoleAccessControlRecord;
 import cz.cvut.kbss.termit.model.acl.UserAccessControlRecord;
+import cz.cvut.kbss.termit.model.acl.UserGroupAccessControlRecord;
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
 import cz.cvut.kbss.termit.persistence.context.StaticContexts;
 import cz.cvut.kbss.termit.persistence.dao.BaseDaoTestRunner;
@@ -37,6 +39,7 @@
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static cz.cvut.kbss.termit.environment.util.ContainsSameEntities.containsSameEntities;
@@ -245,4 +248,40 @@ void findAssetsByAgentWithSecurityAccessReturnsResourcesWhenUserHasSecurityAcces
         final List<? extends Asset<?>> result = sut.findAssetsByAgentWithSecurityAccess(user);
         assertThat(result, containsSameEntities(List.of(vocabulary)));
     }
+
+    @Test
+    void findHighestAccessLevelsResolvesHighestAccessLevelFromUserRoleAndUserGroupRecords() {
+        final User user = Generator.generateUserWithId();
+        final UserRole editorRole = new UserRole(URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_c_plny_uzivatel_termitu));
+        final UserGroup group = Generator.generateUserGroup();
+        group.addMember(user);
+        final Vocabulary byRole = Generator.generateVocabularyWithId();
+        final AccessControlList roleAcl = new AccessControlList();
+        roleAcl.addRecord(new UserAccessControlRecord(AccessLevel.READ, user));
+        roleAcl.addRecord(new RoleAccessControlRecord(AccessLevel.WRITE, editorRole));
+        final Vocabulary byGroup = Generator.generateVocabularyWithId();
+        final AccessControlList groupAcl = new AccessControlList();
+        groupAcl.addRecord(new UserGroupAccessControlRecord(AccessLevel.READ, group));
+        final Vocabulary noAccess = Generator.generateVocabularyWithId();
+        final AccessControlList otherAcl = new AccessControlList();
+        otherAcl.addRecord(new UserAccessControlRecord(AccessLevel.SECURITY, Generator.generateUserWithId()));
+        transactional(() -> {
+            em.persist(user);
+            em.persist(editorRole);
+            em.persist(group, descriptorFactory.userGroupDescriptor());
+            otherAcl.getRecords().forEach(r -> em.persist(r.getHolder()));
+            em.persist(roleAcl, descriptorFactory.accessControlListDescriptor());
+            em.persist(groupAcl, descriptorFactory.accessControlListDescriptor());
+            em.persist(otherAcl, descriptorFactory.accessControlListDescriptor());
+            byRole.setAcl(roleAcl.getUri());
+            byGroup.setAcl(groupAcl.getUri());
+            noAccess.setAcl(otherAcl.getUri());
+            List.of(byRole, byGroup, noAccess).forEach(v -> em.persist(v, descriptorFactory.vocabularyDescriptor(v)));
+        });
+
+        final Map<URI, AccessLevel> result = sut.findHighestAccessLevels(
+                List.of(byRole.getUri(), byGroup.getUri(), noAccess.getUri()),
+                List.of(user.getUri(), editorRole.getUri()), user.getUri());
+        assertEquals(Map.of(byRole.getUri(), AccessLevel.WRITE, byGroup.getUri(), AccessLevel.READ), result);
+    }
 }
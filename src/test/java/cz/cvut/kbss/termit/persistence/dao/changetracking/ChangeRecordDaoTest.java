@@ -106,6 +106,19 @@ void persistSavesChangeRecordIntoContext() {
                      .getSingleResult());
     }
 
+    @Test
+    void persistAllSavesChangeRecordsIntoContextOfSpecifiedAsset() {
+        final List<AbstractChangeRecord> records = List.of(generatePersistRecord(Instant.now(), Generator.generateUri()),
+                                                           generatePersistRecord(Instant.now(), Generator.generateUri()));
+        transactional(() -> sut.persistAll(records, vocabulary));
+
+        records.forEach(r -> assertTrue(
+                em.createNativeQuery("ASK WHERE { GRAPH ?g { ?x a ?changeRecord . } }", Boolean.class)
+                  .setParameter("g", contextResolver.resolveChangeTrackingContext(vocabulary))
+                  .setParameter("x", r.getUri())
+                  .getSingleResult()));
+    }
+
     private PersistChangeRecord generatePersistRecord(Instant timestamp, URI changedObject) {
         final PersistChangeRecord record = new PersistChangeRecord();
         record.setAuthor(author);
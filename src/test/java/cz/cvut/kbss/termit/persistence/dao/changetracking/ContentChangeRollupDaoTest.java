@@ -0,0 +1,260 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.changetracking;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.termit.dto.AggregatedChangeInfo;
+import cz.cvut.kbss.termit.environment.Environment;
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.VocabularyWillBeRemovedEvent;
+import cz.cvut.kbss.termit.model.Term;
+import cz.cvut.kbss.termit.model.User;
+import cz.cvut.kbss.termit.model.Vocabulary;
+import cz.cvut.kbss.termit.model.changetracking.DeleteChangeRecord;
+import cz.cvut.kbss.termit.model.changetracking.PersistChangeRecord;
+import cz.cvut.kbss.termit.model.changetracking.UpdateChangeRecord;
+import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
+import cz.cvut.kbss.termit.persistence.dao.BaseDaoTestRunner;
+import cz.cvut.kbss.termit.util.Utils;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentChangeRollupDaoTest extends BaseDaoTestRunner {
+
+    private static final URI CREATE = URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_c_vytvoreni_entity);
+    private static final URI UPDATE = URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_c_uprava_entity);
+    private static final URI DELETE = URI.create(cz.cvut.kbss.termit.util.Vocabulary.s_c_smazani_entity);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private DescriptorFactory descriptorFactory;
+
+    @Autowired
+    private ChangeRecordDao changeRecordDao;
+
+    @Autowired
+    private ContentChangeRollupDao sut;
+
+    private Vocabulary vocabulary;
+
+    @BeforeEach
+    void setUp() {
+        final User author = Generator.generateUserWithId();
+        Environment.setCurrentUser(author);
+        this.vocabulary = Generator.generateVocabularyWithId();
+        transactional(() -> {
+            em.persist(author);
+            em.persist(vocabulary, descriptorFactory.vocabularyDescriptor(vocabulary));
+        });
+    }
+
+    @Test
+    void incrementCreatesDailyRollupOfChangeTypeForTermVocabulary() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final Instant timestamp = Utils.timestamp();
+
+        transactional(() -> sut.increment(term, CREATE, timestamp));
+
+        final List<AggregatedChangeInfo> result = sut.findAll(vocabulary.getUri());
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.ofInstant(timestamp, ZoneOffset.UTC), result.get(0).getDate());
+        assertEquals(1, result.get(0).getCount());
+        assertTrue(result.get(0).hasType(CREATE.toString()));
+    }
+
+    @Test
+    void incrementCountsEachTermOnlyOncePerDayAndChangeType() {
+        final Term termOne = Generator.generateTermWithId(vocabulary.getUri());
+        final Term termTwo = Generator.generateTermWithId(vocabulary.getUri());
+        final UpdateChangeRecord record = Generator.generateUpdateChange(termOne);
+
+        transactional(() -> {
+            sut.increment(termOne, UPDATE, record.getTimestamp());
+            em.persist(record);
+        });
+        transactional(() -> sut.increment(termOne, UPDATE, record.getTimestamp()));
+        transactional(() -> sut.increment(termTwo, UPDATE, record.getTimestamp()));
+
+        final List<AggregatedChangeInfo> result = sut.findAll(vocabulary.getUri());
+        assertEquals(1, result.size());
+        assertEquals(2, result.get(0).getCount());
+    }
+
+    @Test
+    void incrementStoresCountOfEachIncrementSeparatelyAndFindAllSumsThem() {
+        final Instant timestamp = Utils.timestamp();
+        transactional(() -> sut.increment(Generator.generateTermWithId(vocabulary.getUri()), UPDATE, timestamp));
+        transactional(() -> sut.increment(vocabulary.getUri(),
+                                          List.of(Generator.generateUri(), Generator.generateUri()), UPDATE,
+                                          timestamp));
+
+        final List<?> counts = em.createNativeQuery("SELECT ?cnt WHERE { ?rollup a ?type ; ?hasCount ?cnt . }")
+                                 .setParameter("type", ContentChangeRollupDao.ROLLUP_TYPE)
+                                 .setParameter("hasCount", ContentChangeRollupDao.HAS_COUNT)
+                                 .getResultList();
+        assertEquals(2, counts.size());
+        final List<AggregatedChangeInfo> result = sut.findAll(vocabulary.getUri());
+        assertEquals(1, result.size());
+        assertEquals(3, result.get(0).getCount());
+    }
+
+    @Test
+    void incrementKeepsSeparateRollupsForDifferentDays() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final Instant today = Utils.timestamp();
+
+        transactional(() -> {
+            sut.increment(term, UPDATE, today.minus(1, ChronoUnit.DAYS));
+            sut.increment(term, UPDATE, today);
+        });
+
+        final List<AggregatedChangeInfo> result = sut.findAll(vocabulary.getUri());
+        assertEquals(2, result.size());
+        assertEquals(LocalDate.ofInstant(today.minus(1, ChronoUnit.DAYS), ZoneOffset.UTC), result.get(0).getDate());
+        assertEquals(LocalDate.ofInstant(today, ZoneOffset.UTC), result.get(1).getDate());
+    }
+
+    @Test
+    void bulkIncrementCountsTermsWithoutChangeRecordOfSameTypeOnTheSameDay() {
+        final Term termOne = Generator.generateTermWithId(vocabulary.getUri());
+        final Term termTwo = Generator.generateTermWithId(vocabulary.getUri());
+        final Term termThree = Generator.generateTermWithId(vocabulary.getUri());
+        final UpdateChangeRecord record = Generator.generateUpdateChange(termOne);
+
+        transactional(() -> {
+            sut.increment(termOne, UPDATE, record.getTimestamp());
+            em.persist(record);
+        });
+        transactional(() -> sut.increment(vocabulary.getUri(),
+                                          List.of(termOne.getUri(), termTwo.getUri(), termThree.getUri()), UPDATE,
+                                          record.getTimestamp()));
+
+        final List<AggregatedChangeInfo> result = sut.findAll(vocabulary.getUri());
+        assertEquals(1, result.size());
+        assertEquals(3, result.get(0).getCount());
+    }
+
+    @Test
+    void incrementResolvesVocabularyFromGlossaryWhenTermVocabularyIsNotSet() {
+        final Term term = Generator.generateTermWithId();
+        term.setGlossary(vocabulary.getGlossary().getUri());
+
+        transactional(() -> sut.increment(term, CREATE, Utils.timestamp()));
+
+        assertEquals(1, sut.findAll(vocabulary.getUri()).size());
+    }
+
+    @Test
+    void existsReturnsWhetherAnyRollupExists() {
+        assertFalse(sut.exists());
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        transactional(() -> sut.increment(term, CREATE, Utils.timestamp()));
+        assertTrue(sut.exists());
+    }
+
+    @Test
+    void rebuildReplacesExistingRollupsWithOnesCalculatedFromChangeRecords() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final UpdateChangeRecord record = Generator.generateUpdateChange(term);
+        record.setTimestamp(Utils.timestamp().minus(2, ChronoUnit.DAYS));
+        transactional(() -> {
+            em.persist(term, descriptorFactory.termDescriptor(vocabulary));
+            Generator.addTermInVocabularyRelationship(term, vocabulary.getUri(), em);
+            changeRecordDao.persistAll(List.of(record), vocabulary);
+            sut.increment(term, CREATE, Utils.timestamp());
+        });
+
+        transactional(() -> sut.rebuild());
+
+        final List<AggregatedChangeInfo> result = sut.findAll(vocabulary.getUri());
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.ofInstant(record.getTimestamp(), ZoneOffset.UTC), result.get(0).getDate());
+        assertTrue(result.get(0).hasType(UPDATE.toString()));
+        assertEquals(1, result.get(0).getCount());
+    }
+
+    @Test
+    void rebuildProducesSameRollupsAsIncrementsForTermCreatedUpdatedAndDeleted() {
+        final Term term = Generator.generateTermWithId(vocabulary.getUri());
+        final PersistChangeRecord persistRecord = Generator.generatePersistChange(term);
+        final UpdateChangeRecord updateRecord = Generator.generateUpdateChange(term);
+        final DeleteChangeRecord deleteRecord = new DeleteChangeRecord(term);
+        deleteRecord.setAuthor(Environment.getCurrentUser().toUser());
+        deleteRecord.setTimestamp(Utils.timestamp());
+        transactional(() -> {
+            em.persist(term, descriptorFactory.termDescriptor(vocabulary));
+            Generator.addTermInVocabularyRelationship(term, vocabulary.getUri(), em);
+            sut.increment(term, CREATE, persistRecord.getTimestamp());
+            changeRecordDao.persistAll(List.of(persistRecord), vocabulary);
+        });
+        transactional(() -> {
+            sut.increment(term, UPDATE, updateRecord.getTimestamp());
+            changeRecordDao.persistAll(List.of(updateRecord), vocabulary);
+        });
+        transactional(() -> {
+            sut.increment(term, DELETE, deleteRecord.getTimestamp());
+            changeRecordDao.persistAll(List.of(deleteRecord), vocabulary);
+        });
+        removeTermFromRepository(term);
+        final Set<AggregatedChangeInfo> incremental = new HashSet<>(sut.findAll(vocabulary.getUri()));
+        assertEquals(3, incremental.size());
+
+        transactional(() -> sut.rebuild());
+
+        assertEquals(incremental, new HashSet<>(sut.findAll(vocabulary.getUri())));
+    }
+
+    private void removeTermFromRepository(Term term) {
+        final Repository repo = em.unwrap(Repository.class);
+        try (final RepositoryConnection conn = repo.getConnection()) {
+            conn.remove(conn.getValueFactory().createIRI(term.getUri().toString()), null, null);
+        }
+    }
+
+    @Test
+    void onVocabularyRemovalRemovesRollupsOfRemovedVocabulary() {
+        final Vocabulary other = Generator.generateVocabularyWithId();
+        transactional(() -> {
+            sut.increment(Generator.generateTermWithId(vocabulary.getUri()), CREATE, Utils.timestamp());
+            sut.increment(Generator.generateTermWithId(other.getUri()), CREATE, Utils.timestamp());
+        });
+
+        transactional(() -> sut.onVocabularyRemoval(new VocabularyWillBeRemovedEvent(this, vocabulary.getUri())));
+
+        assertTrue(sut.findAll(vocabulary.getUri()).isEmpty());
+        assertEquals(1, sut.findAll(other.getUri()).size());
+    }
+}
@@ -32,7 +32,9 @@
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
 import cz.cvut.kbss.termit.persistence.dao.BaseDaoTestRunner;
 import cz.cvut.kbss.termit.persistence.dao.VocabularyDao;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
 import cz.cvut.kbss.termit.service.importer.VocabularyImporter;
+import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Constants;
 import cz.cvut.kbss.termit.util.Vocabulary;
 import org.eclipse.rdf4j.model.IRI;
@@ -74,6 +76,7 @@
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -99,6 +102,9 @@ class SKOSImporterTest extends BaseDaoTestRunner {
     @Autowired
     private ApplicationContext context;
 
+    @Autowired
+    private Configuration config;
+
     private final Consumer<cz.cvut.kbss.termit.model.Vocabulary> persister = (cz.cvut.kbss.termit.model.Vocabulary v) -> vocabularyDao.persist(
             v);
 
@@ -450,6 +456,20 @@ void importConnectsExistingDocumentToReimportedVocabulary() {
         assertEquals(document, result.getDocument());
     }
 
+    @Test
+    void reimportAdvancesContentRevisionOfVocabulary() {
+        final VocabularyContentRevisions revisions = context.getBean(VocabularyContentRevisions.class);
+        final String originalTag = revisions.getTag(VOCABULARY_IRI);
+
+        transactional(() -> {
+            final SKOSImporter sut = context.getBean(SKOSImporter.class);
+            sut.importVocabulary(new VocabularyImporter.ImportConfiguration(false, VOCABULARY_IRI, persister),
+                                 new VocabularyImporter.ImportInput(Constants.MediaType.TURTLE,
+                                                                    Environment.loadFile("data/test-glossary.ttl")));
+        });
+        assertNotEquals(originalTag, revisions.getTag(VOCABULARY_IRI));
+    }
+
     private cz.cvut.kbss.termit.model.Vocabulary findVocabulary(URI vocabularyUri) {
         return em.find(cz.cvut.kbss.termit.model.Vocabulary.class,
                        vocabularyUri,
@@ -697,4 +717,108 @@ void importResolvesVocabularyNamespaceFromTermIrisWhenItIsNotExplicitlySpecified
             assertThat(t.getUri().toString(), not(containsString("/pojem")));
         });
     }
+
+    @Test
+    void importInStreamingModeImportsGlossaryAndGeneratesTopConceptAssertions() {
+        enableStreaming();
+        transactional(() -> {
+            final SKOSImporter sut = context.getBean(SKOSImporter.class);
+            sut.importVocabulary(new VocabularyImporter.ImportConfiguration(false, TERMIT_VOCABULARY_IRI, persister),
+                                 new VocabularyImporter.ImportInput(Constants.MediaType.TURTLE,
+                                                                    Environment.loadFile("data/test-glossary.ttl"),
+                                                                    Environment.loadFile("data/test-vocabulary.ttl")));
+        });
+        transactional(() -> {
+            try (final RepositoryConnection conn = em.unwrap(Repository.class).getConnection()) {
+                final IRI ctx = vf.createIRI(TERMIT_VOCABULARY_IRI_S);
+                assertTrue(conn.hasStatement(vf.createIRI(Vocabulary.s_c_uzivatel_termitu), RDF.TYPE, SKOS.CONCEPT,
+                                             false, ctx));
+                assertTrue(conn.hasStatement(vf.createIRI(Vocabulary.s_c_zablokovany_uzivatel_termitu), RDF.TYPE,
+                                             SKOS.CONCEPT, false, ctx));
+                final List<Value> terms = conn.getStatements(null, SKOS.HAS_TOP_CONCEPT, null).stream()
+                                              .map(Statement::getObject).toList();
+                assertEquals(List.of(vf.createIRI(Vocabulary.s_c_uzivatel_termitu)), terms);
+                assertFalse(conn.hasStatement(null, SKOS.TOP_CONCEPT_OF, null, false));
+                assertNoStagingContextRemains(conn);
+            }
+        });
+    }
+
+    private void enableStreaming() {
+        config.getImport().setSkosStreaming(true);
+        config.getImport().setSkosBatchSize(2);
+    }
+
+    private static void assertNoStagingContextRemains(RepositoryConnection conn) {
+        assertTrue(conn.getContextIDs().stream()
+                       .noneMatch(ctx -> ctx.stringValue().startsWith(Vocabulary.ONTOLOGY_IRI_TERMIT + "/import/")));
+    }
+
+    @Test
+    void importInStreamingModeRenamesTermIriUponRenamingVocabularyIri() {
+        enableStreaming();
+        transactional(() -> {
+            final SKOSImporter sut = context.getBean(SKOSImporter.class);
+            sut.importVocabulary(new VocabularyImporter.ImportConfiguration(true, null, persister),
+                                 new VocabularyImporter.ImportInput(Constants.MediaType.TURTLE,
+                                                                    Environment.loadFile("data/test-glossary.ttl")));
+        });
+        transactional(() -> {
+            final SKOSImporter sut = context.getBean(SKOSImporter.class);
+            sut.importVocabulary(new VocabularyImporter.ImportConfiguration(true, null, persister),
+                                 new VocabularyImporter.ImportInput(Constants.MediaType.TURTLE,
+                                                                    Environment.loadFile("data/test-glossary.ttl")));
+        });
+        transactional(() -> {
+            final List<cz.cvut.kbss.termit.model.Vocabulary> vocabularies = vocabularyDao.findAll();
+            final Repository repo = em.unwrap(Repository.class);
+            try (final RepositoryConnection conn = repo.getConnection()) {
+                vocabularies.stream().filter(v -> !v.getUri().equals(VOCABULARY_IRI))
+                            .forEach(v -> assertTrue(conn.hasStatement(null,
+                                                                       SKOS.IN_SCHEME,
+                                                                       vf.createIRI(
+                                                                               v.getGlossary().getUri().toString()),
+                                                                       false,
+                                                                       vf.createIRI(v.getUri().toString()))));
+                assertNoStagingContextRemains(conn);
+            }
+        });
+    }
+
+    @Test
+    void importInStreamingModeFailsIfTermDoesNotHaveAnyLabelAndRemovesStagedData() {
+        enableStreaming();
+        transactional(() -> {
+            final SKOSImporter sut = context.getBean(SKOSImporter.class);
+            final VocabularyImportException ex = assertThrows(
+                    VocabularyImportException.class, () -> sut.importVocabulary(
+                            new VocabularyImporter.ImportConfiguration(false, VOCABULARY_IRI, persister),
+                            new VocabularyImporter.ImportInput(Constants.MediaType.TURTLE, Environment.loadFile(
+                                    "data/test-glossary-term-without-label.ttl"))));
+            assertEquals("error.vocabulary.import.skos.missingLabel", ex.getMessageId());
+            assertEquals("http://onto.fel.cvut.cz/ontologies/application/termit/pojem/zablokovaný-uživatel-termitu",
+                         ex.getParameters().get("term"));
+        });
+        try (final RepositoryConnection conn = em.unwrap(Repository.class).getConnection()) {
+            assertFalse(conn.hasStatement(vf.createIRI(Vocabulary.s_c_zablokovany_uzivatel_termitu), RDF.TYPE,
+                                          SKOS.CONCEPT, false));
+            assertNoStagingContextRemains(conn);
+        }
+    }
+
+    @Test
+    void importInStreamingModeFailsIfAnEmptyLanguageTagIsProvidedForMultilingualProperties() {
+        enableStreaming();
+        transactional(() -> {
+            final SKOSImporter sut = context.getBean(SKOSImporter.class);
+            final MissingLanguageTagException ex = assertThrows(
+                    MissingLanguageTagException.class, () -> sut.importVocabulary(
+                            new VocabularyImporter.ImportConfiguration(false, VOCABULARY_IRI, persister),
+                            new VocabularyImporter.ImportInput(Constants.MediaType.TURTLE, Environment.loadFile(
+                                    "data/test-glossary.ttl"),
+                                                               Environment.loadFile(
+                                                                       "data/test-glossary-with-definition-with-empty-language-tag.ttl"))));
+            assertEquals("http://www.w3.org/2004/02/skos/core#definition", ex.getParameters().get("property"));
+        });
+    }
 }
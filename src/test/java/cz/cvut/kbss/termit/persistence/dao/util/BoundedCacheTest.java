@@ -0,0 +1,245 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.util;
+
+import cz.cvut.kbss.termit.dto.TermInfo;
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.util.Configuration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedCacheTest {
+
+    private static final String CACHE_NAME = "test";
+
+    @Mock
+    Function<URI, Set<TermInfo>> supplier;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BoundedCache<URI, Set<TermInfo>> sut =
+            new BoundedCache<>(CACHE_NAME, new Configuration.Persistence.CacheSettings(), meterRegistry);
+
+    @Test
+    void getOrComputeReturnsValueComputedUsingSpecifiedSupplierWhenKeyIsNotPresent() {
+        final Set<TermInfo> data = generateData();
+        final URI key = Generator.generateUri();
+        when(supplier.apply(any(URI.class))).thenReturn(data);
+
+        final Set<TermInfo> result = sut.getOrCompute(key, supplier);
+        assertEquals(data, result);
+        verify(supplier).apply(key);
+    }
+
+    private Set<TermInfo> generateData() {
+        return IntStream.range(0, 5).mapToObj(i -> Generator.generateTermInfoWithId()).collect(Collectors.toSet());
+    }
+
+    @Test
+    void getOrComputeReturnsCachedValue() {
+        final Set<TermInfo> data = generateData();
+        final URI key = Generator.generateUri();
+        when(supplier.apply(any(URI.class))).thenReturn(data);
+
+        final Set<TermInfo> resultOne = sut.getOrCompute(key, supplier);
+        assertEquals(data, resultOne);
+        final Set<TermInfo> resultTwo = sut.getOrCompute(key, supplier);
+        assertEquals(data, resultTwo);
+        // Expect one invocation only
+        verify(supplier).apply(key);
+    }
+
+    @Test
+    void evictRemovesCachedValueForSpecifiedKey() {
+        final Set<TermInfo> data = generateData();
+        final URI key = Generator.generateUri();
+        when(supplier.apply(any(URI.class))).thenReturn(data);
+
+        final Set<TermInfo> resultOne = sut.getOrCompute(key, supplier);
+        assertEquals(data, resultOne);
+        sut.evict(key);
+        final Set<TermInfo> resultTwo = sut.getOrCompute(key, supplier);
+        assertEquals(data, resultTwo);
+        verify(supplier, times(2)).apply(key);
+    }
+
+    @Test
+    void evictRemovesCachedValueOnlyForSpecifiedKey() {
+        final Set<TermInfo> data = generateData();
+        final URI key = Generator.generateUri();
+        final URI keyTwo = Generator.generateUri();
+        when(supplier.apply(any(URI.class))).thenReturn(data);
+
+        assertEquals(data, sut.getOrCompute(key, supplier));
+        assertEquals(data, sut.getOrCompute(keyTwo, supplier));
+        sut.evict(key);
+        assertEquals(data, sut.getOrCompute(key, supplier));
+        assertEquals(data, sut.getOrCompute(keyTwo, supplier));
+        verify(supplier, times(2)).apply(key);
+        // Key two was not evicted
+        verify(supplier).apply(keyTwo);
+    }
+
+    @Test
+    void evictAllClearsWholeCache() {
+        final Set<TermInfo> data = generateData();
+        final URI key = Generator.generateUri();
+        final URI keyTwo = Generator.generateUri();
+        when(supplier.apply(any(URI.class))).thenReturn(data);
+
+        assertEquals(data, sut.getOrCompute(key, supplier));
+        assertEquals(data, sut.getOrCompute(keyTwo, supplier));
+        sut.evictAll();
+        assertEquals(data, sut.getOrCompute(key, supplier));
+        assertEquals(data, sut.getOrCompute(keyTwo, supplier));
+        verify(supplier, times(2)).apply(key);
+        verify(supplier, times(2)).apply(keyTwo);
+    }
+
+    @Test
+    void evictIfRemovesOnlyValuesMatchingPredicate() {
+        final Set<TermInfo> data = generateData();
+        final Set<TermInfo> dataTwo = generateData();
+        final URI key = Generator.generateUri();
+        final URI keyTwo = Generator.generateUri();
+        when(supplier.apply(key)).thenReturn(data);
+        when(supplier.apply(keyTwo)).thenReturn(dataTwo);
+
+        sut.getOrCompute(key, supplier);
+        sut.getOrCompute(keyTwo, supplier);
+        sut.evictIf(data::equals);
+        sut.getOrCompute(key, supplier);
+        sut.getOrCompute(keyTwo, supplier);
+        verify(supplier, times(2)).apply(key);
+        verify(supplier).apply(keyTwo);
+    }
+
+    @Test
+    void getOrComputeAllLoadsOnlyMissingValuesUsingSingleLoaderInvocation() {
+        final URI cachedKey = Generator.generateUri();
+        final Set<TermInfo> cachedData = generateData();
+        when(supplier.apply(any(URI.class))).thenReturn(cachedData);
+        sut.getOrCompute(cachedKey, supplier);
+        final URI keyOne = Generator.generateUri();
+        final URI keyTwo = Generator.generateUri();
+        final Map<URI, Set<TermInfo>> loaded = Map.of(keyOne, generateData(), keyTwo, generateData());
+        final Function<Set<URI>, Map<URI, Set<TermInfo>>> loader = keys -> {
+            assertEquals(Set.of(keyOne, keyTwo), keys);
+            return loaded;
+        };
+
+        final Map<URI, Set<TermInfo>> result = sut.getOrComputeAll(List.of(cachedKey, keyOne, keyTwo), loader);
+        assertEquals(3, result.size());
+        assertEquals(cachedData, result.get(cachedKey));
+        assertEquals(loaded.get(keyOne), result.get(keyOne));
+        assertEquals(loaded.get(keyTwo), result.get(keyTwo));
+    }
+
+    @Test
+    void getOrComputeAllStoresLoadedValuesInCache() {
+        final URI key = Generator.generateUri();
+        final Set<TermInfo> data = generateData();
+        sut.getOrComputeAll(List.of(key), keys -> Map.of(key, data));
+
+        final Set<TermInfo> result = sut.getOrCompute(key, supplier);
+        assertEquals(data, result);
+        verify(supplier, never()).apply(any());
+    }
+
+    @Test
+    void getOrComputeEvictsEntriesWhenMaximumSizeIsExceeded() {
+        final Configuration.Persistence.CacheSettings settings = new Configuration.Persistence.CacheSettings();
+        settings.setMaxSize(5);
+        final BoundedCache<URI, Set<TermInfo>> cache = new BoundedCache<>(CACHE_NAME, settings, null);
+        when(supplier.apply(any(URI.class))).thenReturn(generateData());
+        final List<URI> keys = IntStream.range(0, 20).mapToObj(i -> Generator.generateUri()).toList();
+
+        keys.forEach(k -> cache.getOrCompute(k, supplier));
+        keys.forEach(k -> cache.getOrCompute(k, supplier));
+        // At most 5 values could have been retained, the rest had to be recomputed
+        verify(supplier, atLeast(keys.size() * 2 - 5)).apply(any());
+    }
+
+    @Test
+    void getOrComputeEvictsEntriesWhenMaximumWeightIsExceeded() {
+        final Configuration.Persistence.CacheSettings settings = new Configuration.Persistence.CacheSettings();
+        settings.setMaxWeight(Optional.of(10L));
+        final BoundedCache<URI, Set<TermInfo>> cache =
+                new BoundedCache<>(CACHE_NAME, settings, (URI k, Set<TermInfo> v) -> v.size(), null);
+        // Each value weighs 5
+        when(supplier.apply(any(URI.class))).thenAnswer(inv -> generateData());
+        final List<URI> keys = IntStream.range(0, 10).mapToObj(i -> Generator.generateUri()).toList();
+
+        keys.forEach(k -> cache.getOrCompute(k, supplier));
+        keys.forEach(k -> cache.getOrCompute(k, supplier));
+        // At most 2 values could have been retained, the rest had to be recomputed
+        verify(supplier, atLeast(keys.size() * 2 - 2)).apply(any());
+    }
+
+    @Test
+    void getOrComputeRecomputesValueAfterTtlExpiration() throws Exception {
+        final Configuration.Persistence.CacheSettings settings = new Configuration.Persistence.CacheSettings();
+        settings.setTtl(Optional.of(Duration.ofMillis(10)));
+        final BoundedCache<URI, Set<TermInfo>> cache = new BoundedCache<>(CACHE_NAME, settings, null);
+        final URI key = Generator.generateUri();
+        when(supplier.apply(any(URI.class))).thenReturn(generateData());
+
+        cache.getOrCompute(key, supplier);
+        Thread.sleep(50);
+        cache.getOrCompute(key, supplier);
+        verify(supplier, times(2)).apply(key);
+    }
+
+    @Test
+    void cachePublishesHitAndMissStatisticsToMeterRegistry() {
+        final URI key = Generator.generateUri();
+        when(supplier.apply(any(URI.class))).thenReturn(generateData());
+
+        sut.getOrCompute(key, supplier);
+        sut.getOrCompute(key, supplier);
+        sut.getOrCompute(key, supplier);
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                                       .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                                       .functionCounter().count());
+        assertTrue(meterRegistry.find("cache.evictions").tag("cache", CACHE_NAME).functionCounter() != null);
+    }
+}
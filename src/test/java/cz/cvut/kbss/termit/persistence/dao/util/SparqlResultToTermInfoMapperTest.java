@@ -26,8 +26,12 @@
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SparqlResultToTermInfoMapperTest {
 
@@ -89,4 +93,32 @@ void mapsResultsWithMultilingualLabelToTermInfoInstances() {
         assertEquals(tTwoUri, result.get(1).getUri());
         assertEquals(vocUri, result.get(1).getVocabulary());
     }
+
+    @Test
+    void mapByParentGroupsTermsByParentIncludingTermsWithoutLabel() {
+        final URI parentOne = Generator.generateUri();
+        final URI parentTwo = Generator.generateUri();
+        final URI parentThree = Generator.generateUri();
+        final URI vocUri = Generator.generateUri();
+        final URI childOne = Generator.generateUri();
+        final URI childTwo = Generator.generateUri();
+        final URI state = Generator.generateUri();
+        final List<Object[]> toMap = Arrays.asList(
+                new Object[]{parentOne, childOne, new LangString("Child one", Environment.LANGUAGE), vocUri, state,
+                             null},
+                new Object[]{parentTwo, childTwo, null, vocUri, null, null},
+                new Object[]{parentTwo, childOne, new LangString("Child one", Environment.LANGUAGE), vocUri, state,
+                             null});
+
+        final Map<URI, Set<TermInfo>> result = sut.mapByParent(toMap, List.of(parentOne, parentTwo, parentThree));
+        assertEquals(Set.of(childOne), result.get(parentOne).stream().map(TermInfo::getUri).collect(Collectors.toSet()));
+        assertEquals(Set.of(childTwo, childOne),
+                     result.get(parentTwo).stream().map(TermInfo::getUri).collect(Collectors.toSet()));
+        assertTrue(result.get(parentThree).isEmpty());
+        final TermInfo unlabeled = result.get(parentTwo).iterator().next();
+        assertEquals(childTwo, unlabeled.getUri());
+        assertTrue(unlabeled.getLabel().isEmpty());
+        assertEquals(vocUri, unlabeled.getVocabulary());
+        assertEquals(state, result.get(parentOne).iterator().next().getState());
+    }
 }
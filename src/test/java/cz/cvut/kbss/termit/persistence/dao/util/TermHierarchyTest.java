@@ -0,0 +1,254 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.util;
+
+import cz.cvut.kbss.termit.environment.Generator;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TermHierarchyTest {
+
+    private final URI vocabulary = Generator.generateUri();
+
+    private final TermHierarchy.Builder builder = TermHierarchy.builder(vocabulary, vocabulary, "cs");
+
+    private URI term(String label) {
+        final URI uri = Generator.generateUri();
+        builder.addTerm(uri).addLabel(uri, "cs", label);
+        return uri;
+    }
+
+    @Test
+    void getRootsReturnsRootsOrderedByLabelWithAccentedCharactersAfterBaseCharacters() {
+        final URI cesta = term("Cesta");
+        final URI cislo = term("číslo");
+        final URI adresa = term("adresa");
+        final URI dum = term("Dům");
+        List.of(cislo, dum, cesta, adresa).forEach(builder::addRoot);
+
+        assertEquals(List.of(adresa, cesta, cislo, dum), builder.build().getRoots("cs"));
+    }
+
+    @Test
+    void getRootsPutsTermsWithLabelInRequestedLanguageFirst() {
+        final URI zed = term("Zeď");
+        final URI apple = Generator.generateUri();
+        builder.addTerm(apple).addLabel(apple, "en", "Apple");
+        List.of(apple, zed).forEach(builder::addRoot);
+        final TermHierarchy sut = builder.build();
+
+        assertEquals(List.of(zed, apple), sut.getRoots("cs"));
+        assertEquals(List.of(apple, zed), sut.getRoots("en"));
+    }
+
+    @Test
+    void getRootsSkipsRootsWithoutLabel() {
+        final URI labeled = term("Kořen");
+        final URI unlabeled = Generator.generateUri();
+        builder.addTerm(unlabeled);
+        List.of(unlabeled, labeled).forEach(builder::addRoot);
+
+        assertEquals(List.of(labeled), builder.build().getRoots("cs"));
+    }
+
+    @Test
+    void getRootsIgnoresRootsFromOtherVocabularies() {
+        final URI root = term("Kořen");
+        final URI external = Generator.generateUri();
+        builder.addRoot(root).addRoot(external);
+
+        assertEquals(List.of(root), builder.build().getRoots("cs"));
+    }
+
+    @Test
+    void getChildrenReturnsChildrenOrderedByLabel() {
+        final URI parent = term("Rodič");
+        final URI childB = term("B");
+        final URI childA = term("A");
+        builder.addParent(childB, parent).addParent(childA, parent);
+        final TermHierarchy sut = builder.build();
+
+        assertEquals(List.of(childA, childB), sut.getChildren(parent));
+        assertEquals(List.of(parent), sut.getParents(childA));
+        assertTrue(sut.getChildren(childA).isEmpty());
+    }
+
+    @Test
+    void getDescendantsReturnsTransitiveChildrenIncludingLeavesFromOtherVocabularies() {
+        final URI root = term("Kořen");
+        final URI child = term("Dítě");
+        final URI grandChild = term("Vnouče");
+        final URI external = Generator.generateUri();
+        final URI otherVocabulary = Generator.generateUri();
+        builder.addParent(child, root).addParent(grandChild, child).addParent(external, grandChild)
+               .setTermVocabulary(external, otherVocabulary);
+        final TermHierarchy sut = builder.build();
+
+        assertEquals(Set.of(child, grandChild, external), sut.getDescendants(root));
+        assertFalse(sut.contains(external));
+        assertEquals(otherVocabulary, sut.getTermVocabulary(external));
+        assertEquals(vocabulary, sut.getTermVocabulary(child));
+    }
+
+    @Test
+    void getAncestorsReturnsTransitiveParentsAndHandlesCycles() {
+        final URI a = term("A");
+        final URI b = term("B");
+        final URI c = term("C");
+        builder.addParent(c, b).addParent(b, a).addParent(a, c);
+        final TermHierarchy sut = builder.build();
+
+        assertEquals(Set.of(a, b), sut.getAncestors(c));
+    }
+
+    @Test
+    void lookupsOfUnknownTermReturnEmptyResults() {
+        final TermHierarchy sut = builder.build();
+        final URI unknown = Generator.generateUri();
+
+        assertTrue(sut.getChildren(unknown).isEmpty());
+        assertTrue(sut.getDescendants(unknown).isEmpty());
+        assertTrue(sut.getAncestors(unknown).isEmpty());
+        assertNull(sut.getTermVocabulary(unknown));
+    }
+
+    @Test
+    void sortRootsMergesRootsOfMultipleHierarchies() {
+        final URI rootB = term("B");
+        builder.addRoot(rootB);
+        final URI imported = Generator.generateUri();
+        final TermHierarchy.Builder importedBuilder = TermHierarchy.builder(imported, imported, "en");
+        final URI rootA = Generator.generateUri();
+        importedBuilder.addTerm(rootA).addLabel(rootA, "cs", "A").addRoot(rootA);
+
+        assertEquals(List.of(rootA, rootB),
+                     TermHierarchy.sortRoots(List.of(builder.build(), importedBuilder.build()), "cs"));
+    }
+
+    @Test
+    void patchAddsTermAsRootOrChildWithoutChangingOriginalHierarchy() {
+        final URI parent = term("Rodič");
+        final URI childB = term("B");
+        builder.addRoot(parent).addParent(childB, parent);
+        final TermHierarchy original = builder.build();
+        final URI childA = Generator.generateUri();
+        final URI root = Generator.generateUri();
+
+        final TermHierarchy sut = original.patch()
+                                          .addTerm(childA).setParents(childA, List.of(parent))
+                                          .setLabels(childA, Map.of("cs", "A"))
+                                          .addTerm(root).setParents(root, List.of())
+                                          .setLabels(root, Map.of("cs", "Kořen"))
+                                          .build();
+
+        assertEquals(List.of(childA, childB), sut.getChildren(parent));
+        assertEquals(List.of(root, parent), sut.getRoots("cs"));
+        assertTrue(sut.contains(childA));
+        assertEquals(List.of(childB), original.getChildren(parent));
+        assertEquals(List.of(parent), original.getRoots("cs"));
+        assertFalse(original.contains(childA));
+    }
+
+    @Test
+    void patchChangingParentsMovesTermAndUpdatesRootStatus() {
+        final URI parentA = term("A");
+        final URI parentB = term("B");
+        final URI child = term("Dítě");
+        builder.addRoot(parentA).addRoot(parentB).addParent(child, parentA);
+        final TermHierarchy original = builder.build();
+
+        final TermHierarchy moved = original.patch().setParents(child, List.of(parentB)).build();
+        assertTrue(moved.getChildren(parentA).isEmpty());
+        assertEquals(List.of(child), moved.getChildren(parentB));
+        assertEquals(Set.of(parentB), moved.getAncestors(child));
+
+        final TermHierarchy detached = moved.patch().setParents(child, List.of()).build();
+        assertEquals(List.of(parentA, parentB, child), detached.getRoots("cs"));
+        assertEquals(List.of(parentA, parentB), original.getRoots("cs"));
+    }
+
+    @Test
+    void patchSettingExternalParentKeepsTermRootAndRecordsParentVocabulary() {
+        final URI term = term("Pojem");
+        builder.addRoot(term);
+        final URI external = Generator.generateUri();
+        final URI otherVocabulary = Generator.generateUri();
+
+        final TermHierarchy sut = builder.build().patch().setParents(term, List.of(external))
+                                         .setTermVocabulary(external, otherVocabulary).build();
+
+        assertEquals(List.of(term), sut.getRoots("cs"));
+        assertEquals(otherVocabulary, sut.getTermVocabulary(external));
+        assertFalse(sut.contains(external));
+    }
+
+    @Test
+    void patchChangingLabelReordersSiblings() {
+        final URI parent = term("Rodič");
+        final URI childA = term("A");
+        final URI childB = term("B");
+        builder.addParent(childA, parent).addParent(childB, parent);
+        final TermHierarchy original = builder.build();
+
+        final TermHierarchy sut = original.patch().setLabels(childA, Map.of("cs", "C")).build();
+
+        assertEquals(List.of(childB, childA), sut.getChildren(parent));
+        assertEquals(List.of(childA, childB), original.getChildren(parent));
+    }
+
+    @Test
+    void patchRemovingTermDisconnectsItFromHierarchy() {
+        final URI root = term("Kořen");
+        final URI child = term("Dítě");
+        final URI grandChild = term("Vnouče");
+        builder.addRoot(root).addParent(child, root).addParent(grandChild, child);
+        final TermHierarchy original = builder.build();
+
+        final TermHierarchy sut = original.patch().removeTerm(child).build();
+
+        assertFalse(sut.contains(child));
+        assertTrue(sut.getChildren(root).isEmpty());
+        assertTrue(sut.getParents(grandChild).isEmpty());
+        assertEquals(Set.of(child, grandChild), original.getDescendants(root));
+    }
+
+    @Test
+    void patchOperationsAreIdempotent() {
+        final URI parent = term("Rodič");
+        builder.addRoot(parent);
+        final URI child = Generator.generateUri();
+        final TermHierarchy once = builder.build().patch().addTerm(child).setParents(child, List.of(parent))
+                                          .setLabels(child, Map.of("cs", "Dítě")).build();
+
+        final TermHierarchy twice = once.patch().addTerm(child).setParents(child, List.of(parent))
+                                        .setLabels(child, Map.of("cs", "Dítě")).build();
+
+        assertEquals(once.size(), twice.size());
+        assertEquals(List.of(child), twice.getChildren(parent));
+        assertEquals(List.of(parent), twice.getRoots("cs"));
+    }
+}
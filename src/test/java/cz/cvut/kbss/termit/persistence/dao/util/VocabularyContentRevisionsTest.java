@@ -0,0 +1,90 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.dao.util;
+
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.VocabularyContentModifiedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class VocabularyContentRevisionsTest {
+
+    private final VocabularyContentRevisions sut = new VocabularyContentRevisions();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void advanceChangesTagOfModifiedVocabularyAndTagOfAllVocabularies() {
+        final URI vocabulary = Generator.generateUri();
+        final String originalTag = sut.getTag(vocabulary);
+        final String originalAllTag = sut.getTag();
+
+        sut.advance(vocabulary);
+        assertNotEquals(originalTag, sut.getTag(vocabulary));
+        assertNotEquals(originalAllTag, sut.getTag());
+    }
+
+    @Test
+    void advanceDoesNotChangeTagOfUnrelatedVocabulary() {
+        final URI vocabulary = Generator.generateUri();
+        final URI unrelated = Generator.generateUri();
+        final String originalTag = sut.getTag(unrelated);
+
+        sut.advance(vocabulary);
+        assertEquals(originalTag, sut.getTag(unrelated));
+    }
+
+    @Test
+    void advanceAllChangesTagsOfAllVocabularies() {
+        final URI vocabulary = Generator.generateUri();
+        final String originalTag = sut.getTag(vocabulary);
+        final String originalAllTag = sut.getTag();
+        final long originalRevision = sut.getRevision(List.of(vocabulary));
+
+        sut.advanceAll();
+        assertNotEquals(originalTag, sut.getTag(vocabulary));
+        assertNotEquals(originalAllTag, sut.getTag());
+        assertNotEquals(originalRevision, sut.getRevision(List.of(vocabulary)));
+    }
+
+    @Test
+    void advanceInTransactionTakesEffectOnlyAfterTransactionCompletes() {
+        final URI vocabulary = Generator.generateUri();
+        final String originalTag = sut.getTag(vocabulary);
+        TransactionSynchronizationManager.initSynchronization();
+
+        sut.onVocabularyContentModified(new VocabularyContentModifiedEvent(this, vocabulary));
+        assertEquals(originalTag, sut.getTag(vocabulary));
+        TransactionSynchronizationManager.getSynchronizations()
+                                         .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertNotEquals(originalTag, sut.getTag(vocabulary));
+    }
+}
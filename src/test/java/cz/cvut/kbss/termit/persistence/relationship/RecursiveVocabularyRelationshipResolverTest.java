@@ -32,6 +32,7 @@
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ActiveProfiles("ontographer")
 class RecursiveVocabularyRelationshipResolverTest extends BaseDaoTestRunner {
@@ -93,4 +94,20 @@ void getRelatedVocabulariesResolvesIndirectlyRelatedVocabulariesViaVocabularyImp
         final Set<URI> result = sut.getRelatedVocabularies(subjectVocabulary.getUri());
         assertEquals(Set.of(intermediateVocabulary.getUri(), targetVocabulary.getUri()), result);
     }
+
+    @Test
+    void getRelatedVocabulariesReflectsNewRelationshipsAfterCacheEviction() {
+        final Vocabulary subjectVocabulary = Generator.generateVocabularyWithId();
+        final Vocabulary targetVocabulary = Generator.generateVocabularyWithId();
+        transactional(() -> {
+            em.persist(subjectVocabulary, descriptorFactory.vocabularyDescriptor(subjectVocabulary));
+            em.persist(targetVocabulary, descriptorFactory.vocabularyDescriptor(targetVocabulary));
+        });
+        assertTrue(sut.getRelatedVocabularies(subjectVocabulary.getUri()).isEmpty());
+        subjectVocabulary.setImportedVocabularies(Set.of(targetVocabulary.getUri()));
+        transactional(() -> em.merge(subjectVocabulary, descriptorFactory.vocabularyDescriptor(subjectVocabulary)));
+
+        sut.evictCache();
+        assertEquals(Set.of(targetVocabulary.getUri()), sut.getRelatedVocabularies(subjectVocabulary.getUri()));
+    }
 }
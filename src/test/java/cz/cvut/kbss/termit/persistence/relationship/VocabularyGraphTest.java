@@ -0,0 +1,121 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.persistence.relationship;
+
+import cz.cvut.kbss.termit.environment.Generator;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VocabularyGraphTest {
+
+    private final Map<URI, Set<URI>> edges = new HashMap<>();
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private final VocabularyGraph sut = new VocabularyGraph(v -> {
+        loadCount.incrementAndGet();
+        return edges.getOrDefault(v, Set.of());
+    });
+
+    @Test
+    void getReachableReturnsTransitiveClosureOfSuccessors() {
+        final URI a = Generator.generateUri();
+        final URI b = Generator.generateUri();
+        final URI c = Generator.generateUri();
+        edges.put(a, Set.of(b));
+        edges.put(b, Set.of(c));
+
+        assertEquals(Set.of(b, c), sut.getReachable(a));
+    }
+
+    @Test
+    void getReachableLoadsEdgesOfEachVocabularyOnlyOnce() {
+        final URI a = Generator.generateUri();
+        final URI b = Generator.generateUri();
+        edges.put(a, Set.of(b));
+        edges.put(b, Set.of(a));
+
+        sut.getReachable(a);
+        sut.getReachable(b);
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void getReachableIncludesStartingVocabularyOnlyWhenItIsOnCycle() {
+        final URI a = Generator.generateUri();
+        final URI b = Generator.generateUri();
+        final URI c = Generator.generateUri();
+        edges.put(a, Set.of(b));
+        edges.put(b, Set.of(a));
+        edges.put(c, Set.of(a));
+
+        assertEquals(Set.of(a, b), sut.getReachable(a));
+        assertEquals(Set.of(a, b), sut.getReachable(c));
+    }
+
+    @Test
+    void getReachableDoesNotTraverseSuccessorsOfNotExpandedVocabularies() {
+        final URI a = Generator.generateUri();
+        final URI b = Generator.generateUri();
+        final URI c = Generator.generateUri();
+        edges.put(a, Set.of(b));
+        edges.put(b, Set.of(c));
+
+        assertEquals(Set.of(b), sut.getReachable(a, Set.of(b)));
+    }
+
+    @Test
+    void clearCausesEdgesToBeReloaded() {
+        final URI a = Generator.generateUri();
+        final URI b = Generator.generateUri();
+        sut.getReachable(a);
+        edges.put(a, Set.of(b));
+
+        sut.clear();
+        assertEquals(Set.of(b), sut.getReachable(a));
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void evictCausesOnlyEdgesIncidentToVocabularyToBeReloaded() {
+        final URI a = Generator.generateUri();
+        final URI b = Generator.generateUri();
+        final URI c = Generator.generateUri();
+        final URI d = Generator.generateUri();
+        edges.put(a, Set.of(b));
+        edges.put(b, Set.of(c));
+        edges.put(d, Set.of(c));
+        sut.getReachable(a);
+        sut.getReachable(d);
+        assertEquals(4, loadCount.get());
+        edges.put(b, Set.of());
+
+        sut.evict(b);
+        assertEquals(Set.of(b), sut.getReachable(a));
+        assertEquals(Set.of(c), sut.getReachable(d));
+        // Edges of a (predecessor of b) and b itself are reloaded, edges of c and d are kept
+        assertEquals(6, loadCount.get());
+    }
+}
@@ -27,6 +27,8 @@
 import cz.cvut.kbss.termit.environment.Generator;
 import cz.cvut.kbss.termit.service.business.SearchService;
 import cz.cvut.kbss.termit.util.Constants;
+import cz.cvut.kbss.termit.util.paging.CursorPageRequest;
+import cz.cvut.kbss.termit.util.paging.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,10 +48,13 @@
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -78,7 +83,7 @@ void fullTextSearchExecutesSearchOnService() throws Exception {
                         new SearchResult(Generator.generateUri(), "test", null, null, null, SKOS.CONCEPT,
                                          "test", "test", 1.0));
         final String searchLanguage = "pl";
-        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class))).thenReturn(
+        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class), anyBoolean())).thenReturn(
                 new PageImpl<>(expected));
         final String searchString = "test";
 
@@ -94,18 +99,18 @@ void fullTextSearchExecutesSearchOnService() throws Exception {
         assertEquals(expected.get(0).getTypes(), result.get(0).getTypes());
         verify(searchServiceMock).advancedSearch(new SearchString(searchString, searchLanguage),
                                                  Collections.emptyList(),
-                                                 Constants.DEFAULT_PAGE_SPEC);
+                                                 Constants.DEFAULT_PAGE_SPEC, false);
     }
 
     @Test
     void fullTextSearchLanguageDefaultsToNullWhenNotSpecified() throws Exception {
         final String searchString = "test";
-        when(searchServiceMock.advancedSearch(any(SearchString.class), anyCollection(), any(Pageable.class))).thenReturn(
+        when(searchServiceMock.advancedSearch(any(SearchString.class), anyCollection(), any(Pageable.class), anyBoolean())).thenReturn(
                 Page.empty());
         mockMvc.perform(get(PATH + "/fts").param("searchString", searchString))
                .andExpect(status().isOk());
         verify(searchServiceMock).advancedSearch(new SearchString(searchString, null), Collections.emptyList(),
-                                                 Constants.DEFAULT_PAGE_SPEC);
+                                                 Constants.DEFAULT_PAGE_SPEC, false);
     }
 
     @Test
@@ -149,7 +154,7 @@ void advancedSearchPassesSearchParametersToSearchService() throws Exception {
         final SearchResult term = new SearchResult(
                 Generator.generateUri(), "Test term", null, Generator.generateUri(), null,
                 SKOS.CONCEPT, "test", "test", 1.0);
-        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class))).thenReturn(
+        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class), anyBoolean())).thenReturn(
                 new PageImpl<>(List.of(term)));
         final List<SearchParam> searchParams = List.of(
                 new SearchParam(URI.create(SKOS.NOTATION), Set.of("LA_"), MatchType.EXACT_MATCH),
@@ -163,7 +168,7 @@ void advancedSearchPassesSearchParametersToSearchService() throws Exception {
         assertEquals(1, result.size());
         assertEquals(term.getUri(), result.get(0).getUri());
         verify(searchServiceMock).advancedSearch(new SearchString("test", null), searchParams,
-                                                 Constants.DEFAULT_PAGE_SPEC);
+                                                 Constants.DEFAULT_PAGE_SPEC, true);
     }
 
     @Test
@@ -171,7 +176,7 @@ void advancedSearchPassesSpecifiedPageSpecificationToService() throws Exception
         final SearchResult term = new SearchResult(
                 Generator.generateUri(), "Test term", null, Generator.generateUri(), null,
                 SKOS.CONCEPT, "test", "test", 1.0);
-        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class))).thenReturn(
+        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class), anyBoolean())).thenReturn(
                 new PageImpl<>(List.of(term)));
         final List<SearchParam> searchParams = List.of(
                 new SearchParam(URI.create(SKOS.NOTATION), Set.of("LA_"), MatchType.EXACT_MATCH));
@@ -183,7 +188,7 @@ void advancedSearchPassesSpecifiedPageSpecificationToService() throws Exception
                         MediaType.APPLICATION_JSON).param(Constants.QueryParams.PAGE, Integer.toString(pageNo)).param(
                         Constants.QueryParams.PAGE_SIZE, Integer.toString(pageSize))).andExpect(status().isOk());
         verify(searchServiceMock).advancedSearch(new SearchString("test", null), searchParams,
-                                                 PageRequest.of(pageNo, pageSize));
+                                                 PageRequest.of(pageNo, pageSize), true);
     }
 
     @Test
@@ -195,7 +200,7 @@ void advancedSearchReturnsHeaderWithTotalNumberOfResultsForPagedRequest() throws
         final int pageSize = 100;
         final long totalCount = 401L;
         final Pageable pageable = PageRequest.of(pageNo, pageSize);
-        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class))).thenReturn(
+        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class), anyBoolean())).thenReturn(
                 new PageImpl<>(List.of(term), pageable, totalCount));
         final List<SearchParam> searchParams = List.of(
                 new SearchParam(URI.create(SKOS.NOTATION), Set.of("LA_"), MatchType.EXACT_MATCH));
@@ -208,4 +213,76 @@ void advancedSearchReturnsHeaderWithTotalNumberOfResultsForPagedRequest() throws
                                            .andReturn();
         assertEquals(Long.toString(totalCount), mvcResult.getResponse().getHeader(Constants.X_TOTAL_COUNT_HEADER));
     }
+
+    @Test
+    void advancedSearchPassesExactTotalFlagToService() throws Exception {
+        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class), anyBoolean())).thenReturn(
+                Page.empty());
+        final List<SearchParam> searchParams = List.of(
+                new SearchParam(URI.create(SKOS.NOTATION), Set.of("LA_"), MatchType.EXACT_MATCH));
+
+        mockMvc.perform(post(PATH + "/advanced").param("searchString", "test").param("exactTotal", "false")
+                                                .content(toJson(searchParams))
+                                                .contentType(MediaType.APPLICATION_JSON))
+               .andExpect(status().isOk());
+        verify(searchServiceMock).advancedSearch(new SearchString("test", null), searchParams,
+                                                 Constants.DEFAULT_PAGE_SPEC, false);
+    }
+
+    @Test
+    void advancedSearchWithoutSearchStringPassesCursorToServiceAndReturnsNextCursorForFullPage() throws Exception {
+        final SearchResult term = new SearchResult(
+                Generator.generateUri(), "Test term", null, Generator.generateUri(), null,
+                SKOS.CONCEPT);
+        final PageCursor cursor = new PageCursor(null, null, Generator.generateUri());
+        final Pageable pageable = CursorPageRequest.of(1, cursor);
+        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class), anyBoolean())).thenReturn(
+                new PageImpl<>(List.of(term), pageable, 2));
+        final List<SearchParam> searchParams = List.of(
+                new SearchParam(URI.create(SKOS.NOTATION), Set.of("LA_"), MatchType.EXACT_MATCH));
+
+        final MvcResult mvcResult = mockMvc.perform(post(PATH + "/advanced").content(toJson(searchParams))
+                                                                             .contentType(MediaType.APPLICATION_JSON)
+                                                                             .param(Constants.QueryParams.PAGE_SIZE,
+                                                                                    "1")
+                                                                             .param(Constants.QueryParams.CURSOR,
+                                                                                    cursor.encode()))
+                                           .andExpect(status().isOk()).andReturn();
+        verify(searchServiceMock).advancedSearch(new SearchString("", null), searchParams, pageable, true);
+        final String nextCursor = mvcResult.getResponse().getHeader(Constants.X_NEXT_CURSOR_HEADER);
+        assertEquals(term.getUri(), PageCursor.decode(nextCursor).iri());
+    }
+
+    @Test
+    void advancedSearchDoesNotReturnNextCursorForFullTextSearch() throws Exception {
+        final SearchResult term = new SearchResult(
+                Generator.generateUri(), "Test term", null, Generator.generateUri(), null,
+                SKOS.CONCEPT, "test", "test", 1.0);
+        when(searchServiceMock.advancedSearch(any(), anyCollection(), any(Pageable.class), anyBoolean())).thenReturn(
+                new PageImpl<>(List.of(term), PageRequest.of(0, 1), 2));
+        final List<SearchParam> searchParams = List.of(
+                new SearchParam(URI.create(SKOS.NOTATION), Set.of("LA_"), MatchType.EXACT_MATCH));
+
+        final MvcResult mvcResult = mockMvc.perform(post(PATH + "/advanced").param("searchString", "test")
+                                                                             .content(toJson(searchParams))
+                                                                             .contentType(MediaType.APPLICATION_JSON)
+                                                                             .param(Constants.QueryParams.PAGE_SIZE,
+                                                                                    "1"))
+                                           .andExpect(status().isOk()).andReturn();
+        assertNull(mvcResult.getResponse().getHeader(Constants.X_NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void advancedSearchThrowsUnprocessableEntityWhenCursorIsUsedWithFullTextSearch() throws Exception {
+        final List<SearchParam> searchParams = List.of(
+                new SearchParam(URI.create(SKOS.NOTATION), Set.of("LA_"), MatchType.EXACT_MATCH));
+
+        mockMvc.perform(post(PATH + "/advanced").param("searchString", "test")
+                                                .param(Constants.QueryParams.CURSOR,
+                                                       new PageCursor(null, null, Generator.generateUri()).encode())
+                                                .content(toJson(searchParams))
+                                                .contentType(MediaType.APPLICATION_JSON))
+               .andExpect(status().isUnprocessableEntity());
+        verifyNoInteractions(searchServiceMock);
+    }
 }
@@ -39,6 +39,7 @@
 import cz.cvut.kbss.termit.model.resource.File;
 import cz.cvut.kbss.termit.persistence.namespace.VocabularyNamespaceResolver;
 import cz.cvut.kbss.termit.rest.handler.ErrorInfo;
+import cz.cvut.kbss.termit.rest.util.RestUtils;
 import cz.cvut.kbss.termit.service.IdentifierResolver;
 import cz.cvut.kbss.termit.service.business.TermService;
 import cz.cvut.kbss.termit.service.business.util.TermSelectionParams;
@@ -51,6 +52,8 @@
 import cz.cvut.kbss.termit.util.TypeAwareByteArrayResource;
 import cz.cvut.kbss.termit.util.Utils;
 import cz.cvut.kbss.termit.util.Vocabulary;
+import cz.cvut.kbss.termit.util.paging.CursorPageRequest;
+import cz.cvut.kbss.termit.util.paging.PageCursor;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
@@ -317,6 +320,105 @@ void getAllReturnsAllTermsFromVocabularyChainWhenIncludeImportedIsSpecified() th
         verify(termServiceMock).findAll(eq(vocabulary), eq(termSelectionParamsBuilder().includeImported().build()));
     }
 
+    @Test
+    void getAllPassesCursorToServiceAndReturnsCursorOfNextPageWhenPageIsFull() throws Exception {
+        when(idResolverMock.resolveIdentifier(Environment.BASE_URI, VOCABULARY_NAME))
+                .thenReturn(URI.create(VOCABULARY_URI));
+        final List<TermDto> terms = termsToDtos(Generator.generateTermsWithIds(5));
+        when(termServiceMock.findVocabularyRequired(vocabulary.getUri())).thenReturn(vocabulary);
+        doReturn(terms).when(termServiceMock).findAll(eq(vocabulary), any(TermSelectionParams.class));
+        final PageCursor cursor = new PageCursor("Budova", vocabulary.getPrimaryLanguage(), Generator.generateUri());
+
+        final MvcResult mvcResult = mockMvc.perform(
+                                                   get(PATH + VOCABULARY_NAME + "/terms")
+                                                           .param(QueryParams.NAMESPACE, Environment.BASE_URI)
+                                                           .param(PAGE_SIZE, Integer.toString(terms.size()))
+                                                           .param(QueryParams.CURSOR, cursor.encode()))
+                                           .andExpect(status().isOk()).andReturn();
+        verify(termServiceMock).findAll(eq(vocabulary), eq(new TermSelectionParams(
+                CursorPageRequest.of(terms.size(), cursor))));
+        final TermDto last = terms.get(terms.size() - 1);
+        assertEquals(new PageCursor(last.getLabel().get(vocabulary.getPrimaryLanguage()),
+                                    vocabulary.getPrimaryLanguage(), last.getUri()),
+                     PageCursor.decode(mvcResult.getResponse().getHeader(Constants.X_NEXT_CURSOR_HEADER)));
+    }
+
+    @Test
+    void getAllThrowsUnprocessableEntityWhenCursorIsUsedWithIncludeImported() throws Exception {
+        when(idResolverMock.resolveIdentifier(Environment.BASE_URI, VOCABULARY_NAME))
+                .thenReturn(URI.create(VOCABULARY_URI));
+        when(termServiceMock.findVocabularyRequired(vocabulary.getUri())).thenReturn(vocabulary);
+
+        mockMvc.perform(get(PATH + VOCABULARY_NAME + "/terms")
+                                .param(QueryParams.NAMESPACE, Environment.BASE_URI)
+                                .param("includeImported", Boolean.TRUE.toString())
+                                .param(QueryParams.CURSOR,
+                                       new PageCursor(null, null, Generator.generateUri()).encode()))
+               .andExpect(status().isUnprocessableEntity());
+        verify(termServiceMock, never()).findAll(any(cz.cvut.kbss.termit.model.Vocabulary.class), any(TermSelectionParams.class));
+    }
+
+    @Test
+    void getAllReturnsETagDerivedFromVocabularyContentTag() throws Exception {
+        when(idResolverMock.resolveIdentifier(Environment.BASE_URI, VOCABULARY_NAME))
+                .thenReturn(URI.create(VOCABULARY_URI));
+        when(termServiceMock.findVocabularyRequired(vocabulary.getUri())).thenReturn(vocabulary);
+        when(termServiceMock.getContentTag(vocabulary.getUri(), false)).thenReturn("abc-1");
+
+        final MvcResult mvcResult = mockMvc.perform(get(PATH + VOCABULARY_NAME + "/terms")
+                                                            .param(QueryParams.NAMESPACE, Environment.BASE_URI)
+                                                            .accept(MediaType.APPLICATION_JSON_VALUE))
+                                           .andExpect(status().isOk()).andReturn();
+        assertEquals(RestUtils.createETag("abc-1", MediaType.APPLICATION_JSON_VALUE),
+                     mvcResult.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void getAllReturnsNotModifiedWithoutLoadingVocabularyWhenIfNoneMatchHeaderMatchesCurrentETag() throws Exception {
+        when(idResolverMock.resolveIdentifier(Environment.BASE_URI, VOCABULARY_NAME))
+                .thenReturn(URI.create(VOCABULARY_URI));
+        when(termServiceMock.getContentTag(vocabulary.getUri(), true)).thenReturn("abc-a1");
+
+        mockMvc.perform(get(PATH + VOCABULARY_NAME + "/terms")
+                                .param(QueryParams.NAMESPACE, Environment.BASE_URI)
+                                .param("includeImported", Boolean.TRUE.toString())
+                                .accept(MediaType.APPLICATION_JSON_VALUE)
+                                .header(HttpHeaders.IF_NONE_MATCH,
+                                        RestUtils.createETag("abc-a1", MediaType.APPLICATION_JSON_VALUE)))
+               .andExpect(status().isNotModified());
+        verify(termServiceMock, never()).findVocabularyRequired(any());
+        verify(termServiceMock, never()).findAll(any(cz.cvut.kbss.termit.model.Vocabulary.class), any(TermSelectionParams.class));
+    }
+
+    @Test
+    void getAllRootsReturnsNotModifiedWithoutLoadingVocabularyWhenIfNoneMatchHeaderMatchesCurrentETag()
+            throws Exception {
+        when(idResolverMock.resolveIdentifier(Environment.BASE_URI, VOCABULARY_NAME))
+                .thenReturn(URI.create(VOCABULARY_URI));
+        when(termServiceMock.getContentTag(vocabulary.getUri(), false)).thenReturn("abc-3");
+
+        mockMvc.perform(get(PATH + VOCABULARY_NAME + "/terms/roots")
+                                .param(QueryParams.NAMESPACE, Environment.BASE_URI)
+                                .accept(MediaType.APPLICATION_JSON_VALUE)
+                                .header(HttpHeaders.IF_NONE_MATCH,
+                                        RestUtils.createETag("abc-3", MediaType.APPLICATION_JSON_VALUE)))
+               .andExpect(status().isNotModified());
+        verify(termServiceMock, never()).findVocabularyRequired(any());
+    }
+
+    @Test
+    void getSubTermsReturnsNotModifiedWithoutLoadingParentWhenIfNoneMatchHeaderMatchesCurrentETag() throws Exception {
+        when(idResolverMock.resolveIdentifier(config.getNamespace().getVocabulary(), VOCABULARY_NAME))
+                .thenReturn(URI.create(VOCABULARY_URI));
+        when(termServiceMock.getContentTag(URI.create(VOCABULARY_URI), false)).thenReturn("abc-2");
+
+        mockMvc.perform(get(PATH + VOCABULARY_NAME + "/terms/" + TERM_NAME + "/subterms")
+                                .header(HttpHeaders.IF_NONE_MATCH, RestUtils.createETag("abc-2", null)))
+               .andExpect(status().isNotModified());
+        verify(termServiceMock, never()).findRequired(any());
+        verify(termServiceMock, never()).findSubTerms(any());
+    }
+
     public static TermSelectionParamsBuilder termSelectionParamsBuilder() {
         return new TermSelectionParamsBuilder();
     }
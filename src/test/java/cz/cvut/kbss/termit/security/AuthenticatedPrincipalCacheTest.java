@@ -0,0 +1,100 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.security;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.termit.environment.Environment;
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.LoginAttemptsThresholdExceeded;
+import cz.cvut.kbss.termit.model.UserAccount;
+import cz.cvut.kbss.termit.security.model.TermItUserDetails;
+import cz.cvut.kbss.termit.service.BaseServiceTestRunner;
+import cz.cvut.kbss.termit.service.business.UserService;
+import cz.cvut.kbss.termit.service.security.TermItUserDetailsService;
+import cz.cvut.kbss.termit.util.Vocabulary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ContextConfiguration(classes = AuthenticatedPrincipalCache.class)
+class AuthenticatedPrincipalCacheTest extends BaseServiceTestRunner {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TermItUserDetailsService userDetailsService;
+
+    @Autowired
+    private AuthenticatedPrincipalCache sut;
+
+    private UserAccount user;
+
+    @BeforeEach
+    void setUp() {
+        final UserAccount admin = Generator.generateUserAccountWithPassword();
+        admin.addType(Vocabulary.s_c_administrator_termitu);
+        this.user = Generator.generateUserAccountWithPassword();
+        transactional(() -> {
+            em.persist(admin);
+            em.persist(user);
+        });
+        Environment.setCurrentUser(admin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Environment.resetCurrentUser();
+    }
+
+    @Test
+    void getReturnsLockedUserWhenUserIsLockedAfterBeingCached() {
+        assertTrue(authenticate().isAccountNonLocked());
+
+        transactional(() -> userService.onLoginAttemptsThresholdExceeded(new LoginAttemptsThresholdExceeded(user.copy())));
+
+        assertFalse(authenticate().isAccountNonLocked());
+    }
+
+    @Test
+    void getReturnsLockedUserWhenUserIsAuthenticatedConcurrentlyWithLockingTransaction() {
+        assertTrue(authenticate().isAccountNonLocked());
+
+        transactional(() -> {
+            userService.onLoginAttemptsThresholdExceeded(new LoginAttemptsThresholdExceeded(user.copy()));
+            // Concurrent request reads the committed (unlocked) state while the locking transaction is still running
+            assertTrue(CompletableFuture.supplyAsync(this::authenticate).join().isAccountNonLocked());
+        });
+
+        assertFalse(authenticate().isAccountNonLocked());
+    }
+
+    private TermItUserDetails authenticate() {
+        return sut.get(user.getUsername(), userDetailsService::loadUserByUsername);
+    }
+}
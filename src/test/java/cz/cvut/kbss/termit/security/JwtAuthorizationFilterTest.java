@@ -31,6 +31,7 @@
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,7 @@
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
 import org.springframework.http.HttpHeaders;
@@ -63,6 +65,7 @@
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -80,6 +83,8 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -110,6 +115,8 @@ class JwtAuthorizationFilterTest {
 
     private SecretKey signingKey;
 
+    private AuthenticatedPrincipalCache principalCache;
+
     private JwtAuthorizationFilter sut;
 
     private final Instant tokenIssued = JwtUtils.issueTimestamp();
@@ -123,7 +130,7 @@ private OAuth2TokenValidator<Jwt> jwtValidator() {
 
     private MappedJwtClaimSetConverter jwtClaimSetConverter() {
         return MappedJwtClaimSetConverter.withDefaults(
-                Map.of(Claims.SUBJECT, new UsernameToUserDetailsConverter(detailsServiceMock)));
+                Map.of(Claims.SUBJECT, new UsernameToUserDetailsConverter(detailsServiceMock, principalCache)));
     }
 
     public JwtDecoder jwtDecoder() {
@@ -147,7 +154,9 @@ void setUp() {
         this.objectMapper = Environment.getObjectMapper();
         this.signingKey = Keys.hmacShaKeyFor(config.getJwt().getSecretKey().getBytes(StandardCharsets.UTF_8));
         this.jwtUtilsSpy = spy(new JwtUtils(objectMapper, config));
-        this.sut = new JwtAuthorizationFilter(authenticationManager(jwtDecoder()), jwtUtilsSpy, objectMapper);
+        this.principalCache = new AuthenticatedPrincipalCache(config, mock(ObjectProvider.class));
+        this.sut = new JwtAuthorizationFilter(authenticationManager(jwtDecoder()), jwtUtilsSpy, objectMapper,
+                                              config.getJwt().getRefreshWindow(), new SimpleMeterRegistry());
     }
 
     @AfterEach
@@ -216,6 +225,33 @@ void doFilterInternalRefreshesUserTokenOnSuccessfulAuthorization() throws Except
         verify(jwtUtilsSpy).refreshToken(any());
     }
 
+    @Test
+    void doFilterInternalDoesNotRefreshTokenWhenItDoesNotExpireWithinRefreshWindow() throws Exception {
+        when(detailsServiceMock.loadUserByUsername(user.getUsername())).thenReturn(new TermItUserDetails(user));
+        final String token = Jwts.builder().subject(user.getUsername())
+                                 .id(user.getUri().toString())
+                                 .issuedAt(Date.from(tokenIssued))
+                                 .expiration(Date.from(tokenIssued.plus(config.getJwt().getRefreshWindow())
+                                                                  .plus(Duration.ofHours(1))))
+                                 .signWith(signingKey, JwtUtils.SIGNATURE_ALGORITHM).compact();
+        mockRequest.addHeader(HttpHeaders.AUTHORIZATION, SecurityConstants.JWT_TOKEN_PREFIX + token);
+        sut.doFilterInternal(mockRequest, mockResponse, chainMock);
+        verify(chainMock).doFilter(mockRequest, mockResponse);
+        assertFalse(mockResponse.containsHeader(HttpHeaders.AUTHORIZATION));
+        verify(jwtUtilsSpy, never()).refreshToken(any());
+    }
+
+    @Test
+    void doFilterInternalLoadsUserOnlyOnceForRepeatedRequestsOfSameUser() throws Exception {
+        when(detailsServiceMock.loadUserByUsername(user.getUsername())).thenReturn(new TermItUserDetails(user));
+        generateJwtIntoRequest();
+        sut.doFilterInternal(mockRequest, mockResponse, chainMock);
+        Environment.resetCurrentUser();
+        sut.doFilterInternal(mockRequest, new MockHttpServletResponse(), chainMock);
+        assertEquals(user, Environment.getCurrentUser());
+        verify(detailsServiceMock).loadUserByUsername(user.getUsername());
+    }
+
     @Test
     void doFilterInternalReturnsUnauthorizedWhenTokenIsExpired() throws Exception {
         final Instant issued = Instant.now().minusSeconds(1000);
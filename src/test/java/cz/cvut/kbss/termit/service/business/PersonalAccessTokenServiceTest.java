@@ -1,13 +1,16 @@
 package cz.cvut.kbss.termit.service.business;
 
 import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.UserAccountUpdatedEvent;
 import cz.cvut.kbss.termit.exception.AuthorizationException;
 import cz.cvut.kbss.termit.exception.JwtException;
 import cz.cvut.kbss.termit.model.PersonalAccessToken;
 import cz.cvut.kbss.termit.model.UserAccount;
 import cz.cvut.kbss.termit.security.JwtUtils;
 import cz.cvut.kbss.termit.service.repository.PersonalAccessTokenRepositoryService;
+import cz.cvut.kbss.termit.service.security.PersonalAccessTokenUsageTracker;
 import cz.cvut.kbss.termit.service.security.SecurityUtils;
+import cz.cvut.kbss.termit.util.Configuration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,15 +19,24 @@
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 import java.time.LocalDate;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,13 +53,17 @@ public class PersonalAccessTokenServiceTest {
     @Mock
     private JwtUtils jwtUtils;
 
+    @Mock
+    private PersonalAccessTokenUsageTracker usageTracker;
+
     private UserAccount currentUser;
 
     @BeforeEach
     void setUp() {
         LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
         validator.afterPropertiesSet();
-        sut = new PersonalAccessTokenService(repositoryService, securityUtils, jwtUtils, validator);
+        sut = new PersonalAccessTokenService(repositoryService, securityUtils, jwtUtils, validator, usageTracker,
+                                             new Configuration.Persistence.CacheSettings(), null);
         currentUser = Generator.generateUserAccount();
     }
 
@@ -161,4 +177,97 @@ public void deleteCallsRepositoryRemoveForTokenOwnedByCurrentUser() {
         sut.delete(token.getUri());
         verify(repositoryService, atLeastOnce()).remove(token);
     }
+
+    @Test
+    public void findValidCachesValidatedTokenAndDoesNotAccessRepositoryRepeatedly() {
+        PersonalAccessToken token = Generator.generatePersonalAccessToken(currentUser);
+        when(repositoryService.find(token.getUri())).thenReturn(Optional.of(token));
+
+        assertEquals(token, sut.findValid(token.getUri()));
+        assertEquals(token, sut.findValid(token.getUri()));
+        verify(repositoryService).find(token.getUri());
+    }
+
+    @Test
+    public void findValidThrowsForCachedTokenWhichExpired() {
+        PersonalAccessToken token = Generator.generatePersonalAccessToken(currentUser);
+        when(repositoryService.find(token.getUri())).thenReturn(Optional.of(token));
+        sut.findValid(token.getUri());
+        token.setExpirationDate(LocalDate.now().minusDays(1));
+
+        assertThrows(JwtException.class, () -> sut.findValid(token.getUri()));
+    }
+
+    @Test
+    public void deleteEvictsTokenFromCache() {
+        PersonalAccessToken token = Generator.generatePersonalAccessToken(currentUser);
+        when(repositoryService.find(token.getUri())).thenReturn(Optional.of(token));
+        when(securityUtils.getCurrentUser()).thenReturn(currentUser);
+        when(repositoryService.findRequired(token.getUri())).thenReturn(token);
+        sut.findValid(token.getUri());
+
+        sut.delete(token.getUri());
+        when(repositoryService.find(token.getUri())).thenReturn(Optional.empty());
+        assertThrows(NoSuchElementException.class, () -> sut.findValid(token.getUri()));
+        verify(usageTracker).discard(token.getUri());
+    }
+
+    @Test
+    public void deleteRejectsTokenAfterCommitEvenWhenFoundValidDuringDeleteTransaction() {
+        PersonalAccessToken token = Generator.generatePersonalAccessToken(currentUser);
+        when(repositoryService.find(token.getUri())).thenReturn(Optional.of(token));
+        when(securityUtils.getCurrentUser()).thenReturn(currentUser);
+        when(repositoryService.findRequired(token.getUri())).thenReturn(token);
+        sut.findValid(token.getUri());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.delete(token.getUri());
+            // Concurrent request before the removal is committed, the token is still in the repository
+            sut.findValid(token.getUri());
+            verify(usageTracker, never()).discard(token.getUri());
+
+            when(repositoryService.find(token.getUri())).thenReturn(Optional.empty());
+            TransactionSynchronizationManager.getSynchronizations().forEach(
+                    s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThrows(NoSuchElementException.class, () -> sut.findValid(token.getUri()));
+        verify(usageTracker).discard(token.getUri());
+    }
+
+    @Test
+    public void onUserAccountUpdatedEvictsTokensOfUserFromCache() {
+        PersonalAccessToken token = Generator.generatePersonalAccessToken(currentUser);
+        when(repositoryService.find(token.getUri())).thenReturn(Optional.of(token));
+        sut.findValid(token.getUri());
+
+        sut.onUserAccountUpdated(new UserAccountUpdatedEvent(currentUser));
+        sut.findValid(token.getUri());
+        verify(repositoryService, times(2)).find(token.getUri());
+    }
+
+    @Test
+    public void findValidReturnsCopyOfCachedTokenAndItsOwner() {
+        PersonalAccessToken token = Generator.generatePersonalAccessToken(currentUser);
+        when(repositoryService.find(token.getUri())).thenReturn(Optional.of(token));
+
+        final PersonalAccessToken first = sut.findValid(token.getUri());
+        first.getOwner().lock();
+        final PersonalAccessToken second = sut.findValid(token.getUri());
+        assertNotSame(first, second);
+        assertNotSame(first.getOwner(), second.getOwner());
+        assertFalse(second.getOwner().isLocked());
+    }
+
+    @Test
+    public void updateLastUsedRecordsUsageWithoutUpdatingRepository() {
+        PersonalAccessToken token = Generator.generatePersonalAccessToken(currentUser);
+
+        sut.updateLastUsed(token);
+        assertNotNull(token.getLastUsed());
+        verify(usageTracker).recordUsage(token.getUri(), token.getLastUsed());
+        verify(repositoryService, never()).update(any());
+    }
 }
@@ -33,6 +33,7 @@
 import cz.cvut.kbss.termit.model.resource.Resource;
 import cz.cvut.kbss.termit.rest.dto.ResourceSaveReason;
 import cz.cvut.kbss.termit.service.document.AnnotationGenerator;
+import cz.cvut.kbss.termit.service.document.DerivedContentCache;
 import cz.cvut.kbss.termit.service.document.DocumentManager;
 import cz.cvut.kbss.termit.service.document.ResourceRetrievalSpecification;
 import cz.cvut.kbss.termit.service.document.TextAnalysisService;
@@ -72,12 +73,15 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.any;
@@ -114,6 +118,9 @@ class ResourceServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private DerivedContentCache derivedContentCache;
+
     @Spy
     private Configuration config = new Configuration();
 
@@ -522,6 +529,8 @@ void getContentWithoutUnconfirmedOccurrencesRemovesUnconfirmedOccurrencesFromFil
             content = new TypeAwareByteArrayResource(is.readAllBytes(), MediaType.TEXT_HTML_VALUE, ".html");
         }
         when(documentManager.getAsResource(file)).thenReturn(content);
+        when(derivedContentCache.getOrCompute(eq(file), eq(content), anyString(), any()))
+                .thenAnswer(inv -> inv.<UnaryOperator<TypeAwareResource>>getArgument(3).apply(content));
 
         final TypeAwareResource result = sut.getContent(file,
                                                         new ResourceRetrievalSpecification(Optional.empty(), true));
@@ -529,6 +538,30 @@ void getContentWithoutUnconfirmedOccurrencesRemovesUnconfirmedOccurrencesFromFil
         assertTrue(doc.select("span[score]").isEmpty());
     }
 
+    @Test
+    void getContentWithoutUnconfirmedOccurrencesRetrievesContentFromDerivedContentCache() {
+        final File file = Generator.generateFileWithId("test.hml");
+        final TypeAwareResource content = new TypeAwareByteArrayResource(new byte[0], MediaType.TEXT_HTML_VALUE,
+                                                                         ".html");
+        final TypeAwareResource cached = new TypeAwareByteArrayResource(new byte[0], MediaType.TEXT_HTML_VALUE,
+                                                                        ".html");
+        when(documentManager.getAsResource(file)).thenReturn(content);
+        when(derivedContentCache.getOrCompute(eq(file), eq(content), anyString(), any())).thenReturn(cached);
+
+        final TypeAwareResource result = sut.getContent(file,
+                                                        new ResourceRetrievalSpecification(Optional.empty(), true));
+        assertSame(cached, result);
+        verify(derivedContentCache).getOrCompute(eq(file), eq(content),
+                                                 eq(ResourceService.WITHOUT_UNCONFIRMED_OCCURRENCES_VARIANT), any());
+    }
+
+    @Test
+    void getContentWithUnconfirmedOccurrencesDoesNotUseDerivedContentCache() {
+        final File file = Generator.generateFileWithId("test.hml");
+        sut.getContent(file, new ResourceRetrievalSpecification(Optional.empty(), false));
+        verify(derivedContentCache, never()).getOrCompute(any(), any(), anyString(), any());
+    }
+
     @Test
     void addFileToDocumentSetsFileLanguageToDefaultConfiguredWhenNotProvided() {
         config.getPersistence().setLanguage(Environment.LANGUAGE);
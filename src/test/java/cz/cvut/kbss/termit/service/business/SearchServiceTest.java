@@ -55,6 +55,7 @@
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyCollection;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -96,7 +97,8 @@ void advancedSearchValidatesEachSearchParamBeforeInvokingSearch() {
         final List<SearchParam> params = List.of(spOne, spTwo);
         assertThrows(ValidationException.class,
                      () -> sut.advancedSearch(new SearchString("test", null), params, Constants.DEFAULT_PAGE_SPEC));
-        verify(searchDao, never()).advancedSearch(any(), anyCollection(), any(), eq(allowedVocabularyUris));
+        verify(searchDao, never()).advancedSearch(any(), anyCollection(), any(), eq(allowedVocabularyUris),
+                                                  anyBoolean());
     }
 
     @Test
@@ -107,14 +109,27 @@ void advancedSearchExecutesSearchOnDaoAndReturnsResults() {
         final SearchResult item = new SearchResult(
                 Generator.generateUri(), "Test term", null, Generator.generateUri(), null,
                 SKOS.CONCEPT, "test", "test", 1.0);
-        when(searchDao.advancedSearch(any(), anyCollection(), any(Pageable.class), anyCollection())).thenReturn(
-                new PageImpl<>(List.of(item)));
+        when(searchDao.advancedSearch(any(), anyCollection(), any(Pageable.class), anyCollection(), anyBoolean()))
+                .thenReturn(new PageImpl<>(List.of(item)));
         final Pageable pageSpec = PageRequest.of(2, 100);
 
         final SearchString searchString = new SearchString("test", null);
         final Page<SearchResult> result = sut.advancedSearch(searchString, Set.of(spOne), pageSpec);
         assertEquals(List.of(item), result.getContent());
-        verify(searchDao).advancedSearch(eq(searchString), eq(Set.of(spOne)), eq(pageSpec), eq(allowedVocabularyUris));
+        verify(searchDao).advancedSearch(eq(searchString), eq(Set.of(spOne)), eq(pageSpec), eq(allowedVocabularyUris),
+                                         eq(true));
+    }
+
+    @Test
+    void advancedSearchPassesExactTotalFlagToDao() {
+        when(authService.getReadableVocabularies()).thenReturn(allowedVocabularies);
+        when(searchDao.advancedSearch(any(), anyCollection(), any(Pageable.class), anyCollection(), anyBoolean()))
+                .thenReturn(Page.empty());
+        final SearchString searchString = new SearchString("test", null);
+
+        sut.advancedSearch(searchString, List.of(), Constants.DEFAULT_PAGE_SPEC, false);
+        verify(searchDao).advancedSearch(eq(searchString), eq(List.of()), eq(Constants.DEFAULT_PAGE_SPEC),
+                                         eq(allowedVocabularyUris), eq(false));
     }
 
     @Test
@@ -132,8 +147,8 @@ void fullTextSearchOfTermsAddsConceptAndVocabularyFilters() {
                 "test",
                 "test",
                 1.0);
-        when(searchDao.advancedSearch(any(), anyCollection(), any(Pageable.class), anyCollection())).thenReturn(
-                new PageImpl<>(List.of(item)));
+        when(searchDao.advancedSearch(any(), anyCollection(), any(Pageable.class), anyCollection(), anyBoolean()))
+                .thenReturn(new PageImpl<>(List.of(item)));
 
         final List<SearchResult> result = sut.fullTextSearchOfTerms(searchString, Set.of(vocabulary));
 
@@ -154,7 +169,7 @@ void fullTextSearchOfTermsAddsConceptAndVocabularyFilters() {
                                                                                            && p.getValue()
                                                                                                .equals(Set.of(
                                                                                                        vocabulary.toString())))),
-                                         argThat(pageable -> !pageable.isPaged()), eq(allowedVocabularyUris));
+                                         argThat(pageable -> !pageable.isPaged()), eq(allowedVocabularyUris), eq(true));
     }
 
     @Test
@@ -171,8 +186,8 @@ void fullTextSearchOfTermsAddsOnlyConceptFilterWhenVocabularyNotSpecified() {
                 "test",
                 "test",
                 1.0);
-        when(searchDao.advancedSearch(any(), anyCollection(), any(Pageable.class), anyCollection())).thenReturn(
-                new PageImpl<>(List.of(item)));
+        when(searchDao.advancedSearch(any(), anyCollection(), any(Pageable.class), anyCollection(), anyBoolean()))
+                .thenReturn(new PageImpl<>(List.of(item)));
 
         final List<SearchResult> result = sut.fullTextSearchOfTerms(searchString, Collections.emptySet());
 
@@ -186,6 +201,6 @@ void fullTextSearchOfTermsAddsOnlyConceptFilterWhenVocabularyNotSpecified() {
                                                                                            && p.getValue()
                                                                                                .equals(Set.of(
                                                                                                        SKOS.CONCEPT)))),
-                                         argThat(pageable -> !pageable.isPaged()), eq(allowedVocabularyUris));
+                                         argThat(pageable -> !pageable.isPaged()), eq(allowedVocabularyUris), eq(true));
     }
 }
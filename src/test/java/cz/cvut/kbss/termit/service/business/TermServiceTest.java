@@ -33,6 +33,7 @@
 import cz.cvut.kbss.termit.model.assignment.TermDefinitionSource;
 import cz.cvut.kbss.termit.model.comment.Comment;
 import cz.cvut.kbss.termit.persistence.context.VocabularyContextMapper;
+import cz.cvut.kbss.termit.persistence.dao.util.VocabularyContentRevisions;
 import cz.cvut.kbss.termit.service.business.util.TermSelectionParams;
 import cz.cvut.kbss.termit.service.comment.CommentService;
 import cz.cvut.kbss.termit.service.document.TextAnalysisService;
@@ -121,6 +122,9 @@ class TermServiceTest {
     @Mock
     private LanguageService languageService;
 
+    @Mock
+    private VocabularyContentRevisions contentRevisions;
+
     @Spy
     private Configuration configuration = new Configuration();
 
@@ -150,6 +154,19 @@ void findVocabularyLoadsVocabularyFromRepositoryService() {
         verify(vocabularyService).findRequired(vocabulary.getUri());
     }
 
+    @Test
+    void getContentTagReturnsTagOfSpecifiedVocabulary() {
+        when(contentRevisions.getTag(vocabulary.getUri())).thenReturn("abc-1");
+        assertEquals("abc-1", sut.getContentTag(vocabulary.getUri(), false));
+        verify(contentRevisions, never()).getTag();
+    }
+
+    @Test
+    void getContentTagReturnsTagOfAllVocabulariesWhenImportedVocabulariesAreIncluded() {
+        when(contentRevisions.getTag()).thenReturn("abc-a2");
+        assertEquals("abc-a2", sut.getContentTag(vocabulary.getUri(), true));
+    }
+
     @Test
     void findFindsTermByIdInRepositoryService() {
         final Term t = Generator.generateTermWithId();
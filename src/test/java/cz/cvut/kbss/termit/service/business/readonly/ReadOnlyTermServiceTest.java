@@ -40,6 +40,7 @@
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.net.URI;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
@@ -81,6 +82,15 @@ void getVocabularyReferenceRetrievesReferenceToVocabularyFromService() {
         verify(termService).findVocabularyRequired(vocabulary.getUri());
     }
 
+    @Test
+    void getContentTagRetrievesContentTagFromService() {
+        final URI vocabularyUri = Generator.generateUri();
+        when(termService.getContentTag(vocabularyUri, false)).thenReturn("abc-1");
+
+        assertEquals("abc-1", sut.getContentTag(vocabularyUri, false));
+        verify(termService).getContentTag(vocabularyUri, false);
+    }
+
     @Test
     void findAllRootsGetsRootTermsFromServiceAndTransformsThemToReadOnlyVersion() {
         final Vocabulary vocabulary = Generator.generateVocabularyWithId();
@@ -21,18 +21,23 @@
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.vocabulary.DC;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
+import cz.cvut.kbss.termit.dto.AggregatedChangeInfo;
 import cz.cvut.kbss.termit.environment.Environment;
 import cz.cvut.kbss.termit.environment.Generator;
 import cz.cvut.kbss.termit.event.AssetPersistEvent;
 import cz.cvut.kbss.termit.event.AssetUpdateEvent;
+import cz.cvut.kbss.termit.event.TermsImportedEvent;
+import cz.cvut.kbss.termit.event.TermsWillBeRemovedEvent;
 import cz.cvut.kbss.termit.model.Term;
 import cz.cvut.kbss.termit.model.User;
 import cz.cvut.kbss.termit.model.Vocabulary;
 import cz.cvut.kbss.termit.model.changetracking.AbstractChangeRecord;
+import cz.cvut.kbss.termit.model.changetracking.DeleteChangeRecord;
 import cz.cvut.kbss.termit.model.changetracking.PersistChangeRecord;
 import cz.cvut.kbss.termit.model.changetracking.UpdateChangeRecord;
 import cz.cvut.kbss.termit.model.util.HasIdentifier;
 import cz.cvut.kbss.termit.persistence.context.DescriptorFactory;
+import cz.cvut.kbss.termit.persistence.dao.changetracking.ContentChangeRollupDao;
 import cz.cvut.kbss.termit.service.BaseServiceTestRunner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +46,8 @@
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static cz.cvut.kbss.termit.service.changetracking.MetamodelBasedChangeCalculatorTest.cloneOf;
 import static org.hamcrest.CoreMatchers.anyOf;
@@ -59,6 +66,9 @@ class ChangeTrackerTest extends BaseServiceTestRunner {
     @Autowired
     private DescriptorFactory descriptorFactory;
 
+    @Autowired
+    private ContentChangeRollupDao rollupDao;
+
     @Autowired
     private ChangeTracker sut;
 
@@ -96,6 +106,77 @@ void onAssetPersistEventStoresCreationChangeRecordInRepository() {
         assertNotNull(record.getTimestamp());
     }
 
+    @Test
+    void onAssetPersistEventCountsTermCreationInContentChangeRollupOfVocabulary() {
+        enableRdfsInference(em);
+        final Term newTerm = Generator.generateTermWithId();
+        newTerm.setGlossary(vocabulary.getGlossary().getUri());
+        transactional(() -> {
+            em.persist(newTerm, descriptorFactory.termDescriptor(vocabulary));
+            sut.onAssetPersistEvent(new AssetPersistEvent(this, newTerm));
+        });
+
+        final List<AggregatedChangeInfo> result = rollupDao.findAll(vocabulary.getUri());
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getCount());
+        assertTrue(result.get(0).hasType(cz.cvut.kbss.termit.util.Vocabulary.s_c_vytvoreni_entity));
+    }
+
+    @Test
+    void onTermsImportedEventStoresCreationChangeRecordForEachImportedTerm() {
+        enableRdfsInference(em);
+        final List<Term> terms = List.of(Generator.generateTermWithId(), Generator.generateTermWithId());
+        transactional(() -> {
+            terms.forEach(t -> {
+                t.setGlossary(vocabulary.getGlossary().getUri());
+                em.persist(t, descriptorFactory.termDescriptor(vocabulary));
+            });
+            sut.onTermsImportedEvent(new TermsImportedEvent(this, vocabulary.getUri(),
+                                                            Set.of(terms.get(0).getUri(), terms.get(1).getUri())));
+        });
+
+        terms.forEach(t -> {
+            final List<AbstractChangeRecord> result = findRecords(t);
+            assertEquals(1, result.size());
+            assertThat(result.get(0), instanceOf(PersistChangeRecord.class));
+            assertEquals(author, result.get(0).getAuthor());
+        });
+        assertTrue(findRecords(vocabulary).isEmpty());
+        final List<AggregatedChangeInfo> rollups = rollupDao.findAll(vocabulary.getUri());
+        assertEquals(1, rollups.size());
+        assertEquals(2, rollups.get(0).getCount());
+        assertTrue(rollups.get(0).hasType(cz.cvut.kbss.termit.util.Vocabulary.s_c_vytvoreni_entity));
+    }
+
+    @Test
+    void onTermsWillBeRemovedEventStoresDeletionChangeRecordForEachRemovedTerm() {
+        enableRdfsInference(em);
+        final List<Term> terms = List.of(Generator.generateTermWithId(), Generator.generateTermWithId());
+        transactional(() -> {
+            terms.forEach(t -> {
+                t.setGlossary(vocabulary.getGlossary().getUri());
+                em.persist(t, descriptorFactory.termDescriptor(vocabulary));
+            });
+            sut.onTermsWillBeRemovedEvent(new TermsWillBeRemovedEvent(this, vocabulary.getUri(),
+                                                                      Map.of(terms.get(0).getUri(),
+                                                                             terms.get(0).getLabel(),
+                                                                             terms.get(1).getUri(),
+                                                                             terms.get(1).getLabel())));
+        });
+
+        terms.forEach(t -> {
+            final List<AbstractChangeRecord> result = findRecords(t);
+            assertEquals(1, result.size());
+            assertThat(result.get(0), instanceOf(DeleteChangeRecord.class));
+            assertEquals(t.getLabel(), ((DeleteChangeRecord) result.get(0)).getLabel());
+            assertEquals(author, result.get(0).getAuthor());
+        });
+        final List<AggregatedChangeInfo> rollups = rollupDao.findAll(vocabulary.getUri());
+        assertEquals(1, rollups.size());
+        assertEquals(2, rollups.get(0).getCount());
+        assertTrue(rollups.get(0).hasType(cz.cvut.kbss.termit.util.Vocabulary.s_c_smazani_entity));
+    }
+
     private List<AbstractChangeRecord> findRecords(HasIdentifier entity) {
         return em.createNativeQuery("SELECT ?x WHERE { ?x a ?changeRecord ; ?concerns ?entity . }",
                                     AbstractChangeRecord.class)
@@ -0,0 +1,159 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.changetracking;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.MultilingualString;
+import cz.cvut.kbss.jopa.model.metamodel.Attribute;
+import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+import cz.cvut.kbss.ontodriver.rdf4j.Rdf4jDataSource;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
+import cz.cvut.kbss.termit.environment.Environment;
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.model.AbstractTerm;
+import cz.cvut.kbss.termit.model.Term;
+import cz.cvut.kbss.termit.model.Vocabulary;
+import cz.cvut.kbss.termit.model.changetracking.UpdateChangeRecord;
+import cz.cvut.kbss.termit.persistence.MainPersistenceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static cz.cvut.kbss.jopa.model.JOPAPersistenceProperties.DATA_SOURCE_CLASS;
+import static cz.cvut.kbss.jopa.model.JOPAPersistenceProperties.LANG;
+import static cz.cvut.kbss.jopa.model.JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY;
+import static cz.cvut.kbss.jopa.model.JOPAPersistenceProperties.PREFER_MULTILINGUAL_STRING;
+
+/**
+ * JMH benchmark of change calculation on {@link Term} and {@link Vocabulary} updates.
+ * <p>
+ * Besides whole {@link MetamodelBasedChangeCalculator#calculateChanges(cz.cvut.kbss.termit.model.Asset,
+ * cz.cvut.kbss.termit.model.Asset)} calls, it compares the ways an attribute value can be read: per-call reflection
+ * through the metamodel (the original implementation), a cached accessible {@link Field} (the current
+ * implementation) and a {@link VarHandle} held in a non-constant field.
+ * <p>
+ * Not part of the test suite, run it using {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetamodelBasedChangeCalculatorBenchmark {
+
+    private EntityManagerFactory emf;
+
+    private MetamodelBasedChangeCalculator sut;
+
+    private Term originalTerm;
+    private Term changedTerm;
+
+    private Vocabulary originalVocabulary;
+    private Vocabulary changedVocabulary;
+
+    private Attribute<?, ?> labelAttribute;
+    private Field labelField;
+    private VarHandle labelHandle;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final Map<String, String> properties = MainPersistenceFactory.defaultParams();
+        properties.put(ONTOLOGY_PHYSICAL_URI_KEY, "termit");
+        properties.put(Rdf4jOntoDriverProperties.USE_VOLATILE_STORAGE, "true");
+        properties.put(DATA_SOURCE_CLASS, Rdf4jDataSource.class.getName());
+        properties.put(LANG, Environment.LANGUAGE);
+        properties.put(PREFER_MULTILINGUAL_STRING, "true");
+        this.emf = Persistence.createEntityManagerFactory("termitBenchmarkPU", properties);
+        this.sut = new MetamodelBasedChangeCalculator(emf);
+
+        this.originalTerm = Generator.generateTermWithId();
+        originalTerm.setParentTerms(new HashSet<>(Generator.generateTermsWithIds(3)));
+        this.changedTerm = MetamodelBasedChangeCalculatorTest.cloneOf(originalTerm);
+        changedTerm.setParentTerms(originalTerm.getParentTerms());
+        changedTerm.getLabel().set("cs", "Testovací pojem");
+
+        this.originalVocabulary = Generator.generateVocabularyWithId();
+        originalVocabulary.getModel().setUri(Generator.generateUri());
+        originalVocabulary.getGlossary().setUri(Generator.generateUri());
+        this.changedVocabulary = MetamodelBasedChangeCalculatorTest.cloneOf(originalVocabulary);
+        changedVocabulary.setLabel(MultilingualString.create("Updated label", Environment.LANGUAGE));
+
+        this.labelAttribute = emf.getMetamodel().entity(Term.class).getAttribute("label");
+        this.labelField = AbstractTerm.class.getDeclaredField("label");
+        labelField.setAccessible(true);
+        this.labelHandle = MethodHandles.privateLookupIn(AbstractTerm.class, MethodHandles.lookup())
+                                        .unreflectVarHandle(labelField);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        emf.close();
+    }
+
+    @Benchmark
+    public Collection<UpdateChangeRecord> calculateTermChanges() {
+        return sut.calculateChanges(changedTerm, originalTerm);
+    }
+
+    @Benchmark
+    public Collection<UpdateChangeRecord> calculateVocabularyChanges() {
+        return sut.calculateChanges(changedVocabulary, originalVocabulary);
+    }
+
+    @Benchmark
+    public Object readAttributeThroughMetamodel() {
+        return EntityPropertiesUtils.getAttributeValue(labelAttribute, changedTerm);
+    }
+
+    @Benchmark
+    public Object readAttributeThroughCachedField() throws IllegalAccessException {
+        return labelField.get(changedTerm);
+    }
+
+    @Benchmark
+    public Object readAttributeThroughVarHandle() {
+        return labelHandle.get(changedTerm);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MetamodelBasedChangeCalculatorBenchmark.class.getSimpleName())
+                                       .build()).run();
+    }
+}
@@ -67,7 +67,7 @@ void calculateChangesDiscoversChangeInSingularLiteralAttribute() {
         assertEquals(URI.create(DC.Terms.TITLE), record.getChangedAttribute());
     }
 
-    private static Vocabulary cloneOf(Vocabulary original) {
+    static Vocabulary cloneOf(Vocabulary original) {
         final Vocabulary clone = new Vocabulary();
         clone.setUri(original.getUri());
         clone.setDescription(original.getDescription());
@@ -460,4 +460,19 @@ void calculateChangesConsidersEmptyCollectionAndNullEqual() {
         final Collection<UpdateChangeRecord> result = sut.calculateChanges(changed, original);
         assertThat(result, emptyCollectionOf(UpdateChangeRecord.class));
     }
+
+    @Test
+    void calculateChangesEvaluatesEachPairOfInstancesIndependentlyWhenReusingChangePlan() {
+        final Term first = Generator.generateTermWithId();
+        final Term firstChanged = cloneOf(first);
+        firstChanged.getLabel().set("cs", "Testovací pojem");
+        final Term second = Generator.generateTermWithId();
+        final Term secondChanged = cloneOf(second);
+
+        assertEquals(1, sut.calculateChanges(firstChanged, first).size());
+        assertTrue(sut.calculateChanges(secondChanged, second).isEmpty());
+        final Collection<UpdateChangeRecord> result = sut.calculateChanges(firstChanged, first);
+        assertEquals(1, result.size());
+        assertEquals(first.getUri(), result.iterator().next().getChangedEntity());
+    }
 }
@@ -28,17 +28,21 @@
 import cz.cvut.kbss.termit.service.document.backup.BackupReason;
 import cz.cvut.kbss.termit.service.document.backup.DocumentBackupManager;
 import cz.cvut.kbss.termit.service.repository.ResourceRepositoryService;
+import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.TypeAwareResource;
 import cz.cvut.kbss.termit.util.Utils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.util.MimeTypeUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
@@ -54,6 +58,7 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,11 +69,17 @@ class DefaultDocumentManagerTest extends BaseDocumentTestRunner {
     @MockitoBean
     private ResourceRepositoryService resourceRepositoryService;
 
+    @TempDir
+    Path derivedContentDir;
+
     private DefaultDocumentManager sut;
 
     @BeforeEach
     void setupSut() {
-        sut = new DefaultDocumentManager(configuration, backupManager, resourceRepositoryService);
+        final Configuration.File.DerivedContentCache cacheSettings = new Configuration.File.DerivedContentCache();
+        cacheSettings.setDirectory(Optional.of(derivedContentDir.toString()));
+        sut = new DefaultDocumentManager(configuration, backupManager, resourceRepositoryService,
+                                         new DerivedContentCache(cacheSettings, null));
     }
 
     @Test
@@ -477,11 +488,52 @@ void getAsResourceAtCallsBackupManagerAndExtractsTheBackup() throws Exception {
 
         BackupFile backupFile = new BackupFile(now, physicalFile, BackupReason.UNKNOWN);
         when(backupManager.getBackup(any(), any())).thenReturn(backupFile);
-        when(backupManager.openBackup(backupFile)).thenReturn(physicalFile);
+        when(backupManager.openBackupStream(backupFile)).thenAnswer(inv -> Files.newInputStream(physicalFile.toPath()));
 
         sut.getAsResource(file, later);
         verify(backupManager).getBackup(file, later);
-        verify(backupManager).openBackup(backupFile);
+        verify(backupManager).openBackupStream(backupFile);
+    }
+
+    @Test
+    void getAsResourceAtExtractsBackupOnlyOnceForRepeatedRequests() throws Exception {
+        final File file = new File();
+        final java.io.File physicalFile = generateFile();
+        file.setLabel(physicalFile.getName());
+        document.addFile(file);
+        file.setDocument(document);
+        final java.io.File backup = Files.createTempFile("backup", ".html").toFile();
+        backup.deleteOnExit();
+        Files.writeString(backup.toPath(), CONTENT);
+        final BackupFile backupFile = new BackupFile(Utils.timestamp(), backup, BackupReason.UNKNOWN);
+        when(backupManager.getBackup(any(), any())).thenReturn(backupFile);
+        when(backupManager.openBackupStream(backupFile)).thenAnswer(inv -> Files.newInputStream(backup.toPath()));
+
+        final TypeAwareResource first = sut.getAsResource(file, Utils.timestamp());
+        final TypeAwareResource second = sut.getAsResource(file, Utils.timestamp());
+        assertEquals(CONTENT, first.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(CONTENT, second.getContentAsString(StandardCharsets.UTF_8));
+        verify(backupManager).openBackupStream(backupFile);
+    }
+
+    @Test
+    void saveFileContentEvictsCachedContentDerivedFromFile() throws Exception {
+        final File file = new File();
+        final java.io.File physicalFile = generateFile();
+        file.setLabel(physicalFile.getName());
+        document.addFile(file);
+        file.setDocument(document);
+        final java.io.File backup = Files.createTempFile("backup", ".html").toFile();
+        backup.deleteOnExit();
+        Files.writeString(backup.toPath(), CONTENT);
+        final BackupFile backupFile = new BackupFile(Utils.timestamp(), backup, BackupReason.UNKNOWN);
+        when(backupManager.getBackup(any(), any())).thenReturn(backupFile);
+        when(backupManager.openBackupStream(backupFile)).thenAnswer(inv -> Files.newInputStream(backup.toPath()));
+        sut.getAsResource(file, Utils.timestamp());
+
+        sut.saveFileContent(file, new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)));
+        sut.getAsResource(file, Utils.timestamp());
+        verify(backupManager, times(2)).openBackupStream(backupFile);
     }
 
     @Test
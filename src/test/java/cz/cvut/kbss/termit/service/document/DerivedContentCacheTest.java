@@ -0,0 +1,271 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.document;
+
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.model.resource.File;
+import cz.cvut.kbss.termit.util.Configuration;
+import cz.cvut.kbss.termit.util.TypeAwareByteArrayResource;
+import cz.cvut.kbss.termit.util.TypeAwareFileSystemResource;
+import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DerivedContentCacheTest {
+
+    private static final String VARIANT = "upperCase";
+
+    @TempDir
+    Path sourceDir;
+
+    @TempDir
+    Path cacheDir;
+
+    private final Configuration.File.DerivedContentCache settings = new Configuration.File.DerivedContentCache();
+
+    private final AtomicInteger derivations = new AtomicInteger();
+
+    private final UnaryOperator<TypeAwareResource> deriver = source -> {
+        derivations.incrementAndGet();
+        try {
+            final String content = source.getContentAsString(StandardCharsets.UTF_8);
+            return new TypeAwareByteArrayResource(content.toUpperCase().getBytes(StandardCharsets.UTF_8),
+                                                  MediaType.TEXT_HTML_VALUE, ".html");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    };
+
+    private File file;
+
+    private DerivedContentCache sut;
+
+    @BeforeEach
+    void setUp() {
+        settings.setDirectory(Optional.of(cacheDir.toString()));
+        this.sut = new DerivedContentCache(settings, null);
+        this.file = Generator.generateFileWithId("test.html");
+    }
+
+    private TypeAwareResource source(String content) throws IOException {
+        final Path path = sourceDir.resolve(file.getLabel());
+        Files.writeString(path, content);
+        return new TypeAwareFileSystemResource(path.toFile(), MediaType.TEXT_HTML_VALUE);
+    }
+
+    @Test
+    void getOrComputeDerivesContentOnlyOnceForUnchangedSource() throws Exception {
+        final TypeAwareResource source = source("<p>test</p>");
+
+        final TypeAwareResource first = sut.getOrCompute(file, source, VARIANT, deriver);
+        final TypeAwareResource second = sut.getOrCompute(file, source, VARIANT, deriver);
+        assertEquals("<P>TEST</P>", first.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("<P>TEST</P>", second.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(Optional.of(MediaType.TEXT_HTML_VALUE), second.getMediaType());
+        assertEquals(1, derivations.get());
+    }
+
+    @Test
+    void getOrComputeDerivesContentAgainWhenSourceIsModified() throws Exception {
+        final TypeAwareResource source = source("<p>test</p>");
+        sut.getOrCompute(file, source, VARIANT, deriver);
+
+        final TypeAwareResource modified = source("<p>modified</p>");
+        Files.setLastModifiedTime(modified.getFile().toPath(), FileTime.from(Instant.now().plusSeconds(10)));
+        final TypeAwareResource result = sut.getOrCompute(file, modified, VARIANT, deriver);
+        assertEquals("<P>MODIFIED</P>", result.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(2, derivations.get());
+    }
+
+    @Test
+    void getOrComputeDerivesEachVariantSeparately() throws Exception {
+        final TypeAwareResource source = source("<p>test</p>");
+        sut.getOrCompute(file, source, VARIANT, deriver);
+        sut.getOrCompute(file, source, "anotherVariant", deriver);
+        assertEquals(2, derivations.get());
+    }
+
+    @Test
+    void evictRemovesCachedContentDerivedFromSpecifiedFile() throws Exception {
+        final TypeAwareResource source = source("<p>test</p>");
+        sut.getOrCompute(file, source, VARIANT, deriver);
+
+        sut.evict(file);
+        assertTrue(isCacheDirEmpty());
+        sut.getOrCompute(file, source, VARIANT, deriver);
+        assertEquals(2, derivations.get());
+    }
+
+    private boolean isCacheDirEmpty() throws IOException {
+        try (final Stream<Path> cached = Files.list(cacheDir)) {
+            return cached.findAny().isEmpty();
+        }
+    }
+
+    @Test
+    void cachedContentEvictedBeforeItIsReadIsDerivedAgain() throws Exception {
+        final TypeAwareResource source = source("<p>test</p>");
+        final TypeAwareResource cached = sut.getOrCompute(file, source, VARIANT, deriver);
+
+        sut.evict(file);
+        assertEquals("<P>TEST</P>", cached.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(2, derivations.get());
+    }
+
+    @Test
+    void cachedContentOpenedBeforeItIsEvictedRemainsReadable() throws Exception {
+        final TypeAwareResource source = source("<p>test</p>");
+        final TypeAwareResource cached = sut.getOrCompute(file, source, VARIANT, deriver);
+
+        try (final InputStream is = cached.getInputStream()) {
+            sut.evict(file);
+            assertEquals("<P>TEST</P>", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(1, derivations.get());
+    }
+
+    @Test
+    void getOrComputeCachesContentDerivedFromCachedContent() throws Exception {
+        final TypeAwareResource source = source("<p>test</p>");
+        final UnaryOperator<TypeAwareResource> wrapper = s -> {
+            try {
+                return new TypeAwareByteArrayResource(("<div>" + s.getContentAsString(StandardCharsets.UTF_8) + "</div>")
+                                                              .getBytes(StandardCharsets.UTF_8),
+                                                      MediaType.TEXT_HTML_VALUE, ".html");
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        final TypeAwareResource first = sut.getOrCompute(file, sut.getOrCompute(file, source, VARIANT, deriver),
+                                                         "wrapped", wrapper);
+        final TypeAwareResource second = sut.getOrCompute(file, sut.getOrCompute(file, source, VARIANT, deriver),
+                                                          "wrapped", s -> {
+                                                              throw new AssertionError("Content should be cached.");
+                                                          });
+        assertEquals("<div><P>TEST</P></div>", first.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("<div><P>TEST</P></div>", second.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(1, derivations.get());
+    }
+
+    @Test
+    void getOrComputeWritesStreamingContentDirectlyIntoCache() throws Exception {
+        final TypeAwareResource source = source("<p>test</p>");
+
+        final TypeAwareResource result = sut.getOrCompute(file, source, VARIANT, s -> new TypeAwareStreamingResource(
+                out -> out.write("streamed".getBytes(StandardCharsets.UTF_8)), MediaType.TEXT_HTML_VALUE, null,
+                "test"));
+        assertEquals("streamed", result.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("streamed".length(), result.contentLength());
+    }
+
+    @Test
+    void getOrComputeEvictsContentWhenMaximumSizeIsExceeded() throws Exception {
+        settings.setMaxSize(16);
+        this.sut = new DerivedContentCache(settings, null);
+        final TypeAwareResource source = source("<p>test</p>");
+
+        sut.getOrCompute(file, source, VARIANT, deriver);
+        sut.getOrCompute(file, source, "anotherVariant", deriver);
+        try (final Stream<Path> cached = Files.list(cacheDir)) {
+            assertEquals(1, cached.count());
+        }
+    }
+
+    @Test
+    void getOrComputeDoesNotCacheContentWhenCacheIsDisabled() throws Exception {
+        settings.setMaxSize(0);
+        this.sut = new DerivedContentCache(settings, null);
+        final TypeAwareResource source = source("<p>test</p>");
+
+        sut.getOrCompute(file, source, VARIANT, deriver);
+        sut.getOrCompute(file, source, VARIANT, deriver);
+        assertEquals(2, derivations.get());
+    }
+
+    @Test
+    void getOrComputeDoesNotCacheContentOfSourceNotStoredInFile() {
+        final TypeAwareResource source = new TypeAwareByteArrayResource("<p>test</p>".getBytes(StandardCharsets.UTF_8),
+                                                                        MediaType.TEXT_HTML_VALUE, ".html");
+
+        sut.getOrCompute(file, source, VARIANT, deriver);
+        sut.getOrCompute(file, source, VARIANT, deriver);
+        assertEquals(2, derivations.get());
+    }
+
+    @Test
+    void constructorRemovesContentLeftInCacheDirectory() throws Exception {
+        final Path leftover = Files.writeString(cacheDir.resolve(UUID.randomUUID() + "_leftover.html"), "test");
+        this.sut = new DerivedContentCache(settings, null);
+        assertFalse(Files.exists(leftover));
+        assertTrue(Files.isDirectory(cacheDir));
+    }
+
+    @Test
+    void constructorKeepsFilesNotCreatedByCacheInCacheDirectory() throws Exception {
+        final Path unrelated = Files.writeString(cacheDir.resolve("unrelated.html"), "test");
+        final Path prefixed = Files.writeString(cacheDir.resolve("notUuid_unrelated.html"), "test");
+        this.sut = new DerivedContentCache(settings, null);
+        assertTrue(Files.exists(unrelated));
+        assertTrue(Files.exists(prefixed));
+    }
+
+    @Test
+    void closeRemovesCachedContent() throws Exception {
+        final Path unrelated = Files.writeString(cacheDir.resolve("unrelated.html"), "test");
+        sut.getOrCompute(file, source("<p>test</p>"), VARIANT, deriver);
+
+        sut.close();
+        try (final Stream<Path> content = Files.list(cacheDir)) {
+            assertEquals(List.of(unrelated), content.toList());
+        }
+    }
+
+    @Test
+    void closeRemovesTemporaryCacheDirectory() throws Exception {
+        settings.setDirectory(Optional.empty());
+        this.sut = new DerivedContentCache(settings, null);
+        sut.getOrCompute(file, source("<p>test</p>"), VARIANT, deriver);
+        final Path directory = sut.getDirectory();
+        assertTrue(Files.isDirectory(directory));
+
+        sut.close();
+        assertFalse(Files.exists(directory));
+    }
+}
@@ -22,26 +22,61 @@
 import cz.cvut.kbss.termit.model.assignment.TermOccurrence;
 import cz.cvut.kbss.termit.model.resource.File;
 import cz.cvut.kbss.termit.persistence.dao.TermOccurrenceDao;
+import cz.cvut.kbss.termit.util.Configuration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TermOccurrenceSaverTest {
 
+    private static final int BATCH_SIZE = 3;
+
     @Mock
     private TermOccurrenceDao occurrenceDao;
 
-    @InjectMocks
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private TermOccurrenceSaver sut;
 
+    @BeforeEach
+    void setUp() {
+        final Configuration config = new Configuration();
+        config.getTextAnalysis().setTermOccurrenceBatchSize(BATCH_SIZE);
+        @SuppressWarnings("unchecked")
+        final ObjectProvider<MeterRegistry> registryProvider = mock(ObjectProvider.class);
+        when(registryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        this.sut = new TermOccurrenceSaver(occurrenceDao, config, registryProvider);
+    }
+
     @Test
     void saveOccurrencesRemovesAllExistingOccurrencesAndPersistsSpecifiedOnes() {
         final Term t = Generator.generateTermWithId();
@@ -56,4 +91,53 @@ void saveOccurrencesRemovesAllExistingOccurrencesAndPersistsSpecifiedOnes() {
         inOrder.verify(occurrenceDao).removeAll(asset);
         occurrences.forEach(to -> inOrder.verify(occurrenceDao).persist(to));
     }
+
+    @Test
+    void saveFromQueuePersistsOccurrencesInBatchesOfConfiguredSize() {
+        final File asset = Generator.generateFileWithId("test.html");
+        final List<TermOccurrence> occurrences = generateOccurrences(asset, 7);
+        final BlockingQueue<TermOccurrence> queue = new ArrayBlockingQueue<>(occurrences.size(), false, occurrences);
+        when(occurrenceDao.findExisting(anyCollection())).thenReturn(Set.of());
+
+        sut.saveFromQueue(asset, new AtomicBoolean(true), queue);
+
+        final List<TermOccurrence> persisted = capturePersisted(3);
+        assertThat(persisted, containsInAnyOrder(occurrences.toArray()));
+        assertEquals(occurrences.size(), meterRegistry.get("app.term.occurrences.saved").counter().count());
+    }
+
+    @Test
+    void saveFromQueueSkipsExistingAndDuplicateOccurrences() {
+        final File asset = Generator.generateFileWithId("test.html");
+        final List<TermOccurrence> occurrences = generateOccurrences(asset, 3);
+        final List<TermOccurrence> queued = new ArrayList<>(occurrences);
+        // the same occurrence appearing in a subsequent batch
+        queued.add(occurrences.get(1));
+        final BlockingQueue<TermOccurrence> queue = new ArrayBlockingQueue<>(queued.size(), false, queued);
+        final URI existing = occurrences.get(0).getUri();
+        when(occurrenceDao.findExisting(anyCollection())).then(inv -> inv.getArgument(0, Collection.class)
+                                                                         .contains(existing) ? Set.of(existing) :
+                                                                      Set.of());
+
+        sut.saveFromQueue(asset, new AtomicBoolean(true), queue);
+
+        final List<TermOccurrence> persisted = capturePersisted(1);
+        assertThat(persisted, containsInAnyOrder(occurrences.get(1), occurrences.get(2)));
+    }
+
+    private static List<TermOccurrence> generateOccurrences(File asset, int count) {
+        final Term t = Generator.generateTermWithId();
+        return IntStream.range(0, count).mapToObj(i -> {
+            final TermOccurrence to = Generator.generateTermOccurrence(t, asset, true);
+            to.setUri(Generator.generateUri());
+            return to;
+        }).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TermOccurrence> capturePersisted(int batchCount) {
+        final ArgumentCaptor<Collection<TermOccurrence>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(occurrenceDao, times(batchCount)).persistAll(captor.capture());
+        return captor.getAllValues().stream().flatMap(Collection::stream).toList();
+    }
 }
@@ -14,6 +14,8 @@
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -396,6 +398,36 @@ void openBackupOpensLegacyUncompressedBackup() throws Exception {
         assertEquals(CONTENT, result);
     }
 
+    @Test
+    void openBackupStreamReadsCompressedBackupWithoutExtractingIt() throws Exception {
+        final File file = new File();
+        final java.io.File physicalFile = generateFile();
+        file.setLabel(physicalFile.getName());
+        document.addFile(file);
+        file.setDocument(document);
+
+        sut.createBackup(file, BackupReason.UNKNOWN);
+
+        BackupFile backupFile = sut.getBackup(file, Instant.EPOCH);
+        try (final InputStream is = sut.openBackupStream(backupFile)) {
+            assertEquals(CONTENT, new String(is.readAllBytes(), StandardCharsets.UTF_8).strip());
+        }
+    }
+
+    @Test
+    void openBackupStreamReadsLegacyUncompressedBackup() throws Exception {
+        final File file = new File();
+        final java.io.File physicalFile = generateFile();
+        file.setLabel(physicalFile.getName());
+        document.addFile(file);
+        file.setDocument(document);
+
+        BackupFile backupFile = new BackupFile(Instant.now(), physicalFile, BackupReason.UNKNOWN);
+        try (final InputStream is = sut.openBackupStream(backupFile)) {
+            assertEquals(CONTENT, new String(is.readAllBytes(), StandardCharsets.UTF_8).strip());
+        }
+    }
+
     @Test
     void getBackupReturnsBackupWithEqualTimestamp() {
         final File fileResource = new File();
@@ -0,0 +1,83 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.document.html;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void matchFindsAllOccurrencesOfAllPatternsIncludingOverlappingOnes() {
+        final AhoCorasickMatcher sut = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+
+        final List<List<Integer>> result = match(sut, "ushers");
+        assertEquals(List.of(List.of(1, 1), List.of(0, 2), List.of(3, 2)), result);
+    }
+
+    @Test
+    void matchReportsDuplicatePatternsSeparately() {
+        final AhoCorasickMatcher sut = new AhoCorasickMatcher(List.of("plán", "plán"));
+
+        final List<List<Integer>> result = match(sut, "Územní plán");
+        assertEquals(List.of(List.of(0, 7), List.of(1, 7)), result);
+    }
+
+    @Test
+    void matchIgnoresEmptyPatterns() {
+        final AhoCorasickMatcher sut = new AhoCorasickMatcher(List.of("", "a"));
+
+        final List<List<Integer>> result = match(sut, "aa");
+        assertEquals(List.of(List.of(1, 0), List.of(1, 1)), result);
+    }
+
+    @Test
+    void matchFindsNothingWhenNoPatternOccursInText() {
+        final AhoCorasickMatcher sut = new AhoCorasickMatcher(List.of("Prahy", "Brna"));
+
+        assertTrue(match(sut, "Územní plán hlavního města").isEmpty());
+    }
+
+    @Test
+    void matchFindsEachOfTenThousandPatternsAtItsPositionInLongText() {
+        final int count = 10_000;
+        final List<String> patterns = IntStream.range(0, count).mapToObj(i -> " term" + i + " ").toList();
+        final String text = String.join("", patterns);
+
+        final int[] starts = new int[count];
+        Arrays.fill(starts, -1);
+        new AhoCorasickMatcher(patterns).match(text, (i, start) -> {
+            assertEquals(-1, starts[i], "Pattern " + i + " matched more than once.");
+            starts[i] = start;
+        });
+        IntStream.range(0, count).forEach(i -> assertEquals(text.indexOf(patterns.get(i)), starts[i]));
+    }
+
+    private static List<List<Integer>> match(AhoCorasickMatcher sut, String text) {
+        final List<List<Integer>> result = new ArrayList<>();
+        sut.match(text, (i, start) -> result.add(List.of(i, start)));
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.document.html;
+
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.model.Term;
+import cz.cvut.kbss.termit.model.assignment.TermOccurrence;
+import cz.cvut.kbss.termit.model.resource.File;
+import cz.cvut.kbss.termit.model.selector.Selector;
+import cz.cvut.kbss.termit.model.selector.TextPositionSelector;
+import cz.cvut.kbss.termit.model.selector.TextQuoteSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * JMH benchmark of matching RDFa annotations against existing approved term occurrences.
+ * <p>
+ * Compares {@link ApprovedOccurrenceIndex} with the linear scan of existing occurrences it replaced. Annotations are
+ * matched in the reverse order of the existing occurrences, which is the worst case for the linear scan.
+ * <p>
+ * Not part of the test suite, run it using {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApprovedOccurrenceIndexBenchmark {
+
+    @Param({"1000", "10000"})
+    public int count;
+
+    private List<TermOccurrence> existing;
+
+    private List<TermOccurrence> annotations;
+
+    @Setup
+    public void setUp() {
+        final File file = Generator.generateFileWithId("test.html");
+        final Term term = Generator.generateTermWithId();
+        this.existing = IntStream.range(0, count).mapToObj(
+                i -> occurrence(term, file, new TextQuoteSelector("test" + i, "prefix ", " suffix"),
+                                new TextPositionSelector(i * 10, i * 10 + 4))).toList();
+        this.annotations = IntStream.range(0, count).map(i -> count - 1 - i).mapToObj(
+                i -> occurrence(term, file, new TextQuoteSelector("test" + i, "prefix ", " suffix"),
+                                new TextPositionSelector(i * 10, i * 10 + 4))).toList();
+    }
+
+    private static TermOccurrence occurrence(Term term, File file, Selector... selectors) {
+        final TermOccurrence to = Generator.generateTermOccurrence(term, file, false);
+        to.getTarget().setSelectors(Set.of(selectors));
+        return to;
+    }
+
+    @Benchmark
+    public List<TermOccurrence> matchUsingIndex() {
+        final ApprovedOccurrenceIndex index = new ApprovedOccurrenceIndex(existing);
+        annotations.forEach(index::match);
+        return index.getUnmatched();
+    }
+
+    @Benchmark
+    public List<TermOccurrence> matchUsingLinearScan() {
+        final ApprovedOccurrenceIndexTest.LinearScanMatcher matcher =
+                new ApprovedOccurrenceIndexTest.LinearScanMatcher(existing);
+        annotations.forEach(matcher::match);
+        return matcher.getUnmatched();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ApprovedOccurrenceIndexBenchmark.class.getSimpleName())
+                                       .build()).run();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.document.html;
+
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.model.Term;
+import cz.cvut.kbss.termit.model.assignment.TermOccurrence;
+import cz.cvut.kbss.termit.model.resource.File;
+import cz.cvut.kbss.termit.model.selector.Selector;
+import cz.cvut.kbss.termit.model.selector.TextPositionSelector;
+import cz.cvut.kbss.termit.model.selector.TextQuoteSelector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApprovedOccurrenceIndexTest {
+
+    private final File file = Generator.generateFileWithId("test.html");
+
+    private final Term term = Generator.generateTermWithId();
+
+    @Test
+    void matchReturnsTrueForOccurrenceOfSameTermWithEqualSelector() {
+        final TermOccurrence existing = occurrence(term, new TextQuoteSelector("test", "prefix ", " suffix"),
+                                                   new TextPositionSelector(7, 11));
+        final ApprovedOccurrenceIndex sut = new ApprovedOccurrenceIndex(List.of(existing));
+
+        assertTrue(sut.match(occurrence(term, new TextPositionSelector(7, 11))));
+        assertTrue(sut.getUnmatched().isEmpty());
+    }
+
+    @Test
+    void matchReturnsFalseForOccurrenceOfDifferentTerm() {
+        final TermOccurrence existing = occurrence(term, new TextPositionSelector(7, 11));
+        final ApprovedOccurrenceIndex sut = new ApprovedOccurrenceIndex(List.of(existing));
+
+        assertFalse(sut.match(occurrence(Generator.generateTermWithId(), new TextPositionSelector(7, 11))));
+        assertEquals(List.of(existing), sut.getUnmatched());
+    }
+
+    @Test
+    void matchUsesEachExistingOccurrenceOnlyOnce() {
+        final TermOccurrence existing = occurrence(term, new TextQuoteSelector("test"),
+                                                   new TextPositionSelector(7, 11));
+        final ApprovedOccurrenceIndex sut = new ApprovedOccurrenceIndex(List.of(existing));
+
+        assertTrue(sut.match(occurrence(term, new TextQuoteSelector("test"))));
+        assertFalse(sut.match(occurrence(term, new TextPositionSelector(7, 11))));
+    }
+
+    @Test
+    void matchPrefersFirstMatchingExistingOccurrence() {
+        final TermOccurrence first = occurrence(term, new TextPositionSelector(7, 11));
+        final TermOccurrence second = occurrence(term, new TextQuoteSelector("test"));
+        final ApprovedOccurrenceIndex sut = new ApprovedOccurrenceIndex(List.of(first, second));
+
+        assertTrue(sut.match(occurrence(term, new TextQuoteSelector("test"), new TextPositionSelector(7, 11))));
+        assertEquals(List.of(second), sut.getUnmatched());
+    }
+
+    @Test
+    void matchResolvesTenThousandAnnotationsConsistentlyWithLinearScanOfExistingOccurrences() {
+        final int count = 10_000;
+        final List<TermOccurrence> existing = IntStream.range(0, count).mapToObj(
+                i -> occurrence(term, new TextQuoteSelector("test" + i, "prefix ", " suffix"),
+                                new TextPositionSelector(i * 10, i * 10 + 4))).toList();
+        // Reverse order is the worst case for a linear scan. Some annotations share only one selector with an existing
+        // occurrence, some do not match any
+        final List<TermOccurrence> annotations = IntStream.range(0, count).map(i -> count - 1 - i).mapToObj(i -> {
+            if (i % 5 == 0) {
+                return occurrence(term, new TextQuoteSelector("other" + i, "prefix ", " suffix"));
+            }
+            return i % 3 == 0 ? occurrence(term, new TextPositionSelector(i * 10, i * 10 + 4)) :
+                   occurrence(term, new TextQuoteSelector("test" + i, "prefix ", " suffix"),
+                              new TextPositionSelector(i * 10, i * 10 + 4));
+        }).toList();
+
+        final ApprovedOccurrenceIndex sut = new ApprovedOccurrenceIndex(existing);
+        final LinearScanMatcher baseline = new LinearScanMatcher(existing);
+        annotations.forEach(to -> assertEquals(baseline.match(to), sut.match(to)));
+        assertEquals(baseline.getUnmatched(), sut.getUnmatched());
+        assertEquals(count / 5, sut.getUnmatched().size());
+    }
+
+    /**
+     * Matching algorithm used before the index was introduced, scanning all the existing occurrences for every match.
+     */
+    static final class LinearScanMatcher {
+
+        private final List<TermOccurrence> remaining;
+
+        LinearScanMatcher(List<TermOccurrence> occurrences) {
+            this.remaining = new ArrayList<>(occurrences);
+        }
+
+        boolean match(TermOccurrence occurrence) {
+            final Set<Selector> selectors = occurrence.getTarget().getSelectors();
+            final Iterator<TermOccurrence> it = remaining.iterator();
+            while (it.hasNext()) {
+                final TermOccurrence to = it.next();
+                if (to.getTerm().equals(occurrence.getTerm()) &&
+                        to.getTarget().getSelectors().stream().anyMatch(selectors::contains)) {
+                    it.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        List<TermOccurrence> getUnmatched() {
+            return remaining;
+        }
+    }
+
+    private TermOccurrence occurrence(Term term, Selector... selectors) {
+        final TermOccurrence to = Generator.generateTermOccurrence(term, file, false);
+        to.getTarget().setSelectors(Set.of(selectors));
+        return to;
+    }
+}
@@ -76,6 +76,13 @@ class HtmlTermOccurrenceResolverTest {
 
     private static final URI TERM_URI = URI.create("http://onto.fel.cvut.cz/ontologies/mpp/domains/uzemni-plan");
 
+    private static final URI PLAN_TERM_URI = URI.create("http://onto.fel.cvut.cz/ontologies/mpp/domains/plan");
+
+    private static final String BODY_START = "<html><head></head>" +
+            "<body prefix=\"termit: http://onto.fel.cvut.cz/ontologies/application/termit/pojem/\">";
+
+    private static final String BODY_END = "</body></html>";
+
     @Mock
     private TermRepositoryService termService;
 
@@ -334,4 +341,134 @@ void findTermOccurrencesResolvesExistingApprovedOccurrenceInContentWithTwoOccurr
         assertInstanceOf(TextNode.class, previousSibling);
         assertThat(((TextNode) previousSibling).text(), containsString("Testovací"));
     }
+
+    private static String annotation(String about, URI term, String score, String text) {
+        return "<span about=\"" + about + "\" property=\"termit:je-výskytem-termu\"" +
+                (score != null ? " score=\"" + score + "\"" : "") + " resource=\"" + term +
+                "\" typeof=\"termit:výskyt-termu\">" + text + "</span>";
+    }
+
+    private TermOccurrence existingApproved(File file, URI term, TextQuoteSelector selector) {
+        final TermOccurrence existing = Generator.generateTermOccurrence(new Term(term), file, false);
+        existing.getTarget().setSelectors(Set.of(selector));
+        return existing;
+    }
+
+    private List<TermOccurrence> resolve(File file, String body, TermOccurrence... existing) {
+        sut.parseContent(new ByteArrayInputStream((BODY_START + body + BODY_END).getBytes(StandardCharsets.UTF_8)),
+                         file);
+        sut.setExistingOccurrences(List.of(existing));
+        final List<TermOccurrence> result = new ArrayList<>();
+        sut.findTermOccurrences(result::add);
+        return result;
+    }
+
+    private Document resultDocument() {
+        return Jsoup.parse(sut.getContent(), StandardCharsets.UTF_8.name(), "");
+    }
+
+    private static void assertAnnotates(TermOccurrence occurrence, Element annotation) {
+        assertEquals(occurrence.resolveElementAbout(), annotation.attr("about"));
+        assertEquals(occurrence.getTerm().toString(), annotation.attr("resource"));
+        assertFalse(annotation.hasAttr("score"));
+    }
+
+    @Test
+    void findTermOccurrencesAnnotatesLastMatchOfExistingApprovedOccurrenceSelector() {
+        final File file = initFile();
+        final TextQuoteSelector selector = new TextQuoteSelector("plán", "", "");
+        final TermOccurrence existing = existingApproved(file, TERM_URI, selector);
+
+        final List<TermOccurrence> result = resolve(file, "<p>plán a plán</p>", existing);
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).getTarget().getSelectors().contains(selector));
+        final Element paragraph = resultDocument().selectFirst("p");
+        assertNotNull(paragraph);
+        assertEquals(2, paragraph.childNodeSize());
+        assertEquals("plán a ", ((TextNode) paragraph.childNode(0)).getWholeText());
+        final Element annotation = (Element) paragraph.childNode(1);
+        assertEquals("plán", annotation.text());
+        assertAnnotates(result.get(0), annotation);
+    }
+
+    @Test
+    void findTermOccurrencesSkipsExistingApprovedOccurrenceOverlappingAlreadyInsertedOne() {
+        final File file = initFile();
+        final TermOccurrence whole = existingApproved(file, TERM_URI,
+                                                      new TextQuoteSelector("Územní plán", "", " hlavního"));
+        final TextQuoteSelector partSelector = new TextQuoteSelector("plán", "Územní ", " hlavního");
+        final TermOccurrence part = existingApproved(file, PLAN_TERM_URI, partSelector);
+
+        final List<TermOccurrence> result = resolve(file, "<p>Územní plán hlavního města</p>", whole, part);
+        assertEquals(1, result.size());
+        assertEquals(PLAN_TERM_URI, result.get(0).getTerm());
+        assertTrue(result.get(0).getTarget().getSelectors().contains(partSelector));
+        final Document resultDoc = resultDocument();
+        final Elements annotations = resultDoc.select("span[about]");
+        assertEquals(1, annotations.size());
+        assertEquals("plán", annotations.get(0).text());
+        assertAnnotates(result.get(0), annotations.get(0));
+        assertEquals("Územní plán hlavního města", resultDoc.select("p").text());
+    }
+
+    @Test
+    void findTermOccurrencesAnnotatesExactMatchInTextNodeWhenSelectorQuoteSpansMultipleTextNodes() {
+        final File file = initFile();
+        final TextQuoteSelector selector = new TextQuoteSelector("plán", "Územní ", " hlavního");
+        final TermOccurrence existing = existingApproved(file, PLAN_TERM_URI, selector);
+
+        final List<TermOccurrence> result = resolve(file, "<p>Územní <b>plán</b> hlavního města</p>", existing);
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).getTarget().getSelectors().contains(selector));
+        final Document resultDoc = resultDocument();
+        final Elements annotations = resultDoc.select("span[about]");
+        assertEquals(1, annotations.size());
+        assertEquals("b", Objects.requireNonNull(annotations.get(0).parent()).tagName());
+        assertEquals("plán", annotations.get(0).text());
+        assertAnnotates(result.get(0), annotations.get(0));
+        assertEquals("Územní plán hlavního města", resultDoc.select("p").text());
+    }
+
+    @Test
+    void findTermOccurrencesInsertsAnnotationIntoContainingElementWhenExactMatchSpansMultipleNodes() {
+        when(termService.exists(TERM_URI)).thenReturn(true);
+        when(termService.exists(PLAN_TERM_URI)).thenReturn(true);
+        final File file = initFile();
+        final TextQuoteSelector selector = new TextQuoteSelector("Územní plán", "", " hlavního");
+        final TermOccurrence existing = existingApproved(file, TERM_URI, selector);
+
+        final List<TermOccurrence> result = resolve(file, "<p>" + annotation("_:1", TERM_URI, "1.0", "Územní") + " " +
+                annotation("_:2", PLAN_TERM_URI, "1.0", "plán") + " hlavního města</p>", existing);
+        assertEquals(3, result.size());
+        final List<TermOccurrence> approved = result.stream().filter(to -> !to.isSuggested()).toList();
+        assertEquals(1, approved.size());
+        assertTrue(approved.get(0).getTarget().getSelectors().contains(selector));
+        final Document resultDoc = resultDocument();
+        // Suggested occurrences contained in the exact match are replaced by the approved one
+        final Elements annotations = resultDoc.select("span[about]");
+        assertEquals(1, annotations.size());
+        assertEquals("Územní plán", annotations.get(0).text());
+        assertAnnotates(approved.get(0), annotations.get(0));
+        assertEquals("p", Objects.requireNonNull(annotations.get(0).parent()).tagName());
+        assertEquals("Územní plán hlavního města", resultDoc.select("p").text());
+    }
+
+    @Test
+    void findTermOccurrencesDoesNotAnnotateTextInsideExistingOccurrenceElement() {
+        when(termService.exists(TERM_URI)).thenReturn(true);
+        final File file = initFile();
+        final TermOccurrence existing = existingApproved(file, PLAN_TERM_URI,
+                                                         new TextQuoteSelector("plán", "Územní ", " hlavního"));
+
+        final List<TermOccurrence> result = resolve(file, "<p>" + annotation("_:1", TERM_URI, null, "Územní plán") +
+                " hlavního města</p>", existing);
+        assertEquals(1, result.size());
+        assertEquals(TERM_URI, result.get(0).getTerm());
+        final Document resultDoc = resultDocument();
+        final Elements annotations = resultDoc.select("span[about]");
+        assertEquals(1, annotations.size());
+        assertEquals("_:1", annotations.get(0).attr("about"));
+        assertEquals("Územní plán", annotations.get(0).wholeText());
+        assertTrue(annotations.get(0).children().isEmpty());
+    }
 }
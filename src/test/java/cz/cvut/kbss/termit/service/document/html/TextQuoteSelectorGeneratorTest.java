@@ -217,4 +217,18 @@ void generateSelectorDoctypeDeclarationOfDocument() {
         assertEquals(exact, result.getExactMatch());
         assertEquals(suffix.substring(0, Math.min(suffix.length(), CONTEXT_LENGTH)), result.getSuffix());
     }
+
+    @Test
+    void generateSelectorWithTextOffsetIndexGeneratesSameSelectorsAsWithoutIt() {
+        document.html("<div><h1>Title</h1><!-- Comment --><p>First paragraph<br/>with a line break and a <span>suggested</span> " +
+                "term.</p><p>Second paragraph <b>containing <i>nested</i> markup</b> and <span>another</span> " +
+                "<span>split </span><span>term</span> near the end.</p></div>");
+        final TextOffsetIndex index = TextOffsetIndex.of(document);
+        final Elements spans = document.getElementsByTag("span");
+        for (Element span : spans) {
+            assertEquals(sut.generateSelector(span), sut.generateSelector(index, span));
+        }
+        final Element[] split = {spans.get(spans.size() - 2), spans.get(spans.size() - 1)};
+        assertEquals(sut.generateSelector(split), sut.generateSelector(index, split));
+    }
 }
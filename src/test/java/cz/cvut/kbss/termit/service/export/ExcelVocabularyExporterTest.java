@@ -26,7 +26,9 @@
 import cz.cvut.kbss.termit.service.IdentifierResolver;
 import cz.cvut.kbss.termit.service.repository.TermRepositoryService;
 import cz.cvut.kbss.termit.service.repository.VocabularyRepositoryService;
+import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Constants;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.xssf.usermodel.XSSFRow;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
@@ -35,10 +37,14 @@
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
@@ -50,10 +56,13 @@
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,6 +75,9 @@ class ExcelVocabularyExporterTest {
     @Mock
     private VocabularyRepositoryService vocabularyService;
 
+    @Spy
+    private Configuration config = new Configuration();
+
     @InjectMocks
     private ExcelVocabularyExporter sut;
 
@@ -203,4 +215,37 @@ void exportGlossaryHandlesTermsWithoutDescriptionAndDefinition() {
         when(termService.findAllFull(vocabulary)).thenReturn(terms);
         assertDoesNotThrow(() -> sut.exportGlossary(vocabulary, exportConfig()));
     }
+
+    @Test
+    void exportGlossaryInStreamingModeWritesTermsLoadedInPagesIntoSheetsForAllLanguages() throws Exception {
+        config.getExport().setExcelStreaming(true);
+        config.getExport().setExcelPageSize(2);
+        when(vocabularyService.resolvePrefix(any())).thenReturn(PrefixDeclaration.EMPTY_PREFIX);
+        final String[] languages = {"cs", "en"};
+        when(vocabularyService.getTermContentLanguages(vocabulary.getUri())).thenReturn(List.of(languages));
+        final List<Term> terms = IntStream.range(0, 3).mapToObj(i -> Generator.generateMultiLingualTerm(languages))
+                                          .toList();
+        when(termService.findAllFull(eq(vocabulary), any(Pageable.class))).thenAnswer(inv -> {
+            final Pageable page = inv.getArgument(1, Pageable.class);
+            return terms.subList((int) Math.min(page.getOffset(), terms.size()),
+                                 (int) Math.min(page.getOffset() + page.getPageSize(), terms.size()));
+        });
+
+        final Resource result = sut.exportGlossary(vocabulary, exportConfig());
+        final TypeAwareStreamingResource streamingResult = assertInstanceOf(TypeAwareStreamingResource.class, result);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        streamingResult.writeTo(bos);
+        final XSSFWorkbook wb = new XSSFWorkbook(new ByteArrayInputStream(bos.toByteArray()));
+        assertEquals(languages.length + 1, wb.getNumberOfSheets());
+        for (String langCode : languages) {
+            final XSSFSheet sheet = wb.getSheet(LanguageCode.getByCodeIgnoreCase(langCode).getName());
+            assertNotNull(sheet);
+            for (int i = 0; i < terms.size(); i++) {
+                // Row no. 0 is the header
+                assertEquals(terms.get(i).getUri().toString(), sheet.getRow(i + 1).getCell(0).getStringCellValue());
+            }
+            assertNull(sheet.getRow(terms.size() + 1));
+        }
+        verify(termService, never()).findAllFull(vocabulary);
+    }
 }
@@ -31,6 +31,7 @@
 import cz.cvut.kbss.termit.util.Configuration;
 import cz.cvut.kbss.termit.util.Constants;
 import cz.cvut.kbss.termit.util.TypeAwareResource;
+import cz.cvut.kbss.termit.util.TypeAwareStreamingResource;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.ValueFactory;
@@ -47,13 +48,17 @@
 import org.eclipse.rdf4j.rio.RDFParser;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -67,6 +72,7 @@
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SKOSVocabularyExporterTest extends BaseServiceTestRunner {
@@ -90,6 +96,11 @@ class SKOSVocabularyExporterTest extends BaseServiceTestRunner {
 
     private final ValueFactory vf = SimpleValueFactory.getInstance();
 
+    @AfterEach
+    void tearDown() {
+        config.getExport().setSkosStreaming(false);
+    }
+
     @BeforeEach
     void setUp() {
         this.vocabulary = Generator.generateVocabularyWithId();
@@ -536,4 +547,46 @@ void exportGlossaryWithReferencesExportsGlossariesOfReferencedTerms() throws Exc
                                                                                    .toString()), RDF.TYPE,
                                                      SKOS.CONCEPT_SCHEME)));
     }
+
+    @Test
+    void exportGlossaryInStreamingModeWritesPrefixesFirstAndThenGlossaryAndTerms() throws Exception {
+        config.getExport().setSkosStreaming(true);
+        final List<Term> terms = generateTerms(vocabulary);
+
+        final TypeAwareResource result = sut.exportGlossary(vocabulary, exportConfig());
+        final TypeAwareStreamingResource streamingResult = assertInstanceOf(TypeAwareStreamingResource.class, result);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        streamingResult.writeTo(bos);
+        final String output = bos.toString(StandardCharsets.UTF_8);
+        assertTrue(output.startsWith("@prefix"));
+        final Model model = new LinkedHashModel();
+        final RDFParser parser = Rio.createParser(RDFFormat.TURTLE);
+        parser.setRDFHandler(new StatementCollector(model));
+        parser.parse(new ByteArrayInputStream(bos.toByteArray()), "");
+        assertThat(model, hasItem(vf.createStatement(glossaryIri(vocabulary), RDF.TYPE, SKOS.CONCEPT_SCHEME)));
+        for (Term t : terms) {
+            assertThat(model, hasItem(
+                    vf.createStatement(vf.createIRI(t.getUri().toString()), SKOS.IN_SCHEME, glossaryIri(vocabulary))));
+        }
+    }
+
+    @Test
+    void exportGlossaryWithReferencesInStreamingModeExportsReferencedTermsAndTheirGlossaries() throws Exception {
+        config.getExport().setSkosStreaming(true);
+        final List<Term> terms = generateTerms(vocabulary);
+        final Vocabulary anotherVocabulary = Generator.generateVocabularyWithId();
+        transactional(() -> em.persist(anotherVocabulary, descriptorFactory.vocabularyDescriptor(anotherVocabulary)));
+        final List<Term> externalTerms = generateTerms(anotherVocabulary);
+        final IRI property = REFERENCING_PROPERTIES[Generator.randomIndex(REFERENCING_PROPERTIES)];
+        final Set<Term> referencedExternal = generateReferences(terms, externalTerms, property);
+
+        final ExportConfig config = new ExportConfig(ExportType.SKOS_WITH_REFERENCES,
+                                                     ExportFormat.TURTLE.getMediaType(),
+                                                     Collections.singleton(property.stringValue()));
+        final Model model = loadAsModel(sut.exportGlossary(vocabulary, config));
+        referencedExternal.forEach(rt -> assertThat(model,
+                                                    hasItem(vf.createStatement(vf.createIRI(rt.getUri().toString()),
+                                                                               RDF.TYPE, SKOS.CONCEPT))));
+        assertThat(model, hasItem(vf.createStatement(glossaryIri(anotherVocabulary), RDF.TYPE, SKOS.CONCEPT_SCHEME)));
+    }
 }
@@ -21,6 +21,7 @@
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.vocabulary.DC;
 import cz.cvut.kbss.jopa.vocabulary.SKOS;
+import cz.cvut.kbss.termit.dto.ExistingTerms;
 import cz.cvut.kbss.termit.environment.Environment;
 import cz.cvut.kbss.termit.environment.Generator;
 import cz.cvut.kbss.termit.event.TermReferencesUpdatedEvent;
@@ -75,11 +76,13 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -130,6 +133,7 @@ void setUp() {
         this.vocabulary = Generator.generateVocabularyWithId();
         vocabulary.setUri(URI.create("http://example.com"));
         config.getPersistence().setLanguage(Environment.LANGUAGE);
+        lenient().when(termService.findExistingTerms(anyCollection(), any())).thenReturn(new ExistingTerms());
     }
 
     @ParameterizedTest
@@ -189,10 +193,9 @@ void importCreatesRootTermsWithPluralBasicAttributesFromEnglishSheet() {
                                                    Environment.loadFile(
                                                            "data/import-with-plural-atts-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertEquals(1, captor.getAllValues().size());
-        final Term building = captor.getValue();
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(1, terms.size());
+        final Term building = terms.get(0);
         assertEquals("Definition of term Building", building.getDefinition().get("en"));
         assertEquals("Building scope note", building.getDescription().get("en"));
         assertEquals(Set.of(
@@ -222,19 +225,18 @@ void importCreatesRootTermsWithBasicAttributesFromMultipleTranslationSheets() {
                                                    Environment.loadFile(
                                                            "data/import-simple-en-cs.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertEquals(2, captor.getAllValues().size());
-        final Optional<Term> building = captor.getAllValues().stream()
-                                              .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(2, terms.size());
+        final Optional<Term> building = terms.stream()
+                                             .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
         assertTrue(building.isPresent());
         assertEquals("Budova", building.get().getLabel().get("cs"));
         assertEquals("Definition of term Building", building.get().getDefinition().get("en"));
         assertEquals("Definice pojmu budova", building.get().getDefinition().get("cs"));
         assertEquals("Building scope note", building.get().getDescription().get("en"));
         assertEquals("Doplňující poznámka pojmu budova", building.get().getDescription().get("cs"));
-        final Optional<Term> construction = captor.getAllValues().stream()
-                                                  .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
+        final Optional<Term> construction = terms.stream()
+                                                 .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
         assertTrue(construction.isPresent());
         assertEquals("Stavba", construction.get().getLabel().get("cs"));
         assertEquals("The process of building a building", construction.get().getDefinition().get("en"));
@@ -251,10 +253,9 @@ void importCreatesRootTermsWithPluralBasicAttributesFromMultipleTranslationSheet
                                                    Environment.loadFile(
                                                            "data/import-with-plural-atts-en-cs.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertEquals(1, captor.getAllValues().size());
-        final Term building = captor.getValue();
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(1, terms.size());
+        final Term building = terms.get(0);
         assertEquals("Budova", building.getLabel().get("cs"));
         assertTrue(building.getAltLabels().stream()
                            .anyMatch(mls -> mls.get("en") != null && mls.get("en").equals("Structure")));
@@ -286,16 +287,16 @@ void importCreatesTermHierarchy() {
                                                    Environment.loadFile(
                                                            "data/import-hierarchy-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> rootCaptor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(rootCaptor.capture(), eq(vocabulary));
-        assertEquals(1, rootCaptor.getAllValues().size());
-        final Term area = rootCaptor.getValue();
-        assertEquals("Area", area.getLabel().get("en"));
-        final ArgumentCaptor<Term> childCaptor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addChildTerm(childCaptor.capture(), eq(area));
-        assertEquals(1, childCaptor.getAllValues().size());
-        final Term buildableArea = childCaptor.getValue();
-        assertEquals("Buildable area", buildableArea.getLabel().get("en"));
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(2, terms.size());
+        final Optional<Term> area = terms.stream().filter(t -> Utils.emptyIfNull(t.getParentTerms()).isEmpty())
+                                         .findFirst();
+        assertTrue(area.isPresent());
+        assertEquals("Area", area.get().getLabel().get("en"));
+        final Optional<Term> buildableArea = terms.stream().filter(t -> !Objects.equals(t, area.get())).findFirst();
+        assertTrue(buildableArea.isPresent());
+        assertEquals("Buildable area", buildableArea.get().getLabel().get("en"));
+        assertEquals(Set.of(area.get()), buildableArea.get().getParentTerms());
     }
 
     @Test
@@ -308,13 +309,12 @@ void importSavesRelationshipsBetweenTerms() {
                                                    Environment.loadFile(
                                                            "data/import-with-references-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> termCaptor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(termCaptor.capture(), eq(vocabulary));
+        final List<Term> terms = verifyTermsImported();
         final ArgumentCaptor<Collection<Quad>> quadsCaptor = ArgumentCaptor.forClass(Collection.class);
         verify(dataDao).insertRawData(quadsCaptor.capture());
         assertEquals(1, quadsCaptor.getValue().size());
-        assertEquals(List.of(new Quad(termCaptor.getAllValues().get(1).getUri(), URI.create(SKOS.RELATED),
-                                      termCaptor.getAllValues().get(0).getUri(), vocabulary.getUri())),
+        assertEquals(List.of(new Quad(terms.get(1).getUri(), URI.create(SKOS.RELATED),
+                                      terms.get(0).getUri(), vocabulary.getUri())),
                      quadsCaptor.getValue());
     }
 
@@ -333,16 +333,15 @@ void importImportsTermsWhenAnotherLanguageSheetIsEmpty() {
     }
 
     private void verifyBasicEnglishTermsAdded() {
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertEquals(2, captor.getAllValues().size());
-        final Optional<Term> building = captor.getAllValues().stream()
-                                              .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(2, terms.size());
+        final Optional<Term> building = terms.stream()
+                                             .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
         assertTrue(building.isPresent());
         assertEquals("Definition of term Building", building.get().getDefinition().get("en"));
         assertEquals("Building scope note", building.get().getDescription().get("en"));
-        final Optional<Term> construction = captor.getAllValues().stream()
-                                                  .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
+        final Optional<Term> construction = terms.stream()
+                                                 .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
         assertTrue(construction.isPresent());
         assertEquals("The process of building a building", construction.get().getDefinition().get("en"));
     }
@@ -370,15 +369,14 @@ void importFallsBackToEnglishColumnLabelsForUnknownLanguages() {
                                                    Environment.loadFile(
                                                            "data/import-simple-de.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertEquals(2, captor.getAllValues().size());
-        final Optional<Term> building = captor.getAllValues().stream()
-                                              .filter(t -> "Gebäude".equals(t.getLabel().get("de"))).findAny();
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(2, terms.size());
+        final Optional<Term> building = terms.stream()
+                                             .filter(t -> "Gebäude".equals(t.getLabel().get("de"))).findAny();
         assertTrue(building.isPresent());
         assertEquals("Definition für ein Gebäude", building.get().getDefinition().get("de"));
-        final Optional<Term> construction = captor.getAllValues().stream()
-                                                  .filter(t -> "Bau".equals(t.getLabel().get("de"))).findAny();
+        final Optional<Term> construction = terms.stream()
+                                                 .filter(t -> "Bau".equals(t.getLabel().get("de"))).findAny();
         assertTrue(construction.isPresent());
         assertEquals("Ein Prozess", construction.get().getDefinition().get("de"));
     }
@@ -393,15 +391,14 @@ void importSupportsTermIdentifiers() {
                                                    Environment.loadFile(
                                                            "data/import-with-identifiers-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertEquals(2, captor.getAllValues().size());
-        final Optional<Term> building = captor.getAllValues().stream()
-                                              .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(2, terms.size());
+        final Optional<Term> building = terms.stream()
+                                             .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
         assertTrue(building.isPresent());
         assertEquals(URI.create("http://example.com/terms/building"), building.get().getUri());
-        final Optional<Term> construction = captor.getAllValues().stream()
-                                                  .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
+        final Optional<Term> construction = terms.stream()
+                                                 .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
         assertTrue(construction.isPresent());
         assertEquals(URI.create("http://example.com/terms/construction"), construction.get().getUri());
         final ArgumentCaptor<Collection<Quad>> quadsCaptor = ArgumentCaptor.forClass(Collection.class);
@@ -411,6 +408,12 @@ void importSupportsTermIdentifiers() {
                                       building.get().getUri(), vocabulary.getUri())), quadsCaptor.getValue());
     }
 
+    private List<Term> verifyTermsImported() {
+        final ArgumentCaptor<List<Term>> captor = ArgumentCaptor.forClass(List.class);
+        verify(termService).importTerms(captor.capture(), eq(vocabulary), anySet());
+        return captor.getValue();
+    }
+
     private void initVocabularyResolution() {
         when(vocabularyDao.exists(vocabulary.getUri())).thenReturn(true);
         when(vocabularyDao.find(vocabulary.getUri())).thenReturn(Optional.of(vocabulary));
@@ -428,15 +431,14 @@ void importSupportsPrefixedTermIdentifiers() {
                                                    Environment.loadFile(
                                                            "data/import-with-prefixed-identifiers-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertEquals(2, captor.getAllValues().size());
-        final Optional<Term> building = captor.getAllValues().stream()
-                                              .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(2, terms.size());
+        final Optional<Term> building = terms.stream()
+                                             .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
         assertTrue(building.isPresent());
         assertEquals(URI.create("http://example.com/terms/building"), building.get().getUri());
-        final Optional<Term> construction = captor.getAllValues().stream()
-                                                  .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
+        final Optional<Term> construction = terms.stream()
+                                                 .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
         assertTrue(construction.isPresent());
         assertEquals(URI.create("http://example.com/terms/construction"), construction.get().getUri());
         final ArgumentCaptor<Collection<Quad>> quadsCaptor = ArgumentCaptor.forClass(Collection.class);
@@ -456,12 +458,11 @@ void importAdjustsTermIdentifiersToUseExistingVocabularyIdentifierAndSeparatorAs
                                                    Environment.loadFile(
                                                            "data/import-with-identifiers-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertTrue(captor.getAllValues().stream().anyMatch(t -> Objects.equals(URI.create(
+        final List<Term> terms = verifyTermsImported();
+        assertTrue(terms.stream().anyMatch(t -> Objects.equals(URI.create(
                                                                                        vocabulary.getUri().toString() + SEPARATOR + "/building"),
                                                                                t.getUri())));
-        assertTrue(captor.getAllValues().stream().anyMatch(t -> Objects.equals(URI.create(
+        assertTrue(terms.stream().anyMatch(t -> Objects.equals(URI.create(
                                                                                        vocabulary.getUri().toString() + SEPARATOR + "/construction"),
                                                                                t.getUri())));
     }
@@ -473,10 +474,10 @@ void importRemovesExistingInstanceWhenImportedTermAlreadyExists() {
         existingBuilding.setUri(URI.create("http://example.com/terms/building"));
         final Term existingConstruction = Generator.generateTermWithId();
         existingConstruction.setUri(URI.create("http://example.com/terms/construction"));
-        when(termService.exists(existingBuilding.getUri())).thenReturn(true);
-        when(termService.exists(existingConstruction.getUri())).thenReturn(true);
-        when(termService.findRequired(existingBuilding.getUri())).thenReturn(existingBuilding);
-        when(termService.findRequired(existingConstruction.getUri())).thenReturn(existingConstruction);
+        final ExistingTerms existingTerms = new ExistingTerms();
+        existingTerms.addIdentifier(existingBuilding.getUri());
+        existingTerms.addIdentifier(existingConstruction.getUri());
+        when(termService.findExistingTerms(anyCollection(), eq(vocabulary))).thenReturn(existingTerms);
 
         final Vocabulary result = sut.importVocabulary(
                 new VocabularyImporter.ImportConfiguration(false, vocabulary.getUri(), prePersist),
@@ -484,10 +485,8 @@ void importRemovesExistingInstanceWhenImportedTermAlreadyExists() {
                                                    Environment.loadFile(
                                                            "data/import-with-identifiers-en.xlsx")));
         assertEquals(vocabulary, result);
-        verify(termService).forceRemove(existingBuilding);
-        verify(termService).forceRemove(existingConstruction);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
+        verify(termService).importTerms(anyList(), eq(vocabulary),
+                                        eq(Set.of(existingBuilding.getUri(), existingConstruction.getUri())));
     }
 
     @Test
@@ -504,16 +503,15 @@ void importSupportsReferencesToOtherVocabulariesViaTermIdentifiersWhenReferenced
                                                    Environment.loadFile(
                                                            "data/import-with-external-references-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> termCaptor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(termCaptor.capture(), eq(vocabulary));
+        final List<Term> terms = verifyTermsImported();
         final ArgumentCaptor<Collection<Quad>> quadsCaptor = ArgumentCaptor.forClass(Collection.class);
         verify(dataDao).insertRawData(quadsCaptor.capture());
         assertEquals(2, quadsCaptor.getValue().size());
         assertThat(quadsCaptor.getValue(),
-                   hasItems(new Quad(termCaptor.getAllValues().get(0).getUri(), URI.create(SKOS.RELATED_MATCH),
+                   hasItems(new Quad(terms.get(0).getUri(), URI.create(SKOS.RELATED_MATCH),
                                      URI.create("http://example.com/another-vocabulary/terms/relatedMatch"),
                                      vocabulary.getUri()),
-                            new Quad(termCaptor.getAllValues().get(1).getUri(), URI.create(SKOS.EXACT_MATCH),
+                            new Quad(terms.get(1).getUri(), URI.create(SKOS.EXACT_MATCH),
                                       URI.create("http://example.com/another-vocabulary/terms/exactMatch"),
                                       vocabulary.getUri())));
     }
@@ -538,9 +536,8 @@ void importResolvesTermStateAndTypesUsingLabels() {
                 new VocabularyImporter.ImportInput(Constants.MediaType.EXCEL,
                                                    Environment.loadFile(
                                                            "data/import-with-type-state-en.xlsx")));
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        final Term result = captor.getValue();
+        final List<Term> terms = verifyTermsImported();
+        final Term result = terms.get(0);
         assertEquals(Set.of(type.getUri().toString()), result.getTypes());
         assertEquals(state.getUri(), result.getState());
     }
@@ -560,15 +557,14 @@ void importSetsConfiguredInitialTermStateWhenSheetDoesNotSpecifyIt() {
                                                    Environment.loadFile(
                                                            "data/import-simple-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService, times(2)).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertEquals(2, captor.getAllValues().size());
-        final Optional<Term> building = captor.getAllValues().stream()
-                                              .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
+        final List<Term> terms = verifyTermsImported();
+        assertEquals(2, terms.size());
+        final Optional<Term> building = terms.stream()
+                                             .filter(t -> "Building".equals(t.getLabel().get("en"))).findAny();
         assertTrue(building.isPresent());
         assertEquals(state.getUri(), building.get().getState());
-        final Optional<Term> construction = captor.getAllValues().stream()
-                                                  .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
+        final Optional<Term> construction = terms.stream()
+                                                 .filter(t -> "Construction".equals(t.getLabel().get("en"))).findAny();
         assertTrue(construction.isPresent());
         assertEquals(state.getUri(), construction.get().getState());
     }
@@ -594,7 +590,7 @@ void importThrowsVocabularyImportExceptionWhenSheetContainsDuplicateLabels() thr
                                                                           new ByteArrayInputStream(
                                                                                   bos.toByteArray()))));
         assertEquals("error.vocabulary.import.excel.duplicateLabel", ex.getMessageId());
-        verify(termService, never()).addRootTermToVocabulary(any(), eq(vocabulary));
+        verify(termService, never()).importTerms(anyList(), any(), anySet());
     }
 
     @Test
@@ -622,7 +618,7 @@ void importThrowsVocabularyImportExceptionWhenSheetContainsDuplicateIdentifiers(
                                                                           new ByteArrayInputStream(
                                                                                   bos.toByteArray()))));
         assertEquals("error.vocabulary.import.excel.duplicateIdentifier", ex.getMessageId());
-        verify(termService, never()).addRootTermToVocabulary(any(), eq(vocabulary));
+        verify(termService, never()).importTerms(anyList(), any(), anySet());
     }
 
     @Test
@@ -653,26 +649,26 @@ void importSupportsSpecifyingStateAndTypeOnlyInOneSheet() throws Exception {
                 new VocabularyImporter.ImportConfiguration(false, vocabulary.getUri(), prePersist),
                 new VocabularyImporter.ImportInput(Constants.MediaType.EXCEL,
                                                    new ByteArrayInputStream(bos.toByteArray())));
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertThat(captor.getValue().getTypes(), hasItem(type.getUri().toString()));
-        assertEquals(state.getUri(), captor.getValue().getState());
+        final List<Term> terms = verifyTermsImported();
+        assertThat(terms.get(0).getTypes(), hasItem(type.getUri().toString()));
+        assertEquals(state.getUri(), terms.get(0).getState());
         verify(languageService, never()).getInitialTermState();
     }
 
     @Test
     void importThrowsVocabularyImportExceptionWhenVocabularyAlreadyContainsTermWithSameLabelAndDifferentIdentifier() {
         initVocabularyResolution();
-        when(termService.findIdentifierByLabel(any(), any(), any())).thenReturn(Optional.empty());
-        doReturn(Optional.of(URI.create(vocabulary.getUri() + SEPARATOR + "/Construction"))).when(
-                termService).findIdentifierByLabel("Construction", vocabulary, Constants.DEFAULT_LANGUAGE);
-
+        final ExistingTerms existingTerms = new ExistingTerms();
+        existingTerms.addLabel(URI.create(vocabulary.getUri() + SEPARATOR + "/Construction"), "construction",
+                               Constants.DEFAULT_LANGUAGE);
+        when(termService.findExistingTerms(anyCollection(), eq(vocabulary))).thenReturn(existingTerms);
 
         assertThrows(VocabularyImportException.class, () -> sut.importVocabulary(
                 new VocabularyImporter.ImportConfiguration(false, vocabulary.getUri(), prePersist),
                 new VocabularyImporter.ImportInput(Constants.MediaType.EXCEL,
                                                    Environment.loadFile(
                                                            "data/import-simple-en.xlsx"))));
+        verify(termService, never()).importTerms(anyList(), any(), anySet());
     }
 
     @Test
@@ -697,9 +693,8 @@ void importSupportsMultipleTypesDeclaredForTerm() throws Exception {
                 new VocabularyImporter.ImportConfiguration(false, vocabulary.getUri(), prePersist),
                 new VocabularyImporter.ImportInput(Constants.MediaType.EXCEL,
                                                    new ByteArrayInputStream(bos.toByteArray())));
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertThat(captor.getValue().getTypes(),
+        final List<Term> terms = verifyTermsImported();
+        assertThat(terms.get(0).getTypes(),
                    hasItems(objectType.getUri().toString(), eventType.getUri().toString()));
     }
 
@@ -821,9 +816,8 @@ void importSkipsUnknownParentDeclaration() throws Exception {
                                      Constants.MediaType.EXCEL,
                                      new ByteArrayInputStream(
                                              bos.toByteArray())));
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        assertTrue(Utils.emptyIfNull(captor.getValue().getParentTerms()).isEmpty());
+        final List<Term> terms = verifyTermsImported();
+        assertTrue(Utils.emptyIfNull(terms.get(0).getParentTerms()).isEmpty());
     }
 
     @Test
@@ -842,9 +836,8 @@ void importSupportsReferencingParentFromVocabularyImportedByTargetVocabulary() {
                                                    Environment.loadFile(
                                                            "data/import-with-external-parents-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        final Term resultTerm = captor.getValue();
+        final List<Term> terms = verifyTermsImported();
+        final Term resultTerm = terms.get(0);
         assertThat(resultTerm.getExternalParentTerms(), hasItem(referencedParent));
     }
 
@@ -884,9 +877,8 @@ void importSupportsExternalParentWithSameLabelAsImportedTerm() {
                                                    Environment.loadFile(
                                                            "data/import-with-external-parents-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> captor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(captor.capture(), eq(vocabulary));
-        final Term resultTerm = captor.getValue();
+        final List<Term> terms = verifyTermsImported();
+        final Term resultTerm = terms.get(0);
         assertThat(resultTerm.getExternalParentTerms(), hasItem(referencedParent));
     }
 
@@ -905,15 +897,14 @@ void importSupportsMultipleColumnsPerPluralAttribute() {
                                                    Environment.loadFile(
                                                            "data/import-multicolumn-en.xlsx")));
         assertEquals(vocabulary, result);
-        final ArgumentCaptor<Term> termCaptor = ArgumentCaptor.forClass(Term.class);
-        verify(termService).addRootTermToVocabulary(termCaptor.capture(), eq(vocabulary));
+        final List<Term> terms = verifyTermsImported();
         final ArgumentCaptor<Collection<Quad>> quadsCaptor = ArgumentCaptor.forClass(Collection.class);
         verify(dataDao).insertRawData(quadsCaptor.capture());
         assertEquals(2, quadsCaptor.getValue().size());
-        assertEquals(List.of(new Quad(termCaptor.getAllValues().get(0).getUri(), URI.create(SKOS.RELATED_MATCH),
+        assertEquals(List.of(new Quad(terms.get(0).getUri(), URI.create(SKOS.RELATED_MATCH),
                                       URI.create("http://example.com/another-vocabulary/terms/relatedMatch"),
                                       vocabulary.getUri()),
-                             (new Quad(termCaptor.getAllValues().get(0).getUri(), URI.create(SKOS.RELATED_MATCH),
+                             (new Quad(terms.get(0).getUri(), URI.create(SKOS.RELATED_MATCH),
                                        URI.create("http://example.com/another-vocabulary/terms/anotherRelatedMatch"),
                                        vocabulary.getUri()))),
                      quadsCaptor.getValue());
@@ -937,7 +928,7 @@ void importNotifiesExternalTermsReferencedByImportedTerms() {
         final ArgumentCaptor<TermReferencesUpdatedEvent> captor = ArgumentCaptor.forClass(
                 TermReferencesUpdatedEvent.class);
         verify(eventPublisher).publishEvent(captor.capture());
-        assertTrue(captor.getAllValues().stream()
+        assertTrue(captor.stream()
                          .anyMatch(evt -> SKOS.NARROWER.equals(evt.getProperty()) && referencedParent.getUri()
                                                                                                      .equals(evt.getTermUri())));
     }
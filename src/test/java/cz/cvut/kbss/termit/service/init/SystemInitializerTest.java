@@ -0,0 +1,122 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.init;
+
+import cz.cvut.kbss.termit.service.init.lucene.GraphDBLuceneConnectorInitializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SystemInitializerTest {
+
+    @Mock
+    private ApplicationContext appContext;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SystemInitializer sut;
+
+    @BeforeEach
+    void setUp() {
+        final ObjectProvider<MeterRegistry> registryProvider = mock(ObjectProvider.class);
+        when(registryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+        this.sut = new SystemInitializer(appContext, new TaskExecutorAdapter(Runnable::run), registryProvider);
+    }
+
+    @Test
+    void afterSingletonsInstantiatedRunsStartupTasksAndRecordsTheirDuration() {
+        final AdminAccountGenerator adminGenerator = mock(AdminAccountGenerator.class);
+        final VocabularyPrimaryLanguageGenerator languageGenerator = mock(VocabularyPrimaryLanguageGenerator.class);
+        when(appContext.getBean(AdminAccountGenerator.class)).thenReturn(adminGenerator);
+        when(appContext.getBean(VocabularyPrimaryLanguageGenerator.class)).thenReturn(languageGenerator);
+        final ContentChangeRollupGenerator rollupGenerator = mock(ContentChangeRollupGenerator.class);
+        when(appContext.getBean(ContentChangeRollupGenerator.class)).thenReturn(rollupGenerator);
+
+        sut.afterSingletonsInstantiated();
+        verify(adminGenerator).initSystemAdmin();
+        verify(languageGenerator).generateMissingPrimaryLanguage();
+        verify(rollupGenerator).generateMissingRollups();
+        final Timer timer = meterRegistry.find(SystemInitializer.TASK_TIMER).tag("task", "adminAccount").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void afterSingletonsInstantiatedRethrowsFailureOfStartupTask() {
+        final AdminAccountGenerator adminGenerator = mock(AdminAccountGenerator.class);
+        final VocabularyPrimaryLanguageGenerator languageGenerator = mock(VocabularyPrimaryLanguageGenerator.class);
+        when(appContext.getBean(AdminAccountGenerator.class)).thenReturn(adminGenerator);
+        when(appContext.getBean(VocabularyPrimaryLanguageGenerator.class)).thenReturn(languageGenerator);
+        when(appContext.getBean(ContentChangeRollupGenerator.class)).thenReturn(mock(ContentChangeRollupGenerator.class));
+        doThrow(IllegalStateException.class).when(adminGenerator).initSystemAdmin();
+
+        assertThrows(IllegalStateException.class, () -> sut.afterSingletonsInstantiated());
+    }
+
+    @Test
+    void runBackgroundTasksGeneratesAnonymousAccessControlRecordsAfterAccessControlLists() {
+        final VocabularyAccessControlListGenerator aclGenerator = mock(VocabularyAccessControlListGenerator.class);
+        final VocabularyAnonymousAccessControlListGenerator anonymousAclGenerator =
+                mock(VocabularyAnonymousAccessControlListGenerator.class);
+        when(appContext.getBean(VocabularyAccessControlListGenerator.class)).thenReturn(aclGenerator);
+        when(appContext.getBean(VocabularyAnonymousAccessControlListGenerator.class)).thenReturn(anonymousAclGenerator);
+        when(appContext.getBean(GraphDBLuceneConnectorInitializer.class)).thenReturn(
+                mock(GraphDBLuceneConnectorInitializer.class));
+
+        sut.runBackgroundTasks();
+        final InOrder inOrder = inOrder(aclGenerator, anonymousAclGenerator);
+        inOrder.verify(aclGenerator).generateMissingAccessControlLists();
+        inOrder.verify(anonymousAclGenerator).generateMissingAccessControlLists();
+    }
+
+    @Test
+    void runBackgroundTasksSkipsAnonymousAccessControlRecordsWhenAccessControlListGenerationFails() {
+        final VocabularyAccessControlListGenerator aclGenerator = mock(VocabularyAccessControlListGenerator.class);
+        final VocabularyAnonymousAccessControlListGenerator anonymousAclGenerator =
+                mock(VocabularyAnonymousAccessControlListGenerator.class);
+        final GraphDBLuceneConnectorInitializer luceneInitializer = mock(GraphDBLuceneConnectorInitializer.class);
+        when(appContext.getBean(VocabularyAccessControlListGenerator.class)).thenReturn(aclGenerator);
+        when(appContext.getBean(GraphDBLuceneConnectorInitializer.class)).thenReturn(luceneInitializer);
+        doThrow(IllegalStateException.class).when(aclGenerator).generateMissingAccessControlLists();
+
+        sut.runBackgroundTasks();
+        verify(anonymousAclGenerator, never()).generateMissingAccessControlLists();
+        verify(luceneInitializer).initialize();
+    }
+}
@@ -19,6 +19,7 @@
 
 import cz.cvut.kbss.termit.environment.Environment;
 import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.AccessControlChangedEvent;
 import cz.cvut.kbss.termit.exception.NotFoundException;
 import cz.cvut.kbss.termit.exception.UnsupportedOperationException;
 import cz.cvut.kbss.termit.model.User;
@@ -46,6 +47,7 @@
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import java.net.URI;
@@ -88,6 +90,9 @@ class AccessControlListRepositoryServiceTest {
     private SecurityUtils securityUtils = new SecurityUtils(null, new BCryptPasswordEncoder(), null,
                                                             new Configuration());
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AccessControlListRepositoryService sut;
 
@@ -107,6 +112,16 @@ void addRecordLoadsTargetAccessControlListAddsSpecifiedRecordToItAndUpdatesIt()
         assertThat(captor.getValue().getRecords(), hasItem(toAdd));
     }
 
+    @Test
+    void addRecordPublishesAccessControlChangedEvent() {
+        final AccessControlList acl = generateAcl();
+        final AccessControlRecord<UserRole> toAdd = new RoleAccessControlRecord(AccessLevel.READ, new UserRole(
+                cz.cvut.kbss.termit.security.model.UserRole.RESTRICTED_USER));
+
+        sut.addRecord(acl, toAdd);
+        verify(eventPublisher).publishEvent(any(AccessControlChangedEvent.class));
+    }
+
     private AccessControlList generateAcl() {
         final AccessControlList acl = Generator.generateAccessControlList(true);
         when(dao.find(acl.getUri())).thenReturn(Optional.of(acl));
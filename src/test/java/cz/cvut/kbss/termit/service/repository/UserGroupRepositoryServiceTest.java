@@ -18,6 +18,7 @@
 package cz.cvut.kbss.termit.service.repository;
 
 import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.AccessControlChangedEvent;
 import cz.cvut.kbss.termit.model.User;
 import cz.cvut.kbss.termit.model.UserAccount;
 import cz.cvut.kbss.termit.model.UserGroup;
@@ -28,6 +29,7 @@
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.HashSet;
 import java.util.List;
@@ -37,6 +39,7 @@
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +48,9 @@ class UserGroupRepositoryServiceTest {
     @Mock
     private UserGroupDao dao;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserGroupRepositoryService sut;
 
@@ -69,4 +75,11 @@ void removeMembersRemovesUsersFromTargetGroup() {
         assertThat(group.getMembers(), IsNot.not(hasItems(usersToRemove.toArray(new User[]{}))));
         assertFalse(group.getMembers().isEmpty());
     }
+
+    @Test
+    void addMembersPublishesAccessControlChangedEvent() {
+        final UserGroup group = Generator.generateUserGroup();
+        sut.addMembers(group, List.of(Generator.generateUserAccount().toUser()));
+        verify(eventPublisher).publishEvent(any(AccessControlChangedEvent.class));
+    }
 }
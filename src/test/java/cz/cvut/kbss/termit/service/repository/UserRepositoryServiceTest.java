@@ -40,11 +40,13 @@
 import static org.mockito.Mockito.when;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import cz.cvut.kbss.termit.environment.Environment;
 import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.UserAccountUpdatedEvent;
 import cz.cvut.kbss.termit.exception.ValidationException;
 import cz.cvut.kbss.termit.model.UserAccount;
 import cz.cvut.kbss.termit.persistence.dao.UserAccountDao;
@@ -73,6 +75,9 @@ class UserRepositoryServiceTest {
     @Spy
     private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserRepositoryService sut;
 
@@ -127,6 +132,19 @@ void updateEncodesPasswordWhenItWasChanged() {
         assertTrue(passwordEncoder.matches(plainPassword, captor.getValue().getPassword()));
     }
 
+    @Test
+    void updatePublishesUserAccountUpdatedEvent() {
+        final UserAccount user = Generator.generateUserAccountWithPassword();
+        when(userAccountDao.find(user.getUri())).thenReturn(Optional.of(user));
+        doAnswer(arg -> arg.getArgument(0)).when(userAccountDao).update(any());
+        Environment.setCurrentUser(user);
+
+        sut.update(user);
+        final ArgumentCaptor<UserAccountUpdatedEvent> captor = ArgumentCaptor.forClass(UserAccountUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(user, captor.getValue().getUser());
+    }
+
     @Test
     void updateRetainsOriginalPasswordWhenItDoesNotChange() {
         final UserAccount user = Generator.generateUserAccountWithPassword();
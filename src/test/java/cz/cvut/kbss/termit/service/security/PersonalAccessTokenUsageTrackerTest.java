@@ -0,0 +1,102 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.service.security;
+
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.service.repository.PersonalAccessTokenRepositoryService;
+import cz.cvut.kbss.termit.util.Configuration;
+import cz.cvut.kbss.termit.util.Utils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PersonalAccessTokenUsageTrackerTest {
+
+    @Mock
+    private PersonalAccessTokenRepositoryService repositoryService;
+
+    @Spy
+    private Configuration config = new Configuration();
+
+    @InjectMocks
+    private PersonalAccessTokenUsageTracker sut;
+
+    @Test
+    void flushWritesLatestRecordedUsageOfTokensInOneBatch() {
+        final URI tokenOne = Generator.generateUri();
+        final URI tokenTwo = Generator.generateUri();
+        final Instant earlier = Utils.timestamp().minusSeconds(10);
+        final Instant later = Utils.timestamp();
+        sut.recordUsage(tokenOne, later);
+        sut.recordUsage(tokenOne, earlier);
+        sut.recordUsage(tokenTwo, earlier);
+
+        sut.flush();
+        verify(repositoryService).updateLastUsed(Map.of(tokenOne, later, tokenTwo, earlier));
+        assertTrue(sut.getPendingLastUsed(tokenOne).isEmpty());
+    }
+
+    @Test
+    void flushDoesNothingWhenNoUsageIsPending() {
+        sut.flush();
+        verify(repositoryService, never()).updateLastUsed(anyMap());
+    }
+
+    @Test
+    void flushRetainsPendingUsageWhenWriteFails() {
+        final URI token = Generator.generateUri();
+        final Instant timestamp = Utils.timestamp();
+        sut.recordUsage(token, timestamp);
+        doThrow(IllegalStateException.class).when(repositoryService).updateLastUsed(anyMap());
+
+        sut.flush();
+        assertEquals(Optional.of(timestamp), sut.getPendingLastUsed(token));
+    }
+
+    @Test
+    void configureTasksSchedulesFlushWithConfiguredInterval() {
+        config.getSecurity().setPatLastUsedFlushInterval(Duration.ofSeconds(30));
+        final ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+        sut.configureTasks(registrar);
+        final List<IntervalTask> tasks = registrar.getFixedDelayTaskList();
+        assertEquals(1, tasks.size());
+        assertEquals(Duration.ofSeconds(30), tasks.get(0).getIntervalDuration());
+        assertEquals(Duration.ofSeconds(30), tasks.get(0).getInitialDelayDuration());
+    }
+}
@@ -17,6 +17,7 @@
  */
 package cz.cvut.kbss.termit.service.security.authorization;
 
+import cz.cvut.kbss.termit.dto.listing.VocabularyDto;
 import cz.cvut.kbss.termit.environment.Environment;
 import cz.cvut.kbss.termit.environment.Generator;
 import cz.cvut.kbss.termit.model.UserAccount;
@@ -39,6 +40,8 @@
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -297,4 +300,36 @@ void getAccessLevelReturnsReadWhenUserIsNotLoggedInAndAnonymousReadAccessIsAutho
         assertEquals(AccessLevel.READ, sut.getAccessLevel(vocabulary));
         verify(aclBasedAuthService).canReadAnonymously(vocabulary);
     }
+
+    @Test
+    void filterReadableRetainsEditableVocabulariesReadableByCurrentUser() {
+        Environment.setCurrentUser(user);
+        when(securityUtils.getCurrentUser()).thenReturn(user);
+        final VocabularyDto readable = Environment.getDtoMapper().vocabularyToVocabularyDto(vocabulary);
+        final VocabularyDto notReadable = Environment.getDtoMapper().vocabularyToVocabularyDto(
+                Generator.generateVocabularyWithId());
+        final VocabularyDto notEditable = Environment.getDtoMapper().vocabularyToVocabularyDto(
+                Generator.generateVocabularyWithId());
+        final List<VocabularyDto> vocabularies = List.of(readable, notReadable, notEditable);
+        when(aclBasedAuthService.getAccessLevels(user, vocabularies)).thenReturn(
+                Map.of(readable.getUri(), AccessLevel.WRITE, notReadable.getUri(), AccessLevel.NONE,
+                       notEditable.getUri(), AccessLevel.READ));
+        when(editableVocabularies.isEditable(readable.getUri())).thenReturn(true);
+        when(editableVocabularies.isEditable(notEditable.getUri())).thenReturn(false);
+
+        assertEquals(List.of(readable), sut.filterReadable(vocabularies));
+        verify(aclBasedAuthService, never()).canRead(any(), any());
+    }
+
+    @Test
+    void filterReadableChecksAnonymousAccessLevelsWhenUserIsNotLoggedIn() {
+        final VocabularyDto readable = Environment.getDtoMapper().vocabularyToVocabularyDto(vocabulary);
+        final VocabularyDto notReadable = Environment.getDtoMapper().vocabularyToVocabularyDto(
+                Generator.generateVocabularyWithId());
+        final List<VocabularyDto> vocabularies = List.of(readable, notReadable);
+        when(aclBasedAuthService.getAnonymousAccessLevels(vocabularies)).thenReturn(
+                Map.of(readable.getUri(), AccessLevel.READ, notReadable.getUri(), AccessLevel.NONE));
+
+        assertEquals(List.of(readable), sut.filterReadable(vocabularies));
+    }
 }
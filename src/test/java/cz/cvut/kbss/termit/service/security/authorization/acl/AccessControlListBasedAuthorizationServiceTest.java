@@ -18,6 +18,7 @@
 package cz.cvut.kbss.termit.service.security.authorization.acl;
 
 import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.event.UserAccountUpdatedEvent;
 import cz.cvut.kbss.termit.model.UserAccount;
 import cz.cvut.kbss.termit.model.UserGroup;
 import cz.cvut.kbss.termit.model.UserRole;
@@ -28,24 +29,34 @@
 import cz.cvut.kbss.termit.model.acl.UserAccessControlRecord;
 import cz.cvut.kbss.termit.model.acl.UserGroupAccessControlRecord;
 import cz.cvut.kbss.termit.service.business.AccessControlListService;
+import cz.cvut.kbss.termit.util.Configuration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,13 +66,15 @@ class AccessControlListBasedAuthorizationServiceTest {
     @Mock
     private AccessControlListService aclService;
 
-    @InjectMocks
     private AccessControlListBasedAuthorizationService sut;
 
     private UserAccount user;
 
     @BeforeEach
     void setUp() {
+        this.sut = new AccessControlListBasedAuthorizationService(aclService,
+                                                                  new Configuration.Persistence.CacheSettings(),
+                                                                  null);
         this.user = Generator.generateUserAccount();
     }
 
@@ -318,4 +331,73 @@ static Stream<Arguments> canReadAnonymouslyTestArguments() {
                 // WRITE and SECURITY access levels are not allowed for anonymous users
         );
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void getAccessLevelsResolvesAccessLevelsOfAllResourcesUsingSingleLookup() {
+        user.addType(cz.cvut.kbss.termit.security.model.UserRole.FULL_USER.getType());
+        final Vocabulary readable = Generator.generateVocabularyWithId();
+        final Vocabulary writable = Generator.generateVocabularyWithId();
+        final Vocabulary hidden = Generator.generateVocabularyWithId();
+        when(aclService.findHighestAccessLevels(anyCollection(), anyCollection(), eq(user.getUri())))
+                .thenReturn(Map.of(readable.getUri(), AccessLevel.READ, writable.getUri(), AccessLevel.WRITE));
+
+        final Map<URI, AccessLevel> result = sut.getAccessLevels(user, List.of(readable, writable, hidden));
+        assertEquals(Map.of(readable.getUri(), AccessLevel.READ, writable.getUri(), AccessLevel.WRITE,
+                            hidden.getUri(), AccessLevel.NONE), result);
+        final ArgumentCaptor<Collection<URI>> subjectsCaptor = ArgumentCaptor.forClass(Collection.class);
+        final ArgumentCaptor<Collection<URI>> holdersCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(aclService).findHighestAccessLevels(subjectsCaptor.capture(), holdersCaptor.capture(),
+                                                   eq(user.getUri()));
+        assertEquals(Set.of(readable.getUri(), writable.getUri(), hidden.getUri()),
+                     Set.copyOf(subjectsCaptor.getValue()));
+        assertThat(holdersCaptor.getValue(), hasItems(user.getUri(), URI.create(
+                cz.cvut.kbss.termit.security.model.UserRole.FULL_USER.getType())));
+    }
+
+    @Test
+    void getAccessLevelsReusesPreviouslyResolvedAccessLevels() {
+        final Vocabulary vocabulary = Generator.generateVocabularyWithId();
+        when(aclService.findHighestAccessLevels(anyCollection(), anyCollection(), eq(user.getUri())))
+                .thenReturn(Map.of(vocabulary.getUri(), AccessLevel.READ));
+
+        sut.getAccessLevels(user, List.of(vocabulary));
+        assertEquals(Map.of(vocabulary.getUri(), AccessLevel.READ), sut.getAccessLevels(user, List.of(vocabulary)));
+        verify(aclService).findHighestAccessLevels(anyCollection(), anyCollection(), eq(user.getUri()));
+    }
+
+    @Test
+    void getAccessLevelsResolvesAccessLevelsAgainAfterAccessControlChange() {
+        final Vocabulary vocabulary = Generator.generateVocabularyWithId();
+        when(aclService.findHighestAccessLevels(anyCollection(), anyCollection(), eq(user.getUri())))
+                .thenReturn(Map.of(vocabulary.getUri(), AccessLevel.READ));
+
+        sut.getAccessLevels(user, List.of(vocabulary));
+        sut.onAccessControlChanged();
+        sut.getAccessLevels(user, List.of(vocabulary));
+        sut.onUserAccountUpdated(new UserAccountUpdatedEvent(user));
+        sut.getAccessLevels(user, List.of(vocabulary));
+        verify(aclService, times(3)).findHighestAccessLevels(anyCollection(), anyCollection(), eq(user.getUri()));
+    }
+
+    @Test
+    void getAccessLevelsReturnsSecurityAccessLevelForAdminWithoutLookup() {
+        user.addType(cz.cvut.kbss.termit.util.Vocabulary.s_c_administrator_termitu);
+        final Vocabulary vocabulary = Generator.generateVocabularyWithId();
+
+        assertEquals(Map.of(vocabulary.getUri(), AccessLevel.SECURITY),
+                     sut.getAccessLevels(user, List.of(vocabulary)));
+        verify(aclService, never()).findHighestAccessLevels(anyCollection(), anyCollection(), any());
+    }
+
+    @Test
+    void getAnonymousAccessLevelsResolvesAccessLevelsOfAnonymousUserRole() {
+        final Vocabulary vocabulary = Generator.generateVocabularyWithId();
+        final URI anonymous = URI.create(cz.cvut.kbss.termit.security.model.UserRole.ANONYMOUS_USER.getType());
+        when(aclService.findHighestAccessLevels(anyCollection(), eq(List.of(anonymous)), eq(null)))
+                .thenReturn(Map.of(vocabulary.getUri(), AccessLevel.READ));
+
+        assertEquals(Map.of(vocabulary.getUri(), AccessLevel.READ),
+                     sut.getAnonymousAccessLevels(List.of(vocabulary)));
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.util.paging;
+
+import cz.cvut.kbss.termit.environment.Generator;
+import cz.cvut.kbss.termit.exception.InvalidParameterException;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    @Test
+    void decodeReturnsEncodedCursor() {
+        final PageCursor cursor = new PageCursor("Budova – čtvrť", "cs", Generator.generateUri());
+        assertEquals(cursor, PageCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decodeReturnsCursorWithoutLanguageWhenEncodedCursorHasNoLanguage() {
+        final URI iri = Generator.generateUri();
+        final PageCursor result = PageCursor.decode(new PageCursor(null, null, iri).encode());
+        assertEquals(new PageCursor("", null, iri), result);
+    }
+
+    @Test
+    void decodeThrowsInvalidParameterExceptionForMalformedToken() {
+        assertThrows(InvalidParameterException.class, () -> PageCursor.decode("not a cursor!"));
+        assertThrows(InvalidParameterException.class, () -> PageCursor.decode("bm90LWEtY3Vyc29y"));
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * TermIt
+ * Copyright (C) 2025 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.termit.util.throttle;
+
+import cz.cvut.kbss.termit.util.Configuration;
+import cz.cvut.kbss.termit.util.longrunning.LongRunningTasksRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that throttling of unrelated identifiers does not serialize on a single monitor.
+ * <p>
+ * The first call of each thread waits in the body of the throttled method until the first calls of all the other
+ * threads enter it as well. A single global lock would prevent the calls from overlapping.
+ * <p>
+ * Concurrent calls sharing identifiers are made with several numbers of async threads to verify that no call is lost
+ * and that the throttled task of each identifier runs exactly once.
+ */
+class ThrottleAspectStressTest {
+
+    private static final int ASYNC_THREAD_COUNT = 4;
+
+    private static final int CALLS_PER_THREAD = 25;
+
+    private static final long OVERLAP_TIMEOUT_SECONDS = 10;
+
+    private static final int SHARED_IDENTIFIER_COUNT = 16;
+
+    private final Configuration configuration = new Configuration();
+
+    private final CountDownLatch allThreadsInside = new CountDownLatch(ASYNC_THREAD_COUNT);
+
+    private final AtomicBoolean overlapTimedOut = new AtomicBoolean();
+
+    private final AtomicInteger inside = new AtomicInteger();
+
+    private final AtomicInteger maxInside = new AtomicInteger();
+
+    private final Queue<ScheduledFutureTask<?>> scheduledTasks = new ConcurrentLinkedQueue<>();
+
+    private Map<ThrottleAspect.Identifier, ThrottledFuture<Object>> throttledFutures;
+
+    private NavigableMap<ThrottleAspect.Identifier, Future<Object>> scheduledFutures;
+
+    private ThrottleAspect sut;
+
+    @BeforeEach
+    void setUp() {
+        configuration.setAsyncThreadCount(ASYNC_THREAD_COUNT);
+        final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+        when(taskScheduler.schedule(any(Runnable.class), any(Instant.class)))
+                .then(invocation -> {
+                    final ScheduledFutureTask<?> task =
+                            new ScheduledFutureTask<>(invocation.getArgument(0, Runnable.class), null);
+                    scheduledTasks.add(task);
+                    return task;
+                });
+        this.throttledFutures = new ConcurrentHashMap<>();
+        this.scheduledFutures = new ConcurrentSkipListMap<>();
+        this.sut = new ThrottleAspect(throttledFutures, new ConcurrentHashMap<>(), scheduledFutures, taskScheduler,
+                                      Clock.systemUTC(), mock(SynchronousTransactionExecutor.class),
+                                      mock(LongRunningTasksRegistry.class), configuration);
+    }
+
+    @Test
+    void throttlingOfUnrelatedIdentifiersOverlaps() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(ASYNC_THREAD_COUNT);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Boolean>> results = new ArrayList<>(ASYNC_THREAD_COUNT);
+        try {
+            for (int i = 0; i < ASYNC_THREAD_COUNT; i++) {
+                final ProceedingJoinPoint joinPoint = joinPoint("identifier" + i);
+                final Throttle throttle = new MockedThrottle("{#id}", "");
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < CALLS_PER_THREAD; j++) {
+                        sut.throttleMethodCall(joinPoint, throttle);
+                    }
+                    return true;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertFalse(overlapTimedOut.get(), "Throttled calls of unrelated identifiers did not overlap");
+        assertEquals(ASYNC_THREAD_COUNT, maxInside.get());
+        assertEquals(ASYNC_THREAD_COUNT, throttledFutures.size());
+        assertEquals(ASYNC_THREAD_COUNT, scheduledFutures.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 8})
+    void throttlingOfSharedIdentifiersLosesNoCallAndRunsEachTaskExactlyOnce(int asyncThreadCount) throws Throwable {
+        configuration.setAsyncThreadCount(asyncThreadCount);
+        final ExecutorService executor = Executors.newFixedThreadPool(asyncThreadCount);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger proceeded = new AtomicInteger();
+        final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+        final List<Future<List<Map.Entry<String, Future<?>>>>> results = new ArrayList<>(asyncThreadCount);
+        try {
+            for (int i = 0; i < asyncThreadCount; i++) {
+                final int offset = i;
+                final List<ProceedingJoinPoint> joinPoints = new ArrayList<>(SHARED_IDENTIFIER_COUNT);
+                for (int j = 0; j < SHARED_IDENTIFIER_COUNT; j++) {
+                    joinPoints.add(countingJoinPoint("shared" + j, proceeded, executions));
+                }
+                final Throttle throttle = new MockedThrottle("{#id}", "");
+                results.add(executor.submit(() -> {
+                    final List<Map.Entry<String, Future<?>>> futures = new ArrayList<>();
+                    start.await();
+                    for (int j = 0; j < CALLS_PER_THREAD * SHARED_IDENTIFIER_COUNT; j++) {
+                        // threads call the shared identifiers in different order
+                        final int index = (j + offset) % SHARED_IDENTIFIER_COUNT;
+                        futures.add(Map.entry("shared" + index,
+                                              (Future<?>) sut.throttleMethodCall(joinPoints.get(index), throttle)));
+                    }
+                    return futures;
+                }));
+            }
+            start.countDown();
+            final List<Map.Entry<String, Future<?>>> futures = new ArrayList<>();
+            for (Future<List<Map.Entry<String, Future<?>>>> result : results) {
+                futures.addAll(result.get(1, TimeUnit.MINUTES));
+            }
+            assertEquals(asyncThreadCount * CALLS_PER_THREAD * SHARED_IDENTIFIER_COUNT, proceeded.get());
+            assertTrue(executions.isEmpty());
+
+            scheduledTasks.forEach(ScheduledFutureTask::run);
+
+            assertEquals(SHARED_IDENTIFIER_COUNT, executions.size());
+            executions.forEach((id, count) -> assertEquals(1, count.get(), "Task of " + id + " did not run once"));
+            for (Map.Entry<String, Future<?>> future : futures) {
+                assertTrue(future.getValue().isDone());
+                assertEquals(future.getKey(), future.getValue().get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ProceedingJoinPoint countingJoinPoint(String id, AtomicInteger proceeded,
+                                                  Map<String, AtomicInteger> executions) throws Throwable {
+        final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        final MockedMethodSignature signature = new MockedMethodSignature("stressed", Future.class,
+                                                                          new Class[]{String.class},
+                                                                          new String[]{"id"});
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{id});
+        when(joinPoint.proceed()).then(invocation -> {
+            proceeded.incrementAndGet();
+            return ThrottledFuture.of(() -> {
+                executions.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+                return id;
+            });
+        });
+        return joinPoint;
+    }
+
+    private ProceedingJoinPoint joinPoint(String id) throws Throwable {
+        final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        final MockedMethodSignature signature = new MockedMethodSignature("stressed", Future.class,
+                                                                          new Class[]{String.class},
+                                                                          new String[]{"id"});
+        final AtomicInteger calls = new AtomicInteger();
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{id});
+        when(joinPoint.proceed()).then(invocation -> {
+            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+            try {
+                if (calls.getAndIncrement() == 0) {
+                    // waits for the other threads, times out if the calls are serialized
+                    allThreadsInside.countDown();
+                    if (!allThreadsInside.await(OVERLAP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        overlapTimedOut.set(true);
+                    }
+                }
+                return ThrottledFuture.of(() -> id);
+            } finally {
+                inside.decrementAndGet();
+            }
+        });
+        return joinPoint;
+    }
+}